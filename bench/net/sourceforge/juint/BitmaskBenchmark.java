@@ -0,0 +1,145 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures bitmask tests with wrapper, primitive and {@link Bitmask} masks. Run with
+ * <code>ant bench -Dbench.args=BitmaskBenchmark</code>; the gc profiler should report no
+ * allocation for any of the tests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BitmaskBenchmark {
+    private static final int SIZE = 1024;
+    private static final Bitmask SYN_ACK = Bitmask.ofBits(1, 4);
+    private UInt8[] flags;
+    private UInt32[] words;
+    private UInt8 synAck;
+
+    @Setup
+    public void setup() {
+        flags = new UInt8[SIZE];
+        words = new UInt32[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            flags[i] = UInt8.valueOf(i * 37);
+            words[i] = new UInt32(i * 0x9e3779b9);
+        }
+        synAck = UInt8.valueOf(SYN_ACK.bits());
+    }
+
+    @Benchmark
+    public int uint8HasBitmaskWrapper() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (flags[i].hasBitmask(synAck))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public int uint8HasBitmaskInt() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (flags[i].hasBitmask(0x12))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public int uint8HasBitmaskConstant() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (flags[i].hasBitmask(SYN_ACK))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public int uint8HasAnyBit() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (flags[i].hasAnyBit(SYN_ACK))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public int uint8AddRemoveBitmask() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += flags[i].addBitmask(0x1).removeBitmask(SYN_ACK).intValue();
+        return sum;
+    }
+
+    @Benchmark
+    public int uint32HasBitmaskInt() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (words[i].hasBitmask(0x80000012))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public int uint32HasAnyBit() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (words[i].hasAnyBit(SYN_ACK))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public int uint32AddRemoveBitmask() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += words[i].addBitmask(0x1).removeBitmask(SYN_ACK).intValue();
+        return sum;
+    }
+}
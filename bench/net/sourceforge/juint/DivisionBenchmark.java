@@ -0,0 +1,120 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares unsigned division and remainder against widening to <code>long</code>. Run with
+ * <code>ant bench -Dbench.args=DivisionBenchmark</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DivisionBenchmark {
+    private static final int SIZE = 1024;
+    private int[] dividends;
+    private int[] divisors;
+
+    @Setup
+    public void setup() {
+        dividends = new int[SIZE];
+        divisors = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long mixed = (i + 1) * 0x9e3779b97f4a7c15L;
+            dividends[i] = (int) (mixed >>> 32);
+            divisors[i] = (int) mixed >>> (i & 31) | 1;
+        }
+    }
+
+    @Benchmark
+    public int uint32Divide() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += UInt32.divide(dividends[i], divisors[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public int uint32DivideLong() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += (int) (UInt32.toLong(dividends[i]) / UInt32.toLong(divisors[i]));
+        return sum;
+    }
+
+    @Benchmark
+    public int uint32Remainder() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += UInt32.remainder(dividends[i], divisors[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public int uint32RemainderLong() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += (int) (UInt32.toLong(dividends[i]) % UInt32.toLong(divisors[i]));
+        return sum;
+    }
+
+    @Benchmark
+    public int uint16Divide() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += UInt16.divide((short) dividends[i], (short) divisors[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public int uint16DivideLong() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += (int) ((dividends[i] & 0xffffL) / (divisors[i] & 0xffffL));
+        return sum;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares <code>UInt32HashSet</code> against a <code>HashSet</code> of <code>UInt32</code>s for
+ * building a set and probing it. Run with <code>ant bench -Dbench.args=HashSetBenchmark</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashSetBenchmark {
+    private static final int SIZE = 100000;
+    private int[] keys;
+    private int[] probes;
+    private UInt32[] boxedKeys;
+    private UInt32[] boxedProbes;
+    private UInt32HashSet set;
+    private HashSet<UInt32> hashSet;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SIZE);
+        keys = new int[SIZE];
+        probes = new int[SIZE];
+        boxedKeys = new UInt32[SIZE];
+        boxedProbes = new UInt32[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = random.nextInt();
+            // half of the probes hit
+            probes[i] = (i % 2 == 0) ? keys[i] : random.nextInt();
+            boxedKeys[i] = new UInt32(keys[i]);
+            boxedProbes[i] = new UInt32(probes[i]);
+        }
+        set = build();
+        hashSet = buildHashSet();
+    }
+
+    @Benchmark
+    public UInt32HashSet build() {
+        UInt32HashSet set = new UInt32HashSet();
+        set.addAll(keys);
+        return set;
+    }
+
+    @Benchmark
+    public HashSet<UInt32> buildHashSet() {
+        HashSet<UInt32> set = new HashSet<UInt32>();
+        for (int i = 0; i < SIZE; i++)
+            set.add(boxedKeys[i]);
+        return set;
+    }
+
+    @Benchmark
+    public int contains() {
+        int hits = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (set.contains(probes[i]))
+                hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int containsHashSet() {
+        int hits = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (hashSet.contains(boxedProbes[i]))
+                hits++;
+        return hits;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building the dense histograms, serially and in parallel, against counting boxed values
+ * in a <code>HashMap</code>. Run with <code>ant bench -Dbench.args=HistogramBenchmark</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HistogramBenchmark {
+    private static final int SIZE = 1 << 22;
+    private byte[] bytes;
+    private short[] shorts;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SIZE);
+        bytes = new byte[SIZE];
+        random.nextBytes(bytes);
+        shorts = new short[SIZE];
+        for (int i = 0; i < SIZE; i++)
+            shorts[i] = (short) random.nextInt();
+        direct = ByteBuffer.allocateDirect(SIZE);
+        direct.put(bytes).clear();
+    }
+
+    @Benchmark
+    public UInt8Histogram uint8() {
+        return UInt8Histogram.valueOf(bytes);
+    }
+
+    @Benchmark
+    public UInt8Histogram uint8Parallel() {
+        return UInt8Histogram.parallelValueOf(bytes);
+    }
+
+    @Benchmark
+    public UInt8Histogram uint8Direct() {
+        return UInt8Histogram.valueOf(direct);
+    }
+
+    @Benchmark
+    public UInt8Histogram uint8DirectParallel() {
+        return UInt8Histogram.parallelValueOf(direct);
+    }
+
+    @Benchmark
+    public Map<UInt8, Integer> uint8HashMap() {
+        HashMap<UInt8, Integer> counts = new HashMap<UInt8, Integer>();
+        for (int i = 0; i < bytes.length; i++) {
+            UInt8 key = UInt8.valueOf(bytes[i]);
+            Integer count = counts.get(key);
+            counts.put(key, (count == null) ? 1 : count + 1);
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public UInt16Histogram uint16() {
+        return UInt16Histogram.valueOf(shorts);
+    }
+
+    @Benchmark
+    public UInt16Histogram uint16Parallel() {
+        return UInt16Histogram.parallelValueOf(shorts);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the primitive keyed maps against <code>HashMap</code>s keyed by <code>UInt32</code>
+ * and <code>UInt16</code>, for building a map and looking keys up. Run with
+ * <code>ant bench -Dbench.args=MapBenchmark</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapBenchmark {
+    private static final int SIZE = 100000;
+    private static final int UINT16_SIZE = 1000;
+    private static final Object VALUE = new Object();
+    private int[] keys;
+    private UInt32[] boxedKeys;
+    private short[] uint16Keys;
+    private UInt16[] boxedUInt16Keys;
+    private UInt32ObjectMap<Object> objectMap;
+    private UInt32LongMap longMap;
+    private HashMap<UInt32, Object> hashMap;
+    private HashMap<UInt32, Long> longHashMap;
+    private UInt16ObjectMap<Object> uint16Map;
+    private UInt16ObjectMap<Object> uint16DirectMap;
+    private HashMap<UInt16, Object> uint16HashMap;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(SIZE);
+        keys = new int[SIZE];
+        boxedKeys = new UInt32[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = random.nextInt();
+            boxedKeys[i] = new UInt32(keys[i]);
+        }
+        uint16Keys = new short[UINT16_SIZE];
+        boxedUInt16Keys = new UInt16[UINT16_SIZE];
+        for (int i = 0; i < UINT16_SIZE; i++) {
+            uint16Keys[i] = (short) random.nextInt();
+            boxedUInt16Keys[i] = new UInt16(uint16Keys[i]);
+        }
+        objectMap = buildObjectMap();
+        longMap = buildLongMap();
+        hashMap = buildHashMap();
+        longHashMap = buildLongHashMap();
+        uint16Map = new UInt16ObjectMap<Object>();
+        uint16DirectMap = UInt16ObjectMap.direct();
+        uint16HashMap = new HashMap<UInt16, Object>();
+        for (int i = 0; i < UINT16_SIZE; i++) {
+            uint16Map.put(uint16Keys[i], VALUE);
+            uint16DirectMap.put(uint16Keys[i], VALUE);
+            uint16HashMap.put(boxedUInt16Keys[i], VALUE);
+        }
+    }
+
+    @Benchmark
+    public UInt32ObjectMap<Object> buildObjectMap() {
+        UInt32ObjectMap<Object> map = new UInt32ObjectMap<Object>();
+        for (int i = 0; i < SIZE; i++)
+            map.put(keys[i], VALUE);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<UInt32, Object> buildHashMap() {
+        HashMap<UInt32, Object> map = new HashMap<UInt32, Object>();
+        for (int i = 0; i < SIZE; i++)
+            map.put(boxedKeys[i], VALUE);
+        return map;
+    }
+
+    @Benchmark
+    public UInt32LongMap buildLongMap() {
+        UInt32LongMap map = new UInt32LongMap();
+        for (int i = 0; i < SIZE; i++)
+            map.put(keys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<UInt32, Long> buildLongHashMap() {
+        HashMap<UInt32, Long> map = new HashMap<UInt32, Long>();
+        for (int i = 0; i < SIZE; i++)
+            map.put(boxedKeys[i], Long.valueOf(i));
+        return map;
+    }
+
+    @Benchmark
+    public int getObjectMap() {
+        int hits = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (objectMap.get(keys[i]) != null)
+                hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int getHashMap() {
+        int hits = 0;
+        for (int i = 0; i < SIZE; i++)
+            if (hashMap.get(boxedKeys[i]) != null)
+                hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public long getLongMap() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += longMap.get(keys[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public long getLongHashMap() {
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++)
+            sum += longHashMap.get(boxedKeys[i]).longValue();
+        return sum;
+    }
+
+    @Benchmark
+    public int getUInt16Map() {
+        int hits = 0;
+        for (int i = 0; i < UINT16_SIZE; i++)
+            if (uint16Map.get(uint16Keys[i]) != null)
+                hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int getUInt16DirectMap() {
+        int hits = 0;
+        for (int i = 0; i < UINT16_SIZE; i++)
+            if (uint16DirectMap.get(uint16Keys[i]) != null)
+                hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int getUInt16HashMap() {
+        int hits = 0;
+        for (int i = 0; i < UINT16_SIZE; i++)
+            if (uint16HashMap.get(boxedUInt16Keys[i]) != null)
+                hits++;
+        return hits;
+    }
+}
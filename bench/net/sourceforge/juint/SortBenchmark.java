@@ -0,0 +1,135 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the radix sorts of <code>UnsignedArrays</code> against sorting boxed
+ * <code>UInt32</code> values and against <code>Arrays.sort</code> with the sign bit flipped. Run
+ * with <code>ant bench -Dbench.args=SortBenchmark</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+    @Param({ "1000", "1000000" })
+    private int size;
+    private int[] ints;
+    private short[] shorts;
+    private UInt32[] boxed;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        ints = new int[size];
+        shorts = new short[size];
+        boxed = new UInt32[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = random.nextInt();
+            shorts[i] = (short) ints[i];
+            boxed[i] = new UInt32(ints[i]);
+        }
+    }
+
+    @Benchmark
+    public int[] uint32Sort() {
+        int[] a = ints.clone();
+        UnsignedArrays.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] uint32ParallelSort() {
+        int[] a = ints.clone();
+        UnsignedArrays.parallelSort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] uint32FlippedSort() {
+        int[] a = ints.clone();
+        for (int i = 0; i < a.length; i++)
+            a[i] ^= Integer.MIN_VALUE;
+        Arrays.sort(a);
+        for (int i = 0; i < a.length; i++)
+            a[i] ^= Integer.MIN_VALUE;
+        return a;
+    }
+
+    @Benchmark
+    public UInt32[] uint32BoxedSort() {
+        UInt32[] a = boxed.clone();
+        Arrays.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public int[] uint32Argsort() {
+        return UnsignedArrays.argsort(ints);
+    }
+
+    @Benchmark
+    public short[] uint16Sort() {
+        short[] a = shorts.clone();
+        UnsignedArrays.sort(a);
+        return a;
+    }
+
+    @Benchmark
+    public short[] uint16FlippedSort() {
+        short[] a = shorts.clone();
+        for (int i = 0; i < a.length; i++)
+            a[i] ^= Short.MIN_VALUE;
+        Arrays.sort(a);
+        for (int i = 0; i < a.length; i++)
+            a[i] ^= Short.MIN_VALUE;
+        return a;
+    }
+}
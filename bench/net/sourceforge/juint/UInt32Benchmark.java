@@ -0,0 +1,199 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures every operation of <code>UInt32</code> over an array of 1024 operands. Run with
+ * <code>ant bench -Dbench.args=UInt32Benchmark</code>; the gc profiler reports the bytes allocated
+ * per operation alongside the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UInt32Benchmark {
+    private static final int SIZE = 1024;
+    private long[] longs;
+    private int[] ints;
+    private short[] shorts;
+    private byte[][] encoded;
+    private UInt32[] values;
+    private UInt32[] others;
+
+    @Setup
+    public void setup() {
+        longs = new long[SIZE];
+        ints = new int[SIZE];
+        shorts = new short[SIZE];
+        encoded = new byte[SIZE][];
+        values = new UInt32[SIZE];
+        others = new UInt32[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            longs[i] = i * 0x9e3779b97f4a7c15L;
+            ints[i] = (int) longs[i];
+            shorts[i] = (short) longs[i];
+            values[i] = new UInt32(longs[i]);
+            others[i] = new UInt32(longs[i] >>> 32);
+            encoded[i] = values[i].toBigEndian();
+        }
+    }
+
+    @Benchmark
+    public void constructShort(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(new UInt32(shorts[i]));
+    }
+
+    @Benchmark
+    public void constructInt(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(new UInt32(ints[i]));
+    }
+
+    @Benchmark
+    public void constructLong(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(new UInt32(longs[i]));
+    }
+
+    @Benchmark
+    public void constructBytes(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(new UInt32(encoded[i]));
+    }
+
+    @Benchmark
+    public void valueOfBigEndian(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(UInt32.valueOfBigEndian(encoded[i]));
+    }
+
+    @Benchmark
+    public void valueOfLittleEndian(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(UInt32.valueOfLittleEndian(encoded[i]));
+    }
+
+    @Benchmark
+    public void toBigEndian(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].toBigEndian());
+    }
+
+    @Benchmark
+    public void toLittleEndian(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].toLittleEndian());
+    }
+
+    @Benchmark
+    public void and(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].and(others[i]));
+    }
+
+    @Benchmark
+    public void or(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].or(others[i]));
+    }
+
+    @Benchmark
+    public void xor(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].xor(others[i]));
+    }
+
+    @Benchmark
+    public void not(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].not());
+    }
+
+    @Benchmark
+    public void hasBitmask(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].hasBitmask(others[i]));
+    }
+
+    @Benchmark
+    public void addBitmask(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].addBitmask(others[i]));
+    }
+
+    @Benchmark
+    public void removeBitmask(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].removeBitmask(others[i]));
+    }
+
+    @Benchmark
+    public void compareTo(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].compareTo(others[i]));
+    }
+
+    @Benchmark
+    public void equals(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].equals(others[i]));
+    }
+
+    @Benchmark
+    public void hashCode(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].hashCode());
+    }
+
+    @Benchmark
+    public void toString(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++)
+            blackhole.consume(values[i].toString());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures intersections and unions of <code>UInt32Bitmap</code>s against intersecting two
+ * <code>UInt32HashSet</code>s. The values are 1M row IDs spread over a range of
+ * <code>density</code> times as many IDs. Run with
+ * <code>ant bench -Dbench.args=UInt32BitmapBenchmark</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UInt32BitmapBenchmark {
+    private static final int SIZE = 1000000;
+    @Param({ "2", "1000" })
+    private int density;
+    private UInt32Bitmap x;
+    private UInt32Bitmap y;
+    private UInt32HashSet xSet;
+    private UInt32HashSet ySet;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(density);
+        int[] xValues = new int[SIZE];
+        int[] yValues = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            xValues[i] = (int) (random.nextDouble() * SIZE * density);
+            yValues[i] = (int) (random.nextDouble() * SIZE * density);
+        }
+        x = UInt32Bitmap.valueOf(xValues);
+        y = UInt32Bitmap.valueOf(yValues);
+        xSet = new UInt32HashSet(SIZE);
+        xSet.addAll(xValues);
+        ySet = new UInt32HashSet(SIZE);
+        ySet.addAll(yValues);
+    }
+
+    @Benchmark
+    public UInt32Bitmap and() {
+        return x.and(y);
+    }
+
+    @Benchmark
+    public UInt32Bitmap or() {
+        return x.or(y);
+    }
+
+    @Benchmark
+    public int andHashSet() {
+        int count = 0;
+        PrimitiveIterator.OfInt iterator = xSet.rawIterator();
+        while (iterator.hasNext())
+            if (ySet.contains(iterator.nextInt()))
+                count++;
+        return count;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return x.contains(SIZE);
+    }
+}
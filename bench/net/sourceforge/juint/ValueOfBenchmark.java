@@ -0,0 +1,124 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the allocation rate of the constructors against the cached <code>valueOf</code>
+ * factories. Run with <code>ant bench -Dbench.args=ValueOfBenchmark</code>; the gc profiler
+ * reports the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueOfBenchmark {
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[1024];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) (i * 31);
+    }
+
+    @Benchmark
+    public void uint8Constructor(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(new UInt8(bytes[i]));
+    }
+
+    @Benchmark
+    public void uint8ValueOf(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(UInt8.valueOf(bytes[i]));
+    }
+
+    @Benchmark
+    public void int8Constructor(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(new Int8(bytes[i]));
+    }
+
+    @Benchmark
+    public void int8ValueOf(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(Int8.valueOf(bytes[i]));
+    }
+
+    @Benchmark
+    public void uint16Constructor(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(new UInt16(i));
+    }
+
+    @Benchmark
+    public void uint16ValueOf(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(UInt16.valueOf(i));
+    }
+
+    @Benchmark
+    public void int16Constructor(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(new Int16(bytes[i]));
+    }
+
+    @Benchmark
+    public void int16ValueOf(Blackhole blackhole) {
+        for (int i = 0; i < bytes.length; i++)
+            blackhole.consume(Int16.valueOf(bytes[i]));
+    }
+
+    @Benchmark
+    public UInt8 uint8BitwiseChain() {
+        UInt8 result = UInt8.ZERO;
+        for (int i = 0; i < bytes.length; i++)
+            result = result.xor(UInt8.valueOf(bytes[i])).not();
+        return result;
+    }
+}
@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class BitmaskBenchmark_jmhType extends BitmaskBenchmark_jmhType_B3 {
+}
+
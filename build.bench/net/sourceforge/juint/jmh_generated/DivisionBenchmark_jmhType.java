@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class DivisionBenchmark_jmhType extends DivisionBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class HashSetBenchmark_jmhType extends HashSetBenchmark_jmhType_B3 {
+}
+
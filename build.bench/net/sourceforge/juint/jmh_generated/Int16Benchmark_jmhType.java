@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class Int16Benchmark_jmhType extends Int16Benchmark_jmhType_B3 {
+}
+
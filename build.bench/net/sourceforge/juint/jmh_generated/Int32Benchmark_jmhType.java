@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class Int32Benchmark_jmhType extends Int32Benchmark_jmhType_B3 {
+}
+
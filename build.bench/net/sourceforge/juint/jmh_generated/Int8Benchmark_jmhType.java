@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class Int8Benchmark_jmhType extends Int8Benchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class MapBenchmark_jmhType extends MapBenchmark_jmhType_B3 {
+}
+
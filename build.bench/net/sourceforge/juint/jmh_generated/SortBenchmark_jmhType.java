@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class SortBenchmark_jmhType extends SortBenchmark_jmhType_B3 {
+}
+
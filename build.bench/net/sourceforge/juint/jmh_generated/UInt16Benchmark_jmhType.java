@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class UInt16Benchmark_jmhType extends UInt16Benchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class UInt32Benchmark_jmhType extends UInt32Benchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class UInt32BitmapBenchmark_jmhType extends UInt32BitmapBenchmark_jmhType_B3 {
+}
+
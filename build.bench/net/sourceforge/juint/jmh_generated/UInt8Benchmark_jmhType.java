@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class UInt8Benchmark_jmhType extends UInt8Benchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package net.sourceforge.juint.jmh_generated;
+public class ValueOfBenchmark_jmhType extends ValueOfBenchmark_jmhType_B3 {
+}
+
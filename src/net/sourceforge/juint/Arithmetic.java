@@ -0,0 +1,86 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+/**
+ * Arithmetic operations. Results wrap around on overflow, like the fixed-width integer types of
+ * C.
+ * 
+ * @param <T>
+ */
+public interface Arithmetic<T> {
+
+    /**
+     * Addition.
+     * 
+     * @param number
+     * @return the sum, modulo 2<sup>n</sup>
+     */
+    T add(T number);
+
+    /**
+     * Subtraction.
+     * 
+     * @param number
+     * @return the difference, modulo 2<sup>n</sup>
+     */
+    T subtract(T number);
+
+    /**
+     * Multiplication.
+     * 
+     * @param number
+     * @return the product, modulo 2<sup>n</sup>
+     */
+    T multiply(T number);
+
+    /**
+     * Negation.
+     * 
+     * @return the negation, modulo 2<sup>n</sup>
+     */
+    T negate();
+
+    /**
+     * Adds one.
+     * 
+     * @return the number plus one, modulo 2<sup>n</sup>
+     */
+    T increment();
+
+    /**
+     * Subtracts one.
+     * 
+     * @return the number minus one, modulo 2<sup>n</sup>
+     */
+    T decrement();
+}
@@ -0,0 +1,257 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Container holding up to 4096 values as a sorted array of raw unsigned 16-bit integers.
+ */
+final class ArrayContainer extends Container {
+    private static final long serialVersionUID = -1826451094278911093L;
+    private short[] values;
+    private int cardinality;
+
+    ArrayContainer() {
+        values = new short[4];
+    }
+
+    ArrayContainer(short[] values, int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    static ArrayContainer valueOf(long[] words, int cardinality) {
+        short[] values = new short[cardinality];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (short) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, cardinality);
+    }
+
+    /**
+     * Merges two sorted arrays into their union, or their symmetric difference if
+     * <code>xor</code> is set. Returns <code>null</code> if the result is empty.
+     */
+    static ArrayContainer merge(ArrayContainer x, ArrayContainer y, boolean xor) {
+        short[] values = new short[x.cardinality + y.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < x.cardinality && j < y.cardinality) {
+            int a = x.values[i] & 0xffff;
+            int b = y.values[j] & 0xffff;
+            if (a < b) {
+                values[count++] = x.values[i++];
+            }
+            else if (a > b) {
+                values[count++] = y.values[j++];
+            }
+            else {
+                if (!xor)
+                    values[count++] = x.values[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < x.cardinality)
+            values[count++] = x.values[i++];
+        while (j < y.cardinality)
+            values[count++] = y.values[j++];
+        return (count == 0) ? null : new ArrayContainer(values, count);
+    }
+
+    /**
+     * Intersects two sorted arrays. Returns <code>null</code> if the result is empty.
+     */
+    static ArrayContainer intersect(ArrayContainer x, ArrayContainer y) {
+        short[] values = new short[Math.min(x.cardinality, y.cardinality)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < x.cardinality && j < y.cardinality) {
+            int a = x.values[i] & 0xffff;
+            int b = y.values[j] & 0xffff;
+            if (a < b) {
+                i++;
+            }
+            else if (a > b) {
+                j++;
+            }
+            else {
+                values[count++] = x.values[i];
+                i++;
+                j++;
+            }
+        }
+        return (count == 0) ? null : new ArrayContainer(values, count);
+    }
+
+    /**
+     * Gets the values that are, or are not, in another container. Returns <code>null</code> if
+     * the result is empty.
+     */
+    ArrayContainer filter(Container other, boolean keep) {
+        short[] filtered = new short[cardinality];
+        int count = 0;
+        for (int i = 0; i < cardinality; i++)
+            if (other.contains(values[i] & 0xffff) == keep)
+                filtered[count++] = values[i];
+        return (count == 0) ? null : new ArrayContainer(filtered, count);
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean contains(int low) {
+        return indexOf(low) >= 0;
+    }
+
+    Container add(int low) {
+        int index = indexOf(low);
+        if (index >= 0)
+            return this;
+        if (cardinality == MAX_ARRAY_CARDINALITY)
+            return new BitmapContainer(words(), cardinality).add(low);
+        if (cardinality == values.length)
+            values = Arrays.copyOf(values, Math.min(Math.max(4, values.length << 1),
+                    MAX_ARRAY_CARDINALITY));
+        int insert = -index - 1;
+        System.arraycopy(values, insert, values, insert + 1, cardinality - insert);
+        values[insert] = (short) low;
+        cardinality++;
+        return this;
+    }
+
+    Container remove(int low) {
+        int index = indexOf(low);
+        if (index >= 0) {
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+    }
+
+    long[] words() {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < cardinality; i++) {
+            int value = values[i] & 0xffff;
+            words[value >>> 6] |= 1L << value;
+        }
+        return words;
+    }
+
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index;
+
+            public boolean hasNext() {
+                return index < cardinality;
+            }
+
+            public int nextInt() {
+                if (index >= cardinality)
+                    throw new NoSuchElementException();
+                return values[index++] & 0xffff;
+            }
+        };
+    }
+
+    Container runOptimize() {
+        int runs = 0;
+        for (int i = 0; i < cardinality; i++)
+            if (i == 0 || (values[i] & 0xffff) != (values[i - 1] & 0xffff) + 1)
+                runs++;
+        if (RunContainer.serializedSize(runs) >= serializedSize())
+            return this;
+        short[] pairs = new short[2 * runs];
+        int run = -1;
+        for (int i = 0; i < cardinality; i++) {
+            if (i == 0 || (values[i] & 0xffff) != (values[i - 1] & 0xffff) + 1) {
+                run++;
+                pairs[2 * run] = values[i];
+            }
+            else {
+                pairs[2 * run + 1]++;
+            }
+        }
+        return new RunContainer(pairs, runs);
+    }
+
+    boolean sameValues(Container other) {
+        if (!(other instanceof ArrayContainer))
+            return super.sameValues(other);
+        short[] otherValues = ((ArrayContainer) other).values;
+        for (int i = 0; i < cardinality; i++)
+            if (values[i] != otherValues[i])
+                return false;
+        return true;
+    }
+
+    int serializedSize() {
+        return 2 * cardinality;
+    }
+
+    void write(ByteBuffer buffer) {
+        for (int i = 0; i < cardinality; i++)
+            buffer.putShort(values[i]);
+    }
+
+    private int indexOf(int low) {
+        int lowIndex = 0;
+        int highIndex = cardinality - 1;
+        while (lowIndex <= highIndex) {
+            int middle = (lowIndex + highIndex) >>> 1;
+            int value = values[middle] & 0xffff;
+            if (value < low)
+                lowIndex = middle + 1;
+            else if (value > low)
+                highIndex = middle - 1;
+            else
+                return middle;
+        }
+        return -(lowIndex + 1);
+    }
+}
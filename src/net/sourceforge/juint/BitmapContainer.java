@@ -0,0 +1,130 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Container holding more than 4096 values as a bitmap of 65536 bits.
+ */
+final class BitmapContainer extends Container {
+    private static final long serialVersionUID = 7714012813722930447L;
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean contains(int low) {
+        return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    Container add(int low) {
+        long bit = 1L << low;
+        if ((words[low >>> 6] & bit) == 0) {
+            words[low >>> 6] |= bit;
+            cardinality++;
+        }
+        return this;
+    }
+
+    Container remove(int low) {
+        long bit = 1L << low;
+        if ((words[low >>> 6] & bit) != 0) {
+            words[low >>> 6] &= ~bit;
+            if (--cardinality <= MAX_ARRAY_CARDINALITY)
+                return ArrayContainer.valueOf(words, cardinality);
+        }
+        return this;
+    }
+
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    long[] words() {
+        return words;
+    }
+
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index;
+            private long word = words[0];
+
+            public boolean hasNext() {
+                while (word == 0 && index < WORDS - 1)
+                    word = words[++index];
+                return word != 0;
+            }
+
+            public int nextInt() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                int value = (index << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return value;
+            }
+        };
+    }
+
+    Container runOptimize() {
+        int runs = numberOfRuns(words);
+        if (RunContainer.serializedSize(runs) >= serializedSize())
+            return this;
+        return RunContainer.valueOf(words, runs);
+    }
+
+    boolean sameValues(Container other) {
+        if (other instanceof BitmapContainer)
+            return Arrays.equals(words, ((BitmapContainer) other).words);
+        // probing a bitmap is cheapest, so let the other container iterate
+        return other.sameValues(this);
+    }
+
+    int serializedSize() {
+        return 8 * WORDS;
+    }
+
+    void write(ByteBuffer buffer) {
+        for (int i = 0; i < WORDS; i++)
+            buffer.putLong(words[i]);
+    }
+}
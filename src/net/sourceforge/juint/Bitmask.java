@@ -0,0 +1,130 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+
+/**
+ * Immutable bitmask of up to 32 bits, meant to be built once and kept in a constant. It can be
+ * passed to the bitmask methods of every type in this package without creating an instance of
+ * that type. The 8- and 16-bit types ignore the bits of the mask above their width, so a mask
+ * such as <code>Bitmask.ofBits(31)</code> is empty for them: every value has it and none has
+ * any of its bits.
+ */
+public final class Bitmask implements Serializable {
+    private static final long serialVersionUID = -2380553961405186376L;
+    private final int bits;
+
+    private Bitmask(int bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Creates a bitmask from raw bits.
+     * 
+     * @param bits
+     *            the bits of the mask
+     * @return the bitmask
+     */
+    public static Bitmask of(int bits) {
+        return new Bitmask(bits);
+    }
+
+    /**
+     * Creates a bitmask with the given bit positions set.
+     * 
+     * @param positions
+     *            the positions, from 0 for the lowest bit to 31 for the highest
+     * @return the bitmask
+     * @throws IllegalArgumentException
+     *             if <code>positions</code> is <code>null</code> or a position is not between 0
+     *             and 31
+     */
+    public static Bitmask ofBits(int... positions) throws IllegalArgumentException {
+        if (positions == null)
+            throw new IllegalArgumentException("positions cannot be null.");
+        int bits = 0;
+        for (int position : positions) {
+            if (position < 0 || position > 31)
+                throw new IllegalArgumentException("Invalid bit position: " + position);
+            bits |= 1 << position;
+        }
+        return new Bitmask(bits);
+    }
+
+    /**
+     * Gets the raw bits of the mask.
+     * 
+     * @return the bits
+     */
+    public int bits() {
+        return bits;
+    }
+
+    /**
+     * Combines this bitmask with another.
+     * 
+     * @param bitmask
+     * @return a bitmask with the bits of both set
+     */
+    public Bitmask or(Bitmask bitmask) {
+        return new Bitmask(bits | bitmask.bits);
+    }
+
+    /**
+     * Compares this <code>Bitmask</code> to another <code>Bitmask</code> for equality.
+     * 
+     * @param object
+     *            a <code>Bitmask</code>
+     */
+    public boolean equals(Object object) {
+        return (object instanceof Bitmask) && ((Bitmask) object).bits == bits;
+    }
+
+    /**
+     * Gets the hash code. The result is the value returned from {@link #bits()}.
+     * 
+     * @return the hash code
+     */
+    public int hashCode() {
+        return bits;
+    }
+
+    /**
+     * Gets the mask as a hexadecimal <code>String</code>.
+     * 
+     * @return the mask as a <code>String</code>
+     */
+    public String toString() {
+        return "0x" + Integer.toHexString(bits);
+    }
+}
@@ -77,6 +77,14 @@ public interface Bitwise<T> {
      */
     boolean hasBitmask(T bitmask);
 
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    boolean hasAnyBit(T bitmask);
+
     /**
      * Sets the bits in the given bitmask.
      * 
@@ -92,4 +100,39 @@ public interface Bitwise<T> {
      * @return the number with the bits unset
      */
     T removeBitmask(T bitmask);
+
+    /**
+     * Shifts left, filling with zeros. Only the low-order bits of <code>distance</code> are used,
+     * so the distance is taken modulo the width of the type.
+     * 
+     * @param distance
+     * @return the shifted number
+     */
+    T shiftLeft(int distance);
+
+    /**
+     * Shifts right. The shift is logical for unsigned types and arithmetic (sign-extending) for
+     * signed types. Only the low-order bits of <code>distance</code> are used, so the distance is
+     * taken modulo the width of the type.
+     * 
+     * @param distance
+     * @return the shifted number
+     */
+    T shiftRight(int distance);
+
+    /**
+     * Rotates left by <code>distance</code> bits, modulo the width of the type.
+     * 
+     * @param distance
+     * @return the rotated number
+     */
+    T rotateLeft(int distance);
+
+    /**
+     * Rotates right by <code>distance</code> bits, modulo the width of the type.
+     * 
+     * @param distance
+     * @return the rotated number
+     */
+    T rotateRight(int distance);
 }
@@ -0,0 +1,200 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.PrimitiveIterator;
+
+/**
+ * Set of the low 16 bits of the values in one chunk of a {@link UInt32Bitmap}. Values are passed
+ * as <code>int</code>s between 0 and 65535. Mutators return the container that now holds the
+ * set, which is a different kind of container when the cardinality crosses
+ * {@link #MAX_ARRAY_CARDINALITY}.
+ */
+abstract class Container implements Serializable {
+    private static final long serialVersionUID = 4329612389574012556L;
+    /**
+     * The largest cardinality kept in an {@link ArrayContainer}; above it a
+     * {@link BitmapContainer} is smaller.
+     */
+    static final int MAX_ARRAY_CARDINALITY = 4096;
+    static final int WORDS = 1024;
+
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    abstract Container add(int low);
+
+    abstract Container remove(int low);
+
+    abstract Container copy();
+
+    /**
+     * Gets the set as 1024 words of 64 bits. The array may be shared with the container and must
+     * not be modified.
+     */
+    abstract long[] words();
+
+    /**
+     * Gets an iterator over the values in ascending order.
+     */
+    abstract PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Gets the smallest of this container and its run length encoding.
+     */
+    abstract Container runOptimize();
+
+    abstract int serializedSize();
+
+    /**
+     * Writes the values in the portable format, to a little-endian buffer.
+     */
+    abstract void write(ByteBuffer buffer);
+
+    boolean isRun() {
+        return false;
+    }
+
+    /**
+     * Determines if this container holds the same values as another container with the same
+     * cardinality. Containers of different kinds are compared value by value.
+     */
+    boolean sameValues(Container other) {
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext())
+            if (!other.contains(iterator.nextInt()))
+                return false;
+        return true;
+    }
+
+    static Container and(Container x, Container y) {
+        if (x instanceof ArrayContainer && y instanceof ArrayContainer)
+            return ArrayContainer.intersect((ArrayContainer) x, (ArrayContainer) y);
+        if (x instanceof ArrayContainer)
+            return ((ArrayContainer) x).filter(y, true);
+        if (y instanceof ArrayContainer)
+            return ((ArrayContainer) y).filter(x, true);
+        long[] a = x.words();
+        long[] b = y.words();
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++)
+            words[i] = a[i] & b[i];
+        return valueOf(words);
+    }
+
+    static Container or(Container x, Container y) {
+        if (x instanceof ArrayContainer && y instanceof ArrayContainer
+                && x.cardinality() + y.cardinality() <= MAX_ARRAY_CARDINALITY)
+            return ArrayContainer.merge((ArrayContainer) x, (ArrayContainer) y, false);
+        long[] a = x.words();
+        long[] b = y.words();
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++)
+            words[i] = a[i] | b[i];
+        return valueOf(words);
+    }
+
+    static Container xor(Container x, Container y) {
+        if (x instanceof ArrayContainer && y instanceof ArrayContainer
+                && x.cardinality() + y.cardinality() <= MAX_ARRAY_CARDINALITY)
+            return ArrayContainer.merge((ArrayContainer) x, (ArrayContainer) y, true);
+        long[] a = x.words();
+        long[] b = y.words();
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++)
+            words[i] = a[i] ^ b[i];
+        return valueOf(words);
+    }
+
+    static Container andNot(Container x, Container y) {
+        if (x instanceof ArrayContainer)
+            return ((ArrayContainer) x).filter(y, false);
+        long[] a = x.words();
+        long[] b = y.words();
+        long[] words = new long[WORDS];
+        for (int i = 0; i < WORDS; i++)
+            words[i] = a[i] & ~b[i];
+        return valueOf(words);
+    }
+
+    /**
+     * Gets the smaller of an array and a bitmap container for a set of words, or
+     * <code>null</code> if no bit is set. The array is not copied.
+     */
+    static Container valueOf(long[] words) {
+        int cardinality = 0;
+        for (int i = 0; i < WORDS; i++)
+            cardinality += Long.bitCount(words[i]);
+        if (cardinality == 0)
+            return null;
+        if (cardinality <= MAX_ARRAY_CARDINALITY)
+            return ArrayContainer.valueOf(words, cardinality);
+        return new BitmapContainer(words, cardinality);
+    }
+
+    /**
+     * Counts the runs of consecutive set bits.
+     */
+    static int numberOfRuns(long[] words) {
+        int runs = 0;
+        long previous = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+            previous = word;
+        }
+        return runs;
+    }
+
+    /**
+     * Sets the bits from <code>from</code>, inclusive, to <code>to</code>, exclusive.
+     */
+    static void setRange(long[] words, int from, int to) {
+        if (from >= to)
+            return;
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++)
+            words[i] = -1L;
+        words[last] |= lastMask;
+    }
+}
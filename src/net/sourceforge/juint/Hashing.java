@@ -0,0 +1,82 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+/**
+ * Hashing shared by the open addressing collections. Tables have a power of two capacity and are
+ * probed linearly from the slot given by {@link #mix(int)}.
+ */
+final class Hashing {
+    static final int MAX_CAPACITY = 1 << 30;
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private Hashing() {
+    }
+
+    /**
+     * Spreads the bits of a key so that keys differing only in their high bits, or forming a
+     * sequence, land in different slots. This is the finalizer of MurmurHash3.
+     */
+    static int mix(int key) {
+        int h = key;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Gets the smallest power of two capacity that holds <code>expectedSize</code> keys without
+     * exceeding the load factor.
+     */
+    static int capacity(int expectedSize, float loadFactor) throws IllegalArgumentException {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("expectedSize cannot be negative.");
+        if (!(loadFactor > 0 && loadFactor < 1))
+            throw new IllegalArgumentException("loadFactor must be between 0 and 1.");
+        // loadFactor is below 1, so this always leaves at least one slot empty
+        long needed = Math.max(1, (long) Math.ceil(expectedSize / (double) loadFactor));
+        if (needed > MAX_CAPACITY)
+            throw new IllegalArgumentException("expectedSize is too large.");
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /**
+     * Gets the number of keys a table of the given capacity holds before it must grow. At least
+     * one slot is always left empty so that probes terminate.
+     */
+    static int threshold(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * (double) loadFactor));
+    }
+}
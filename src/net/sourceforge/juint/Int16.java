@@ -32,11 +32,17 @@
 package net.sourceforge.juint;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
 
 /**
  * Signed 16-bit integer.
  */
-public class Int16 extends Number implements Serializable, Comparable<Int16>, Bitwise<Int16> {
+public class Int16 extends Number implements Serializable, Comparable<Int16>, Bitwise<Int16>,
+        Arithmetic<Int16> {
     private static final long serialVersionUID = -2975897484063142953L;
     /**
      * The largest possible value.
@@ -50,81 +56,984 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
      * {@value}
      */
     public static final short MIN_VALUE = Short.MIN_VALUE;
+    /**
+     * Orders instances by their signed 16-bit values, the same as <code>compareTo</code>.
+     */
+    public static final Comparator<Int16> COMPARATOR = new Comparator<Int16>() {
+        public int compare(Int16 x, Int16 y) {
+            return Int16.compare(x.int16, y.int16);
+        }
+    };
+    /**
+     * The system property that sets the largest value held by the <code>valueOf</code> cache.
+     * Values from -128 up to this value are cached; the default is 1023. The cache always covers
+     * the range of an <code>Int8</code>, so a setting below 127 is raised to 127, and a setting
+     * above {@link #MAX_VALUE} is lowered to it.
+     * <p>
+     * {@value}
+     */
+    public static final String CACHE_HIGH_PROPERTY = "net.sourceforge.juint.Int16.cache.high";
+    private static final int CACHE_LOW = Byte.MIN_VALUE;
+    private static final int CACHE_HIGH = cacheHigh();
+    private static final Int16[] CACHE = new Int16[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Int16(i + CACHE_LOW);
+    }
+
+    /**
+     * The value 0.
+     */
+    public static final Int16 ZERO = valueOf(0);
+    /**
+     * The value 1.
+     */
+    public static final Int16 ONE = valueOf(1);
+    /**
+     * The largest possible value, {@link #MAX_VALUE}.
+     */
+    public static final Int16 MAX = valueOf(MAX_VALUE);
+    /**
+     * The smallest possible value, {@link #MIN_VALUE}.
+     */
+    public static final Int16 MIN = valueOf(MIN_VALUE);
     private short int16;
 
     /**
-     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
-     * and be in big-endian byte order.
+     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
+     * and be in big-endian byte order.
+     * 
+     * @param word
+     *            the value to be represented
+     * @throws IllegalArgumentException
+     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     */
+    public Int16(byte[] word) throws IllegalArgumentException {
+        verify(word);
+        int16 = fromBigEndian(word[0], word[1]);
+    }
+
+    /**
+     * Creates a new instance from a <code>short</code>.
+     * 
+     * @param word
+     *            the value to be represented
+     */
+    public Int16(short word) {
+        int16 = word;
+    }
+
+    /**
+     * Creates a new instance from an <code>int</code>.
+     * 
+     * @param word
+     *            the value to be represented
+     */
+    public Int16(int word) {
+        int16 = (short) word;
+    }
+
+    /**
+     * Creates a new instance from a <code>long</code>.
+     * 
+     * @param word
+     *            the value to be represented
+     */
+    public Int16(long word) {
+        int16 = (short) word;
+    }
+
+    /**
+     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
+     * and be in big-endian byte order.
+     * 
+     * @param word
+     *            the value to be represented
+     * @throws IllegalArgumentException
+     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     */
+    public static Int16 valueOfBigEndian(byte[] word) throws IllegalArgumentException {
+        verify(word);
+        return valueOf(fromBigEndian(word[0], word[1]));
+    }
+
+    /**
+     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
+     * and be in little-endian byte order.
+     * 
+     * @param word
+     *            the value to be represented
+     * @throws IllegalArgumentException
+     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     */
+    public static Int16 valueOfLittleEndian(byte[] word) throws IllegalArgumentException {
+        verify(word);
+        return valueOf(fromLittleEndian(word[0], word[1]));
+    }
+
+    /**
+     * Creates a new instance from the 2 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in big-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static Int16 valueOfBigEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return valueOf(fromBigEndian(src, offset));
+    }
+
+    /**
+     * Creates a new instance from the 2 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in little-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static Int16 valueOfLittleEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return valueOf(fromLittleEndian(src, offset));
+    }
+
+    /**
+     * Gets the instance representing a <code>short</code>. Values from -128 up to the
+     * {@link #CACHE_HIGH_PROPERTY} limit are cached and returned without allocating.
+     * 
+     * @param word
+     *            the value to be represented
+     * @return the cached instance, or a new instance if the value is not cached
+     */
+    public static Int16 valueOf(short word) {
+        if (word >= CACHE_LOW && word <= CACHE_HIGH)
+            return CACHE[word - CACHE_LOW];
+        return new Int16(word);
+    }
+
+    /**
+     * Gets the instance representing an <code>int</code>. Values from -128 up to the
+     * {@link #CACHE_HIGH_PROPERTY} limit are cached and returned without allocating.
+     * 
+     * @param word
+     *            the value to be represented
+     * @return the cached instance, or a new instance if the value is not cached
+     */
+    public static Int16 valueOf(int word) {
+        return valueOf((short) word);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>. Values from -128 up to the
+     * {@link #CACHE_HIGH_PROPERTY} limit are cached and returned without allocating.
+     * 
+     * @param word
+     *            the value to be represented
+     * @return the cached instance, or a new instance if the value is not cached
+     */
+    public static Int16 valueOf(long word) {
+        return valueOf((short) word);
+    }
+
+    /**
+     * Gets the raw value of 2 bytes in big-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @return the raw value
+     */
+    public static short fromBigEndian(byte b0, byte b1) {
+        return (short) (((b0 & 0xff) << 8) | (b1 & 0xff));
+    }
+
+    /**
+     * Gets the raw value of 2 bytes in little-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @return the raw value
+     */
+    public static short fromLittleEndian(byte b0, byte b1) {
+        return fromBigEndian(b1, b0);
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in big-endian byte order.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value as a big-endian <code>byte</code> array
+     */
+    public static byte[] toBigEndian(short word) {
+        byte[] bytes = new byte[2];
+        bytes[0] = (byte) ((word >> 8) & 0xff);
+        bytes[1] = (byte) (word & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in little-endian byte order.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value as a little-endian <code>byte</code> array
+     */
+    public static byte[] toLittleEndian(short word) {
+        byte[] bytes = new byte[2];
+        bytes[0] = (byte) (word & 0xff);
+        bytes[1] = (byte) ((word >> 8) & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value of the 2 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static short fromBigEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (short) ByteArrays.SHORT_BIG_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Gets the raw value of the 2 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static short fromLittleEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (short) ByteArrays.SHORT_LITTLE_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Writes the raw value to the 2 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param word
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static void writeBigEndian(byte[] dst, int offset, short word)
+            throws IndexOutOfBoundsException {
+        ByteArrays.SHORT_BIG_ENDIAN.set(dst, offset, word);
+    }
+
+    /**
+     * Writes the raw value to the 2 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param word
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static void writeLittleEndian(byte[] dst, int offset, short word)
+            throws IndexOutOfBoundsException {
+        ByteArrays.SHORT_LITTLE_ENDIAN.set(dst, offset, word);
+    }
+
+    /**
+     * Compares two signed 16-bit integers for order.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return a negative number, zero or a positive number as <code>x</code> is less than,
+     *         equal to or greater than <code>y</code>
+     */
+    public static int compare(short x, short y) {
+        return Integer.compare(x, y);
+    }
+
+    /**
+     * Logical and of two signed 16-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the and
+     */
+    public static short and(short x, short y) {
+        return (short) (x & y);
+    }
+
+    /**
+     * Logical or of two signed 16-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the or
+     */
+    public static short or(short x, short y) {
+        return (short) (x | y);
+    }
+
+    /**
+     * Logical xor of two signed 16-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the xor
+     */
+    public static short xor(short x, short y) {
+        return (short) (x ^ y);
+    }
+
+    /**
+     * Logical not of a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the result of the not
+     */
+    public static short not(short word) {
+        return (short) ~word;
+    }
+
+    /**
+     * Determines if a signed 16-bit integer has the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public static boolean hasBitmask(short number, short bitmask) {
+        return (number & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if a signed 16-bit integer has any of the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public static boolean hasAnyBit(short number, short bitmask) {
+        return (number & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits set
+     */
+    public static short addBitmask(short number, short bitmask) {
+        return (short) (number | bitmask);
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits unset
+     */
+    public static short removeBitmask(short number, short bitmask) {
+        return (short) (number & ~bitmask);
+    }
+
+    /**
+     * Shifts a signed 16-bit integer left by <code>distance</code> bits, modulo 16.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static short shiftLeft(short word, int distance) {
+        return (short) (word << (distance & 15));
+    }
+
+    /**
+     * Shifts a signed 16-bit integer right by <code>distance</code> bits, modulo 16. The shift is
+     * arithmetic.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static short shiftRight(short word, int distance) {
+        return (short) (word >> (distance & 15));
+    }
+
+    /**
+     * Rotates a signed 16-bit integer left by <code>distance</code> bits, modulo 16.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static short rotateLeft(short word, int distance) {
+        int value = word & 0xffff;
+        distance &= 15;
+        return (short) ((value << distance) | (value >>> (16 - distance)));
+    }
+
+    /**
+     * Rotates a signed 16-bit integer right by <code>distance</code> bits, modulo 16.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static short rotateRight(short word, int distance) {
+        int value = word & 0xffff;
+        distance &= 15;
+        return (short) ((value >>> distance) | (value << (16 - distance)));
+    }
+
+    /**
+     * Counts the one bits in a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the number of one bits
+     */
+    public static int bitCount(short word) {
+        return Integer.bitCount(word & 0xffff);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit in a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the number of leading zeros, or 16 if the value is zero
+     */
+    public static int numberOfLeadingZeros(short word) {
+        return Integer.numberOfLeadingZeros(word & 0xffff) - 16;
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit in a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the number of trailing zeros, or 16 if the value is zero
+     */
+    public static int numberOfTrailingZeros(short word) {
+        return Integer.numberOfTrailingZeros(word | 0x10000);
+    }
+
+    /**
+     * Keeps only the highest one bit of a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public static short highestOneBit(short word) {
+        return (short) Integer.highestOneBit(word & 0xffff);
+    }
+
+    /**
+     * Keeps only the lowest one bit of a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public static short lowestOneBit(short word) {
+        return (short) (word & -word);
+    }
+
+    /**
+     * Reverses the order of the 16 bits of a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the reversed value
+     */
+    public static short reverse(short word) {
+        return (short) (Integer.reverse(word) >>> 16);
+    }
+
+    /**
+     * Reverses the order of the bytes of a signed 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the reversed value
+     */
+    public static short reverseBytes(short word) {
+        return Short.reverseBytes(word);
+    }
+
+    /**
+     * Counts the one bits in every value of an array.
+     * 
+     * @param values
+     *            the raw values
+     * @return the total number of one bits
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static long bitCount(short[] values) throws IllegalArgumentException {
+        return UInt16.bitCount(values);
+    }
+
+    /**
+     * Adds two signed 16-bit integers, modulo 2<sup>16</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     */
+    public static short add(short x, short y) {
+        return (short) (x + y);
+    }
+
+    /**
+     * Subtracts one signed 16-bit integer from another, modulo 2<sup>16</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     */
+    public static short subtract(short x, short y) {
+        return (short) (x - y);
+    }
+
+    /**
+     * Multiplies two signed 16-bit integers, modulo 2<sup>16</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     */
+    public static short multiply(short x, short y) {
+        return (short) (x * y);
+    }
+
+    /**
+     * Negates a signed 16-bit integer, modulo 2<sup>16</sup>.
+     * 
+     * @param word
+     *            the raw value
+     * @return the negation
+     */
+    public static short negate(short word) {
+        return (short) (-word);
+    }
+
+    /**
+     * Adds one to a signed 16-bit integer, modulo 2<sup>16</sup>.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value plus one
+     */
+    public static short increment(short word) {
+        return (short) (word + 1);
+    }
+
+    /**
+     * Subtracts one from a signed 16-bit integer, modulo 2<sup>16</sup>.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value minus one
+     */
+    public static short decrement(short word) {
+        return (short) (word - 1);
+    }
+
+    /**
+     * Adds two signed 16-bit integers, clamping the sum to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated sum
+     */
+    public static short addSaturating(short x, short y) {
+        return saturate(x + y);
+    }
+
+    /**
+     * Subtracts one signed 16-bit integer from another, clamping the difference to the range
+     * of the type.
      * 
-     * @param word
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated difference
+     */
+    public static short subtractSaturating(short x, short y) {
+        return saturate(x - y);
+    }
+
+    /**
+     * Multiplies two signed 16-bit integers, clamping the product to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated product
+     */
+    public static short multiplySaturating(short x, short y) {
+        return saturate(x * y);
+    }
+
+    /**
+     * Applies {@link #addSaturating(short, short)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void addSaturating(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = addSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #subtractSaturating(short, short)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void subtractSaturating(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = subtractSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #multiplySaturating(short, short)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void multiplySaturating(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = multiplySaturating(x[i], y[i]);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>, checking that it is in range.
+     * 
+     * @param value
      *            the value to be represented
+     * @return the instance
+     * @throws ArithmeticException
+     *             if <code>value</code> is less than {@link #MIN_VALUE} or greater than
+     *             {@link #MAX_VALUE}
+     */
+    public static Int16 valueOfExact(long value) throws ArithmeticException {
+        return valueOf(exact(value));
+    }
+
+    /**
+     * Adds two signed 16-bit integers, throwing if the sum overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static short addExact(short x, short y) throws ArithmeticException {
+        return exact(x + y);
+    }
+
+    /**
+     * Subtracts one signed 16-bit integer from another, throwing if the difference overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static short subtractExact(short x, short y) throws ArithmeticException {
+        return exact(x - y);
+    }
+
+    /**
+     * Multiplies two signed 16-bit integers, throwing if the product overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static short multiplyExact(short x, short y) throws ArithmeticException {
+        return exact(x * y);
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
      * @throws IllegalArgumentException
-     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     *             if <code>values</code> is <code>null</code>
      */
-    public Int16(byte[] word) throws IllegalArgumentException {
-        verify(word);
-        int16 = (short) (((word[0] & 0xff) << 8) | (word[1] & 0xff));
+    public static boolean inRange(long[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= (values[i] - MIN_VALUE) >>> 16;
+        return outOfRange == 0;
     }
 
     /**
-     * Creates a new instance from a <code>short</code>.
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        int outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= (values[i] - MIN_VALUE) >>> 16;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Gets a signed 16-bit integer as a <code>String</code>.
      * 
      * @param word
-     *            the value to be represented
+     *            the raw value
+     * @return the value as a <code>String</code>
      */
-    public Int16(short word) {
-        int16 = word;
+    public static String toString(short word) {
+        return Short.toString(word);
     }
 
     /**
-     * Creates a new instance from an <code>int</code>.
+     * Reads a signed 16-bit integer at the buffer's current position, in the buffer's byte order,
+     * and advances the position by 2 bytes.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 2 bytes remain in the buffer
+     */
+    public static short get(ByteBuffer buffer) throws BufferUnderflowException {
+        return buffer.getShort();
+    }
+
+    /**
+     * Reads a signed 16-bit integer at the buffer's current position in the given byte order and
+     * advances the position by 2 bytes. The byte order of the buffer is not changed.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 2 bytes remain in the buffer
+     */
+    public static short get(ByteBuffer buffer, ByteOrder order) throws BufferUnderflowException {
+        return order(buffer, order, buffer.getShort());
+    }
+
+    /**
+     * Reads a signed 16-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static short get(ByteBuffer buffer, int index) throws IndexOutOfBoundsException {
+        return buffer.getShort(index);
+    }
+
+    /**
+     * Reads a signed 16-bit integer at the given index in the given byte order without changing the
+     * position or the byte order of the buffer.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static short get(ByteBuffer buffer, int index, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        return order(buffer, order, buffer.getShort(index));
+    }
+
+    /**
+     * Writes a signed 16-bit integer at the buffer's current position, in the buffer's byte order,
+     * and advances the position by 2 bytes.
      * 
+     * @param buffer
+     *            the buffer to write to
      * @param word
-     *            the value to be represented
+     *            the value to be written
+     * @throws BufferOverflowException
+     *             if fewer than 2 bytes remain in the buffer
      */
-    public Int16(int word) {
-        int16 = (short) word;
+    public static void put(ByteBuffer buffer, short word) throws BufferOverflowException {
+        buffer.putShort(word);
     }
 
     /**
-     * Creates a new instance from a <code>long</code>.
+     * Writes a signed 16-bit integer at the buffer's current position in the given byte order and
+     * advances the position by 2 bytes. The byte order of the buffer is not changed.
      * 
+     * @param buffer
+     *            the buffer to write to
      * @param word
-     *            the value to be represented
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws BufferOverflowException
+     *             if fewer than 2 bytes remain in the buffer
      */
-    public Int16(long word) {
-        int16 = (short) word;
+    public static void put(ByteBuffer buffer, short word, ByteOrder order)
+            throws BufferOverflowException {
+        buffer.putShort(order(buffer, order, word));
     }
 
     /**
-     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
-     * and be in big-endian byte order.
+     * Writes a signed 16-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
      * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
      * @param word
-     *            the value to be represented
-     * @throws IllegalArgumentException
-     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     *            the value to be written
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
      */
-    public static Int16 valueOfBigEndian(byte[] word) throws IllegalArgumentException {
-        verify(word);
-        return new Int16(word);
+    public static void put(ByteBuffer buffer, int index, short word)
+            throws IndexOutOfBoundsException {
+        buffer.putShort(index, word);
     }
 
     /**
-     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
-     * and be in little-endian byte order.
+     * Writes a signed 16-bit integer at the given index in the given byte order without changing
+     * the position or the byte order of the buffer.
      * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
      * @param word
-     *            the value to be represented
-     * @throws IllegalArgumentException
-     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
      */
-    public static Int16 valueOfLittleEndian(byte[] word) throws IllegalArgumentException {
-        verify(word);
-        byte[] reversed = new byte[2];
-        reversed[0] = word[1];
-        reversed[1] = word[0];
-        return new Int16(reversed);
+    public static void put(ByteBuffer buffer, int index, short word, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        buffer.putShort(index, order(buffer, order, word));
     }
 
     /**
@@ -179,10 +1088,7 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
      * @return the value as a big-endian <code>byte</code> array
      */
     public byte[] toBigEndian() {
-        byte[] word = new byte[2];
-        word[0] = (byte) ((int16 >> 8) & 0xff);
-        word[1] = (byte) (int16 & 0xff);
-        return word;
+        return toBigEndian(int16);
     }
 
     /**
@@ -192,10 +1098,37 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
      * @return the value as a little-endian <code>byte</code> array
      */
     public byte[] toLittleEndian() {
-        byte[] word = new byte[2];
-        word[0] = (byte) (int16 & 0xff);
-        word[1] = (byte) ((int16 >> 8) & 0xff);
-        return word;
+        return toLittleEndian(int16);
+    }
+
+    /**
+     * Writes the value to the 2 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public void writeBigEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeBigEndian(dst, offset, int16);
+    }
+
+    /**
+     * Writes the value to the 2 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public void writeLittleEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeLittleEndian(dst, offset, int16);
     }
 
     /**
@@ -205,11 +1138,7 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
      *            a <code>Int16</code>
      */
     public int compareTo(Int16 object) {
-        if (equals(object))
-            return 0;
-        else {
-            return (shortValue() - object.shortValue());
-        }
+        return compare(int16, object.int16);
     }
 
     /**
@@ -237,7 +1166,16 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
      * @return the value as a <code>String</code>
      */
     public String toString() {
-        return Short.toString(int16);
+        return toString(int16);
+    }
+
+    private static int cacheHigh() {
+        int high = Integer.getInteger(CACHE_HIGH_PROPERTY, 1023).intValue();
+        return Math.max(Int8.MAX_VALUE, Math.min(high, MAX_VALUE));
+    }
+
+    private static short order(ByteBuffer buffer, ByteOrder order, short word) {
+        return buffer.order() == order ? word : Short.reverseBytes(word);
     }
 
     private static void verify(byte[] word) throws IllegalArgumentException {
@@ -249,19 +1187,19 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
     }
 
     public Int16 and(Int16 number) {
-        return new Int16(int16Value() & number.int16Value());
+        return valueOf(and(int16, number.int16));
     }
 
     public Int16 not() {
-        return new Int16(~int16Value());
+        return valueOf(not(int16));
     }
 
     public Int16 or(Int16 number) {
-        return new Int16(int16Value() | number.int16Value());
+        return valueOf(or(int16, number.int16));
     }
 
     public Int16 xor(Int16 number) {
-        return new Int16(int16Value() ^ number.int16Value());
+        return valueOf(xor(int16, number.int16));
     }
 
     public Int16 addBitmask(Int16 bitmask) {
@@ -269,10 +1207,288 @@ public class Int16 extends Number implements Serializable, Comparable<Int16>, Bi
     }
 
     public boolean hasBitmask(Int16 bitmask) {
-        return this.and(bitmask).equals(bitmask);
+        return hasBitmask(int16, bitmask.int16);
     }
 
     public Int16 removeBitmask(Int16 bitmask) {
-        return this.and(bitmask.not());
+        return valueOf(removeBitmask(int16, bitmask.int16));
+    }
+
+    public boolean hasAnyBit(Int16 bitmask) {
+        return hasAnyBit(int16, bitmask.int16);
+    }
+
+    /**
+     * Determines if this number has the given bitmask, without creating an instance for it.
+     * Bits above the lowest 16 are ignored, so a sign-extended mask such as
+     * <code>(short) 0x8000</code> tests only the top bit.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(int bitmask) {
+        return hasBitmask(int16, (short) bitmask);
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask. Bits above the lowest
+     * 16 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(int bitmask) {
+        return hasAnyBit(int16, (short) bitmask);
+    }
+
+    /**
+     * Sets the bits in the given bitmask. Bits above the lowest 16 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits set
+     */
+    public Int16 addBitmask(int bitmask) {
+        return valueOf(addBitmask(int16, (short) bitmask));
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits unset
+     */
+    public Int16 removeBitmask(int bitmask) {
+        return valueOf(removeBitmask(int16, (short) bitmask));
+    }
+
+    /**
+     * Determines if this number has the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(Bitmask bitmask) {
+        return hasBitmask(bitmask.bits());
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(Bitmask bitmask) {
+        return hasAnyBit(bitmask.bits());
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits set
+     */
+    public Int16 addBitmask(Bitmask bitmask) {
+        return addBitmask(bitmask.bits());
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits unset
+     */
+    public Int16 removeBitmask(Bitmask bitmask) {
+        return removeBitmask(bitmask.bits());
+    }
+
+    public Int16 shiftLeft(int distance) {
+        return valueOf(shiftLeft(int16, distance));
+    }
+
+    public Int16 shiftRight(int distance) {
+        return valueOf(shiftRight(int16, distance));
+    }
+
+    public Int16 rotateLeft(int distance) {
+        return valueOf(rotateLeft(int16, distance));
+    }
+
+    public Int16 rotateRight(int distance) {
+        return valueOf(rotateRight(int16, distance));
+    }
+
+    /**
+     * Counts the one bits in this value.
+     * 
+     * @return the number of one bits
+     */
+    public int bitCount() {
+        return bitCount(int16);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit of this value.
+     * 
+     * @return the number of leading zeros, or 16 if the value is zero
+     */
+    public int numberOfLeadingZeros() {
+        return numberOfLeadingZeros(int16);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit of this value.
+     * 
+     * @return the number of trailing zeros, or 16 if the value is zero
+     */
+    public int numberOfTrailingZeros() {
+        return numberOfTrailingZeros(int16);
+    }
+
+    /**
+     * Keeps only the highest one bit of this value.
+     * 
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public Int16 highestOneBit() {
+        return valueOf(highestOneBit(int16));
+    }
+
+    /**
+     * Keeps only the lowest one bit of this value.
+     * 
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public Int16 lowestOneBit() {
+        return valueOf(lowestOneBit(int16));
+    }
+
+    /**
+     * Reverses the order of the bits of this value.
+     * 
+     * @return the reversed value
+     */
+    public Int16 reverse() {
+        return valueOf(reverse(int16));
+    }
+
+    /**
+     * Reverses the order of the bytes of this value.
+     * 
+     * @return the reversed value
+     */
+    public Int16 reverseBytes() {
+        return valueOf(reverseBytes(int16));
+    }
+
+    public Int16 add(Int16 number) {
+        return valueOf(add(int16, number.int16));
+    }
+
+    public Int16 subtract(Int16 number) {
+        return valueOf(subtract(int16, number.int16));
+    }
+
+    public Int16 multiply(Int16 number) {
+        return valueOf(multiply(int16, number.int16));
+    }
+
+    public Int16 negate() {
+        return valueOf(negate(int16));
+    }
+
+    public Int16 increment() {
+        return valueOf(increment(int16));
+    }
+
+    public Int16 decrement() {
+        return valueOf(decrement(int16));
+    }
+
+    private static void verify(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        if (x == null || y == null || dst == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        if (x.length != dst.length || y.length != dst.length)
+            throw new IllegalArgumentException("arrays must have the same length.");
+    }
+
+    private static short exact(long value) throws ArithmeticException {
+        if (((value - MIN_VALUE) >>> 16) != 0)
+            throw new ArithmeticException("Out of range for Int16: " + value);
+        return (short) value;
+    }
+
+    private static short saturate(int value) {
+        return (short) Math.max(MIN_VALUE, Math.min(MAX_VALUE, value));
+    }
+
+    /**
+     * Adds this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated sum
+     */
+    public Int16 addSaturating(Int16 number) {
+        return valueOf(addSaturating(int16, number.int16));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated difference
+     */
+    public Int16 subtractSaturating(Int16 number) {
+        return valueOf(subtractSaturating(int16, number.int16));
+    }
+
+    /**
+     * Multiplies this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated product
+     */
+    public Int16 multiplySaturating(Int16 number) {
+        return valueOf(multiplySaturating(int16, number.int16));
+    }
+
+    /**
+     * Adds <code>number</code> to this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int16 addExact(Int16 number) throws ArithmeticException {
+        return valueOf(addExact(int16, number.int16));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int16 subtractExact(Int16 number) throws ArithmeticException {
+        return valueOf(subtractExact(int16, number.int16));
+    }
+
+    /**
+     * Multiplies this value by <code>number</code>, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int16 multiplyExact(Int16 number) throws ArithmeticException {
+        return valueOf(multiplyExact(int16, number.int16));
     }
 }
@@ -32,11 +32,17 @@
 package net.sourceforge.juint;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
 
 /**
  * Signed 32-bit integer.
  */
-public class Int32 extends Number implements Serializable, Comparable<Int32>, Bitwise<Int32> {
+public class Int32 extends Number implements Serializable, Comparable<Int32>, Bitwise<Int32>,
+        Arithmetic<Int32> {
     private static final long serialVersionUID = 975684957220885901L;
     /**
      * The largest possible value.
@@ -50,6 +56,14 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      * {@value}
      */
     public static final int MIN_VALUE = Integer.MIN_VALUE;
+    /**
+     * Orders instances by their signed 32-bit values, the same as <code>compareTo</code>.
+     */
+    public static final Comparator<Int32> COMPARATOR = new Comparator<Int32>() {
+        public int compare(Int32 x, Int32 y) {
+            return Int32.compare(x.int32, y.int32);
+        }
+    };
     private int int32;
 
     /**
@@ -64,8 +78,7 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      */
     public Int32(byte[] doubleWord) throws IllegalArgumentException {
         verify(doubleWord);
-        int32 = (doubleWord[0] & 0xff) << 24 | (doubleWord[1] & 0xff) << 16
-                | (doubleWord[2] & 0xff) << 8 | (doubleWord[3] & 0xff);
+        int32 = fromBigEndian(doubleWord[0], doubleWord[1], doubleWord[2], doubleWord[3]);
     }
 
     /**
@@ -125,12 +138,830 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      */
     public static Int32 valueOfLittleEndian(byte[] doubleWord) throws IllegalArgumentException {
         verify(doubleWord);
-        byte[] reversed = new byte[4];
-        reversed[0] = doubleWord[3];
-        reversed[1] = doubleWord[2];
-        reversed[2] = doubleWord[1];
-        reversed[3] = doubleWord[0];
-        return new Int32(reversed);
+        return new Int32(fromLittleEndian(doubleWord[0], doubleWord[1], doubleWord[2],
+                doubleWord[3]));
+    }
+
+    /**
+     * Creates a new instance from the 4 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in big-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static Int32 valueOfBigEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return new Int32(fromBigEndian(src, offset));
+    }
+
+    /**
+     * Creates a new instance from the 4 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in little-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static Int32 valueOfLittleEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return new Int32(fromLittleEndian(src, offset));
+    }
+
+    /**
+     * Gets the raw value of 4 bytes in big-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @param b2
+     *            byte 2
+     * @param b3
+     *            byte 3
+     * @return the raw value
+     */
+    public static int fromBigEndian(byte b0, byte b1, byte b2, byte b3) {
+        return ((b0 & 0xff) << 24) | ((b1 & 0xff) << 16) | ((b2 & 0xff) << 8) | (b3 & 0xff);
+    }
+
+    /**
+     * Gets the raw value of 4 bytes in little-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @param b2
+     *            byte 2
+     * @param b3
+     *            byte 3
+     * @return the raw value
+     */
+    public static int fromLittleEndian(byte b0, byte b1, byte b2, byte b3) {
+        return fromBigEndian(b3, b2, b1, b0);
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in big-endian byte order.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as a big-endian <code>byte</code> array
+     */
+    public static byte[] toBigEndian(int doubleWord) {
+        byte[] bytes = new byte[4];
+        bytes[0] = (byte) ((doubleWord >> 24) & 0xff);
+        bytes[1] = (byte) ((doubleWord >> 16) & 0xff);
+        bytes[2] = (byte) ((doubleWord >> 8) & 0xff);
+        bytes[3] = (byte) (doubleWord & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in little-endian byte order.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as a little-endian <code>byte</code> array
+     */
+    public static byte[] toLittleEndian(int doubleWord) {
+        byte[] bytes = new byte[4];
+        bytes[0] = (byte) (doubleWord & 0xff);
+        bytes[1] = (byte) ((doubleWord >> 8) & 0xff);
+        bytes[2] = (byte) ((doubleWord >> 16) & 0xff);
+        bytes[3] = (byte) ((doubleWord >> 24) & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value of the 4 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static int fromBigEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (int) ByteArrays.INT_BIG_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Gets the raw value of the 4 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static int fromLittleEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (int) ByteArrays.INT_LITTLE_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Writes the raw value to the 4 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param doubleWord
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void writeBigEndian(byte[] dst, int offset, int doubleWord)
+            throws IndexOutOfBoundsException {
+        ByteArrays.INT_BIG_ENDIAN.set(dst, offset, doubleWord);
+    }
+
+    /**
+     * Writes the raw value to the 4 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param doubleWord
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void writeLittleEndian(byte[] dst, int offset, int doubleWord)
+            throws IndexOutOfBoundsException {
+        ByteArrays.INT_LITTLE_ENDIAN.set(dst, offset, doubleWord);
+    }
+
+    /**
+     * Compares two signed 32-bit integers for order.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return a negative number, zero or a positive number as <code>x</code> is less than,
+     *         equal to or greater than <code>y</code>
+     */
+    public static int compare(int x, int y) {
+        return Integer.compare(x, y);
+    }
+
+    /**
+     * Logical and of two signed 32-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the and
+     */
+    public static int and(int x, int y) {
+        return x & y;
+    }
+
+    /**
+     * Logical or of two signed 32-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the or
+     */
+    public static int or(int x, int y) {
+        return x | y;
+    }
+
+    /**
+     * Logical xor of two signed 32-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the xor
+     */
+    public static int xor(int x, int y) {
+        return x ^ y;
+    }
+
+    /**
+     * Logical not of a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the result of the not
+     */
+    public static int not(int doubleWord) {
+        return ~doubleWord;
+    }
+
+    /**
+     * Determines if a signed 32-bit integer has the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public static boolean hasBitmask(int number, int bitmask) {
+        return (number & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if a signed 32-bit integer has any of the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public static boolean hasAnyBit(int number, int bitmask) {
+        return (number & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits set
+     */
+    public static int addBitmask(int number, int bitmask) {
+        return number | bitmask;
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits unset
+     */
+    public static int removeBitmask(int number, int bitmask) {
+        return number & ~bitmask;
+    }
+
+    /**
+     * Shifts a signed 32-bit integer left by <code>distance</code> bits, modulo 32.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static int shiftLeft(int doubleWord, int distance) {
+        return doubleWord << distance;
+    }
+
+    /**
+     * Shifts a signed 32-bit integer right by <code>distance</code> bits, modulo 32. The shift is
+     * arithmetic.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static int shiftRight(int doubleWord, int distance) {
+        return doubleWord >> distance;
+    }
+
+    /**
+     * Rotates a signed 32-bit integer left by <code>distance</code> bits, modulo 32.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static int rotateLeft(int doubleWord, int distance) {
+        return Integer.rotateLeft(doubleWord, distance);
+    }
+
+    /**
+     * Rotates a signed 32-bit integer right by <code>distance</code> bits, modulo 32.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static int rotateRight(int doubleWord, int distance) {
+        return Integer.rotateRight(doubleWord, distance);
+    }
+
+    /**
+     * Counts the one bits in a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the number of one bits
+     */
+    public static int bitCount(int doubleWord) {
+        return Integer.bitCount(doubleWord);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit in a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the number of leading zeros, or 32 if the value is zero
+     */
+    public static int numberOfLeadingZeros(int doubleWord) {
+        return Integer.numberOfLeadingZeros(doubleWord);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit in a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the number of trailing zeros, or 32 if the value is zero
+     */
+    public static int numberOfTrailingZeros(int doubleWord) {
+        return Integer.numberOfTrailingZeros(doubleWord);
+    }
+
+    /**
+     * Keeps only the highest one bit of a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public static int highestOneBit(int doubleWord) {
+        return Integer.highestOneBit(doubleWord);
+    }
+
+    /**
+     * Keeps only the lowest one bit of a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public static int lowestOneBit(int doubleWord) {
+        return Integer.lowestOneBit(doubleWord);
+    }
+
+    /**
+     * Reverses the order of the 32 bits of a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the reversed value
+     */
+    public static int reverse(int doubleWord) {
+        return Integer.reverse(doubleWord);
+    }
+
+    /**
+     * Reverses the order of the bytes of a signed 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the reversed value
+     */
+    public static int reverseBytes(int doubleWord) {
+        return Integer.reverseBytes(doubleWord);
+    }
+
+    /**
+     * Counts the one bits in every value of an array.
+     * 
+     * @param values
+     *            the raw values
+     * @return the total number of one bits
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static long bitCount(int[] values) throws IllegalArgumentException {
+        return UInt32.bitCount(values);
+    }
+
+    /**
+     * Adds two signed 32-bit integers, modulo 2<sup>32</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     */
+    public static int add(int x, int y) {
+        return x + y;
+    }
+
+    /**
+     * Subtracts one signed 32-bit integer from another, modulo 2<sup>32</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     */
+    public static int subtract(int x, int y) {
+        return x - y;
+    }
+
+    /**
+     * Multiplies two signed 32-bit integers, modulo 2<sup>32</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     */
+    public static int multiply(int x, int y) {
+        return x * y;
+    }
+
+    /**
+     * Negates a signed 32-bit integer, modulo 2<sup>32</sup>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the negation
+     */
+    public static int negate(int doubleWord) {
+        return -doubleWord;
+    }
+
+    /**
+     * Adds one to a signed 32-bit integer, modulo 2<sup>32</sup>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value plus one
+     */
+    public static int increment(int doubleWord) {
+        return doubleWord + 1;
+    }
+
+    /**
+     * Subtracts one from a signed 32-bit integer, modulo 2<sup>32</sup>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value minus one
+     */
+    public static int decrement(int doubleWord) {
+        return doubleWord - 1;
+    }
+
+    /**
+     * Adds two signed 32-bit integers, clamping the sum to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated sum
+     */
+    public static int addSaturating(int x, int y) {
+        int sum = x + y;
+        // all ones if the sign of the result differs from the sign of both operands
+        int overflow = ((x ^ sum) & (y ^ sum)) >> 31;
+        return (sum & ~overflow) | (((x >> 31) ^ MAX_VALUE) & overflow);
+    }
+
+    /**
+     * Subtracts one signed 32-bit integer from another, clamping the difference to the range
+     * of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated difference
+     */
+    public static int subtractSaturating(int x, int y) {
+        int difference = x - y;
+        // all ones if the operands differ in sign and the result differs from x
+        int overflow = ((x ^ y) & (x ^ difference)) >> 31;
+        return (difference & ~overflow) | (((x >> 31) ^ MAX_VALUE) & overflow);
+    }
+
+    /**
+     * Multiplies two signed 32-bit integers, clamping the product to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated product
+     */
+    public static int multiplySaturating(int x, int y) {
+        return (int) Math.max(MIN_VALUE, Math.min(MAX_VALUE, (long) x * y));
+    }
+
+    /**
+     * Applies {@link #addSaturating(int, int)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void addSaturating(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = addSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #subtractSaturating(int, int)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void subtractSaturating(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = subtractSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #multiplySaturating(int, int)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void multiplySaturating(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = multiplySaturating(x[i], y[i]);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>, checking that it is in range.
+     * 
+     * @param value
+     *            the value to be represented
+     * @return the instance
+     * @throws ArithmeticException
+     *             if <code>value</code> is less than {@link #MIN_VALUE} or greater than
+     *             {@link #MAX_VALUE}
+     */
+    public static Int32 valueOfExact(long value) throws ArithmeticException {
+        return new Int32(exact(value));
+    }
+
+    /**
+     * Adds two signed 32-bit integers, throwing if the sum overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static int addExact(int x, int y) throws ArithmeticException {
+        return Math.addExact(x, y);
+    }
+
+    /**
+     * Subtracts one signed 32-bit integer from another, throwing if the difference overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static int subtractExact(int x, int y) throws ArithmeticException {
+        return Math.subtractExact(x, y);
+    }
+
+    /**
+     * Multiplies two signed 32-bit integers, throwing if the product overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static int multiplyExact(int x, int y) throws ArithmeticException {
+        return Math.multiplyExact(x, y);
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(long[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= (values[i] - MIN_VALUE) >>> 32;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Gets a signed 32-bit integer as a <code>String</code>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as a <code>String</code>
+     */
+    public static String toString(int doubleWord) {
+        return Integer.toString(doubleWord);
+    }
+
+    /**
+     * Reads a signed 32-bit integer at the buffer's current position, in the buffer's byte order,
+     * and advances the position by 4 bytes.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static int get(ByteBuffer buffer) throws BufferUnderflowException {
+        return buffer.getInt();
+    }
+
+    /**
+     * Reads a signed 32-bit integer at the buffer's current position in the given byte order and
+     * advances the position by 4 bytes. The byte order of the buffer is not changed.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static int get(ByteBuffer buffer, ByteOrder order) throws BufferUnderflowException {
+        return order(buffer, order, buffer.getInt());
+    }
+
+    /**
+     * Reads a signed 32-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static int get(ByteBuffer buffer, int index) throws IndexOutOfBoundsException {
+        return buffer.getInt(index);
+    }
+
+    /**
+     * Reads a signed 32-bit integer at the given index in the given byte order without changing the
+     * position or the byte order of the buffer.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static int get(ByteBuffer buffer, int index, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        return order(buffer, order, buffer.getInt(index));
+    }
+
+    /**
+     * Writes a signed 32-bit integer at the buffer's current position, in the buffer's byte order,
+     * and advances the position by 4 bytes.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param doubleWord
+     *            the value to be written
+     * @throws BufferOverflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static void put(ByteBuffer buffer, int doubleWord) throws BufferOverflowException {
+        buffer.putInt(doubleWord);
+    }
+
+    /**
+     * Writes a signed 32-bit integer at the buffer's current position in the given byte order and
+     * advances the position by 4 bytes. The byte order of the buffer is not changed.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param doubleWord
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws BufferOverflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static void put(ByteBuffer buffer, int doubleWord, ByteOrder order)
+            throws BufferOverflowException {
+        buffer.putInt(order(buffer, order, doubleWord));
+    }
+
+    /**
+     * Writes a signed 32-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
+     * @param doubleWord
+     *            the value to be written
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void put(ByteBuffer buffer, int index, int doubleWord)
+            throws IndexOutOfBoundsException {
+        buffer.putInt(index, doubleWord);
+    }
+
+    /**
+     * Writes a signed 32-bit integer at the given index in the given byte order without changing
+     * the position or the byte order of the buffer.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
+     * @param doubleWord
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void put(ByteBuffer buffer, int index, int doubleWord, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        buffer.putInt(index, order(buffer, order, doubleWord));
     }
 
     /**
@@ -185,11 +1016,7 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      *            a <code>Int32</code>
      */
     public int compareTo(Int32 object) {
-        if (equals(object))
-            return 0;
-        else {
-            return (intValue() - object.intValue());
-        }
+        return compare(int32, object.int32);
     }
 
     /**
@@ -218,12 +1045,7 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      * @return the value as a big-endian <code>byte</code> array
      */
     public byte[] toBigEndian() {
-        byte[] doubleWord = new byte[4];
-        doubleWord[0] = (byte) ((int32 >> 24) & 0xff);
-        doubleWord[1] = (byte) ((int32 >> 16) & 0xff);
-        doubleWord[2] = (byte) ((int32 >> 8) & 0xff);
-        doubleWord[3] = (byte) (int32 & 0xff);
-        return doubleWord;
+        return toBigEndian(int32);
     }
 
     /**
@@ -233,12 +1055,37 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      * @return the value as a little-endian <code>byte</code> array
      */
     public byte[] toLittleEndian() {
-        byte[] doubleWord = new byte[4];
-        doubleWord[0] = (byte) (int32 & 0xff);
-        doubleWord[1] = (byte) ((int32 >> 8) & 0xff);
-        doubleWord[2] = (byte) ((int32 >> 16) & 0xff);
-        doubleWord[3] = (byte) ((int32 >> 24) & 0xff);
-        return doubleWord;
+        return toLittleEndian(int32);
+    }
+
+    /**
+     * Writes the value to the 4 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public void writeBigEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeBigEndian(dst, offset, int32);
+    }
+
+    /**
+     * Writes the value to the 4 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public void writeLittleEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeLittleEndian(dst, offset, int32);
     }
 
     /**
@@ -247,7 +1094,11 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
      * @return the value as a <code>String</code>
      */
     public String toString() {
-        return Integer.toString(int32);
+        return toString(int32);
+    }
+
+    private static int order(ByteBuffer buffer, ByteOrder order, int doubleWord) {
+        return buffer.order() == order ? doubleWord : Integer.reverseBytes(doubleWord);
     }
 
     private static void verify(byte[] doubleWord) throws IllegalArgumentException {
@@ -259,19 +1110,19 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
     }
 
     public Int32 and(Int32 number) {
-        return new Int32(int32Value() & number.int32Value());
+        return new Int32(and(int32, number.int32));
     }
 
     public Int32 not() {
-        return new Int32(~int32Value());
+        return new Int32(not(int32));
     }
 
     public Int32 or(Int32 number) {
-        return new Int32(int32Value() | number.int32Value());
+        return new Int32(or(int32, number.int32));
     }
 
     public Int32 xor(Int32 number) {
-        return new Int32(int32Value() ^ number.int32Value());
+        return new Int32(xor(int32, number.int32));
     }
 
     public Int32 addBitmask(Int32 bitmask) {
@@ -279,10 +1130,281 @@ public class Int32 extends Number implements Serializable, Comparable<Int32>, Bi
     }
 
     public boolean hasBitmask(Int32 bitmask) {
-        return this.and(bitmask).equals(bitmask);
+        return hasBitmask(int32, bitmask.int32);
     }
 
     public Int32 removeBitmask(Int32 bitmask) {
-        return this.and(bitmask.not());
+        return new Int32(removeBitmask(int32, bitmask.int32));
+    }
+
+    public boolean hasAnyBit(Int32 bitmask) {
+        return hasAnyBit(int32, bitmask.int32);
+    }
+
+    /**
+     * Determines if this number has the given bitmask, without creating an instance for it.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(int bitmask) {
+        return (int32 & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(int bitmask) {
+        return (int32 & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits set
+     */
+    public Int32 addBitmask(int bitmask) {
+        return new Int32(addBitmask(int32, bitmask));
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits unset
+     */
+    public Int32 removeBitmask(int bitmask) {
+        return new Int32(removeBitmask(int32, bitmask));
+    }
+
+    /**
+     * Determines if this number has the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(Bitmask bitmask) {
+        return hasBitmask(bitmask.bits());
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(Bitmask bitmask) {
+        return hasAnyBit(bitmask.bits());
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits set
+     */
+    public Int32 addBitmask(Bitmask bitmask) {
+        return addBitmask(bitmask.bits());
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits unset
+     */
+    public Int32 removeBitmask(Bitmask bitmask) {
+        return removeBitmask(bitmask.bits());
+    }
+
+    public Int32 shiftLeft(int distance) {
+        return new Int32(shiftLeft(int32, distance));
+    }
+
+    public Int32 shiftRight(int distance) {
+        return new Int32(shiftRight(int32, distance));
+    }
+
+    public Int32 rotateLeft(int distance) {
+        return new Int32(rotateLeft(int32, distance));
+    }
+
+    public Int32 rotateRight(int distance) {
+        return new Int32(rotateRight(int32, distance));
+    }
+
+    /**
+     * Counts the one bits in this value.
+     * 
+     * @return the number of one bits
+     */
+    public int bitCount() {
+        return bitCount(int32);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit of this value.
+     * 
+     * @return the number of leading zeros, or 32 if the value is zero
+     */
+    public int numberOfLeadingZeros() {
+        return numberOfLeadingZeros(int32);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit of this value.
+     * 
+     * @return the number of trailing zeros, or 32 if the value is zero
+     */
+    public int numberOfTrailingZeros() {
+        return numberOfTrailingZeros(int32);
+    }
+
+    /**
+     * Keeps only the highest one bit of this value.
+     * 
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public Int32 highestOneBit() {
+        return new Int32(highestOneBit(int32));
+    }
+
+    /**
+     * Keeps only the lowest one bit of this value.
+     * 
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public Int32 lowestOneBit() {
+        return new Int32(lowestOneBit(int32));
+    }
+
+    /**
+     * Reverses the order of the bits of this value.
+     * 
+     * @return the reversed value
+     */
+    public Int32 reverse() {
+        return new Int32(reverse(int32));
+    }
+
+    /**
+     * Reverses the order of the bytes of this value.
+     * 
+     * @return the reversed value
+     */
+    public Int32 reverseBytes() {
+        return new Int32(reverseBytes(int32));
+    }
+
+    public Int32 add(Int32 number) {
+        return new Int32(add(int32, number.int32));
+    }
+
+    public Int32 subtract(Int32 number) {
+        return new Int32(subtract(int32, number.int32));
+    }
+
+    public Int32 multiply(Int32 number) {
+        return new Int32(multiply(int32, number.int32));
+    }
+
+    public Int32 negate() {
+        return new Int32(negate(int32));
+    }
+
+    public Int32 increment() {
+        return new Int32(increment(int32));
+    }
+
+    public Int32 decrement() {
+        return new Int32(decrement(int32));
+    }
+
+    private static void verify(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        if (x == null || y == null || dst == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        if (x.length != dst.length || y.length != dst.length)
+            throw new IllegalArgumentException("arrays must have the same length.");
+    }
+
+    private static int exact(long value) throws ArithmeticException {
+        if (((value - MIN_VALUE) >>> 32) != 0)
+            throw new ArithmeticException("Out of range for Int32: " + value);
+        return (int) value;
+    }
+
+    /**
+     * Adds this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated sum
+     */
+    public Int32 addSaturating(Int32 number) {
+        return new Int32(addSaturating(int32, number.int32));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated difference
+     */
+    public Int32 subtractSaturating(Int32 number) {
+        return new Int32(subtractSaturating(int32, number.int32));
+    }
+
+    /**
+     * Multiplies this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated product
+     */
+    public Int32 multiplySaturating(Int32 number) {
+        return new Int32(multiplySaturating(int32, number.int32));
+    }
+
+    /**
+     * Adds <code>number</code> to this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int32 addExact(Int32 number) throws ArithmeticException {
+        return new Int32(addExact(int32, number.int32));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int32 subtractExact(Int32 number) throws ArithmeticException {
+        return new Int32(subtractExact(int32, number.int32));
+    }
+
+    /**
+     * Multiplies this value by <code>number</code>, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int32 multiplyExact(Int32 number) throws ArithmeticException {
+        return new Int32(multiplyExact(int32, number.int32));
     }
 }
@@ -32,11 +32,16 @@
 package net.sourceforge.juint;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
 
 /**
  * Signed 8-bit integer.
  */
-public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitwise<Int8> {
+public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitwise<Int8>,
+        Arithmetic<Int8> {
     private static final long serialVersionUID = 5104693695620697960L;
     /**
      * The largest possible value.
@@ -50,6 +55,37 @@ public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitw
      * {@value}
      */
     public static final byte MIN_VALUE = Byte.MIN_VALUE;
+    /**
+     * Orders instances by their signed 8-bit values, the same as <code>compareTo</code>.
+     */
+    public static final Comparator<Int8> COMPARATOR = new Comparator<Int8>() {
+        public int compare(Int8 x, Int8 y) {
+            return Int8.compare(x.int8, y.int8);
+        }
+    };
+    private static final Int8[] CACHE = new Int8[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Int8(i + MIN_VALUE);
+    }
+
+    /**
+     * The value 0.
+     */
+    public static final Int8 ZERO = CACHE[-MIN_VALUE];
+    /**
+     * The value 1.
+     */
+    public static final Int8 ONE = CACHE[1 - MIN_VALUE];
+    /**
+     * The largest possible value, {@link #MAX_VALUE}.
+     */
+    public static final Int8 MAX = CACHE[MAX_VALUE - MIN_VALUE];
+    /**
+     * The smallest possible value, {@link #MIN_VALUE}.
+     */
+    public static final Int8 MIN = CACHE[0];
     private byte int8;
 
     /**
@@ -92,6 +128,654 @@ public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitw
         int8 = (byte) bite;
     }
 
+    /**
+     * Gets the instance representing a <code>byte</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static Int8 valueOf(byte bite) {
+        return CACHE[bite - MIN_VALUE];
+    }
+
+    /**
+     * Gets the instance representing a <code>short</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static Int8 valueOf(short bite) {
+        return valueOf((byte) bite);
+    }
+
+    /**
+     * Gets the instance representing an <code>int</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static Int8 valueOf(int bite) {
+        return valueOf((byte) bite);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static Int8 valueOf(long bite) {
+        return valueOf((byte) bite);
+    }
+
+    /**
+     * Compares two signed 8-bit integers for order.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return a negative number, zero or a positive number as <code>x</code> is less than,
+     *         equal to or greater than <code>y</code>
+     */
+    public static int compare(byte x, byte y) {
+        return Integer.compare(x, y);
+    }
+
+    /**
+     * Logical and of two signed 8-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the and
+     */
+    public static byte and(byte x, byte y) {
+        return (byte) (x & y);
+    }
+
+    /**
+     * Logical or of two signed 8-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the or
+     */
+    public static byte or(byte x, byte y) {
+        return (byte) (x | y);
+    }
+
+    /**
+     * Logical xor of two signed 8-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the xor
+     */
+    public static byte xor(byte x, byte y) {
+        return (byte) (x ^ y);
+    }
+
+    /**
+     * Logical not of a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the result of the not
+     */
+    public static byte not(byte bite) {
+        return (byte) ~bite;
+    }
+
+    /**
+     * Determines if a signed 8-bit integer has the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public static boolean hasBitmask(byte number, byte bitmask) {
+        return (number & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if a signed 8-bit integer has any of the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public static boolean hasAnyBit(byte number, byte bitmask) {
+        return (number & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits set
+     */
+    public static byte addBitmask(byte number, byte bitmask) {
+        return (byte) (number | bitmask);
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits unset
+     */
+    public static byte removeBitmask(byte number, byte bitmask) {
+        return (byte) (number & ~bitmask);
+    }
+
+    /**
+     * Shifts a signed 8-bit integer left by <code>distance</code> bits, modulo 8.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static byte shiftLeft(byte bite, int distance) {
+        return (byte) (bite << (distance & 7));
+    }
+
+    /**
+     * Shifts a signed 8-bit integer right by <code>distance</code> bits, modulo 8. The shift is
+     * arithmetic.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static byte shiftRight(byte bite, int distance) {
+        return (byte) (bite >> (distance & 7));
+    }
+
+    /**
+     * Rotates a signed 8-bit integer left by <code>distance</code> bits, modulo 8.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static byte rotateLeft(byte bite, int distance) {
+        int value = bite & 0xff;
+        distance &= 7;
+        return (byte) ((value << distance) | (value >>> (8 - distance)));
+    }
+
+    /**
+     * Rotates a signed 8-bit integer right by <code>distance</code> bits, modulo 8.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static byte rotateRight(byte bite, int distance) {
+        int value = bite & 0xff;
+        distance &= 7;
+        return (byte) ((value >>> distance) | (value << (8 - distance)));
+    }
+
+    /**
+     * Counts the one bits in a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the number of one bits
+     */
+    public static int bitCount(byte bite) {
+        return Integer.bitCount(bite & 0xff);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit in a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the number of leading zeros, or 8 if the value is zero
+     */
+    public static int numberOfLeadingZeros(byte bite) {
+        return Integer.numberOfLeadingZeros(bite & 0xff) - 24;
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit in a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the number of trailing zeros, or 8 if the value is zero
+     */
+    public static int numberOfTrailingZeros(byte bite) {
+        return Integer.numberOfTrailingZeros(bite | 0x100);
+    }
+
+    /**
+     * Keeps only the highest one bit of a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public static byte highestOneBit(byte bite) {
+        return (byte) Integer.highestOneBit(bite & 0xff);
+    }
+
+    /**
+     * Keeps only the lowest one bit of a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public static byte lowestOneBit(byte bite) {
+        return (byte) (bite & -bite);
+    }
+
+    /**
+     * Reverses the order of the 8 bits of a signed 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the reversed value
+     */
+    public static byte reverse(byte bite) {
+        return (byte) (Integer.reverse(bite) >>> 24);
+    }
+
+    /**
+     * Reverses the order of the bytes of a signed 8-bit integer. A single byte is returned
+     * unchanged.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the reversed value
+     */
+    public static byte reverseBytes(byte bite) {
+        return bite;
+    }
+
+    /**
+     * Counts the one bits in every value of an array.
+     * 
+     * @param values
+     *            the raw values
+     * @return the total number of one bits
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static long bitCount(byte[] values) throws IllegalArgumentException {
+        return UInt8.bitCount(values);
+    }
+
+    /**
+     * Adds two signed 8-bit integers, modulo 2<sup>8</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     */
+    public static byte add(byte x, byte y) {
+        return (byte) (x + y);
+    }
+
+    /**
+     * Subtracts one signed 8-bit integer from another, modulo 2<sup>8</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     */
+    public static byte subtract(byte x, byte y) {
+        return (byte) (x - y);
+    }
+
+    /**
+     * Multiplies two signed 8-bit integers, modulo 2<sup>8</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     */
+    public static byte multiply(byte x, byte y) {
+        return (byte) (x * y);
+    }
+
+    /**
+     * Negates a signed 8-bit integer, modulo 2<sup>8</sup>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the negation
+     */
+    public static byte negate(byte bite) {
+        return (byte) (-bite);
+    }
+
+    /**
+     * Adds one to a signed 8-bit integer, modulo 2<sup>8</sup>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value plus one
+     */
+    public static byte increment(byte bite) {
+        return (byte) (bite + 1);
+    }
+
+    /**
+     * Subtracts one from a signed 8-bit integer, modulo 2<sup>8</sup>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value minus one
+     */
+    public static byte decrement(byte bite) {
+        return (byte) (bite - 1);
+    }
+
+    /**
+     * Adds two signed 8-bit integers, clamping the sum to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated sum
+     */
+    public static byte addSaturating(byte x, byte y) {
+        return saturate(x + y);
+    }
+
+    /**
+     * Subtracts one signed 8-bit integers from another, clamping the difference to the range of the
+     * type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated difference
+     */
+    public static byte subtractSaturating(byte x, byte y) {
+        return saturate(x - y);
+    }
+
+    /**
+     * Multiplies two signed 8-bit integers, clamping the product to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated product
+     */
+    public static byte multiplySaturating(byte x, byte y) {
+        return saturate(x * y);
+    }
+
+    /**
+     * Applies {@link #addSaturating(byte, byte)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void addSaturating(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = addSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #subtractSaturating(byte, byte)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void subtractSaturating(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = subtractSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #multiplySaturating(byte, byte)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void multiplySaturating(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = multiplySaturating(x[i], y[i]);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>, checking that it is in range.
+     * 
+     * @param value
+     *            the value to be represented
+     * @return the instance
+     * @throws ArithmeticException
+     *             if <code>value</code> is less than {@link #MIN_VALUE} or greater than
+     *             {@link #MAX_VALUE}
+     */
+    public static Int8 valueOfExact(long value) throws ArithmeticException {
+        return valueOf(exact(value));
+    }
+
+    /**
+     * Adds two signed 8-bit integers, throwing if the sum overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static byte addExact(byte x, byte y) throws ArithmeticException {
+        return exact(x + y);
+    }
+
+    /**
+     * Subtracts one signed 8-bit integer from another, throwing if the difference overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static byte subtractExact(byte x, byte y) throws ArithmeticException {
+        return exact(x - y);
+    }
+
+    /**
+     * Multiplies two signed 8-bit integers, throwing if the product overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static byte multiplyExact(byte x, byte y) throws ArithmeticException {
+        return exact(x * y);
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(long[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= (values[i] - MIN_VALUE) >>> 8;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        int outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= (values[i] - MIN_VALUE) >>> 8;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Gets a signed 8-bit integer as a <code>String</code>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value as a <code>String</code>
+     */
+    public static String toString(byte bite) {
+        return Byte.toString(bite);
+    }
+
+    /**
+     * Reads a signed 8-bit integer at the buffer's current position and advances the
+     * position by one.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if there are no bytes remaining in the buffer
+     */
+    public static byte get(ByteBuffer buffer) throws BufferUnderflowException {
+        return buffer.get();
+    }
+
+    /**
+     * Reads a signed 8-bit integer at the given index without changing the position.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or not smaller than the limit
+     */
+    public static byte get(ByteBuffer buffer, int index) throws IndexOutOfBoundsException {
+        return buffer.get(index);
+    }
+
+    /**
+     * Writes a signed 8-bit integer at the buffer's current position and advances the
+     * position by one.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param bite
+     *            the value to be written
+     * @throws BufferOverflowException
+     *             if there are no bytes remaining in the buffer
+     */
+    public static void put(ByteBuffer buffer, byte bite) throws BufferOverflowException {
+        buffer.put(bite);
+    }
+
+    /**
+     * Writes a signed 8-bit integer at the given index without changing the position.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
+     * @param bite
+     *            the value to be written
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or not smaller than the limit
+     */
+    public static void put(ByteBuffer buffer, int index, byte bite)
+            throws IndexOutOfBoundsException {
+        buffer.put(index, bite);
+    }
+
     /**
      * Gets the value as a signed 8-bit integer.
      * 
@@ -144,11 +828,7 @@ public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitw
      *            a <code>Int8</code>
      */
     public int compareTo(Int8 object) {
-        if (equals(object))
-            return 0;
-        else {
-            return (byteValue() - object.byteValue());
-        }
+        return compare(int8, object.int8);
     }
 
     /**
@@ -176,23 +856,23 @@ public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitw
      * @return the value as a <code>String</code>
      */
     public String toString() {
-        return Byte.toString(int8);
+        return toString(int8);
     }
 
     public Int8 and(Int8 number) {
-        return new Int8(int8Value() & number.int8Value());
+        return valueOf(and(int8, number.int8));
     }
 
     public Int8 not() {
-        return new Int8(~int8Value());
+        return valueOf(not(int8));
     }
 
     public Int8 or(Int8 number) {
-        return new Int8(int8Value() | number.int8Value());
+        return valueOf(or(int8, number.int8));
     }
 
     public Int8 xor(Int8 number) {
-        return new Int8(int8Value() ^ number.int8Value());
+        return valueOf(xor(int8, number.int8));
     }
 
     public Int8 addBitmask(Int8 bitmask) {
@@ -200,10 +880,288 @@ public class Int8 extends Number implements Serializable, Comparable<Int8>, Bitw
     }
 
     public boolean hasBitmask(Int8 bitmask) {
-        return this.and(bitmask).equals(bitmask);
+        return hasBitmask(int8, bitmask.int8);
     }
 
     public Int8 removeBitmask(Int8 bitmask) {
-        return this.and(bitmask.not());
+        return valueOf(removeBitmask(int8, bitmask.int8));
+    }
+
+    public boolean hasAnyBit(Int8 bitmask) {
+        return hasAnyBit(int8, bitmask.int8);
+    }
+
+    /**
+     * Determines if this number has the given bitmask, without creating an instance for it.
+     * Bits above the lowest 8 are ignored, so a sign-extended mask such as
+     * <code>(byte) 0x80</code> tests only the top bit.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(int bitmask) {
+        return hasBitmask(int8, (byte) bitmask);
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask. Bits above the lowest
+     * 8 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(int bitmask) {
+        return hasAnyBit(int8, (byte) bitmask);
+    }
+
+    /**
+     * Sets the bits in the given bitmask. Bits above the lowest 8 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits set
+     */
+    public Int8 addBitmask(int bitmask) {
+        return valueOf(addBitmask(int8, (byte) bitmask));
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits unset
+     */
+    public Int8 removeBitmask(int bitmask) {
+        return valueOf(removeBitmask(int8, (byte) bitmask));
+    }
+
+    /**
+     * Determines if this number has the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(Bitmask bitmask) {
+        return hasBitmask(bitmask.bits());
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(Bitmask bitmask) {
+        return hasAnyBit(bitmask.bits());
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits set
+     */
+    public Int8 addBitmask(Bitmask bitmask) {
+        return addBitmask(bitmask.bits());
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits unset
+     */
+    public Int8 removeBitmask(Bitmask bitmask) {
+        return removeBitmask(bitmask.bits());
+    }
+
+    public Int8 shiftLeft(int distance) {
+        return valueOf(shiftLeft(int8, distance));
+    }
+
+    public Int8 shiftRight(int distance) {
+        return valueOf(shiftRight(int8, distance));
+    }
+
+    public Int8 rotateLeft(int distance) {
+        return valueOf(rotateLeft(int8, distance));
+    }
+
+    public Int8 rotateRight(int distance) {
+        return valueOf(rotateRight(int8, distance));
+    }
+
+    /**
+     * Counts the one bits in this value.
+     * 
+     * @return the number of one bits
+     */
+    public int bitCount() {
+        return bitCount(int8);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit of this value.
+     * 
+     * @return the number of leading zeros, or 8 if the value is zero
+     */
+    public int numberOfLeadingZeros() {
+        return numberOfLeadingZeros(int8);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit of this value.
+     * 
+     * @return the number of trailing zeros, or 8 if the value is zero
+     */
+    public int numberOfTrailingZeros() {
+        return numberOfTrailingZeros(int8);
+    }
+
+    /**
+     * Keeps only the highest one bit of this value.
+     * 
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public Int8 highestOneBit() {
+        return valueOf(highestOneBit(int8));
+    }
+
+    /**
+     * Keeps only the lowest one bit of this value.
+     * 
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public Int8 lowestOneBit() {
+        return valueOf(lowestOneBit(int8));
+    }
+
+    /**
+     * Reverses the order of the bits of this value.
+     * 
+     * @return the reversed value
+     */
+    public Int8 reverse() {
+        return valueOf(reverse(int8));
+    }
+
+    /**
+     * Reverses the order of the bytes of this value.
+     * 
+     * @return the reversed value
+     */
+    public Int8 reverseBytes() {
+        return valueOf(reverseBytes(int8));
+    }
+
+    public Int8 add(Int8 number) {
+        return valueOf(add(int8, number.int8));
+    }
+
+    public Int8 subtract(Int8 number) {
+        return valueOf(subtract(int8, number.int8));
+    }
+
+    public Int8 multiply(Int8 number) {
+        return valueOf(multiply(int8, number.int8));
+    }
+
+    public Int8 negate() {
+        return valueOf(negate(int8));
+    }
+
+    public Int8 increment() {
+        return valueOf(increment(int8));
+    }
+
+    public Int8 decrement() {
+        return valueOf(decrement(int8));
+    }
+
+    private static void verify(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        if (x == null || y == null || dst == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        if (x.length != dst.length || y.length != dst.length)
+            throw new IllegalArgumentException("arrays must have the same length.");
+    }
+
+    private static byte exact(long value) throws ArithmeticException {
+        if (((value - MIN_VALUE) >>> 8) != 0)
+            throw new ArithmeticException("Out of range for Int8: " + value);
+        return (byte) value;
+    }
+
+    private static byte saturate(int value) {
+        return (byte) Math.max(MIN_VALUE, Math.min(MAX_VALUE, value));
+    }
+
+    /**
+     * Adds this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated sum
+     */
+    public Int8 addSaturating(Int8 number) {
+        return valueOf(addSaturating(int8, number.int8));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated difference
+     */
+    public Int8 subtractSaturating(Int8 number) {
+        return valueOf(subtractSaturating(int8, number.int8));
+    }
+
+    /**
+     * Multiplies this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated product
+     */
+    public Int8 multiplySaturating(Int8 number) {
+        return valueOf(multiplySaturating(int8, number.int8));
+    }
+
+    /**
+     * Adds <code>number</code> to this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int8 addExact(Int8 number) throws ArithmeticException {
+        return valueOf(addExact(int8, number.int8));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int8 subtractExact(Int8 number) throws ArithmeticException {
+        return valueOf(subtractExact(int8, number.int8));
+    }
+
+    /**
+     * Multiplies this value by <code>number</code>, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public Int8 multiplyExact(Int8 number) throws ArithmeticException {
+        return valueOf(multiplyExact(int8, number.int8));
     }
 }
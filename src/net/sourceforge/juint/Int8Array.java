@@ -0,0 +1,376 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Fixed length array of signed 8-bit integers, packed into a single <code>byte</code> array. No
+ * <code>Int8</code> instances are created.
+ */
+public class Int8Array implements Serializable {
+    private static final long serialVersionUID = 2754198437795811830L;
+    private final byte[] array;
+
+    /**
+     * Creates a new array of the given length with every element set to 0.
+     * 
+     * @param length
+     *            the number of elements
+     * @throws NegativeArraySizeException
+     *             if <code>length</code> is negative
+     */
+    public Int8Array(int length) throws NegativeArraySizeException {
+        array = new byte[length];
+    }
+
+    private Int8Array(byte[] array) {
+        this.array = array;
+    }
+
+    /**
+     * Creates a new instance backed by a <code>byte</code> array. Changes to either are visible in
+     * the other.
+     * 
+     * @param array
+     *            the raw values
+     * @return the new instance
+     * @throws IllegalArgumentException
+     *             if <code>array</code> is <code>null</code>
+     */
+    public static Int8Array wrap(byte[] array) throws IllegalArgumentException {
+        verify(array);
+        return new Int8Array(array);
+    }
+
+    /**
+     * Creates a new instance from an <code>int</code> array. Each value is truncated to 8 bits,
+     * as with {@link Int8#Int8(int)}.
+     * 
+     * @param values
+     *            the values to be represented
+     * @return the new instance
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static Int8Array valueOf(int[] values) throws IllegalArgumentException {
+        verify(values);
+        byte[] array = new byte[values.length];
+        for (int i = 0; i < array.length; i++)
+            array[i] = (byte) values[i];
+        return new Int8Array(array);
+    }
+
+    /**
+     * Creates a new instance from a <code>Int8</code> array.
+     * 
+     * @param values
+     *            the values to be represented
+     * @return the new instance
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     * @throws NullPointerException
+     *             if an element of <code>values</code> is <code>null</code>
+     */
+    public static Int8Array valueOf(Int8[] values) throws IllegalArgumentException {
+        verify(values);
+        byte[] array = new byte[values.length];
+        for (int i = 0; i < array.length; i++)
+            array[i] = values[i].byteValue();
+        return new Int8Array(array);
+    }
+
+    /**
+     * Gets a view of this array as unsigned 8-bit integers. No elements are copied; the view shares
+     * the backing array, so changes to either are visible in the other.
+     * 
+     * @return the view
+     */
+    public UInt8Array asUnsigned() {
+        return UInt8Array.wrap(array);
+    }
+
+    /**
+     * Gets the backing array. Changes to either are visible in the other.
+     * 
+     * @return the raw values
+     */
+    public byte[] array() {
+        return array;
+    }
+
+    /**
+     * Gets the number of elements.
+     * 
+     * @return the length
+     */
+    public int length() {
+        return array.length;
+    }
+
+    /**
+     * Gets an element.
+     * 
+     * @param index
+     *            the index of the element
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>index</code> is out of range
+     */
+    public byte get(int index) throws ArrayIndexOutOfBoundsException {
+        return array[index];
+    }
+
+    /**
+     * Sets an element. The value is truncated to 8 bits.
+     * 
+     * @param index
+     *            the index of the element
+     * @param value
+     *            the value to be stored
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>index</code> is out of range
+     */
+    public void set(int index, int value) throws ArrayIndexOutOfBoundsException {
+        array[index] = (byte) value;
+    }
+
+    /**
+     * Sets every element to the same value.
+     * 
+     * @param value
+     *            the value to be stored
+     */
+    public void fill(int value) {
+        Arrays.fill(array, (byte) value);
+    }
+
+    /**
+     * Sets a range of elements to the same value.
+     * 
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param value
+     *            the value to be stored
+     * @throws IllegalArgumentException
+     *             if <code>fromIndex</code> is greater than <code>toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is out of bounds
+     */
+    public void fill(int fromIndex, int toIndex, int value) throws IllegalArgumentException,
+            ArrayIndexOutOfBoundsException {
+        Arrays.fill(array, fromIndex, toIndex, (byte) value);
+    }
+
+    /**
+     * Copies elements from a <code>byte</code> array into this array.
+     * 
+     * @param index
+     *            the index of the first element written
+     * @param src
+     *            the array to copy from
+     * @param offset
+     *            the index in <code>src</code> of the first byte to copy
+     * @param length
+     *            the number of elements to copy
+     * @throws IndexOutOfBoundsException
+     *             if either range is out of bounds
+     */
+    public void put(int index, byte[] src, int offset, int length)
+            throws IndexOutOfBoundsException {
+        System.arraycopy(src, offset, array, index, length);
+    }
+
+    /**
+     * Copies elements from a buffer into this array, starting at the buffer's current position.
+     * The position is advanced by <code>length</code>.
+     * 
+     * @param index
+     *            the index of the first element written
+     * @param src
+     *            the buffer to copy from
+     * @param length
+     *            the number of elements to copy
+     * @throws BufferUnderflowException
+     *             if fewer than <code>length</code> bytes remain in the buffer
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for this array
+     */
+    public void put(int index, ByteBuffer src, int length) throws BufferUnderflowException,
+            IndexOutOfBoundsException {
+        src.get(array, index, length);
+    }
+
+    /**
+     * Copies a range of elements into another array, as with
+     * {@link System#arraycopy(Object, int, Object, int, int)}.
+     * 
+     * @param srcIndex
+     *            the index of the first element to copy
+     * @param dst
+     *            the array to copy to
+     * @param dstIndex
+     *            the index in <code>dst</code> of the first element written
+     * @param length
+     *            the number of elements to copy
+     * @throws IndexOutOfBoundsException
+     *             if either range is out of bounds
+     */
+    public void copyTo(int srcIndex, Int8Array dst, int dstIndex, int length)
+            throws IndexOutOfBoundsException {
+        System.arraycopy(array, srcIndex, dst.array, dstIndex, length);
+    }
+
+    /**
+     * Creates a copy of this array.
+     * 
+     * @return the copy
+     */
+    public Int8Array copy() {
+        return new Int8Array(array.clone());
+    }
+
+    /**
+     * Creates a copy of a range of this array.
+     * 
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @return the copy
+     * @throws IllegalArgumentException
+     *             if <code>fromIndex</code> is greater than <code>toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if the range is out of bounds
+     */
+    public Int8Array slice(int fromIndex, int toIndex) throws IllegalArgumentException,
+            ArrayIndexOutOfBoundsException {
+        if (toIndex > array.length)
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        return new Int8Array(Arrays.copyOfRange(array, fromIndex, toIndex));
+    }
+
+    /**
+     * Gets an iterator over the elements. The values are not boxed when read with
+     * {@link PrimitiveIterator.OfInt#nextInt()}.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index;
+
+            public boolean hasNext() {
+                return index < array.length;
+            }
+
+            public int nextInt() {
+                if (index >= array.length)
+                    throw new NoSuchElementException();
+                return array[index++];
+            }
+        };
+    }
+
+    /**
+     * Gets the elements as a <code>Int8</code> array.
+     * 
+     * @return the values as a <code>Int8</code> array
+     */
+    public Int8[] toInt8Array() {
+        Int8[] values = new Int8[array.length];
+        for (int i = 0; i < values.length; i++)
+            values[i] = Int8.valueOf(array[i]);
+        return values;
+    }
+
+    /**
+     * Gets the elements as an <code>int</code> array.
+     * 
+     * @return the values as an <code>int</code> array
+     */
+    public int[] toIntArray() {
+        int[] values = new int[array.length];
+        for (int i = 0; i < values.length; i++)
+            values[i] = array[i];
+        return values;
+    }
+
+    /**
+     * Compares this <code>Int8Array</code> to another <code>Int8Array</code> for equality. They are
+     * equal if they have the same length and the same elements in the same order.
+     * 
+     * @param object
+     *            a <code>Int8Array</code>
+     */
+    public boolean equals(Object object) {
+        return ((object instanceof Int8Array) && Arrays.equals(((Int8Array) object).array,
+                array));
+    }
+
+    /**
+     * Gets the hash code. The result is the value returned from
+     * {@link Arrays#hashCode(byte[])} for the backing array.
+     * 
+     * @return the hash code
+     */
+    public int hashCode() {
+        return Arrays.hashCode(array);
+    }
+
+    /**
+     * Gets the elements as a <code>String</code>, such as <code>[0, -1]</code>.
+     * 
+     * @return the elements as a <code>String</code>
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0)
+                builder.append(", ");
+            builder.append(array[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static void verify(Object array) throws IllegalArgumentException {
+        if (array == null)
+            throw new IllegalArgumentException("array cannot be null.");
+    }
+}
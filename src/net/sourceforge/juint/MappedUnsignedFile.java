@@ -0,0 +1,361 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped view of a file of binary fields. Fields are read in place from the
+ * mapping at any byte position, with no copy through a <code>byte</code> array.
+ * <p>
+ * Files larger than 2 GB are mapped as a series of 1 GiB windows. Consecutive windows overlap
+ * by a few bytes, so a field is always read from a single window even when it crosses a window
+ * boundary.
+ * <p>
+ * After {@link #close()} every read throws an <code>IllegalStateException</code>. The mapping
+ * itself is released once the closed instance is garbage collected.
+ */
+public class MappedUnsignedFile implements Closeable {
+    private static final int WINDOW_SHIFT = 30;
+    private static final int OVERLAP = 8;
+    private final long size;
+    private final ByteOrder order;
+    private final int windowShift;
+    private final int windowMask;
+    private ByteBuffer[] windows;
+
+    private MappedUnsignedFile(FileChannel channel, ByteOrder order, int windowShift)
+            throws IOException {
+        this.size = channel.size();
+        this.order = order;
+        this.windowShift = windowShift;
+        windowMask = (1 << windowShift) - 1;
+        long windowSize = 1L << windowShift;
+        int count = (int) ((size + windowSize - 1) >>> windowShift);
+        windows = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long position = (long) i << windowShift;
+            long length = Math.min(windowSize + OVERLAP, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            windows[i] = window.order(order);
+        }
+    }
+
+    /**
+     * Maps a file for reading.
+     * 
+     * @param path
+     *            the file to map
+     * @param order
+     *            the byte order of the fields in the file
+     * @return the mapped file
+     * @throws IOException
+     *             if the file cannot be opened or mapped
+     * @throws IllegalArgumentException
+     *             if <code>path</code> or <code>order</code> is <code>null</code>
+     */
+    public static MappedUnsignedFile open(Path path, ByteOrder order) throws IOException,
+            IllegalArgumentException {
+        return open(path, order, WINDOW_SHIFT);
+    }
+
+    static MappedUnsignedFile open(Path path, ByteOrder order, int windowShift)
+            throws IOException, IllegalArgumentException {
+        if (path == null)
+            throw new IllegalArgumentException("path cannot be null.");
+        if (order == null)
+            throw new IllegalArgumentException("order cannot be null.");
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedUnsignedFile(channel, order, windowShift);
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Gets the size of the file in bytes.
+     * 
+     * @return the size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the byte order of the fields in the file.
+     * 
+     * @return the byte order
+     */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /**
+     * Reads an unsigned 8-bit integer.
+     * 
+     * @param position
+     *            the position of the field in the file
+     * @return the value as an unsigned 8-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if the field is not within the file
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public short uint8At(long position) throws IndexOutOfBoundsException, IllegalStateException {
+        return UInt8.toShort(window(position, 1).get(offset(position)));
+    }
+
+    /**
+     * Reads a signed 8-bit integer.
+     * 
+     * @param position
+     *            the position of the field in the file
+     * @return the value as a signed 8-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if the field is not within the file
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public byte int8At(long position) throws IndexOutOfBoundsException, IllegalStateException {
+        return window(position, 1).get(offset(position));
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer.
+     * 
+     * @param position
+     *            the position of the field in the file
+     * @return the value as an unsigned 16-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if the field is not within the file
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public int uint16At(long position) throws IndexOutOfBoundsException, IllegalStateException {
+        return UInt16.toInt(window(position, 2).getShort(offset(position)));
+    }
+
+    /**
+     * Reads a signed 16-bit integer.
+     * 
+     * @param position
+     *            the position of the field in the file
+     * @return the value as a signed 16-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if the field is not within the file
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public short int16At(long position) throws IndexOutOfBoundsException, IllegalStateException {
+        return window(position, 2).getShort(offset(position));
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer.
+     * 
+     * @param position
+     *            the position of the field in the file
+     * @return the value as an unsigned 32-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if the field is not within the file
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public long uint32At(long position) throws IndexOutOfBoundsException, IllegalStateException {
+        return UInt32.toLong(window(position, 4).getInt(offset(position)));
+    }
+
+    /**
+     * Reads a signed 32-bit integer.
+     * 
+     * @param position
+     *            the position of the field in the file
+     * @return the value as a signed 32-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if the field is not within the file
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public int int32At(long position) throws IndexOutOfBoundsException, IllegalStateException {
+        return window(position, 4).getInt(offset(position));
+    }
+
+    /**
+     * Copies consecutive 8-bit fields into an array. Use {@link Int8Array#asUnsigned()} to copy
+     * into an <code>Int8Array</code>.
+     * 
+     * @param position
+     *            the position of the first field in the file
+     * @param dst
+     *            the array to copy to
+     * @param dstIndex
+     *            the index in <code>dst</code> of the first element written
+     * @param count
+     *            the number of fields to copy
+     * @throws IndexOutOfBoundsException
+     *             if the fields are not within the file or the range is out of bounds for
+     *             <code>dst</code>
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public void copyTo(long position, UInt8Array dst, int dstIndex, int count)
+            throws IndexOutOfBoundsException, IllegalStateException {
+        byte[] array = dst.array();
+        checkRange(position, count, 1, dstIndex, array.length);
+        while (count > 0) {
+            ByteBuffer window = window(position, 1).duplicate();
+            int offset = offset(position);
+            int n = Math.min(count, window.limit() - offset);
+            window.position(offset);
+            window.get(array, dstIndex, n);
+            position += n;
+            dstIndex += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Copies consecutive 16-bit fields into an array. Use {@link Int16Array#asUnsigned()} to
+     * copy into an <code>Int16Array</code>.
+     * 
+     * @param position
+     *            the position of the first field in the file
+     * @param dst
+     *            the array to copy to
+     * @param dstIndex
+     *            the index in <code>dst</code> of the first element written
+     * @param count
+     *            the number of fields to copy
+     * @throws IndexOutOfBoundsException
+     *             if the fields are not within the file or the range is out of bounds for
+     *             <code>dst</code>
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public void copyTo(long position, UInt16Array dst, int dstIndex, int count)
+            throws IndexOutOfBoundsException, IllegalStateException {
+        short[] array = dst.array();
+        checkRange(position, count, 2, dstIndex, array.length);
+        while (count > 0) {
+            ByteBuffer window = window(position, 2).duplicate();
+            int offset = offset(position);
+            int n = Math.min(count, (window.limit() - offset) / 2);
+            window.position(offset);
+            window.order(order).asShortBuffer().get(array, dstIndex, n);
+            position += 2L * n;
+            dstIndex += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Copies consecutive 32-bit fields into an array.
+     * 
+     * @param position
+     *            the position of the first field in the file
+     * @param dst
+     *            the array to copy to
+     * @param dstIndex
+     *            the index in <code>dst</code> of the first element written
+     * @param count
+     *            the number of fields to copy
+     * @throws IndexOutOfBoundsException
+     *             if the fields are not within the file or the range is out of bounds for
+     *             <code>dst</code>
+     * @throws IllegalStateException
+     *             if the file is closed
+     */
+    public void copyTo(long position, UInt32Array dst, int dstIndex, int count)
+            throws IndexOutOfBoundsException, IllegalStateException {
+        int[] array = dst.array();
+        checkRange(position, count, 4, dstIndex, array.length);
+        while (count > 0) {
+            ByteBuffer window = window(position, 4).duplicate();
+            int offset = offset(position);
+            int n = Math.min(count, (window.limit() - offset) / 4);
+            window.position(offset);
+            window.order(order).asIntBuffer().get(array, dstIndex, n);
+            position += 4L * n;
+            dstIndex += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Determines if this file is still readable.
+     * 
+     * @return <code>true</code> if {@link #close()} has not been called; <code>false</code>
+     *         otherwise
+     */
+    public boolean isOpen() {
+        return windows != null;
+    }
+
+    /**
+     * Closes this file. Further reads throw an <code>IllegalStateException</code>. Closing a
+     * closed file has no effect.
+     */
+    public void close() {
+        windows = null;
+    }
+
+    private ByteBuffer window(long position, int width) throws IndexOutOfBoundsException,
+            IllegalStateException {
+        ByteBuffer[] windows = this.windows;
+        if (windows == null)
+            throw new IllegalStateException("The file is closed.");
+        if (position < 0 || position > size - width)
+            throw new IndexOutOfBoundsException("position: " + position + ", size: " + size);
+        return windows[(int) (position >>> windowShift)];
+    }
+
+    private int offset(long position) {
+        return (int) position & windowMask;
+    }
+
+    private void checkRange(long position, int count, int width, int dstIndex, int dstLength)
+            throws IndexOutOfBoundsException {
+        if (count < 0 || position < 0 || position > size - (long) count * width)
+            throw new IndexOutOfBoundsException("position: " + position + ", size: " + size);
+        if (dstIndex < 0 || dstIndex > dstLength - count)
+            throw new IndexOutOfBoundsException("dstIndex: " + dstIndex + ", count: " + count);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+/**
+ * Mutable unsigned 8-bit integer, for accumulating a value in a loop without creating a new
+ * <code>UInt8</code> at every step. The in-place methods wrap around on overflow and return this
+ * instance, so calls can be chained. Use {@link #toUInt8()} to take an immutable snapshot.
+ * <p>
+ * This class is not thread safe.
+ */
+public class MutableUInt8 extends Number implements Comparable<MutableUInt8> {
+    private static final long serialVersionUID = 1562551593639072302L;
+    private byte uint8;
+
+    /**
+     * Creates a new instance with a value of zero.
+     */
+    public MutableUInt8() {
+    }
+
+    /**
+     * Creates a new instance from a <code>int</code>. Only the low-order 8 bits are kept.
+     * 
+     * @param value
+     *            the initial value
+     */
+    public MutableUInt8(int value) {
+        uint8 = (byte) value;
+    }
+
+    /**
+     * Creates a new instance with the value of a <code>UInt8</code>.
+     * 
+     * @param value
+     *            the initial value
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    public MutableUInt8(UInt8 value) throws IllegalArgumentException {
+        set(value);
+    }
+
+    /**
+     * Sets the value. Only the low-order 8 bits are kept.
+     * 
+     * @param value
+     *            the new value
+     * @return this instance
+     */
+    public MutableUInt8 set(int value) {
+        uint8 = (byte) value;
+        return this;
+    }
+
+    /**
+     * Sets the value to that of a <code>UInt8</code>.
+     * 
+     * @param value
+     *            the new value
+     * @return this instance
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    public MutableUInt8 set(UInt8 value) throws IllegalArgumentException {
+        if (value == null)
+            throw new IllegalArgumentException("value cannot be null.");
+        uint8 = (byte) value.uint8Value();
+        return this;
+    }
+
+    /**
+     * Logical and with <code>bits</code>, in place.
+     * 
+     * @param bits
+     *            the raw bits
+     * @return this instance
+     */
+    public MutableUInt8 andInPlace(int bits) {
+        uint8 &= bits;
+        return this;
+    }
+
+    /**
+     * Logical and with a <code>UInt8</code>, in place.
+     * 
+     * @param number
+     * @return this instance
+     */
+    public MutableUInt8 andInPlace(UInt8 number) {
+        return andInPlace(number.intValue());
+    }
+
+    /**
+     * Logical or with <code>bits</code>, in place. Only the low-order 8 bits are used.
+     * 
+     * @param bits
+     *            the raw bits
+     * @return this instance
+     */
+    public MutableUInt8 orInPlace(int bits) {
+        uint8 |= bits;
+        return this;
+    }
+
+    /**
+     * Logical or with a <code>UInt8</code>, in place.
+     * 
+     * @param number
+     * @return this instance
+     */
+    public MutableUInt8 orInPlace(UInt8 number) {
+        return orInPlace(number.intValue());
+    }
+
+    /**
+     * Logical xor with <code>bits</code>, in place. Only the low-order 8 bits are used.
+     * 
+     * @param bits
+     *            the raw bits
+     * @return this instance
+     */
+    public MutableUInt8 xorInPlace(int bits) {
+        uint8 ^= bits;
+        return this;
+    }
+
+    /**
+     * Logical xor with a <code>UInt8</code>, in place.
+     * 
+     * @param number
+     * @return this instance
+     */
+    public MutableUInt8 xorInPlace(UInt8 number) {
+        return xorInPlace(number.intValue());
+    }
+
+    /**
+     * Adds <code>value</code> in place, modulo 2<sup>8</sup>. A negative value subtracts.
+     * 
+     * @param value
+     *            the value to add
+     * @return this instance
+     */
+    public MutableUInt8 addInPlace(int value) {
+        uint8 += value;
+        return this;
+    }
+
+    /**
+     * Adds a <code>UInt8</code> in place, modulo 2<sup>8</sup>.
+     * 
+     * @param number
+     * @return this instance
+     */
+    public MutableUInt8 addInPlace(UInt8 number) {
+        return addInPlace(number.intValue());
+    }
+
+    /**
+     * Gets an immutable snapshot of the current value.
+     * 
+     * @return the value as a <code>UInt8</code>
+     */
+    public UInt8 toUInt8() {
+        return UInt8.valueOf(uint8);
+    }
+
+    /**
+     * Gets the value as an unsigned 8-bit integer.
+     * 
+     * @return the value as an unsigned 8-bit integer
+     */
+    public short uint8Value() {
+        return UInt8.toShort(uint8);
+    }
+
+    /**
+     * Gets the value as an <code>int</code>.
+     * 
+     * @return the value as an <code>int</code>
+     */
+    public int intValue() {
+        return uint8Value();
+    }
+
+    /**
+     * Gets the value as a <code>long</code>.
+     * 
+     * @return the value as a <code>long</code>
+     */
+    public long longValue() {
+        return uint8Value();
+    }
+
+    /**
+     * Gets the value as a <code>float</code>.
+     * 
+     * @return the value as a <code>float</code>
+     */
+    public float floatValue() {
+        return uint8Value();
+    }
+
+    /**
+     * Gets the value as a <code>double</code>.
+     * 
+     * @return the value as a <code>double</code>
+     */
+    public double doubleValue() {
+        return uint8Value();
+    }
+
+    /**
+     * Compares the current values of two instances, treating them as unsigned.
+     * 
+     * @param number
+     *            the instance to compare to
+     * @return a negative number, zero or a positive number as this value is less than, equal to
+     *         or greater than <code>number</code>
+     */
+    public int compareTo(MutableUInt8 number) {
+        return UInt8.compare(uint8, number.uint8);
+    }
+
+    /**
+     * Compares this <code>MutableUInt8</code> to another <code>MutableUInt8</code> for equality, by
+     * current value.
+     * 
+     * @param object
+     *            a <code>MutableUInt8</code>
+     */
+    public boolean equals(Object object) {
+        return (object instanceof MutableUInt8) && ((MutableUInt8) object).uint8 == uint8;
+    }
+
+    /**
+     * Gets the hash code of the current value. It changes whenever the value does, so an instance
+     * should not be used as a key while it is being modified.
+     * 
+     * @return the hash code
+     */
+    public int hashCode() {
+        return intValue();
+    }
+
+    /**
+     * Gets the value as a <code>String</code>.
+     * 
+     * @return the value as a <code>String</code>
+     */
+    public String toString() {
+        return UInt8.toString(uint8);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Container holding values as runs of consecutive integers. Each run is a pair of raw unsigned
+ * 16-bit integers: its first value and its length minus one. Runs are sorted and never overlap.
+ * Adding or removing a single value converts the container back to an array or bitmap; run
+ * containers are created by {@link UInt32Bitmap#runOptimize()} and when deserializing.
+ */
+final class RunContainer extends Container {
+    private static final long serialVersionUID = -3109526853171338329L;
+    private final short[] runs;
+    private final int runCount;
+    private final int cardinality;
+
+    RunContainer(short[] runs, int runCount) {
+        this.runs = runs;
+        this.runCount = runCount;
+        int sum = 0;
+        for (int i = 0; i < runCount; i++)
+            sum += (runs[2 * i + 1] & 0xffff) + 1;
+        cardinality = sum;
+    }
+
+    /**
+     * Encodes the set bits of a bitmap, which are known to form <code>runCount</code> runs.
+     */
+    static RunContainer valueOf(long[] words, int runCount) {
+        short[] runs = new short[2 * runCount];
+        int run = 0;
+        int index = 0;
+        long word = words[0];
+        while (true) {
+            while (word == 0 && index < WORDS - 1)
+                word = words[++index];
+            if (word == 0)
+                break;
+            int start = (index << 6) + Long.numberOfTrailingZeros(word);
+            // fill the bits below the run so that its end is the lowest clear bit
+            long filled = word | (word - 1);
+            while (filled == -1L && index < WORDS - 1)
+                filled = words[++index];
+            int end = (filled == -1L) ? WORDS << 6 : (index << 6)
+                    + Long.numberOfTrailingZeros(~filled);
+            runs[2 * run] = (short) start;
+            runs[2 * run + 1] = (short) (end - start - 1);
+            run++;
+            if (filled == -1L)
+                break;
+            word = filled & (filled + 1);
+        }
+        return new RunContainer(runs, runCount);
+    }
+
+    static int serializedSize(int runCount) {
+        return 2 + 4 * runCount;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean contains(int low) {
+        // the last run starting at or before low
+        int lowIndex = 0;
+        int highIndex = runCount - 1;
+        while (lowIndex <= highIndex) {
+            int middle = (lowIndex + highIndex) >>> 1;
+            if ((runs[2 * middle] & 0xffff) <= low)
+                lowIndex = middle + 1;
+            else
+                highIndex = middle - 1;
+        }
+        if (highIndex < 0)
+            return false;
+        return low - (runs[2 * highIndex] & 0xffff) <= (runs[2 * highIndex + 1] & 0xffff);
+    }
+
+    Container add(int low) {
+        return contains(low) ? this : decode().add(low);
+    }
+
+    Container remove(int low) {
+        return contains(low) ? decode().remove(low) : this;
+    }
+
+    Container copy() {
+        return new RunContainer(runs.clone(), runCount);
+    }
+
+    long[] words() {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < runCount; i++) {
+            int start = runs[2 * i] & 0xffff;
+            setRange(words, start, start + (runs[2 * i + 1] & 0xffff) + 1);
+        }
+        return words;
+    }
+
+    PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int run;
+            private int offset;
+
+            public boolean hasNext() {
+                return run < runCount;
+            }
+
+            public int nextInt() {
+                if (run >= runCount)
+                    throw new NoSuchElementException();
+                int value = (runs[2 * run] & 0xffff) + offset;
+                if (offset++ == (runs[2 * run + 1] & 0xffff)) {
+                    run++;
+                    offset = 0;
+                }
+                return value;
+            }
+        };
+    }
+
+    Container runOptimize() {
+        Container decoded = decode();
+        return (decoded.serializedSize() < serializedSize()) ? decoded : this;
+    }
+
+    boolean sameValues(Container other) {
+        if (other instanceof RunContainer) {
+            RunContainer run = (RunContainer) other;
+            if (run.runCount == runCount) {
+                boolean same = true;
+                for (int i = 0; i < 2 * runCount && same; i++)
+                    same = runs[i] == run.runs[i];
+                if (same)
+                    return true;
+            }
+        }
+        // touching runs from another writer can encode the same values differently
+        return super.sameValues(other);
+    }
+
+    int serializedSize() {
+        return serializedSize(runCount);
+    }
+
+    void write(ByteBuffer buffer) {
+        buffer.putShort((short) runCount);
+        for (int i = 0; i < 2 * runCount; i++)
+            buffer.putShort(runs[i]);
+    }
+
+    boolean isRun() {
+        return true;
+    }
+
+    /**
+     * Gets the values as an array or bitmap container.
+     */
+    private Container decode() {
+        long[] words = words();
+        if (cardinality <= MAX_ARRAY_CARDINALITY)
+            return ArrayContainer.valueOf(words, cardinality);
+        return new BitmapContainer(words, cardinality);
+    }
+}
@@ -32,11 +32,17 @@
 package net.sourceforge.juint;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
 
 /**
  * Unsigned 16-bit integer.
  */
-public class UInt16 extends Number implements Serializable, Comparable<UInt16>, Bitwise<UInt16> {
+public class UInt16 extends Number implements Serializable, Comparable<UInt16>, Bitwise<UInt16>,
+        Arithmetic<UInt16> {
     private static final long serialVersionUID = 8430822326289367219L;
     /**
      * The largest possible value.
@@ -50,81 +56,1044 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
      * {@value}
      */
     public static final int MIN_VALUE = 0;
+    /**
+     * Orders instances by their unsigned 16-bit values, the same as <code>compareTo</code>.
+     */
+    public static final Comparator<UInt16> COMPARATOR = new Comparator<UInt16>() {
+        public int compare(UInt16 x, UInt16 y) {
+            return UInt16.compare(x.uint16, y.uint16);
+        }
+    };
+    /**
+     * The system property that sets the largest value held by the <code>valueOf</code> cache.
+     * Values from {@link #MIN_VALUE} up to this value are cached; the default is 1023. The cache
+     * always covers the range of a <code>UInt8</code>, so a setting below 255 is raised to 255,
+     * and a setting above {@link #MAX_VALUE} is lowered to it.
+     * <p>
+     * {@value}
+     */
+    public static final String CACHE_HIGH_PROPERTY = "net.sourceforge.juint.UInt16.cache.high";
+    private static final int CACHE_HIGH = cacheHigh();
+    private static final UInt16[] CACHE = new UInt16[CACHE_HIGH + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new UInt16(i);
+    }
+
+    /**
+     * The value 0.
+     */
+    public static final UInt16 ZERO = valueOf(0);
+    /**
+     * The value 1.
+     */
+    public static final UInt16 ONE = valueOf(1);
+    /**
+     * The largest possible value, {@link #MAX_VALUE}.
+     */
+    public static final UInt16 MAX = valueOf(MAX_VALUE);
     private short uint16;
 
     /**
-     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
-     * and be in big-endian byte order.
+     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
+     * and be in big-endian byte order.
+     * 
+     * @param word
+     *            the value to be represented
+     * @throws IllegalArgumentException
+     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     */
+    public UInt16(byte[] word) throws IllegalArgumentException {
+        verify(word);
+        uint16 = fromBigEndian(word[0], word[1]);
+    }
+
+    /**
+     * Creates a new instance from a <code>short</code>.
+     * 
+     * @param word
+     *            the value to be represented
+     */
+    public UInt16(short word) {
+        uint16 = word;
+    }
+
+    /**
+     * Creates a new instance from an <code>int</code>.
+     * 
+     * @param word
+     *            the value to be represented
+     */
+    public UInt16(int word) {
+        uint16 = (short) word;
+    }
+
+    /**
+     * Creates a new instance from a <code>long</code>.
+     * 
+     * @param word
+     *            the value to be represented
+     */
+    public UInt16(long word) {
+        uint16 = (short) word;
+    }
+
+    /**
+     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
+     * and be in big-endian byte order.
+     * 
+     * @param word
+     *            the value to be represented
+     * @throws IllegalArgumentException
+     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     */
+    public static UInt16 valueOfBigEndian(byte[] word) throws IllegalArgumentException {
+        verify(word);
+        return valueOf(fromBigEndian(word[0], word[1]));
+    }
+
+    /**
+     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
+     * and be in little-endian byte order.
+     * 
+     * @param word
+     *            the value to be represented
+     * @throws IllegalArgumentException
+     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     */
+    public static UInt16 valueOfLittleEndian(byte[] word) throws IllegalArgumentException {
+        verify(word);
+        return valueOf(fromLittleEndian(word[0], word[1]));
+    }
+
+    /**
+     * Creates a new instance from the 2 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in big-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static UInt16 valueOfBigEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return valueOf(fromBigEndian(src, offset));
+    }
+
+    /**
+     * Creates a new instance from the 2 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in little-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static UInt16 valueOfLittleEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return valueOf(fromLittleEndian(src, offset));
+    }
+
+    /**
+     * Gets the instance representing a <code>short</code>. Values up to the
+     * {@link #CACHE_HIGH_PROPERTY} limit are cached and returned without allocating.
+     * 
+     * @param word
+     *            the value to be represented
+     * @return the cached instance, or a new instance if the value is not cached
+     */
+    public static UInt16 valueOf(short word) {
+        int value = word & 0xffff;
+        if (value <= CACHE_HIGH)
+            return CACHE[value];
+        return new UInt16(word);
+    }
+
+    /**
+     * Gets the instance representing an <code>int</code>. Values up to the
+     * {@link #CACHE_HIGH_PROPERTY} limit are cached and returned without allocating.
+     * 
+     * @param word
+     *            the value to be represented
+     * @return the cached instance, or a new instance if the value is not cached
+     */
+    public static UInt16 valueOf(int word) {
+        return valueOf((short) word);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>. Values up to the
+     * {@link #CACHE_HIGH_PROPERTY} limit are cached and returned without allocating.
+     * 
+     * @param word
+     *            the value to be represented
+     * @return the cached instance, or a new instance if the value is not cached
+     */
+    public static UInt16 valueOf(long word) {
+        return valueOf((short) word);
+    }
+
+    /**
+     * Gets the raw value as an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value as an unsigned 16-bit integer
+     */
+    public static int toInt(short word) {
+        return word & 0xffff;
+    }
+
+    /**
+     * Gets the raw value of 2 bytes in big-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @return the raw value
+     */
+    public static short fromBigEndian(byte b0, byte b1) {
+        return (short) (((b0 & 0xff) << 8) | (b1 & 0xff));
+    }
+
+    /**
+     * Gets the raw value of 2 bytes in little-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @return the raw value
+     */
+    public static short fromLittleEndian(byte b0, byte b1) {
+        return fromBigEndian(b1, b0);
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in big-endian byte order.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value as a big-endian <code>byte</code> array
+     */
+    public static byte[] toBigEndian(short word) {
+        byte[] bytes = new byte[2];
+        bytes[0] = (byte) ((word >> 8) & 0xff);
+        bytes[1] = (byte) (word & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in little-endian byte order.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value as a little-endian <code>byte</code> array
+     */
+    public static byte[] toLittleEndian(short word) {
+        byte[] bytes = new byte[2];
+        bytes[0] = (byte) (word & 0xff);
+        bytes[1] = (byte) ((word >> 8) & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value of the 2 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static short fromBigEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (short) ByteArrays.SHORT_BIG_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Gets the raw value of the 2 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static short fromLittleEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (short) ByteArrays.SHORT_LITTLE_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Writes the raw value to the 2 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param word
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static void writeBigEndian(byte[] dst, int offset, short word)
+            throws IndexOutOfBoundsException {
+        ByteArrays.SHORT_BIG_ENDIAN.set(dst, offset, word);
+    }
+
+    /**
+     * Writes the raw value to the 2 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param word
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static void writeLittleEndian(byte[] dst, int offset, short word)
+            throws IndexOutOfBoundsException {
+        ByteArrays.SHORT_LITTLE_ENDIAN.set(dst, offset, word);
+    }
+
+    /**
+     * Compares two unsigned 16-bit integers for order.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return a negative number, zero or a positive number as <code>x</code> is less than,
+     *         equal to or greater than <code>y</code>
+     */
+    public static int compare(short x, short y) {
+        return Integer.compare(toInt(x), toInt(y));
+    }
+
+    /**
+     * Logical and of two unsigned 16-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the and
+     */
+    public static short and(short x, short y) {
+        return (short) (x & y);
+    }
+
+    /**
+     * Logical or of two unsigned 16-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the or
+     */
+    public static short or(short x, short y) {
+        return (short) (x | y);
+    }
+
+    /**
+     * Logical xor of two unsigned 16-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the xor
+     */
+    public static short xor(short x, short y) {
+        return (short) (x ^ y);
+    }
+
+    /**
+     * Logical not of an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the result of the not
+     */
+    public static short not(short word) {
+        return (short) ~word;
+    }
+
+    /**
+     * Determines if an unsigned 16-bit integer has the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public static boolean hasBitmask(short number, short bitmask) {
+        return (number & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if an unsigned 16-bit integer has any of the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public static boolean hasAnyBit(short number, short bitmask) {
+        return (number & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits set
+     */
+    public static short addBitmask(short number, short bitmask) {
+        return (short) (number | bitmask);
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits unset
+     */
+    public static short removeBitmask(short number, short bitmask) {
+        return (short) (number & ~bitmask);
+    }
+
+    /**
+     * Shifts an unsigned 16-bit integer left by <code>distance</code> bits, modulo 16.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static short shiftLeft(short word, int distance) {
+        return (short) (word << (distance & 15));
+    }
+
+    /**
+     * Shifts an unsigned 16-bit integer right by <code>distance</code> bits, modulo 16. The shift
+     * is logical.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static short shiftRight(short word, int distance) {
+        return (short) ((word & 0xffff) >>> (distance & 15));
+    }
+
+    /**
+     * Rotates an unsigned 16-bit integer left by <code>distance</code> bits, modulo 16.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static short rotateLeft(short word, int distance) {
+        int value = word & 0xffff;
+        distance &= 15;
+        return (short) ((value << distance) | (value >>> (16 - distance)));
+    }
+
+    /**
+     * Rotates an unsigned 16-bit integer right by <code>distance</code> bits, modulo 16.
+     * 
+     * @param word
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static short rotateRight(short word, int distance) {
+        int value = word & 0xffff;
+        distance &= 15;
+        return (short) ((value >>> distance) | (value << (16 - distance)));
+    }
+
+    /**
+     * Counts the one bits in an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the number of one bits
+     */
+    public static int bitCount(short word) {
+        return Integer.bitCount(word & 0xffff);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit in an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the number of leading zeros, or 16 if the value is zero
+     */
+    public static int numberOfLeadingZeros(short word) {
+        return Integer.numberOfLeadingZeros(word & 0xffff) - 16;
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit in an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the number of trailing zeros, or 16 if the value is zero
+     */
+    public static int numberOfTrailingZeros(short word) {
+        return Integer.numberOfTrailingZeros(word | 0x10000);
+    }
+
+    /**
+     * Keeps only the highest one bit of an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public static short highestOneBit(short word) {
+        return (short) Integer.highestOneBit(word & 0xffff);
+    }
+
+    /**
+     * Keeps only the lowest one bit of an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public static short lowestOneBit(short word) {
+        return (short) (word & -word);
+    }
+
+    /**
+     * Reverses the order of the 16 bits of an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the reversed value
+     */
+    public static short reverse(short word) {
+        return (short) (Integer.reverse(word) >>> 16);
+    }
+
+    /**
+     * Reverses the order of the bytes of an unsigned 16-bit integer.
+     * 
+     * @param word
+     *            the raw value
+     * @return the reversed value
+     */
+    public static short reverseBytes(short word) {
+        return Short.reverseBytes(word);
+    }
+
+    /**
+     * Counts the one bits in every value of an array.
+     * 
+     * @param values
+     *            the raw values
+     * @return the total number of one bits
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static long bitCount(short[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long count = 0;
+        for (int i = 0; i < values.length; i++)
+            count += Integer.bitCount(values[i] & 0xffff);
+        return count;
+    }
+
+    /**
+     * Adds two unsigned 16-bit integers, modulo 2<sup>16</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     */
+    public static short add(short x, short y) {
+        return (short) (x + y);
+    }
+
+    /**
+     * Subtracts one unsigned 16-bit integer from another, modulo 2<sup>16</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     */
+    public static short subtract(short x, short y) {
+        return (short) (x - y);
+    }
+
+    /**
+     * Multiplies two unsigned 16-bit integers, modulo 2<sup>16</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     */
+    public static short multiply(short x, short y) {
+        return (short) (x * y);
+    }
+
+    /**
+     * Negates an unsigned 16-bit integer, modulo 2<sup>16</sup>.
+     * 
+     * @param word
+     *            the raw value
+     * @return the negation
+     */
+    public static short negate(short word) {
+        return (short) (-word);
+    }
+
+    /**
+     * Adds one to an unsigned 16-bit integer, modulo 2<sup>16</sup>.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value plus one
+     */
+    public static short increment(short word) {
+        return (short) (word + 1);
+    }
+
+    /**
+     * Subtracts one from an unsigned 16-bit integer, modulo 2<sup>16</sup>.
+     * 
+     * @param word
+     *            the raw value
+     * @return the value minus one
+     */
+    public static short decrement(short word) {
+        return (short) (word - 1);
+    }
+
+    /**
+     * Divides two unsigned 16-bit integers.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the quotient, rounded toward zero
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static short divide(short dividend, short divisor) throws ArithmeticException {
+        return (short) (toInt(dividend) / toInt(divisor));
+    }
+
+    /**
+     * Gets the remainder of dividing two unsigned 16-bit integers.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static short remainder(short dividend, short divisor) throws ArithmeticException {
+        return (short) (toInt(dividend) % toInt(divisor));
+    }
+
+    /**
+     * Divides two unsigned 16-bit integers, getting both the quotient and the remainder
+     * from a single division.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the quotient followed by the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static short[] divideAndRemainder(short dividend, short divisor)
+            throws ArithmeticException {
+        short quotient = divide(dividend, divisor);
+        return new short[] { quotient, (short) (dividend - quotient * divisor) };
+    }
+
+    /**
+     * Adds two unsigned 16-bit integers, clamping the sum to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated sum
+     */
+    public static short addSaturating(short x, short y) {
+        return (short) Math.min(toInt(x) + toInt(y), MAX_VALUE);
+    }
+
+    /**
+     * Subtracts one unsigned 16-bit integer from another, clamping the difference to the range
+     * of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated difference
+     */
+    public static short subtractSaturating(short x, short y) {
+        return (short) Math.max(toInt(x) - toInt(y), MIN_VALUE);
+    }
+
+    /**
+     * Multiplies two unsigned 16-bit integers, clamping the product to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated product
+     */
+    public static short multiplySaturating(short x, short y) {
+        return (short) Math.min((long) toInt(x) * toInt(y), MAX_VALUE);
+    }
+
+    /**
+     * Applies {@link #addSaturating(short, short)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void addSaturating(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = addSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #subtractSaturating(short, short)} element by element.
      * 
-     * @param word
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void subtractSaturating(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = subtractSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #multiplySaturating(short, short)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void multiplySaturating(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = multiplySaturating(x[i], y[i]);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>, checking that it is in range.
+     * 
+     * @param value
      *            the value to be represented
+     * @return the instance
+     * @throws ArithmeticException
+     *             if <code>value</code> is less than {@link #MIN_VALUE} or greater than
+     *             {@link #MAX_VALUE}
+     */
+    public static UInt16 valueOfExact(long value) throws ArithmeticException {
+        return valueOf(exact(value));
+    }
+
+    /**
+     * Adds two unsigned 16-bit integers, throwing if the sum overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static short addExact(short x, short y) throws ArithmeticException {
+        return exact(toInt(x) + toInt(y));
+    }
+
+    /**
+     * Subtracts one unsigned 16-bit integer from another, throwing if the difference overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static short subtractExact(short x, short y) throws ArithmeticException {
+        return exact(toInt(x) - toInt(y));
+    }
+
+    /**
+     * Multiplies two unsigned 16-bit integers, throwing if the product overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static short multiplyExact(short x, short y) throws ArithmeticException {
+        return exact((long) toInt(x) * toInt(y));
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
      * @throws IllegalArgumentException
-     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     *             if <code>values</code> is <code>null</code>
      */
-    public UInt16(byte[] word) throws IllegalArgumentException {
-        verify(word);
-        uint16 = (short) (((word[0] & 0xff) << 8) | (word[1] & 0xff));
+    public static boolean inRange(long[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= values[i] >>> 16;
+        return outOfRange == 0;
     }
 
     /**
-     * Creates a new instance from a <code>short</code>.
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        int outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= values[i] >>> 16;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Gets an unsigned 16-bit integer as a <code>String</code>.
      * 
      * @param word
-     *            the value to be represented
+     *            the raw value
+     * @return the value as a <code>String</code>
      */
-    public UInt16(short word) {
-        uint16 = word;
+    public static String toString(short word) {
+        return Integer.toString(toInt(word));
     }
 
     /**
-     * Creates a new instance from an <code>int</code>.
+     * Reads an unsigned 16-bit integer at the buffer's current position, in the buffer's byte
+     * order, and advances the position by 2 bytes.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 2 bytes remain in the buffer
+     */
+    public static int get(ByteBuffer buffer) throws BufferUnderflowException {
+        return toInt(buffer.getShort());
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer at the buffer's current position in the given byte order and
+     * advances the position by 2 bytes. The byte order of the buffer is not changed.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 2 bytes remain in the buffer
+     */
+    public static int get(ByteBuffer buffer, ByteOrder order) throws BufferUnderflowException {
+        return toInt(order(buffer, order, buffer.getShort()));
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static int get(ByteBuffer buffer, int index) throws IndexOutOfBoundsException {
+        return toInt(buffer.getShort(index));
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer at the given index in the given byte order without changing
+     * the position or the byte order of the buffer.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
+     */
+    public static int get(ByteBuffer buffer, int index, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        return toInt(order(buffer, order, buffer.getShort(index)));
+    }
+
+    /**
+     * Writes an unsigned 16-bit integer at the buffer's current position, in the buffer's byte
+     * order, and advances the position by 2 bytes.
      * 
+     * @param buffer
+     *            the buffer to write to
      * @param word
-     *            the value to be represented
+     *            the value to be written
+     * @throws BufferOverflowException
+     *             if fewer than 2 bytes remain in the buffer
      */
-    public UInt16(int word) {
-        uint16 = (short) word;
+    public static void put(ByteBuffer buffer, int word) throws BufferOverflowException {
+        buffer.putShort((short) word);
     }
 
     /**
-     * Creates a new instance from a <code>long</code>.
+     * Writes an unsigned 16-bit integer at the buffer's current position in the given byte order
+     * and advances the position by 2 bytes. The byte order of the buffer is not changed.
      * 
+     * @param buffer
+     *            the buffer to write to
      * @param word
-     *            the value to be represented
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws BufferOverflowException
+     *             if fewer than 2 bytes remain in the buffer
      */
-    public UInt16(long word) {
-        uint16 = (short) word;
+    public static void put(ByteBuffer buffer, int word, ByteOrder order)
+            throws BufferOverflowException {
+        buffer.putShort(order(buffer, order, (short) word));
     }
 
     /**
-     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
-     * and be in big-endian byte order.
+     * Writes an unsigned 16-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
      * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
      * @param word
-     *            the value to be represented
-     * @throws IllegalArgumentException
-     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     *            the value to be written
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
      */
-    public static UInt16 valueOfBigEndian(byte[] word) throws IllegalArgumentException {
-        verify(word);
-        return new UInt16(word);
+    public static void put(ByteBuffer buffer, int index, int word)
+            throws IndexOutOfBoundsException {
+        buffer.putShort(index, (short) word);
     }
 
     /**
-     * Creates a new instance from a <code>byte</code> array. The array must have a length of 2
-     * and be in little-endian byte order.
+     * Writes an unsigned 16-bit integer at the given index in the given byte order without changing
+     * the position or the byte order of the buffer.
      * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
      * @param word
-     *            the value to be represented
-     * @throws IllegalArgumentException
-     *             if <code>word</code> is <code>null</code> or if the length does not equal 2
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 2 bytes remain after it
      */
-    public static UInt16 valueOfLittleEndian(byte[] word) throws IllegalArgumentException {
-        verify(word);
-        byte[] reversed = new byte[2];
-        reversed[0] = word[1];
-        reversed[1] = word[0];
-        return new UInt16(reversed);
+    public static void put(ByteBuffer buffer, int index, int word, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        buffer.putShort(index, order(buffer, order, (short) word));
     }
 
     /**
@@ -133,7 +1102,7 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
      * @return the value as an unsigned 16-bit integer
      */
     public int uint16Value() {
-        return (uint16 & 0xffff);
+        return toInt(uint16);
     }
 
     /**
@@ -179,10 +1148,7 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
      * @return the value as a big-endian <code>byte</code> array
      */
     public byte[] toBigEndian() {
-        byte[] word = new byte[2];
-        word[0] = (byte) ((uint16 >> 8) & 0xff);
-        word[1] = (byte) (uint16 & 0xff);
-        return word;
+        return toBigEndian(uint16);
     }
 
     /**
@@ -192,10 +1158,37 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
      * @return the value as a little-endian <code>byte</code> array
      */
     public byte[] toLittleEndian() {
-        byte[] word = new byte[2];
-        word[0] = (byte) (uint16 & 0xff);
-        word[1] = (byte) ((uint16 >> 8) & 0xff);
-        return word;
+        return toLittleEndian(uint16);
+    }
+
+    /**
+     * Writes the value to the 2 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public void writeBigEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeBigEndian(dst, offset, uint16);
+    }
+
+    /**
+     * Writes the value to the 2 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 2 bytes remain after it
+     */
+    public void writeLittleEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeLittleEndian(dst, offset, uint16);
     }
 
     /**
@@ -205,11 +1198,7 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
      *            a <code>UInt16</code>
      */
     public int compareTo(UInt16 object) {
-        if (equals(object))
-            return 0;
-        else {
-            return (uint16Value() - object.uint16Value());
-        }
+        return compare(uint16, object.uint16);
     }
 
     /**
@@ -237,7 +1226,16 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
      * @return the value as a <code>String</code>
      */
     public String toString() {
-        return Integer.toString(uint16Value());
+        return toString(uint16);
+    }
+
+    private static int cacheHigh() {
+        int high = Integer.getInteger(CACHE_HIGH_PROPERTY, 1023).intValue();
+        return Math.max(UInt8.MAX_VALUE, Math.min(high, MAX_VALUE));
+    }
+
+    private static short order(ByteBuffer buffer, ByteOrder order, short word) {
+        return buffer.order() == order ? word : Short.reverseBytes(word);
     }
 
     private static void verify(byte[] word) throws IllegalArgumentException {
@@ -249,19 +1247,19 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
     }
 
     public UInt16 and(UInt16 number) {
-        return new UInt16(uint16Value() & number.uint16Value());
+        return valueOf(and(uint16, number.uint16));
     }
 
     public UInt16 not() {
-        return new UInt16(~uint16Value());
+        return valueOf(not(uint16));
     }
 
     public UInt16 or(UInt16 number) {
-        return new UInt16(uint16Value() | number.uint16Value());
+        return valueOf(or(uint16, number.uint16));
     }
 
     public UInt16 xor(UInt16 number) {
-        return new UInt16(uint16Value() ^ number.uint16Value());
+        return valueOf(xor(uint16, number.uint16));
     }
 
     public UInt16 addBitmask(UInt16 bitmask) {
@@ -269,10 +1267,324 @@ public class UInt16 extends Number implements Serializable, Comparable<UInt16>,
     }
 
     public boolean hasBitmask(UInt16 bitmask) {
-        return this.and(bitmask).equals(bitmask);
+        return hasBitmask(uint16, bitmask.uint16);
     }
 
     public UInt16 removeBitmask(UInt16 bitmask) {
-        return this.and(bitmask.not());
+        return valueOf(removeBitmask(uint16, bitmask.uint16));
+    }
+
+    public boolean hasAnyBit(UInt16 bitmask) {
+        return hasAnyBit(uint16, bitmask.uint16);
+    }
+
+    /**
+     * Determines if this number has the given bitmask, without creating an instance for it.
+     * Bits above the lowest 16 are ignored, so a sign-extended mask such as
+     * <code>(short) 0x8000</code> tests only the top bit.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(int bitmask) {
+        return hasBitmask(uint16, (short) bitmask);
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask. Bits above the lowest
+     * 16 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(int bitmask) {
+        return hasAnyBit(uint16, (short) bitmask);
+    }
+
+    /**
+     * Sets the bits in the given bitmask. Bits above the lowest 16 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits set
+     */
+    public UInt16 addBitmask(int bitmask) {
+        return valueOf(addBitmask(uint16, (short) bitmask));
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits unset
+     */
+    public UInt16 removeBitmask(int bitmask) {
+        return valueOf(removeBitmask(uint16, (short) bitmask));
+    }
+
+    /**
+     * Determines if this number has the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(Bitmask bitmask) {
+        return hasBitmask(bitmask.bits());
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(Bitmask bitmask) {
+        return hasAnyBit(bitmask.bits());
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits set
+     */
+    public UInt16 addBitmask(Bitmask bitmask) {
+        return addBitmask(bitmask.bits());
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits unset
+     */
+    public UInt16 removeBitmask(Bitmask bitmask) {
+        return removeBitmask(bitmask.bits());
+    }
+
+    public UInt16 shiftLeft(int distance) {
+        return valueOf(shiftLeft(uint16, distance));
+    }
+
+    public UInt16 shiftRight(int distance) {
+        return valueOf(shiftRight(uint16, distance));
+    }
+
+    public UInt16 rotateLeft(int distance) {
+        return valueOf(rotateLeft(uint16, distance));
+    }
+
+    public UInt16 rotateRight(int distance) {
+        return valueOf(rotateRight(uint16, distance));
+    }
+
+    /**
+     * Counts the one bits in this value.
+     * 
+     * @return the number of one bits
+     */
+    public int bitCount() {
+        return bitCount(uint16);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit of this value.
+     * 
+     * @return the number of leading zeros, or 16 if the value is zero
+     */
+    public int numberOfLeadingZeros() {
+        return numberOfLeadingZeros(uint16);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit of this value.
+     * 
+     * @return the number of trailing zeros, or 16 if the value is zero
+     */
+    public int numberOfTrailingZeros() {
+        return numberOfTrailingZeros(uint16);
+    }
+
+    /**
+     * Keeps only the highest one bit of this value.
+     * 
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public UInt16 highestOneBit() {
+        return valueOf(highestOneBit(uint16));
+    }
+
+    /**
+     * Keeps only the lowest one bit of this value.
+     * 
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public UInt16 lowestOneBit() {
+        return valueOf(lowestOneBit(uint16));
+    }
+
+    /**
+     * Reverses the order of the bits of this value.
+     * 
+     * @return the reversed value
+     */
+    public UInt16 reverse() {
+        return valueOf(reverse(uint16));
+    }
+
+    /**
+     * Reverses the order of the bytes of this value.
+     * 
+     * @return the reversed value
+     */
+    public UInt16 reverseBytes() {
+        return valueOf(reverseBytes(uint16));
+    }
+
+    public UInt16 add(UInt16 number) {
+        return valueOf(add(uint16, number.uint16));
+    }
+
+    public UInt16 subtract(UInt16 number) {
+        return valueOf(subtract(uint16, number.uint16));
+    }
+
+    public UInt16 multiply(UInt16 number) {
+        return valueOf(multiply(uint16, number.uint16));
+    }
+
+    public UInt16 negate() {
+        return valueOf(negate(uint16));
+    }
+
+    public UInt16 increment() {
+        return valueOf(increment(uint16));
+    }
+
+    public UInt16 decrement() {
+        return valueOf(decrement(uint16));
+    }
+
+    /**
+     * Divides this value by <code>divisor</code>.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the quotient, rounded toward zero
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt16 divide(UInt16 divisor) throws ArithmeticException {
+        return valueOf(divide(uint16, divisor.uint16));
+    }
+
+    /**
+     * Gets the remainder of dividing this value by <code>divisor</code>.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt16 remainder(UInt16 divisor) throws ArithmeticException {
+        return valueOf(remainder(uint16, divisor.uint16));
+    }
+
+    /**
+     * Divides this value by <code>divisor</code>, getting both the quotient and the remainder.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the quotient followed by the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt16[] divideAndRemainder(UInt16 divisor) throws ArithmeticException {
+        short[] result = divideAndRemainder(uint16, divisor.uint16);
+        return new UInt16[] { valueOf(result[0]), valueOf(result[1]) };
+    }
+
+    private static void verify(short[] x, short[] y, short[] dst)
+            throws IllegalArgumentException {
+        if (x == null || y == null || dst == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        if (x.length != dst.length || y.length != dst.length)
+            throw new IllegalArgumentException("arrays must have the same length.");
+    }
+
+    private static short exact(long value) throws ArithmeticException {
+        if ((value >>> 16) != 0)
+            throw new ArithmeticException("Out of range for UInt16: " + value);
+        return (short) value;
+    }
+
+    /**
+     * Adds this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated sum
+     */
+    public UInt16 addSaturating(UInt16 number) {
+        return valueOf(addSaturating(uint16, number.uint16));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated difference
+     */
+    public UInt16 subtractSaturating(UInt16 number) {
+        return valueOf(subtractSaturating(uint16, number.uint16));
+    }
+
+    /**
+     * Multiplies this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated product
+     */
+    public UInt16 multiplySaturating(UInt16 number) {
+        return valueOf(multiplySaturating(uint16, number.uint16));
+    }
+
+    /**
+     * Adds <code>number</code> to this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt16 addExact(UInt16 number) throws ArithmeticException {
+        return valueOf(addExact(uint16, number.uint16));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt16 subtractExact(UInt16 number) throws ArithmeticException {
+        return valueOf(subtractExact(uint16, number.uint16));
+    }
+
+    /**
+     * Multiplies this value by <code>number</code>, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt16 multiplyExact(UInt16 number) throws ArithmeticException {
+        return valueOf(multiplyExact(uint16, number.uint16));
     }
 }
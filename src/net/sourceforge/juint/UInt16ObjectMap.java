@@ -0,0 +1,494 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntFunction;
+
+/**
+ * Map from unsigned 16-bit integers to objects. Keys are never boxed. A map starts out as an open
+ * addressing table of raw <code>short</code> keys with linear probing, and switches to a direct
+ * indexed table of 65536 values once a hashed table would be as large; {@link #direct()} creates
+ * a map that is direct indexed from the start. Values cannot be <code>null</code>, so
+ * {@link #get(short)} returning <code>null</code> means the key is absent.
+ * <p>
+ * Iteration order is unspecified. The map must not be modified while it is being iterated.
+ * 
+ * @param <V>
+ *            the type of the values
+ */
+public class UInt16ObjectMap<V> implements Serializable {
+    private static final long serialVersionUID = 1369824563014758270L;
+    private static final int DIRECT_CAPACITY = 1 << 16;
+    private final float loadFactor;
+    // null once the map is direct indexed
+    private short[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    // number of keys in the hashed table not counting 0, or every key once direct indexed
+    private int assigned;
+    private Object zeroValue;
+
+    /**
+     * Creates a new, empty, hashed map with the default load factor of 0.75.
+     */
+    public UInt16ObjectMap() {
+        this(0, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new, empty map that holds <code>expectedSize</code> keys without growing.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is negative
+     */
+    public UInt16ObjectMap(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new, empty map that holds <code>expectedSize</code> keys without growing. The
+     * map is direct indexed from the start if a hashed table for <code>expectedSize</code> keys
+     * would have 65536 slots or more.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @param loadFactor
+     *            the fraction of slots that may be filled before the table grows, between 0 and 1
+     *            exclusive
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is negative or <code>loadFactor</code> is out of
+     *             range
+     */
+    public UInt16ObjectMap(int expectedSize, float loadFactor) throws IllegalArgumentException {
+        this.loadFactor = loadFactor;
+        int capacity = Hashing.capacity(Math.min(expectedSize, DIRECT_CAPACITY), loadFactor);
+        if (capacity >= DIRECT_CAPACITY)
+            values = new Object[DIRECT_CAPACITY];
+        else
+            allocate(capacity);
+    }
+
+    /**
+     * Creates a new, empty map backed by a direct indexed table of 65536 values. Every operation
+     * is a single array access, at the cost of 65536 references of memory up front.
+     * 
+     * @param <V>
+     *            the type of the values
+     * @return the new map
+     */
+    public static <V> UInt16ObjectMap<V> direct() {
+        return new UInt16ObjectMap<V>(DIRECT_CAPACITY);
+    }
+
+    /**
+     * Tests whether the map is backed by a direct indexed table.
+     * 
+     * @return <code>true</code> if the map is direct indexed
+     */
+    public boolean isDirect() {
+        return keys == null;
+    }
+
+    /**
+     * Gets the value mapped to an unsigned 16-bit integer.
+     * 
+     * @param key
+     *            the raw key
+     * @return the value, or <code>null</code> if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(short key) {
+        if (keys == null)
+            return (V) values[UInt16.toInt(key)];
+        if (key == 0)
+            return (V) zeroValue;
+        int slot = probe(key);
+        return (keys[slot] == key) ? (V) values[slot] : null;
+    }
+
+    /**
+     * Gets the value mapped to a <code>UInt16</code>.
+     * 
+     * @param key
+     *            the key
+     * @return the value, or <code>null</code> if there is none
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public V get(UInt16 key) throws IllegalArgumentException {
+        verify(key);
+        return get(key.shortValue());
+    }
+
+    /**
+     * Tests whether an unsigned 16-bit integer is mapped to a value.
+     * 
+     * @param key
+     *            the raw key
+     * @return <code>true</code> if the map contains <code>key</code>
+     */
+    public boolean containsKey(short key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Tests whether a <code>UInt16</code> is mapped to a value.
+     * 
+     * @param key
+     *            the key
+     * @return <code>true</code> if the map contains <code>key</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public boolean containsKey(UInt16 key) throws IllegalArgumentException {
+        verify(key);
+        return containsKey(key.shortValue());
+    }
+
+    /**
+     * Maps an unsigned 16-bit integer to a value.
+     * 
+     * @param key
+     *            the raw key
+     * @param value
+     *            the value
+     * @return the previous value, or <code>null</code> if there was none
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public V put(short key, V value) throws IllegalArgumentException {
+        if (value == null)
+            throw new IllegalArgumentException("value cannot be null.");
+        if (keys == null) {
+            int index = UInt16.toInt(key);
+            V previous = (V) values[index];
+            values[index] = value;
+            if (previous == null)
+                assigned++;
+            return previous;
+        }
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            zeroValue = value;
+            return previous;
+        }
+        int slot = probe(key);
+        if (keys[slot] == key) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++assigned > threshold)
+            grow();
+        return null;
+    }
+
+    /**
+     * Maps a <code>UInt16</code> to a value.
+     * 
+     * @param key
+     *            the key
+     * @param value
+     *            the value
+     * @return the previous value, or <code>null</code> if there was none
+     * @throws IllegalArgumentException
+     *             if <code>key</code> or <code>value</code> is <code>null</code>
+     */
+    public V put(UInt16 key, V value) throws IllegalArgumentException {
+        verify(key);
+        return put(key.shortValue(), value);
+    }
+
+    /**
+     * Gets the value mapped to an unsigned 16-bit integer, computing and adding it first if there
+     * is none.
+     * 
+     * @param key
+     *            the raw key
+     * @param mappingFunction
+     *            computes the value from the key as an unsigned 16-bit integer; if it returns
+     *            <code>null</code> nothing is added
+     * @return the current or computed value, or <code>null</code> if the function returned
+     *         <code>null</code>
+     * @throws IllegalArgumentException
+     *             if <code>mappingFunction</code> is <code>null</code>
+     */
+    public V computeIfAbsent(short key, IntFunction<? extends V> mappingFunction)
+            throws IllegalArgumentException {
+        if (mappingFunction == null)
+            throw new IllegalArgumentException("mappingFunction cannot be null.");
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(UInt16.toInt(key));
+            if (value != null)
+                put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value mapped to a <code>UInt16</code>, computing and adding it first if there is
+     * none.
+     * 
+     * @param key
+     *            the key
+     * @param mappingFunction
+     *            computes the value from the key as an unsigned 16-bit integer; if it returns
+     *            <code>null</code> nothing is added
+     * @return the current or computed value, or <code>null</code> if the function returned
+     *         <code>null</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> or <code>mappingFunction</code> is <code>null</code>
+     */
+    public V computeIfAbsent(UInt16 key, IntFunction<? extends V> mappingFunction)
+            throws IllegalArgumentException {
+        verify(key);
+        return computeIfAbsent(key.shortValue(), mappingFunction);
+    }
+
+    /**
+     * Removes the value mapped to an unsigned 16-bit integer. In a hashed map, the keys that
+     * follow it in its probe sequence are shifted back, so no tombstones are left behind.
+     * 
+     * @param key
+     *            the raw key
+     * @return the removed value, or <code>null</code> if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(short key) {
+        if (keys == null) {
+            int index = UInt16.toInt(key);
+            V previous = (V) values[index];
+            values[index] = null;
+            if (previous != null)
+                assigned--;
+            return previous;
+        }
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            zeroValue = null;
+            return previous;
+        }
+        int slot = probe(key);
+        if (keys[slot] != key)
+            return null;
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        assigned--;
+        return previous;
+    }
+
+    /**
+     * Removes the value mapped to a <code>UInt16</code>.
+     * 
+     * @param key
+     *            the key
+     * @return the removed value, or <code>null</code> if there was none
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public V remove(UInt16 key) throws IllegalArgumentException {
+        verify(key);
+        return remove(key.shortValue());
+    }
+
+    /**
+     * Gets the number of keys.
+     * 
+     * @return the size
+     */
+    public int size() {
+        return (zeroValue != null) ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Tests whether the map has no keys.
+     * 
+     * @return <code>true</code> if the size is 0
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes every key. The table keeps its capacity, and a direct indexed map stays direct
+     * indexed.
+     */
+    public void clear() {
+        if (keys != null)
+            Arrays.fill(keys, (short) 0);
+        Arrays.fill(values, null);
+        assigned = 0;
+        zeroValue = null;
+    }
+
+    /**
+     * Gets an iterator over the keys as unsigned 16-bit integers, from 0 to 65535, like
+     * {@link UInt32ObjectMap#keyIterator()} gives its keys as unsigned 32-bit integers. Cast a key
+     * to <code>short</code> to pass it back to {@link #get(short)}. The values are not boxed when
+     * read with {@link PrimitiveIterator.OfInt#nextInt()}.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfInt keyIterator() {
+        return new PrimitiveIterator.OfInt() {
+            // -1 stands for the key 0 of a hashed map, which is not in the table
+            private int index = (zeroValue != null) ? -1 : next(0);
+
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            public int nextInt() {
+                if (index >= values.length)
+                    throw new NoSuchElementException();
+                int key = (index < 0) ? 0 : (keys == null) ? index : UInt16.toInt(keys[index]);
+                index = next(index + 1);
+                return key;
+            }
+
+            private int next(int from) {
+                int i = from;
+                while (i < values.length && values[i] == null)
+                    i++;
+                return i;
+            }
+        };
+    }
+
+    /**
+     * Gets the mappings as a <code>String</code>, such as <code>{65535=value}</code>, in
+     * iteration order.
+     * 
+     * @return the mappings as a <code>String</code>
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        PrimitiveIterator.OfInt iterator = keyIterator();
+        while (iterator.hasNext()) {
+            if (builder.length() > 1)
+                builder.append(", ");
+            int key = iterator.nextInt();
+            builder.append(key).append('=').append(get((short) key));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Gets the slot holding a non-zero key, or the empty slot where it would be inserted.
+     */
+    private int probe(short key) {
+        short[] keys = this.keys;
+        int mask = this.mask;
+        int slot = Hashing.mix(UInt16.toInt(key)) & mask;
+        short existing;
+        while ((existing = keys[slot]) != 0 && existing != key)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new short[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = Hashing.threshold(capacity, loadFactor);
+    }
+
+    private void grow() {
+        short[] oldKeys = keys;
+        Object[] oldValues = values;
+        int capacity = oldKeys.length << 1;
+        if (capacity >= DIRECT_CAPACITY) {
+            values = new Object[DIRECT_CAPACITY];
+            keys = null;
+            for (int i = 0; i < oldKeys.length; i++)
+                if (oldKeys[i] != 0)
+                    values[UInt16.toInt(oldKeys[i])] = oldValues[i];
+            if (zeroValue != null) {
+                values[0] = zeroValue;
+                zeroValue = null;
+                assigned++;
+            }
+            return;
+        }
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            short key = oldKeys[i];
+            if (key != 0) {
+                int slot = probe(key);
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Empties a slot, moving back any later key in the same cluster whose home slot does not lie
+     * cyclically between the emptied slot and its current slot.
+     */
+    private void shiftBack(int slot) {
+        short[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        int gap = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            short key = keys[i];
+            if (key == 0)
+                break;
+            int home = Hashing.mix(UInt16.toInt(key)) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private static void verify(UInt16 key) throws IllegalArgumentException {
+        if (key == null)
+            throw new IllegalArgumentException("key cannot be null.");
+    }
+}
@@ -32,11 +32,17 @@
 package net.sourceforge.juint;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
 
 /**
  * Unsigned 32-bit integer.
  */
-public class UInt32 extends Number implements Serializable, Comparable<UInt32>, Bitwise<UInt32> {
+public class UInt32 extends Number implements Serializable, Comparable<UInt32>, Bitwise<UInt32>,
+        Arithmetic<UInt32> {
     private static final long serialVersionUID = -3838817671302425395L;
     /**
      * The largest possible value.
@@ -50,6 +56,14 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      * {@value}
      */
     public static final long MIN_VALUE = 0;
+    /**
+     * Orders instances by their unsigned 32-bit values, the same as <code>compareTo</code>.
+     */
+    public static final Comparator<UInt32> COMPARATOR = new Comparator<UInt32>() {
+        public int compare(UInt32 x, UInt32 y) {
+            return UInt32.compare(x.uint32, y.uint32);
+        }
+    };
     private int uint32;
 
     /**
@@ -64,8 +78,7 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      */
     public UInt32(byte[] doubleWord) throws IllegalArgumentException {
         verify(doubleWord);
-        uint32 = ((doubleWord[0] & 0xff) << 24) | ((doubleWord[1] & 0xff) << 16)
-                | ((doubleWord[2] & 0xff) << 8) | (doubleWord[3] & 0xff);
+        uint32 = fromBigEndian(doubleWord[0], doubleWord[1], doubleWord[2], doubleWord[3]);
     }
 
     /**
@@ -125,12 +138,913 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      */
     public static UInt32 valueOfLittleEndian(byte[] doubleWord) throws IllegalArgumentException {
         verify(doubleWord);
-        byte[] reversed = new byte[4];
-        reversed[0] = doubleWord[3];
-        reversed[1] = doubleWord[2];
-        reversed[2] = doubleWord[1];
-        reversed[3] = doubleWord[0];
-        return new UInt32(reversed);
+        return new UInt32(fromLittleEndian(doubleWord[0], doubleWord[1], doubleWord[2],
+                doubleWord[3]));
+    }
+
+    /**
+     * Creates a new instance from the 4 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in big-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static UInt32 valueOfBigEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return new UInt32(fromBigEndian(src, offset));
+    }
+
+    /**
+     * Creates a new instance from the 4 bytes at <code>offset</code> of a <code>byte</code>
+     * array, in little-endian byte order. No intermediate array is copied.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static UInt32 valueOfLittleEndian(byte[] src, int offset)
+            throws IndexOutOfBoundsException {
+        return new UInt32(fromLittleEndian(src, offset));
+    }
+
+    /**
+     * Gets the raw value as an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as an unsigned 32-bit integer
+     */
+    public static long toLong(int doubleWord) {
+        return doubleWord & 0xffffffffL;
+    }
+
+    /**
+     * Gets the raw value of 4 bytes in big-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @param b2
+     *            byte 2
+     * @param b3
+     *            byte 3
+     * @return the raw value
+     */
+    public static int fromBigEndian(byte b0, byte b1, byte b2, byte b3) {
+        return ((b0 & 0xff) << 24) | ((b1 & 0xff) << 16) | ((b2 & 0xff) << 8) | (b3 & 0xff);
+    }
+
+    /**
+     * Gets the raw value of 4 bytes in little-endian byte order.
+     * 
+     * @param b0
+     *            byte 0
+     * @param b1
+     *            byte 1
+     * @param b2
+     *            byte 2
+     * @param b3
+     *            byte 3
+     * @return the raw value
+     */
+    public static int fromLittleEndian(byte b0, byte b1, byte b2, byte b3) {
+        return fromBigEndian(b3, b2, b1, b0);
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in big-endian byte order.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as a big-endian <code>byte</code> array
+     */
+    public static byte[] toBigEndian(int doubleWord) {
+        byte[] bytes = new byte[4];
+        bytes[0] = (byte) ((doubleWord >> 24) & 0xff);
+        bytes[1] = (byte) ((doubleWord >> 16) & 0xff);
+        bytes[2] = (byte) ((doubleWord >> 8) & 0xff);
+        bytes[3] = (byte) (doubleWord & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value as a <code>byte</code> array in little-endian byte order.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as a little-endian <code>byte</code> array
+     */
+    public static byte[] toLittleEndian(int doubleWord) {
+        byte[] bytes = new byte[4];
+        bytes[0] = (byte) (doubleWord & 0xff);
+        bytes[1] = (byte) ((doubleWord >> 8) & 0xff);
+        bytes[2] = (byte) ((doubleWord >> 16) & 0xff);
+        bytes[3] = (byte) ((doubleWord >> 24) & 0xff);
+        return bytes;
+    }
+
+    /**
+     * Gets the raw value of the 4 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static int fromBigEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (int) ByteArrays.INT_BIG_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Gets the raw value of the 4 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param src
+     *            the array to read from
+     * @param offset
+     *            the index of the first byte
+     * @return the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static int fromLittleEndian(byte[] src, int offset) throws IndexOutOfBoundsException {
+        return (int) ByteArrays.INT_LITTLE_ENDIAN.get(src, offset);
+    }
+
+    /**
+     * Writes the raw value to the 4 bytes at <code>offset</code> in big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param doubleWord
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void writeBigEndian(byte[] dst, int offset, int doubleWord)
+            throws IndexOutOfBoundsException {
+        ByteArrays.INT_BIG_ENDIAN.set(dst, offset, doubleWord);
+    }
+
+    /**
+     * Writes the raw value to the 4 bytes at <code>offset</code> in little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @param doubleWord
+     *            the raw value
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void writeLittleEndian(byte[] dst, int offset, int doubleWord)
+            throws IndexOutOfBoundsException {
+        ByteArrays.INT_LITTLE_ENDIAN.set(dst, offset, doubleWord);
+    }
+
+    /**
+     * Compares two unsigned 32-bit integers for order.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return a negative number, zero or a positive number as <code>x</code> is less than,
+     *         equal to or greater than <code>y</code>
+     */
+    public static int compare(int x, int y) {
+        return Integer.compareUnsigned(x, y);
+    }
+
+    /**
+     * Logical and of two unsigned 32-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the and
+     */
+    public static int and(int x, int y) {
+        return x & y;
+    }
+
+    /**
+     * Logical or of two unsigned 32-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the or
+     */
+    public static int or(int x, int y) {
+        return x | y;
+    }
+
+    /**
+     * Logical xor of two unsigned 32-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the xor
+     */
+    public static int xor(int x, int y) {
+        return x ^ y;
+    }
+
+    /**
+     * Logical not of an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the result of the not
+     */
+    public static int not(int doubleWord) {
+        return ~doubleWord;
+    }
+
+    /**
+     * Determines if an unsigned 32-bit integer has the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public static boolean hasBitmask(int number, int bitmask) {
+        return (number & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if an unsigned 32-bit integer has any of the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public static boolean hasAnyBit(int number, int bitmask) {
+        return (number & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits set
+     */
+    public static int addBitmask(int number, int bitmask) {
+        return number | bitmask;
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits unset
+     */
+    public static int removeBitmask(int number, int bitmask) {
+        return number & ~bitmask;
+    }
+
+    /**
+     * Shifts an unsigned 32-bit integer left by <code>distance</code> bits, modulo 32.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static int shiftLeft(int doubleWord, int distance) {
+        return doubleWord << distance;
+    }
+
+    /**
+     * Shifts an unsigned 32-bit integer right by <code>distance</code> bits, modulo 32. The shift
+     * is logical.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static int shiftRight(int doubleWord, int distance) {
+        return doubleWord >>> distance;
+    }
+
+    /**
+     * Rotates an unsigned 32-bit integer left by <code>distance</code> bits, modulo 32.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static int rotateLeft(int doubleWord, int distance) {
+        return Integer.rotateLeft(doubleWord, distance);
+    }
+
+    /**
+     * Rotates an unsigned 32-bit integer right by <code>distance</code> bits, modulo 32.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static int rotateRight(int doubleWord, int distance) {
+        return Integer.rotateRight(doubleWord, distance);
+    }
+
+    /**
+     * Counts the one bits in an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the number of one bits
+     */
+    public static int bitCount(int doubleWord) {
+        return Integer.bitCount(doubleWord);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit in an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the number of leading zeros, or 32 if the value is zero
+     */
+    public static int numberOfLeadingZeros(int doubleWord) {
+        return Integer.numberOfLeadingZeros(doubleWord);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit in an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the number of trailing zeros, or 32 if the value is zero
+     */
+    public static int numberOfTrailingZeros(int doubleWord) {
+        return Integer.numberOfTrailingZeros(doubleWord);
+    }
+
+    /**
+     * Keeps only the highest one bit of an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public static int highestOneBit(int doubleWord) {
+        return Integer.highestOneBit(doubleWord);
+    }
+
+    /**
+     * Keeps only the lowest one bit of an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public static int lowestOneBit(int doubleWord) {
+        return Integer.lowestOneBit(doubleWord);
+    }
+
+    /**
+     * Reverses the order of the 32 bits of an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the reversed value
+     */
+    public static int reverse(int doubleWord) {
+        return Integer.reverse(doubleWord);
+    }
+
+    /**
+     * Reverses the order of the bytes of an unsigned 32-bit integer.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the reversed value
+     */
+    public static int reverseBytes(int doubleWord) {
+        return Integer.reverseBytes(doubleWord);
+    }
+
+    /**
+     * Counts the one bits in every value of an array.
+     * 
+     * @param values
+     *            the raw values
+     * @return the total number of one bits
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static long bitCount(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long count = 0;
+        for (int i = 0; i < values.length; i++)
+            count += Integer.bitCount(values[i]);
+        return count;
+    }
+
+    /**
+     * Adds two unsigned 32-bit integers, modulo 2<sup>32</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     */
+    public static int add(int x, int y) {
+        return x + y;
+    }
+
+    /**
+     * Subtracts one unsigned 32-bit integer from another, modulo 2<sup>32</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     */
+    public static int subtract(int x, int y) {
+        return x - y;
+    }
+
+    /**
+     * Multiplies two unsigned 32-bit integers, modulo 2<sup>32</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     */
+    public static int multiply(int x, int y) {
+        return x * y;
+    }
+
+    /**
+     * Negates an unsigned 32-bit integer, modulo 2<sup>32</sup>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the negation
+     */
+    public static int negate(int doubleWord) {
+        return -doubleWord;
+    }
+
+    /**
+     * Adds one to an unsigned 32-bit integer, modulo 2<sup>32</sup>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value plus one
+     */
+    public static int increment(int doubleWord) {
+        return doubleWord + 1;
+    }
+
+    /**
+     * Subtracts one from an unsigned 32-bit integer, modulo 2<sup>32</sup>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value minus one
+     */
+    public static int decrement(int doubleWord) {
+        return doubleWord - 1;
+    }
+
+    /**
+     * Divides two unsigned 32-bit integers.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the quotient, rounded toward zero
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static int divide(int dividend, int divisor) throws ArithmeticException {
+        return Integer.divideUnsigned(dividend, divisor);
+    }
+
+    /**
+     * Gets the remainder of dividing two unsigned 32-bit integers.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static int remainder(int dividend, int divisor) throws ArithmeticException {
+        return Integer.remainderUnsigned(dividend, divisor);
+    }
+
+    /**
+     * Divides two unsigned 32-bit integers, getting both the quotient and the remainder
+     * from a single division.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the quotient followed by the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static int[] divideAndRemainder(int dividend, int divisor) throws ArithmeticException {
+        int quotient = Integer.divideUnsigned(dividend, divisor);
+        return new int[] { quotient, dividend - quotient * divisor };
+    }
+
+    /**
+     * Adds two unsigned 32-bit integers, clamping the sum to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated sum
+     */
+    public static int addSaturating(int x, int y) {
+        int sum = x + y;
+        // the carry out of bit 31, spread to all bits
+        int carry = ((x & y) | ((x | y) & ~sum)) >> 31;
+        return sum | carry;
+    }
+
+    /**
+     * Subtracts one unsigned 32-bit integer from another, clamping the difference to the range
+     * of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated difference
+     */
+    public static int subtractSaturating(int x, int y) {
+        int difference = x - y;
+        // the borrow out of bit 31, spread to all bits
+        int borrow = ((~x & y) | (~(x ^ y) & difference)) >> 31;
+        return difference & ~borrow;
+    }
+
+    /**
+     * Multiplies two unsigned 32-bit integers, clamping the product to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated product
+     */
+    public static int multiplySaturating(int x, int y) {
+        long product = toLong(x) * toLong(y);
+        int high = (int) (product >>> 32);
+        return (int) product | ((high | -high) >> 31);
+    }
+
+    /**
+     * Applies {@link #addSaturating(int, int)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void addSaturating(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = addSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #subtractSaturating(int, int)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void subtractSaturating(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = subtractSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #multiplySaturating(int, int)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void multiplySaturating(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = multiplySaturating(x[i], y[i]);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>, checking that it is in range.
+     * 
+     * @param value
+     *            the value to be represented
+     * @return the instance
+     * @throws ArithmeticException
+     *             if <code>value</code> is less than {@link #MIN_VALUE} or greater than
+     *             {@link #MAX_VALUE}
+     */
+    public static UInt32 valueOfExact(long value) throws ArithmeticException {
+        return new UInt32(exact(value));
+    }
+
+    /**
+     * Adds two unsigned 32-bit integers, throwing if the sum overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static int addExact(int x, int y) throws ArithmeticException {
+        return exact(toLong(x) + toLong(y));
+    }
+
+    /**
+     * Subtracts one unsigned 32-bit integer from another, throwing if the difference overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static int subtractExact(int x, int y) throws ArithmeticException {
+        return exact(toLong(x) - toLong(y));
+    }
+
+    /**
+     * Multiplies two unsigned 32-bit integers, throwing if the product overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static int multiplyExact(int x, int y) throws ArithmeticException {
+        return exact(toLong(x) * toLong(y));
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(long[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= values[i] >>> 32;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        int outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= values[i] >>> 31;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Gets an unsigned 32-bit integer as a <code>String</code>.
+     * 
+     * @param doubleWord
+     *            the raw value
+     * @return the value as a <code>String</code>
+     */
+    public static String toString(int doubleWord) {
+        return Long.toString(toLong(doubleWord));
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer at the buffer's current position, in the buffer's byte
+     * order, and advances the position by 4 bytes.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static long get(ByteBuffer buffer) throws BufferUnderflowException {
+        return toLong(buffer.getInt());
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer at the buffer's current position in the given byte order and
+     * advances the position by 4 bytes. The byte order of the buffer is not changed.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static long get(ByteBuffer buffer, ByteOrder order) throws BufferUnderflowException {
+        return toLong(order(buffer, order, buffer.getInt()));
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static long get(ByteBuffer buffer, int index) throws IndexOutOfBoundsException {
+        return toLong(buffer.getInt(index));
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer at the given index in the given byte order without changing
+     * the position or the byte order of the buffer.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @param order
+     *            the byte order of the value
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static long get(ByteBuffer buffer, int index, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        return toLong(order(buffer, order, buffer.getInt(index)));
+    }
+
+    /**
+     * Writes an unsigned 32-bit integer at the buffer's current position, in the buffer's byte
+     * order, and advances the position by 4 bytes.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param doubleWord
+     *            the value to be written
+     * @throws BufferOverflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static void put(ByteBuffer buffer, long doubleWord) throws BufferOverflowException {
+        buffer.putInt((int) doubleWord);
+    }
+
+    /**
+     * Writes an unsigned 32-bit integer at the buffer's current position in the given byte order
+     * and advances the position by 4 bytes. The byte order of the buffer is not changed.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param doubleWord
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws BufferOverflowException
+     *             if fewer than 4 bytes remain in the buffer
+     */
+    public static void put(ByteBuffer buffer, long doubleWord, ByteOrder order)
+            throws BufferOverflowException {
+        buffer.putInt(order(buffer, order, (int) doubleWord));
+    }
+
+    /**
+     * Writes an unsigned 32-bit integer at the given index, in the buffer's byte order, without
+     * changing the position.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
+     * @param doubleWord
+     *            the value to be written
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void put(ByteBuffer buffer, int index, long doubleWord)
+            throws IndexOutOfBoundsException {
+        buffer.putInt(index, (int) doubleWord);
+    }
+
+    /**
+     * Writes an unsigned 32-bit integer at the given index in the given byte order without changing
+     * the position or the byte order of the buffer.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
+     * @param doubleWord
+     *            the value to be written
+     * @param order
+     *            the byte order of the value
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or fewer than 4 bytes remain after it
+     */
+    public static void put(ByteBuffer buffer, int index, long doubleWord, ByteOrder order)
+            throws IndexOutOfBoundsException {
+        buffer.putInt(index, order(buffer, order, (int) doubleWord));
     }
 
     /**
@@ -139,7 +1053,7 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      * @return the value as an unsigned 32-bit integer
      */
     public long uint32Value() {
-        return (uint32 & 0xffffffffL);
+        return toLong(uint32);
     }
 
     /**
@@ -185,12 +1099,7 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      * @return the value as a big-endian <code>byte</code> array
      */
     public byte[] toBigEndian() {
-        byte[] doubleWord = new byte[4];
-        doubleWord[0] = (byte) ((uint32 >> 24) & 0xff);
-        doubleWord[1] = (byte) ((uint32 >> 16) & 0xff);
-        doubleWord[2] = (byte) ((uint32 >> 8) & 0xff);
-        doubleWord[3] = (byte) (uint32 & 0xff);
-        return doubleWord;
+        return toBigEndian(uint32);
     }
 
     /**
@@ -200,12 +1109,37 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      * @return the value as a little-endian <code>byte</code> array
      */
     public byte[] toLittleEndian() {
-        byte[] doubleWord = new byte[4];
-        doubleWord[0] = (byte) (uint32 & 0xff);
-        doubleWord[1] = (byte) ((uint32 >> 8) & 0xff);
-        doubleWord[2] = (byte) ((uint32 >> 16) & 0xff);
-        doubleWord[3] = (byte) ((uint32 >> 24) & 0xff);
-        return doubleWord;
+        return toLittleEndian(uint32);
+    }
+
+    /**
+     * Writes the value to the 4 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * big-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public void writeBigEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeBigEndian(dst, offset, uint32);
+    }
+
+    /**
+     * Writes the value to the 4 bytes at <code>offset</code> of a <code>byte</code> array, in
+     * little-endian byte order.
+     * 
+     * @param dst
+     *            the array to write to
+     * @param offset
+     *            the index of the first byte
+     * @throws IndexOutOfBoundsException
+     *             if <code>offset</code> is negative or fewer than 4 bytes remain after it
+     */
+    public void writeLittleEndian(byte[] dst, int offset) throws IndexOutOfBoundsException {
+        writeLittleEndian(dst, offset, uint32);
     }
 
     /**
@@ -215,11 +1149,7 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      *            a <code>UInt32</code>
      */
     public int compareTo(UInt32 object) {
-        if (equals(object))
-            return 0;
-        else {
-            return (int) (uint32Value() - object.uint32Value());
-        }
+        return compare(uint32, object.uint32);
     }
 
     /**
@@ -247,7 +1177,11 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
      * @return the value as a <code>String</code>
      */
     public String toString() {
-        return Long.toString(uint32Value());
+        return toString(uint32);
+    }
+
+    private static int order(ByteBuffer buffer, ByteOrder order, int doubleWord) {
+        return buffer.order() == order ? doubleWord : Integer.reverseBytes(doubleWord);
     }
 
     private static void verify(byte[] doubleWord) throws IllegalArgumentException {
@@ -259,19 +1193,19 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
     }
 
     public UInt32 and(UInt32 number) {
-        return new UInt32(uint32Value() & number.uint32Value());
+        return new UInt32(and(uint32, number.uint32));
     }
 
     public UInt32 not() {
-        return new UInt32(~uint32Value());
+        return new UInt32(not(uint32));
     }
 
     public UInt32 or(UInt32 number) {
-        return new UInt32(uint32Value() | number.uint32Value());
+        return new UInt32(or(uint32, number.uint32));
     }
 
     public UInt32 xor(UInt32 number) {
-        return new UInt32(uint32Value() ^ number.uint32Value());
+        return new UInt32(xor(uint32, number.uint32));
     }
 
     public UInt32 addBitmask(UInt32 bitmask) {
@@ -279,10 +1213,321 @@ public class UInt32 extends Number implements Serializable, Comparable<UInt32>,
     }
 
     public boolean hasBitmask(UInt32 bitmask) {
-        return this.and(bitmask).equals(bitmask);
+        return hasBitmask(uint32, bitmask.uint32);
     }
 
     public UInt32 removeBitmask(UInt32 bitmask) {
-        return this.and(bitmask.not());
+        return new UInt32(removeBitmask(uint32, bitmask.uint32));
+    }
+
+    public boolean hasAnyBit(UInt32 bitmask) {
+        return hasAnyBit(uint32, bitmask.uint32);
+    }
+
+    /**
+     * Determines if this number has the given bitmask, without creating an instance for it.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(int bitmask) {
+        return (uint32 & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(int bitmask) {
+        return (uint32 & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits set
+     */
+    public UInt32 addBitmask(int bitmask) {
+        return new UInt32(addBitmask(uint32, bitmask));
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits unset
+     */
+    public UInt32 removeBitmask(int bitmask) {
+        return new UInt32(removeBitmask(uint32, bitmask));
+    }
+
+    /**
+     * Determines if this number has the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(Bitmask bitmask) {
+        return hasBitmask(bitmask.bits());
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(Bitmask bitmask) {
+        return hasAnyBit(bitmask.bits());
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits set
+     */
+    public UInt32 addBitmask(Bitmask bitmask) {
+        return addBitmask(bitmask.bits());
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits unset
+     */
+    public UInt32 removeBitmask(Bitmask bitmask) {
+        return removeBitmask(bitmask.bits());
+    }
+
+    public UInt32 shiftLeft(int distance) {
+        return new UInt32(shiftLeft(uint32, distance));
+    }
+
+    public UInt32 shiftRight(int distance) {
+        return new UInt32(shiftRight(uint32, distance));
+    }
+
+    public UInt32 rotateLeft(int distance) {
+        return new UInt32(rotateLeft(uint32, distance));
+    }
+
+    public UInt32 rotateRight(int distance) {
+        return new UInt32(rotateRight(uint32, distance));
+    }
+
+    /**
+     * Counts the one bits in this value.
+     * 
+     * @return the number of one bits
+     */
+    public int bitCount() {
+        return bitCount(uint32);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit of this value.
+     * 
+     * @return the number of leading zeros, or 32 if the value is zero
+     */
+    public int numberOfLeadingZeros() {
+        return numberOfLeadingZeros(uint32);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit of this value.
+     * 
+     * @return the number of trailing zeros, or 32 if the value is zero
+     */
+    public int numberOfTrailingZeros() {
+        return numberOfTrailingZeros(uint32);
+    }
+
+    /**
+     * Keeps only the highest one bit of this value.
+     * 
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public UInt32 highestOneBit() {
+        return new UInt32(highestOneBit(uint32));
+    }
+
+    /**
+     * Keeps only the lowest one bit of this value.
+     * 
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public UInt32 lowestOneBit() {
+        return new UInt32(lowestOneBit(uint32));
+    }
+
+    /**
+     * Reverses the order of the bits of this value.
+     * 
+     * @return the reversed value
+     */
+    public UInt32 reverse() {
+        return new UInt32(reverse(uint32));
+    }
+
+    /**
+     * Reverses the order of the bytes of this value.
+     * 
+     * @return the reversed value
+     */
+    public UInt32 reverseBytes() {
+        return new UInt32(reverseBytes(uint32));
+    }
+
+    public UInt32 add(UInt32 number) {
+        return new UInt32(add(uint32, number.uint32));
+    }
+
+    public UInt32 subtract(UInt32 number) {
+        return new UInt32(subtract(uint32, number.uint32));
+    }
+
+    public UInt32 multiply(UInt32 number) {
+        return new UInt32(multiply(uint32, number.uint32));
+    }
+
+    public UInt32 negate() {
+        return new UInt32(negate(uint32));
+    }
+
+    public UInt32 increment() {
+        return new UInt32(increment(uint32));
+    }
+
+    public UInt32 decrement() {
+        return new UInt32(decrement(uint32));
+    }
+
+    /**
+     * Divides this value by <code>divisor</code>.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the quotient, rounded toward zero
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt32 divide(UInt32 divisor) throws ArithmeticException {
+        return new UInt32(divide(uint32, divisor.uint32));
+    }
+
+    /**
+     * Gets the remainder of dividing this value by <code>divisor</code>.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt32 remainder(UInt32 divisor) throws ArithmeticException {
+        return new UInt32(remainder(uint32, divisor.uint32));
+    }
+
+    /**
+     * Divides this value by <code>divisor</code>, getting both the quotient and the remainder.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the quotient followed by the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt32[] divideAndRemainder(UInt32 divisor) throws ArithmeticException {
+        int[] result = divideAndRemainder(uint32, divisor.uint32);
+        return new UInt32[] { new UInt32(result[0]), new UInt32(result[1]) };
+    }
+
+    private static void verify(int[] x, int[] y, int[] dst)
+            throws IllegalArgumentException {
+        if (x == null || y == null || dst == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        if (x.length != dst.length || y.length != dst.length)
+            throw new IllegalArgumentException("arrays must have the same length.");
+    }
+
+    private static int exact(long value) throws ArithmeticException {
+        if ((value >>> 32) != 0)
+            throw new ArithmeticException("Out of range for UInt32: " + value);
+        return (int) value;
+    }
+
+    /**
+     * Adds this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated sum
+     */
+    public UInt32 addSaturating(UInt32 number) {
+        return new UInt32(addSaturating(uint32, number.uint32));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated difference
+     */
+    public UInt32 subtractSaturating(UInt32 number) {
+        return new UInt32(subtractSaturating(uint32, number.uint32));
+    }
+
+    /**
+     * Multiplies this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated product
+     */
+    public UInt32 multiplySaturating(UInt32 number) {
+        return new UInt32(multiplySaturating(uint32, number.uint32));
+    }
+
+    /**
+     * Adds <code>number</code> to this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt32 addExact(UInt32 number) throws ArithmeticException {
+        return new UInt32(addExact(uint32, number.uint32));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt32 subtractExact(UInt32 number) throws ArithmeticException {
+        return new UInt32(subtractExact(uint32, number.uint32));
+    }
+
+    /**
+     * Multiplies this value by <code>number</code>, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt32 multiplyExact(UInt32 number) throws ArithmeticException {
+        return new UInt32(multiplyExact(uint32, number.uint32));
     }
 }
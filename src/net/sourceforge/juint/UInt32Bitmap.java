@@ -0,0 +1,683 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Compressed set of unsigned 32-bit integers, in the style of a Roaring bitmap. Values are split
+ * on their high 16 bits into chunks of 65536, and each chunk is stored in the smallest of three
+ * containers: a sorted array for up to 4096 values, a bitmap of 65536 bits above that, or runs of
+ * consecutive values once {@link #runOptimize()} finds them smaller. Sparse and dense sets both
+ * stay compact, and {@link #and(UInt32Bitmap)} and {@link #or(UInt32Bitmap)} work a chunk, and
+ * often a 64-bit word, at a time.
+ * <p>
+ * The set operations follow {@link Bitwise}: they return a new bitmap and leave both operands
+ * unchanged. Iteration is in ascending unsigned order. {@link #serialize(ByteBuffer)} writes the
+ * portable Roaring format, which other Roaring implementations can read.
+ * <p>
+ * The bitmap must not be modified while it is being iterated.
+ */
+public class UInt32Bitmap implements Serializable {
+    private static final long serialVersionUID = -8090461730519727432L;
+    private static final int SERIAL_COOKIE_NO_RUN_CONTAINER = 12346;
+    private static final int SERIAL_COOKIE = 12347;
+    // with fewer containers than this, a format with run containers omits the offsets
+    private static final int NO_OFFSET_THRESHOLD = 4;
+    // raw high 16 bits of each chunk, in ascending unsigned order
+    private short[] keys;
+    private Container[] containers;
+    private int size;
+
+    /**
+     * Creates a new, empty bitmap.
+     */
+    public UInt32Bitmap() {
+        keys = new short[4];
+        containers = new Container[4];
+    }
+
+    /**
+     * Creates a new bitmap from an array of unsigned 32-bit integers. Duplicates are ignored.
+     * 
+     * @param values
+     *            the raw values
+     * @return the new bitmap
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static UInt32Bitmap valueOf(int[] values) throws IllegalArgumentException {
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        bitmap.addAll(values);
+        return bitmap;
+    }
+
+    /**
+     * Adds an unsigned 32-bit integer.
+     * 
+     * @param value
+     *            the raw value
+     * @return <code>true</code> if the bitmap did not already contain <code>value</code>
+     */
+    public boolean add(int value) {
+        short key = (short) (value >>> 16);
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insert(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int cardinality = container.cardinality();
+        containers[index] = container.add(value & 0xffff);
+        return containers[index].cardinality() != cardinality;
+    }
+
+    /**
+     * Adds a <code>UInt32</code>.
+     * 
+     * @param value
+     *            the value
+     * @return <code>true</code> if the bitmap did not already contain <code>value</code>
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    public boolean add(UInt32 value) throws IllegalArgumentException {
+        verify(value);
+        return add(value.intValue());
+    }
+
+    /**
+     * Adds every element of an array of unsigned 32-bit integers.
+     * 
+     * @param values
+     *            the raw values
+     * @return <code>true</code> if the bitmap changed
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public boolean addAll(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        boolean changed = false;
+        for (int i = 0; i < values.length; i++)
+            changed |= add(values[i]);
+        return changed;
+    }
+
+    /**
+     * Tests whether the bitmap contains an unsigned 32-bit integer.
+     * 
+     * @param value
+     *            the raw value
+     * @return <code>true</code> if the bitmap contains <code>value</code>
+     */
+    public boolean contains(int value) {
+        int index = indexOf((short) (value >>> 16));
+        return index >= 0 && containers[index].contains(value & 0xffff);
+    }
+
+    /**
+     * Tests whether the bitmap contains a <code>UInt32</code>.
+     * 
+     * @param value
+     *            the value
+     * @return <code>true</code> if the bitmap contains <code>value</code>
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    public boolean contains(UInt32 value) throws IllegalArgumentException {
+        verify(value);
+        return contains(value.intValue());
+    }
+
+    /**
+     * Removes an unsigned 32-bit integer.
+     * 
+     * @param value
+     *            the raw value
+     * @return <code>true</code> if the bitmap contained <code>value</code>
+     */
+    public boolean remove(int value) {
+        int index = indexOf((short) (value >>> 16));
+        if (index < 0)
+            return false;
+        Container container = containers[index];
+        int cardinality = container.cardinality();
+        container = container.remove(value & 0xffff);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+            return true;
+        }
+        containers[index] = container;
+        return container.cardinality() != cardinality;
+    }
+
+    /**
+     * Removes a <code>UInt32</code>.
+     * 
+     * @param value
+     *            the value
+     * @return <code>true</code> if the bitmap contained <code>value</code>
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    public boolean remove(UInt32 value) throws IllegalArgumentException {
+        verify(value);
+        return remove(value.intValue());
+    }
+
+    /**
+     * Gets the number of values. This is a <code>long</code> because a bitmap can hold all
+     * 2<sup>32</sup> unsigned 32-bit integers.
+     * 
+     * @return the cardinality
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++)
+            cardinality += containers[i].cardinality();
+        return cardinality;
+    }
+
+    /**
+     * Tests whether the bitmap has no values.
+     * 
+     * @return <code>true</code> if the cardinality is 0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Intersection of two bitmaps.
+     * 
+     * @param bitmap
+     *            the other bitmap
+     * @return a new bitmap of the values in both
+     * @throws IllegalArgumentException
+     *             if <code>bitmap</code> is <code>null</code>
+     */
+    public UInt32Bitmap and(UInt32Bitmap bitmap) throws IllegalArgumentException {
+        verify(bitmap);
+        UInt32Bitmap result = new UInt32Bitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < bitmap.size) {
+            int compare = UInt16.compare(keys[i], bitmap.keys[j]);
+            if (compare < 0) {
+                i++;
+            }
+            else if (compare > 0) {
+                j++;
+            }
+            else {
+                result.append(keys[i], Container.and(containers[i], bitmap.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Union of two bitmaps.
+     * 
+     * @param bitmap
+     *            the other bitmap
+     * @return a new bitmap of the values in either
+     * @throws IllegalArgumentException
+     *             if <code>bitmap</code> is <code>null</code>
+     */
+    public UInt32Bitmap or(UInt32Bitmap bitmap) throws IllegalArgumentException {
+        return merge(bitmap, false);
+    }
+
+    /**
+     * Symmetric difference of two bitmaps.
+     * 
+     * @param bitmap
+     *            the other bitmap
+     * @return a new bitmap of the values in exactly one of the two
+     * @throws IllegalArgumentException
+     *             if <code>bitmap</code> is <code>null</code>
+     */
+    public UInt32Bitmap xor(UInt32Bitmap bitmap) throws IllegalArgumentException {
+        return merge(bitmap, true);
+    }
+
+    /**
+     * Difference of two bitmaps.
+     * 
+     * @param bitmap
+     *            the other bitmap
+     * @return a new bitmap of the values in this bitmap but not in <code>bitmap</code>
+     * @throws IllegalArgumentException
+     *             if <code>bitmap</code> is <code>null</code>
+     */
+    public UInt32Bitmap andNot(UInt32Bitmap bitmap) throws IllegalArgumentException {
+        verify(bitmap);
+        UInt32Bitmap result = new UInt32Bitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < bitmap.size && UInt16.compare(bitmap.keys[j], keys[i]) < 0)
+                j++;
+            if (j < bitmap.size && bitmap.keys[j] == keys[i])
+                result.append(keys[i], Container.andNot(containers[i], bitmap.containers[j]));
+            else
+                result.append(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Converts each chunk to runs of consecutive values where that is smaller, and runs back to
+     * arrays or bitmaps where it is not. Adding or removing a value in a chunk held as runs
+     * converts that chunk back.
+     * 
+     * @return <code>true</code> if any chunk is now held as runs
+     */
+    public boolean runOptimize() {
+        boolean runs = false;
+        for (int i = 0; i < size; i++) {
+            containers[i] = containers[i].runOptimize();
+            runs |= containers[i].isRun();
+        }
+        return runs;
+    }
+
+    /**
+     * Gets an iterator over the values as unsigned 32-bit integers, in ascending order. The
+     * values are not boxed when read with {@link PrimitiveIterator.OfLong#nextLong()}.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        final PrimitiveIterator.OfInt raw = rawIterator();
+        return new PrimitiveIterator.OfLong() {
+            public boolean hasNext() {
+                return raw.hasNext();
+            }
+
+            public long nextLong() {
+                return UInt32.toLong(raw.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Gets an iterator over the values as raw <code>int</code>s, in ascending unsigned order.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfInt rawIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = -1;
+            private int high;
+            private PrimitiveIterator.OfInt low;
+
+            public boolean hasNext() {
+                while (low == null || !low.hasNext()) {
+                    if (index + 1 >= size)
+                        return false;
+                    index++;
+                    high = keys[index] << 16;
+                    low = containers[index].iterator();
+                }
+                return true;
+            }
+
+            public int nextInt() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return high | low.nextInt();
+            }
+        };
+    }
+
+    /**
+     * Gets the values as an <code>int</code> array of raw values, in ascending unsigned order.
+     * 
+     * @return the raw values
+     * @throws IllegalStateException
+     *             if there are too many values for an array
+     */
+    public int[] toArray() throws IllegalStateException {
+        long cardinality = cardinality();
+        if (cardinality > Integer.MAX_VALUE - 8)
+            throw new IllegalStateException("bitmap is too large for an array.");
+        int[] values = new int[(int) cardinality];
+        PrimitiveIterator.OfInt iterator = rawIterator();
+        for (int i = 0; i < values.length; i++)
+            values[i] = iterator.nextInt();
+        return values;
+    }
+
+    /**
+     * Gets the number of bytes written by {@link #serialize(ByteBuffer)}.
+     * 
+     * @return the serialized size
+     */
+    public int serializedSizeInBytes() {
+        int bytes = headerSize(hasRunContainers());
+        for (int i = 0; i < size; i++)
+            bytes += containers[i].serializedSize();
+        return bytes;
+    }
+
+    /**
+     * Writes the bitmap to a buffer in the portable Roaring format, starting at the buffer's
+     * position. The format is little-endian whatever the order of the buffer, which is left
+     * unchanged; the position is advanced past the bitmap.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @throws IllegalArgumentException
+     *             if <code>buffer</code> is <code>null</code>
+     * @throws BufferOverflowException
+     *             if fewer than {@link #serializedSizeInBytes()} bytes remain in the buffer
+     */
+    public void serialize(ByteBuffer buffer) throws IllegalArgumentException,
+            BufferOverflowException {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer cannot be null.");
+        if (buffer.remaining() < serializedSizeInBytes())
+            throw new BufferOverflowException();
+        ByteBuffer out = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        boolean hasRun = hasRunContainers();
+        if (hasRun) {
+            out.putInt(SERIAL_COOKIE | ((size - 1) << 16));
+            byte[] runFlags = new byte[(size + 7) / 8];
+            for (int i = 0; i < size; i++)
+                if (containers[i].isRun())
+                    runFlags[i / 8] |= 1 << (i % 8);
+            out.put(runFlags);
+        }
+        else {
+            out.putInt(SERIAL_COOKIE_NO_RUN_CONTAINER);
+            out.putInt(size);
+        }
+        for (int i = 0; i < size; i++) {
+            out.putShort(keys[i]);
+            out.putShort((short) (containers[i].cardinality() - 1));
+        }
+        if (!hasRun || size >= NO_OFFSET_THRESHOLD) {
+            int offset = headerSize(hasRun);
+            for (int i = 0; i < size; i++) {
+                out.putInt(offset);
+                offset += containers[i].serializedSize();
+            }
+        }
+        for (int i = 0; i < size; i++)
+            containers[i].write(out);
+        buffer.position(buffer.position() + out.position());
+    }
+
+    /**
+     * Reads a bitmap in the portable Roaring format, starting at the buffer's position. The
+     * buffer may be a <code>MappedByteBuffer</code> over a file written by
+     * {@link #serialize(ByteBuffer)} or by another Roaring implementation; the values are copied
+     * out of it. The order of the buffer is left unchanged, and its position is advanced past
+     * the bitmap.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the bitmap
+     * @throws IllegalArgumentException
+     *             if <code>buffer</code> is <code>null</code> or does not hold a valid bitmap
+     * @throws BufferUnderflowException
+     *             if the buffer ends before the bitmap does
+     */
+    public static UInt32Bitmap deserialize(ByteBuffer buffer) throws IllegalArgumentException,
+            BufferUnderflowException {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer cannot be null.");
+        ByteBuffer in = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        int cookie = in.getInt();
+        int size;
+        byte[] runFlags = null;
+        if ((cookie & 0xffff) == SERIAL_COOKIE) {
+            size = (cookie >>> 16) + 1;
+            runFlags = new byte[(size + 7) / 8];
+            in.get(runFlags);
+        }
+        else if (cookie == SERIAL_COOKIE_NO_RUN_CONTAINER) {
+            size = in.getInt();
+            if (size < 0 || size > 1 << 16)
+                throw new IllegalArgumentException("invalid number of containers.");
+        }
+        else {
+            throw new IllegalArgumentException("invalid cookie.");
+        }
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        bitmap.keys = new short[Math.max(size, 4)];
+        bitmap.containers = new Container[Math.max(size, 4)];
+        int[] cardinalities = new int[size];
+        for (int i = 0; i < size; i++) {
+            bitmap.keys[i] = in.getShort();
+            cardinalities[i] = (in.getShort() & 0xffff) + 1;
+            if (i > 0 && UInt16.compare(bitmap.keys[i - 1], bitmap.keys[i]) >= 0)
+                throw new IllegalArgumentException("keys are not in ascending order.");
+        }
+        if (runFlags == null || size >= NO_OFFSET_THRESHOLD)
+            in.position(in.position() + 4 * size);
+        for (int i = 0; i < size; i++) {
+            Container container;
+            if (runFlags != null && (runFlags[i / 8] & (1 << (i % 8))) != 0) {
+                int runCount = in.getShort() & 0xffff;
+                short[] runs = new short[2 * runCount];
+                in.asShortBuffer().get(runs);
+                in.position(in.position() + 4 * runCount);
+                // each run must start after the previous one ends, and end within the chunk
+                int end = 0;
+                for (int run = 0; run < runCount; run++) {
+                    int start = runs[2 * run] & 0xffff;
+                    if (run > 0 && start < end)
+                        throw new IllegalArgumentException("runs are not in ascending order.");
+                    end = start + (runs[2 * run + 1] & 0xffff) + 1;
+                    if (end > 1 << 16)
+                        throw new IllegalArgumentException("run is out of range.");
+                }
+                container = new RunContainer(runs, runCount);
+            }
+            else if (cardinalities[i] <= Container.MAX_ARRAY_CARDINALITY) {
+                short[] values = new short[cardinalities[i]];
+                in.asShortBuffer().get(values);
+                in.position(in.position() + 2 * values.length);
+                for (int j = 1; j < values.length; j++)
+                    if ((values[j - 1] & 0xffff) >= (values[j] & 0xffff))
+                        throw new IllegalArgumentException("values are not in ascending order.");
+                container = new ArrayContainer(values, values.length);
+            }
+            else {
+                long[] words = new long[Container.WORDS];
+                in.asLongBuffer().get(words);
+                in.position(in.position() + 8 * words.length);
+                int cardinality = 0;
+                for (int j = 0; j < words.length; j++)
+                    cardinality += Long.bitCount(words[j]);
+                container = new BitmapContainer(words, cardinality);
+            }
+            if (container.cardinality() != cardinalities[i])
+                throw new IllegalArgumentException("container does not match its cardinality.");
+            bitmap.containers[i] = container;
+        }
+        bitmap.size = size;
+        buffer.position(buffer.position() + in.position());
+        return bitmap;
+    }
+
+    /**
+     * Compares this <code>UInt32Bitmap</code> to another <code>UInt32Bitmap</code> for equality.
+     * They are equal if they contain the same values, however those values are stored.
+     * 
+     * @param object
+     *            a <code>UInt32Bitmap</code>
+     */
+    public boolean equals(Object object) {
+        if (object == this)
+            return true;
+        if (!(object instanceof UInt32Bitmap))
+            return false;
+        UInt32Bitmap other = (UInt32Bitmap) object;
+        if (other.size != size)
+            return false;
+        for (int i = 0; i < size; i++) {
+            if (other.keys[i] != keys[i]
+                    || other.containers[i].cardinality() != containers[i].cardinality()
+                    || !containers[i].sameValues(other.containers[i]))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the hash code, computed from the values in ascending unsigned order the same way as
+     * {@link Arrays#hashCode(int[])}.
+     * 
+     * @return the hash code
+     */
+    public int hashCode() {
+        int hash = 1;
+        PrimitiveIterator.OfInt iterator = rawIterator();
+        while (iterator.hasNext())
+            hash = 31 * hash + iterator.nextInt();
+        return hash;
+    }
+
+    /**
+     * Gets the values as a <code>String</code>, such as <code>[0, 4294967295]</code>, in
+     * ascending order.
+     * 
+     * @return the values as a <code>String</code>
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) {
+            if (builder.length() > 1)
+                builder.append(", ");
+            builder.append(iterator.nextLong());
+        }
+        return builder.append(']').toString();
+    }
+
+    private UInt32Bitmap merge(UInt32Bitmap bitmap, boolean xor) throws IllegalArgumentException {
+        verify(bitmap);
+        UInt32Bitmap result = new UInt32Bitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < bitmap.size) {
+            int compare = (i == size) ? 1 : (j == bitmap.size) ? -1 : UInt16.compare(keys[i],
+                    bitmap.keys[j]);
+            if (compare < 0) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            }
+            else if (compare > 0) {
+                result.append(bitmap.keys[j], bitmap.containers[j].copy());
+                j++;
+            }
+            else {
+                Container x = containers[i];
+                Container y = bitmap.containers[j];
+                result.append(keys[i], xor ? Container.xor(x, y) : Container.or(x, y));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private boolean hasRunContainers() {
+        for (int i = 0; i < size; i++)
+            if (containers[i].isRun())
+                return true;
+        return false;
+    }
+
+    private int headerSize(boolean hasRun) {
+        if (hasRun)
+            return 4 + (size + 7) / 8 + 4 * size + ((size >= NO_OFFSET_THRESHOLD) ? 4 * size : 0);
+        return 8 + 8 * size;
+    }
+
+    private int indexOf(short key) {
+        return UnsignedArrays.binarySearchUnsigned(keys, 0, size, key);
+    }
+
+    private void insert(int index, short key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+            containers = Arrays.copyOf(containers, size << 1);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Adds a chunk after every existing one, skipping empty results of set operations.
+     */
+    private void append(short key, Container container) {
+        if (container != null)
+            insert(size, key, container);
+    }
+
+    private static void verify(UInt32 value) throws IllegalArgumentException {
+        if (value == null)
+            throw new IllegalArgumentException("value cannot be null.");
+    }
+
+    private static void verify(UInt32Bitmap bitmap) throws IllegalArgumentException {
+        if (bitmap == null)
+            throw new IllegalArgumentException("bitmap cannot be null.");
+    }
+}
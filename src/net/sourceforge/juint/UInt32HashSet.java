@@ -0,0 +1,486 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Set of unsigned 32-bit integers, stored as raw <code>int</code>s in an open addressing table
+ * with linear probing. An empty slot holds 0, and whether the set contains 0 itself is tracked
+ * separately, so every <code>int</code> can be stored. Each key takes 4 bytes divided by the load
+ * factor, compared to a boxed <code>UInt32</code> and a node in a <code>HashSet</code>.
+ * <p>
+ * Iteration order is unspecified. The set must not be modified while it is being iterated.
+ */
+public class UInt32HashSet implements Serializable {
+    private static final long serialVersionUID = -2427593437208123853L;
+    private final float loadFactor;
+    private int[] slots;
+    private int mask;
+    private int threshold;
+    // number of keys in slots, not counting 0
+    private int assigned;
+    private boolean containsZero;
+
+    /**
+     * Creates a new, empty set with the default load factor of 0.75.
+     */
+    public UInt32HashSet() {
+        this(0, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new, empty set that holds <code>expectedSize</code> keys without growing.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is negative or too large
+     */
+    public UInt32HashSet(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new, empty set that holds <code>expectedSize</code> keys without growing. A
+     * higher load factor uses less memory and a lower one probes fewer slots.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @param loadFactor
+     *            the fraction of slots that may be filled before the table grows, between 0 and 1
+     *            exclusive
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is negative or too large, or if
+     *             <code>loadFactor</code> is out of range
+     */
+    public UInt32HashSet(int expectedSize, float loadFactor) throws IllegalArgumentException {
+        this.loadFactor = loadFactor;
+        allocate(Hashing.capacity(expectedSize, loadFactor));
+    }
+
+    /**
+     * Adds an unsigned 32-bit integer.
+     * 
+     * @param key
+     *            the raw value
+     * @return <code>true</code> if the set did not already contain <code>key</code>
+     * @throws IllegalStateException
+     *             if <code>key</code> is new and the table is at its maximum capacity
+     */
+    public boolean add(int key) throws IllegalStateException {
+        if (key == 0) {
+            if (containsZero)
+                return false;
+            containsZero = true;
+            return true;
+        }
+        int[] slots = this.slots;
+        int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int existing;
+        while ((existing = slots[slot]) != 0) {
+            if (existing == key)
+                return false;
+            slot = (slot + 1) & mask;
+        }
+        // fail before the key is stored, so a full set is left unchanged
+        if (assigned == threshold && slots.length == Hashing.MAX_CAPACITY)
+            throw new IllegalStateException("set cannot grow any larger.");
+        slots[slot] = key;
+        if (++assigned > threshold)
+            rehash(slots.length << 1);
+        return true;
+    }
+
+    /**
+     * Adds a <code>UInt32</code>.
+     * 
+     * @param key
+     *            the value
+     * @return <code>true</code> if the set did not already contain <code>key</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     * @throws IllegalStateException
+     *             if <code>key</code> is new and the table is at its maximum capacity
+     */
+    public boolean add(UInt32 key) throws IllegalArgumentException, IllegalStateException {
+        verify(key);
+        return add(key.intValue());
+    }
+
+    /**
+     * Adds every element of an array of unsigned 32-bit integers. The table is grown once up
+     * front if the array would push it past its load factor.
+     * 
+     * @param keys
+     *            the raw values
+     * @return <code>true</code> if the set changed
+     * @throws IllegalArgumentException
+     *             if <code>keys</code> is <code>null</code>
+     */
+    public boolean addAll(int[] keys) throws IllegalArgumentException {
+        if (keys == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        // duplicates may leave the table larger than needed, but never past its limit
+        long expectedSize = Math.min((long) size() + keys.length, Hashing.threshold(
+                Hashing.MAX_CAPACITY, loadFactor));
+        ensureCapacity((int) expectedSize);
+        int before = size();
+        for (int i = 0; i < keys.length; i++)
+            add(keys[i]);
+        return size() != before;
+    }
+
+    /**
+     * Adds every element of a <code>UInt32Array</code>.
+     * 
+     * @param keys
+     *            the values
+     * @return <code>true</code> if the set changed
+     * @throws IllegalArgumentException
+     *             if <code>keys</code> is <code>null</code>
+     */
+    public boolean addAll(UInt32Array keys) throws IllegalArgumentException {
+        if (keys == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        return addAll(keys.array());
+    }
+
+    /**
+     * Tests whether the set contains an unsigned 32-bit integer.
+     * 
+     * @param key
+     *            the raw value
+     * @return <code>true</code> if the set contains <code>key</code>
+     */
+    public boolean contains(int key) {
+        if (key == 0)
+            return containsZero;
+        int[] slots = this.slots;
+        int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int existing;
+        while ((existing = slots[slot]) != 0) {
+            if (existing == key)
+                return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether the set contains a <code>UInt32</code>.
+     * 
+     * @param key
+     *            the value
+     * @return <code>true</code> if the set contains <code>key</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public boolean contains(UInt32 key) throws IllegalArgumentException {
+        verify(key);
+        return contains(key.intValue());
+    }
+
+    /**
+     * Removes an unsigned 32-bit integer. The keys that follow it in its probe sequence are
+     * shifted back, so no tombstones are left behind.
+     * 
+     * @param key
+     *            the raw value
+     * @return <code>true</code> if the set contained <code>key</code>
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!containsZero)
+                return false;
+            containsZero = false;
+            return true;
+        }
+        int[] slots = this.slots;
+        int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int existing;
+        while ((existing = slots[slot]) != 0) {
+            if (existing == key) {
+                shiftBack(slot);
+                assigned--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a <code>UInt32</code>.
+     * 
+     * @param key
+     *            the value
+     * @return <code>true</code> if the set contained <code>key</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public boolean remove(UInt32 key) throws IllegalArgumentException {
+        verify(key);
+        return remove(key.intValue());
+    }
+
+    /**
+     * Gets the number of keys.
+     * 
+     * @return the size
+     */
+    public int size() {
+        return containsZero ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Tests whether the set has no keys.
+     * 
+     * @return <code>true</code> if the size is 0
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes every key. The table keeps its capacity.
+     */
+    public void clear() {
+        Arrays.fill(slots, 0);
+        assigned = 0;
+        containsZero = false;
+    }
+
+    /**
+     * Grows the table, if needed, so that it holds <code>expectedSize</code> keys without
+     * growing again.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is too large
+     */
+    public void ensureCapacity(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize > threshold) {
+            int capacity = Hashing.capacity(expectedSize, loadFactor);
+            if (capacity > slots.length)
+                rehash(capacity);
+        }
+    }
+
+    /**
+     * Gets an iterator over the keys as unsigned 32-bit integers. The values are not boxed when
+     * read with {@link PrimitiveIterator.OfLong#nextLong()}.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        final PrimitiveIterator.OfInt raw = rawIterator();
+        return new PrimitiveIterator.OfLong() {
+            public boolean hasNext() {
+                return raw.hasNext();
+            }
+
+            public long nextLong() {
+                return UInt32.toLong(raw.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Gets an iterator over the keys as raw <code>int</code>s.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfInt rawIterator() {
+        return new PrimitiveIterator.OfInt() {
+            // -1 stands for the key 0, which is not in a slot
+            private int index = containsZero ? -1 : next(0);
+
+            public boolean hasNext() {
+                return index < slots.length;
+            }
+
+            public int nextInt() {
+                if (index >= slots.length)
+                    throw new NoSuchElementException();
+                int key = (index < 0) ? 0 : slots[index];
+                index = next(index + 1);
+                return key;
+            }
+
+            private int next(int from) {
+                int i = from;
+                while (i < slots.length && slots[i] == 0)
+                    i++;
+                return i;
+            }
+        };
+    }
+
+    /**
+     * Gets the keys as an <code>int</code> array of raw values, in iteration order.
+     * 
+     * @return the raw values
+     */
+    public int[] toArray() {
+        int[] keys = new int[size()];
+        int count = 0;
+        if (containsZero)
+            keys[count++] = 0;
+        for (int i = 0; i < slots.length; i++)
+            if (slots[i] != 0)
+                keys[count++] = slots[i];
+        return keys;
+    }
+
+    /**
+     * Gets the keys as a <code>UInt32</code> array, in iteration order.
+     * 
+     * @return the values as a <code>UInt32</code> array
+     */
+    public UInt32[] toUInt32Array() {
+        int[] keys = toArray();
+        UInt32[] values = new UInt32[keys.length];
+        for (int i = 0; i < keys.length; i++)
+            values[i] = new UInt32(keys[i]);
+        return values;
+    }
+
+    /**
+     * Compares this <code>UInt32HashSet</code> to another <code>UInt32HashSet</code> for
+     * equality. They are equal if they contain the same keys.
+     * 
+     * @param object
+     *            a <code>UInt32HashSet</code>
+     */
+    public boolean equals(Object object) {
+        if (object == this)
+            return true;
+        if (!(object instanceof UInt32HashSet))
+            return false;
+        UInt32HashSet other = (UInt32HashSet) object;
+        if (other.size() != size() || other.containsZero != containsZero)
+            return false;
+        for (int i = 0; i < slots.length; i++)
+            if (slots[i] != 0 && !other.contains(slots[i]))
+                return false;
+        return true;
+    }
+
+    /**
+     * Gets the hash code. The result is the sum of the raw keys, so it does not depend on the
+     * capacity or the order in which keys were added.
+     * 
+     * @return the hash code
+     */
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < slots.length; i++)
+            hash += slots[i];
+        return hash;
+    }
+
+    /**
+     * Gets the keys as a <code>String</code>, such as <code>[0, 4294967295]</code>, in iteration
+     * order.
+     * 
+     * @return the keys as a <code>String</code>
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        PrimitiveIterator.OfLong iterator = iterator();
+        while (iterator.hasNext()) {
+            if (builder.length() > 1)
+                builder.append(", ");
+            builder.append(iterator.nextLong());
+        }
+        return builder.append(']').toString();
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        threshold = Hashing.threshold(capacity, loadFactor);
+    }
+
+    private void rehash(int capacity) {
+        int[] old = slots;
+        allocate(capacity);
+        int[] slots = this.slots;
+        int mask = this.mask;
+        for (int i = 0; i < old.length; i++) {
+            int key = old[i];
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (slots[slot] != 0)
+                    slot = (slot + 1) & mask;
+                slots[slot] = key;
+            }
+        }
+    }
+
+    /**
+     * Empties a slot, moving back any later key in the same cluster whose home slot does not lie
+     * cyclically between the emptied slot and its current slot.
+     */
+    private void shiftBack(int slot) {
+        int[] slots = this.slots;
+        int mask = this.mask;
+        int gap = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            int key = slots[i];
+            if (key == 0)
+                break;
+            int home = Hashing.mix(key) & mask;
+            // distance from home to the current slot is at least the distance to the gap
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                slots[gap] = key;
+                gap = i;
+            }
+        }
+        slots[gap] = 0;
+    }
+
+    private static void verify(UInt32 key) throws IllegalArgumentException {
+        if (key == null)
+            throw new IllegalArgumentException("key cannot be null.");
+    }
+}
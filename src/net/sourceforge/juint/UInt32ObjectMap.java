@@ -0,0 +1,467 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntFunction;
+
+/**
+ * Map from unsigned 32-bit integers to objects. Keys are stored as raw <code>int</code>s in an
+ * open addressing table with linear probing, so they are never boxed. An empty slot holds the key
+ * 0, and the value for the key 0 itself is kept outside the table. Values cannot be
+ * <code>null</code>, so {@link #get(int)} returning <code>null</code> means the key is absent.
+ * <p>
+ * Iteration order is unspecified. The map must not be modified while it is being iterated.
+ * 
+ * @param <V>
+ *            the type of the values
+ */
+public class UInt32ObjectMap<V> implements Serializable {
+    private static final long serialVersionUID = 4870457232451722140L;
+    private final float loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    // number of keys in the table, not counting 0
+    private int assigned;
+    private Object zeroValue;
+
+    /**
+     * Creates a new, empty map with the default load factor of 0.75.
+     */
+    public UInt32ObjectMap() {
+        this(0, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new, empty map that holds <code>expectedSize</code> keys without growing.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is negative or too large
+     */
+    public UInt32ObjectMap(int expectedSize) throws IllegalArgumentException {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates a new, empty map that holds <code>expectedSize</code> keys without growing.
+     * 
+     * @param expectedSize
+     *            the number of keys expected
+     * @param loadFactor
+     *            the fraction of slots that may be filled before the table grows, between 0 and 1
+     *            exclusive
+     * @throws IllegalArgumentException
+     *             if <code>expectedSize</code> is negative or too large, or if
+     *             <code>loadFactor</code> is out of range
+     */
+    public UInt32ObjectMap(int expectedSize, float loadFactor) throws IllegalArgumentException {
+        this.loadFactor = loadFactor;
+        allocate(Hashing.capacity(expectedSize, loadFactor));
+    }
+
+    /**
+     * Gets the value mapped to an unsigned 32-bit integer.
+     * 
+     * @param key
+     *            the raw key
+     * @return the value, or <code>null</code> if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == 0)
+            return (V) zeroValue;
+        int slot = find(key);
+        return (slot < 0) ? null : (V) values[slot];
+    }
+
+    /**
+     * Gets the value mapped to a <code>UInt32</code>.
+     * 
+     * @param key
+     *            the key
+     * @return the value, or <code>null</code> if there is none
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public V get(UInt32 key) throws IllegalArgumentException {
+        verify(key);
+        return get(key.intValue());
+    }
+
+    /**
+     * Tests whether an unsigned 32-bit integer is mapped to a value.
+     * 
+     * @param key
+     *            the raw key
+     * @return <code>true</code> if the map contains <code>key</code>
+     */
+    public boolean containsKey(int key) {
+        return (key == 0) ? zeroValue != null : find(key) >= 0;
+    }
+
+    /**
+     * Tests whether a <code>UInt32</code> is mapped to a value.
+     * 
+     * @param key
+     *            the key
+     * @return <code>true</code> if the map contains <code>key</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public boolean containsKey(UInt32 key) throws IllegalArgumentException {
+        verify(key);
+        return containsKey(key.intValue());
+    }
+
+    /**
+     * Maps an unsigned 32-bit integer to a value.
+     * 
+     * @param key
+     *            the raw key
+     * @param value
+     *            the value
+     * @return the previous value, or <code>null</code> if there was none
+     * @throws IllegalArgumentException
+     *             if <code>value</code> is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) throws IllegalArgumentException {
+        if (value == null)
+            throw new IllegalArgumentException("value cannot be null.");
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            zeroValue = value;
+            return previous;
+        }
+        int slot = probe(key);
+        if (keys[slot] == key) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(slot, key, value);
+        return null;
+    }
+
+    /**
+     * Maps a <code>UInt32</code> to a value.
+     * 
+     * @param key
+     *            the key
+     * @param value
+     *            the value
+     * @return the previous value, or <code>null</code> if there was none
+     * @throws IllegalArgumentException
+     *             if <code>key</code> or <code>value</code> is <code>null</code>
+     */
+    public V put(UInt32 key, V value) throws IllegalArgumentException {
+        verify(key);
+        return put(key.intValue(), value);
+    }
+
+    /**
+     * Gets the value mapped to an unsigned 32-bit integer, computing and adding it first if there
+     * is none. The table is probed once when the key is present.
+     * 
+     * @param key
+     *            the raw key
+     * @param mappingFunction
+     *            computes the value from the raw key; if it returns <code>null</code> nothing is
+     *            added
+     * @return the current or computed value, or <code>null</code> if the function returned
+     *         <code>null</code>
+     * @throws IllegalArgumentException
+     *             if <code>mappingFunction</code> is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction)
+            throws IllegalArgumentException {
+        if (mappingFunction == null)
+            throw new IllegalArgumentException("mappingFunction cannot be null.");
+        if (key == 0) {
+            if (zeroValue == null)
+                zeroValue = mappingFunction.apply(key);
+            return (V) zeroValue;
+        }
+        int slot = probe(key);
+        if (keys[slot] == key)
+            return (V) values[slot];
+        V value = mappingFunction.apply(key);
+        // probe again, since the function may have modified the map
+        if (value != null)
+            put(key, value);
+        return value;
+    }
+
+    /**
+     * Gets the value mapped to a <code>UInt32</code>, computing and adding it first if there is
+     * none.
+     * 
+     * @param key
+     *            the key
+     * @param mappingFunction
+     *            computes the value from the raw key; if it returns <code>null</code> nothing is
+     *            added
+     * @return the current or computed value, or <code>null</code> if the function returned
+     *         <code>null</code>
+     * @throws IllegalArgumentException
+     *             if <code>key</code> or <code>mappingFunction</code> is <code>null</code>
+     */
+    public V computeIfAbsent(UInt32 key, IntFunction<? extends V> mappingFunction)
+            throws IllegalArgumentException {
+        verify(key);
+        return computeIfAbsent(key.intValue(), mappingFunction);
+    }
+
+    /**
+     * Removes the value mapped to an unsigned 32-bit integer. The keys that follow it in its
+     * probe sequence are shifted back, so no tombstones are left behind.
+     * 
+     * @param key
+     *            the raw key
+     * @return the removed value, or <code>null</code> if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == 0) {
+            V previous = (V) zeroValue;
+            zeroValue = null;
+            return previous;
+        }
+        int slot = find(key);
+        if (slot < 0)
+            return null;
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        assigned--;
+        return previous;
+    }
+
+    /**
+     * Removes the value mapped to a <code>UInt32</code>.
+     * 
+     * @param key
+     *            the key
+     * @return the removed value, or <code>null</code> if there was none
+     * @throws IllegalArgumentException
+     *             if <code>key</code> is <code>null</code>
+     */
+    public V remove(UInt32 key) throws IllegalArgumentException {
+        verify(key);
+        return remove(key.intValue());
+    }
+
+    /**
+     * Gets the number of keys.
+     * 
+     * @return the size
+     */
+    public int size() {
+        return (zeroValue != null) ? assigned + 1 : assigned;
+    }
+
+    /**
+     * Tests whether the map has no keys.
+     * 
+     * @return <code>true</code> if the size is 0
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes every key. The table keeps its capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        assigned = 0;
+        zeroValue = null;
+    }
+
+    /**
+     * Gets an iterator over the keys as unsigned 32-bit integers, like
+     * {@link UInt16ObjectMap#keyIterator()} gives its keys as unsigned 16-bit integers. The values
+     * are not boxed when read with {@link PrimitiveIterator.OfLong#nextLong()}.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfLong keyIterator() {
+        final PrimitiveIterator.OfInt raw = rawKeyIterator();
+        return new PrimitiveIterator.OfLong() {
+            public boolean hasNext() {
+                return raw.hasNext();
+            }
+
+            public long nextLong() {
+                return UInt32.toLong(raw.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Gets an iterator over the keys as raw <code>int</code>s, which can be passed back to
+     * {@link #get(int)} without conversion.
+     * 
+     * @return the iterator
+     */
+    public PrimitiveIterator.OfInt rawKeyIterator() {
+        return new PrimitiveIterator.OfInt() {
+            // -1 stands for the key 0, which is not in the table
+            private int index = (zeroValue != null) ? -1 : next(0);
+
+            public boolean hasNext() {
+                return index < keys.length;
+            }
+
+            public int nextInt() {
+                if (index >= keys.length)
+                    throw new NoSuchElementException();
+                int key = (index < 0) ? 0 : keys[index];
+                index = next(index + 1);
+                return key;
+            }
+
+            private int next(int from) {
+                int i = from;
+                while (i < keys.length && keys[i] == 0)
+                    i++;
+                return i;
+            }
+        };
+    }
+
+    /**
+     * Gets the mappings as a <code>String</code>, such as <code>{4294967295=value}</code>, in
+     * iteration order.
+     * 
+     * @return the mappings as a <code>String</code>
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        PrimitiveIterator.OfInt iterator = rawKeyIterator();
+        while (iterator.hasNext()) {
+            if (builder.length() > 1)
+                builder.append(", ");
+            int key = iterator.nextInt();
+            builder.append(UInt32.toLong(key)).append('=').append(get(key));
+        }
+        return builder.append('}').toString();
+    }
+
+    private int find(int key) {
+        int slot = probe(key);
+        return (keys[slot] == key) ? slot : -1;
+    }
+
+    /**
+     * Gets the slot holding a non-zero key, or the empty slot where it would be inserted.
+     */
+    private int probe(int key) {
+        int[] keys = this.keys;
+        int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int existing;
+        while ((existing = keys[slot]) != 0 && existing != key)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    private void insert(int slot, int key, Object value) throws IllegalStateException {
+        // fail before the key is stored, so a full map is left unchanged
+        if (assigned == threshold && keys.length == Hashing.MAX_CAPACITY)
+            throw new IllegalStateException("map cannot grow any larger.");
+        keys[slot] = key;
+        values[slot] = value;
+        if (++assigned > threshold)
+            rehash(keys.length << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = Hashing.threshold(capacity, loadFactor);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = probe(key);
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Empties a slot, moving back any later key in the same cluster whose home slot does not lie
+     * cyclically between the emptied slot and its current slot.
+     */
+    private void shiftBack(int slot) {
+        int[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        int gap = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            int key = keys[i];
+            if (key == 0)
+                break;
+            int home = Hashing.mix(key) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private static void verify(UInt32 key) throws IllegalArgumentException {
+        if (key == null)
+            throw new IllegalArgumentException("key cannot be null.");
+    }
+}
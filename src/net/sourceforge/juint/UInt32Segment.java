@@ -0,0 +1,285 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Fixed length array of unsigned 32-bit integers stored off the Java heap. Unlike a Java array the
+ * length is a <code>long</code>, so a segment may hold more than 2<sup>31</sup> elements. Values
+ * are read and written with the same semantics as {@link UInt32#uint32Value()}.
+ * <p>
+ * The memory is allocated as direct buffers of at most 1 GiB each. A segment is usable until
+ * {@link #close()} is called, after which every access throws an
+ * <code>IllegalStateException</code>; use it with <code>try</code>-with-resources to scope its
+ * lifetime. The memory itself is released once the closed segment is garbage collected, so a
+ * thread still using the segment while another closes it reads a live buffer or gets the
+ * exception, never freed memory.
+ * <p>
+ * Direct buffers count against <code>-XX:MaxDirectMemorySize</code>, which defaults to the
+ * maximum heap size. A segment larger than the heap, such as one of more than 2<sup>31</sup>
+ * elements, needs that limit raised or allocation fails with an <code>OutOfMemoryError</code>.
+ * Memory of closed segments waiting to be collected counts against the limit too; the JVM
+ * requests a collection to reclaim it before failing an allocation, unless explicit collections
+ * are disabled with <code>-XX:+DisableExplicitGC</code>.
+ */
+public class UInt32Segment implements Closeable {
+    private static final int CHUNK_SHIFT = 28;
+    private final long length;
+    private final ByteOrder order;
+    private final int chunkShift;
+    private final int chunkMask;
+    private volatile IntBuffer[] chunks;
+
+    UInt32Segment(long length, ByteOrder order, int chunkShift) throws IllegalArgumentException {
+        if (length < 0)
+            throw new IllegalArgumentException("length cannot be negative.");
+        if (order == null)
+            throw new IllegalArgumentException("order cannot be null.");
+        this.length = length;
+        this.order = order;
+        this.chunkShift = chunkShift;
+        chunkMask = (1 << chunkShift) - 1;
+        long chunkLength = 1L << chunkShift;
+        int count = (int) ((length + chunkLength - 1) >>> chunkShift);
+        IntBuffer[] chunks = new IntBuffer[count];
+        for (int i = 0; i < count; i++) {
+            int elements = (int) Math.min(chunkLength, length - ((long) i << chunkShift));
+            chunks[i] = ByteBuffer.allocateDirect(elements * 4).order(order).asIntBuffer();
+        }
+        this.chunks = chunks;
+    }
+
+    /**
+     * Allocates a new segment in the native byte order with every element set to 0.
+     * 
+     * @param length
+     *            the number of elements
+     * @return the new segment
+     * @throws IllegalArgumentException
+     *             if <code>length</code> is negative
+     */
+    public static UInt32Segment allocate(long length) throws IllegalArgumentException {
+        return allocate(length, ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Allocates a new segment with every element set to 0.
+     * 
+     * @param length
+     *            the number of elements
+     * @param order
+     *            the byte order the elements are stored in
+     * @return the new segment
+     * @throws IllegalArgumentException
+     *             if <code>length</code> is negative or <code>order</code> is <code>null</code>
+     */
+    public static UInt32Segment allocate(long length, ByteOrder order)
+            throws IllegalArgumentException {
+        return new UInt32Segment(length, order, CHUNK_SHIFT);
+    }
+
+    /**
+     * Gets the number of elements.
+     * 
+     * @return the length
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Gets the byte order the elements are stored in.
+     * 
+     * @return the byte order
+     */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /**
+     * Gets an element as an unsigned 32-bit integer.
+     * 
+     * @param index
+     *            the index of the element
+     * @return the value as an unsigned 32-bit integer
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is out of range
+     * @throws IllegalStateException
+     *             if the segment is closed
+     */
+    public long get(long index) throws IndexOutOfBoundsException, IllegalStateException {
+        IntBuffer[] chunks = chunks();
+        checkIndex(index, 1);
+        return UInt32.toLong(chunks[(int) (index >>> chunkShift)].get((int) index & chunkMask));
+    }
+
+    /**
+     * Sets an element. The value is truncated to 32 bits.
+     * 
+     * @param index
+     *            the index of the element
+     * @param value
+     *            the value to be stored
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is out of range
+     * @throws IllegalStateException
+     *             if the segment is closed
+     */
+    public void set(long index, long value) throws IndexOutOfBoundsException,
+            IllegalStateException {
+        IntBuffer[] chunks = chunks();
+        checkIndex(index, 1);
+        chunks[(int) (index >>> chunkShift)].put((int) index & chunkMask, (int) value);
+    }
+
+    /**
+     * Sets every element to the same value.
+     * 
+     * @param value
+     *            the value to be stored
+     * @throws IllegalStateException
+     *             if the segment is closed
+     */
+    public void fill(long value) throws IllegalStateException {
+        IntBuffer[] chunks = chunks();
+        int raw = (int) value;
+        for (int i = 0; i < chunks.length; i++) {
+            IntBuffer chunk = chunks[i];
+            for (int j = 0, limit = chunk.limit(); j < limit; j++)
+                chunk.put(j, raw);
+        }
+    }
+
+    /**
+     * Copies elements from a heap array into this segment.
+     * 
+     * @param index
+     *            the index in this segment of the first element written
+     * @param src
+     *            the array to copy from
+     * @param srcIndex
+     *            the index in <code>src</code> of the first element to copy
+     * @param count
+     *            the number of elements to copy
+     * @throws IndexOutOfBoundsException
+     *             if either range is out of bounds
+     * @throws IllegalStateException
+     *             if the segment is closed
+     */
+    public void copyFrom(long index, UInt32Array src, int srcIndex, int count)
+            throws IndexOutOfBoundsException, IllegalStateException {
+        IntBuffer[] chunks = chunks();
+        checkIndex(index, count);
+        int[] array = src.array();
+        if (srcIndex < 0 || srcIndex > array.length - count)
+            throw new IndexOutOfBoundsException("srcIndex: " + srcIndex + ", count: " + count);
+        while (count > 0) {
+            IntBuffer chunk = chunks[(int) (index >>> chunkShift)].duplicate();
+            int offset = (int) index & chunkMask;
+            int n = Math.min(count, chunk.limit() - offset);
+            chunk.position(offset);
+            chunk.put(array, srcIndex, n);
+            index += n;
+            srcIndex += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Copies elements from this segment into a heap array.
+     * 
+     * @param index
+     *            the index in this segment of the first element to copy
+     * @param dst
+     *            the array to copy to
+     * @param dstIndex
+     *            the index in <code>dst</code> of the first element written
+     * @param count
+     *            the number of elements to copy
+     * @throws IndexOutOfBoundsException
+     *             if either range is out of bounds
+     * @throws IllegalStateException
+     *             if the segment is closed
+     */
+    public void copyTo(long index, UInt32Array dst, int dstIndex, int count)
+            throws IndexOutOfBoundsException, IllegalStateException {
+        IntBuffer[] chunks = chunks();
+        checkIndex(index, count);
+        int[] array = dst.array();
+        if (dstIndex < 0 || dstIndex > array.length - count)
+            throw new IndexOutOfBoundsException("dstIndex: " + dstIndex + ", count: " + count);
+        while (count > 0) {
+            IntBuffer chunk = chunks[(int) (index >>> chunkShift)].duplicate();
+            int offset = (int) index & chunkMask;
+            int n = Math.min(count, chunk.limit() - offset);
+            chunk.position(offset);
+            chunk.get(array, dstIndex, n);
+            index += n;
+            dstIndex += n;
+            count -= n;
+        }
+    }
+
+    /**
+     * Determines if this segment is still usable.
+     * 
+     * @return <code>true</code> if {@link #close()} has not been called; <code>false</code>
+     *         otherwise
+     */
+    public boolean isOpen() {
+        return chunks != null;
+    }
+
+    /**
+     * Closes this segment. Further access throws an <code>IllegalStateException</code>. Closing
+     * a closed segment has no effect.
+     */
+    public void close() {
+        chunks = null;
+    }
+
+    private IntBuffer[] chunks() throws IllegalStateException {
+        IntBuffer[] chunks = this.chunks;
+        if (chunks == null)
+            throw new IllegalStateException("The segment is closed.");
+        return chunks;
+    }
+
+    private void checkIndex(long index, int count) throws IndexOutOfBoundsException {
+        if (index < 0 || count < 0 || index > length - count)
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+    }
+}
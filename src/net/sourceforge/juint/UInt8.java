@@ -32,11 +32,16 @@
 package net.sourceforge.juint;
 
 import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
 
 /**
  * Unsigned 8-bit integer.
  */
-public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bitwise<UInt8> {
+public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bitwise<UInt8>,
+        Arithmetic<UInt8> {
     private static final long serialVersionUID = 6552272958930747086L;
     /**
      * The largest possible value.
@@ -50,6 +55,33 @@ public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bi
      * {@value}
      */
     public static final short MIN_VALUE = 0;
+    /**
+     * Orders instances by their unsigned 8-bit values, the same as <code>compareTo</code>.
+     */
+    public static final Comparator<UInt8> COMPARATOR = new Comparator<UInt8>() {
+        public int compare(UInt8 x, UInt8 y) {
+            return UInt8.compare(x.uint8, y.uint8);
+        }
+    };
+    private static final UInt8[] CACHE = new UInt8[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new UInt8(i);
+    }
+
+    /**
+     * The value 0.
+     */
+    public static final UInt8 ZERO = CACHE[0];
+    /**
+     * The value 1.
+     */
+    public static final UInt8 ONE = CACHE[1];
+    /**
+     * The largest possible value, {@link #MAX_VALUE}.
+     */
+    public static final UInt8 MAX = CACHE[MAX_VALUE];
     private byte uint8;
 
     /**
@@ -92,13 +124,729 @@ public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bi
         uint8 = (byte) bite;
     }
 
+    /**
+     * Gets the instance representing a <code>byte</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static UInt8 valueOf(byte bite) {
+        return CACHE[bite & 0xff];
+    }
+
+    /**
+     * Gets the instance representing a <code>short</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static UInt8 valueOf(short bite) {
+        return CACHE[bite & 0xff];
+    }
+
+    /**
+     * Gets the instance representing an <code>int</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static UInt8 valueOf(int bite) {
+        return CACHE[bite & 0xff];
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>. Every value is cached, so this never
+     * allocates.
+     * 
+     * @param bite
+     *            the value to be represented
+     * @return the cached instance
+     */
+    public static UInt8 valueOf(long bite) {
+        return CACHE[(int) bite & 0xff];
+    }
+
+    /**
+     * Gets the raw value as an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value as an unsigned 8-bit integer
+     */
+    public static short toShort(byte bite) {
+        return (short) (bite & 0xff);
+    }
+
+    /**
+     * Compares two unsigned 8-bit integers for order.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return a negative number, zero or a positive number as <code>x</code> is less than,
+     *         equal to or greater than <code>y</code>
+     */
+    public static int compare(byte x, byte y) {
+        return Integer.compare(toShort(x), toShort(y));
+    }
+
+    /**
+     * Logical and of two unsigned 8-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the and
+     */
+    public static byte and(byte x, byte y) {
+        return (byte) (x & y);
+    }
+
+    /**
+     * Logical or of two unsigned 8-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the or
+     */
+    public static byte or(byte x, byte y) {
+        return (byte) (x | y);
+    }
+
+    /**
+     * Logical xor of two unsigned 8-bit integers.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the result of the xor
+     */
+    public static byte xor(byte x, byte y) {
+        return (byte) (x ^ y);
+    }
+
+    /**
+     * Logical not of an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the result of the not
+     */
+    public static byte not(byte bite) {
+        return (byte) ~bite;
+    }
+
+    /**
+     * Determines if an unsigned 8-bit integer has the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public static boolean hasBitmask(byte number, byte bitmask) {
+        return (number & bitmask) == bitmask;
+    }
+
+    /**
+     * Determines if an unsigned 8-bit integer has any of the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public static boolean hasAnyBit(byte number, byte bitmask) {
+        return (number & bitmask) != 0;
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits set
+     */
+    public static byte addBitmask(byte number, byte bitmask) {
+        return (byte) (number | bitmask);
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param number
+     *            the raw value
+     * @param bitmask
+     *            the raw bitmask
+     * @return the number with the bits unset
+     */
+    public static byte removeBitmask(byte number, byte bitmask) {
+        return (byte) (number & ~bitmask);
+    }
+
+    /**
+     * Shifts an unsigned 8-bit integer left by <code>distance</code> bits, modulo 8.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static byte shiftLeft(byte bite, int distance) {
+        return (byte) (bite << (distance & 7));
+    }
+
+    /**
+     * Shifts an unsigned 8-bit integer right by <code>distance</code> bits, modulo 8. The shift is
+     * logical.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the shifted value
+     */
+    public static byte shiftRight(byte bite, int distance) {
+        return (byte) ((bite & 0xff) >>> (distance & 7));
+    }
+
+    /**
+     * Rotates an unsigned 8-bit integer left by <code>distance</code> bits, modulo 8.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static byte rotateLeft(byte bite, int distance) {
+        int value = bite & 0xff;
+        distance &= 7;
+        return (byte) ((value << distance) | (value >>> (8 - distance)));
+    }
+
+    /**
+     * Rotates an unsigned 8-bit integer right by <code>distance</code> bits, modulo 8.
+     * 
+     * @param bite
+     *            the raw value
+     * @param distance
+     *            the number of bits
+     * @return the rotated value
+     */
+    public static byte rotateRight(byte bite, int distance) {
+        int value = bite & 0xff;
+        distance &= 7;
+        return (byte) ((value >>> distance) | (value << (8 - distance)));
+    }
+
+    /**
+     * Counts the one bits in an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the number of one bits
+     */
+    public static int bitCount(byte bite) {
+        return Integer.bitCount(bite & 0xff);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit in an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the number of leading zeros, or 8 if the value is zero
+     */
+    public static int numberOfLeadingZeros(byte bite) {
+        return Integer.numberOfLeadingZeros(bite & 0xff) - 24;
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit in an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the number of trailing zeros, or 8 if the value is zero
+     */
+    public static int numberOfTrailingZeros(byte bite) {
+        return Integer.numberOfTrailingZeros(bite | 0x100);
+    }
+
+    /**
+     * Keeps only the highest one bit of an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public static byte highestOneBit(byte bite) {
+        return (byte) Integer.highestOneBit(bite & 0xff);
+    }
+
+    /**
+     * Keeps only the lowest one bit of an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public static byte lowestOneBit(byte bite) {
+        return (byte) (bite & -bite);
+    }
+
+    /**
+     * Reverses the order of the 8 bits of an unsigned 8-bit integer.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the reversed value
+     */
+    public static byte reverse(byte bite) {
+        return (byte) (Integer.reverse(bite) >>> 24);
+    }
+
+    /**
+     * Reverses the order of the bytes of an unsigned 8-bit integer. A single byte is returned
+     * unchanged.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the reversed value
+     */
+    public static byte reverseBytes(byte bite) {
+        return bite;
+    }
+
+    /**
+     * Counts the one bits in every value of an array.
+     * 
+     * @param values
+     *            the raw values
+     * @return the total number of one bits
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static long bitCount(byte[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long count = 0;
+        int i = 0;
+        // eight bytes at a time; byte order does not matter to the count
+        for (; i <= values.length - 8; i += 8)
+            count += Long.bitCount((long) ByteArrays.LONG_NATIVE.get(values, i));
+        for (; i < values.length; i++)
+            count += Integer.bitCount(values[i] & 0xff);
+        return count;
+    }
+
+    /**
+     * Adds two unsigned 8-bit integers, modulo 2<sup>8</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     */
+    public static byte add(byte x, byte y) {
+        return (byte) (x + y);
+    }
+
+    /**
+     * Subtracts one unsigned 8-bit integer from another, modulo 2<sup>8</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     */
+    public static byte subtract(byte x, byte y) {
+        return (byte) (x - y);
+    }
+
+    /**
+     * Multiplies two unsigned 8-bit integers, modulo 2<sup>8</sup>.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     */
+    public static byte multiply(byte x, byte y) {
+        return (byte) (x * y);
+    }
+
+    /**
+     * Negates an unsigned 8-bit integer, modulo 2<sup>8</sup>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the negation
+     */
+    public static byte negate(byte bite) {
+        return (byte) (-bite);
+    }
+
+    /**
+     * Adds one to an unsigned 8-bit integer, modulo 2<sup>8</sup>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value plus one
+     */
+    public static byte increment(byte bite) {
+        return (byte) (bite + 1);
+    }
+
+    /**
+     * Subtracts one from an unsigned 8-bit integer, modulo 2<sup>8</sup>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value minus one
+     */
+    public static byte decrement(byte bite) {
+        return (byte) (bite - 1);
+    }
+
+    /**
+     * Divides two unsigned 8-bit integers.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the quotient, rounded toward zero
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static byte divide(byte dividend, byte divisor) throws ArithmeticException {
+        return (byte) (toShort(dividend) / toShort(divisor));
+    }
+
+    /**
+     * Gets the remainder of dividing two unsigned 8-bit integers.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static byte remainder(byte dividend, byte divisor) throws ArithmeticException {
+        return (byte) (toShort(dividend) % toShort(divisor));
+    }
+
+    /**
+     * Divides two unsigned 8-bit integers, getting both the quotient and the remainder
+     * from a single division.
+     * 
+     * @param dividend
+     *            the raw value to be divided
+     * @param divisor
+     *            the raw value doing the dividing
+     * @return the quotient followed by the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public static byte[] divideAndRemainder(byte dividend, byte divisor)
+            throws ArithmeticException {
+        byte quotient = divide(dividend, divisor);
+        return new byte[] { quotient, (byte) (dividend - quotient * divisor) };
+    }
+
+    /**
+     * Adds two unsigned 8-bit integers, clamping the sum to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated sum
+     */
+    public static byte addSaturating(byte x, byte y) {
+        return (byte) Math.min(toShort(x) + toShort(y), MAX_VALUE);
+    }
+
+    /**
+     * Subtracts one unsigned 8-bit integer from another, clamping the difference to the range
+     * of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated difference
+     */
+    public static byte subtractSaturating(byte x, byte y) {
+        return (byte) Math.max(toShort(x) - toShort(y), MIN_VALUE);
+    }
+
+    /**
+     * Multiplies two unsigned 8-bit integers, clamping the product to the range of the type.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the saturated product
+     */
+    public static byte multiplySaturating(byte x, byte y) {
+        return (byte) Math.min(toShort(x) * toShort(y), MAX_VALUE);
+    }
+
+    /**
+     * Applies {@link #addSaturating(byte, byte)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void addSaturating(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = addSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #subtractSaturating(byte, byte)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void subtractSaturating(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = subtractSaturating(x[i], y[i]);
+    }
+
+    /**
+     * Applies {@link #multiplySaturating(byte, byte)} element by element.
+     * 
+     * @param x
+     *            the first raw values
+     * @param y
+     *            the second raw values
+     * @param dst
+     *            the array receiving the results; may be <code>x</code> or <code>y</code>
+     * @throws IllegalArgumentException
+     *             if any array is <code>null</code> or the lengths differ
+     */
+    public static void multiplySaturating(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        verify(x, y, dst);
+        for (int i = 0; i < dst.length; i++)
+            dst[i] = multiplySaturating(x[i], y[i]);
+    }
+
+    /**
+     * Gets the instance representing a <code>long</code>, checking that it is in range.
+     * 
+     * @param value
+     *            the value to be represented
+     * @return the instance
+     * @throws ArithmeticException
+     *             if <code>value</code> is less than {@link #MIN_VALUE} or greater than
+     *             {@link #MAX_VALUE}
+     */
+    public static UInt8 valueOfExact(long value) throws ArithmeticException {
+        return valueOf(exact(value));
+    }
+
+    /**
+     * Adds two unsigned 8-bit integers, throwing if the sum overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static byte addExact(byte x, byte y) throws ArithmeticException {
+        return exact(toShort(x) + toShort(y));
+    }
+
+    /**
+     * Subtracts one unsigned 8-bit integer from another, throwing if the difference overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static byte subtractExact(byte x, byte y) throws ArithmeticException {
+        return exact(toShort(x) - toShort(y));
+    }
+
+    /**
+     * Multiplies two unsigned 8-bit integers, throwing if the product overflows.
+     * 
+     * @param x
+     *            the first raw value
+     * @param y
+     *            the second raw value
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public static byte multiplyExact(byte x, byte y) throws ArithmeticException {
+        return exact(toShort(x) * toShort(y));
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(long[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        long outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= values[i] >>> 8;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Determines if every value is between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+     * 
+     * @param values
+     *            the values to check
+     * @return <code>true</code> if every value is in range; <code>false</code> otherwise
+     * @throws IllegalArgumentException
+     *             if <code>values</code> is <code>null</code>
+     */
+    public static boolean inRange(int[] values) throws IllegalArgumentException {
+        if (values == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        int outOfRange = 0;
+        for (int i = 0; i < values.length; i++)
+            outOfRange |= values[i] >>> 8;
+        return outOfRange == 0;
+    }
+
+    /**
+     * Gets an unsigned 8-bit integer as a <code>String</code>.
+     * 
+     * @param bite
+     *            the raw value
+     * @return the value as a <code>String</code>
+     */
+    public static String toString(byte bite) {
+        return Short.toString(toShort(bite));
+    }
+
+    /**
+     * Reads an unsigned 8-bit integer at the buffer's current position and advances the
+     * position by one.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @return the value read
+     * @throws BufferUnderflowException
+     *             if there are no bytes remaining in the buffer
+     */
+    public static short get(ByteBuffer buffer) throws BufferUnderflowException {
+        return toShort(buffer.get());
+    }
+
+    /**
+     * Reads an unsigned 8-bit integer at the given index without changing the position.
+     * 
+     * @param buffer
+     *            the buffer to read from
+     * @param index
+     *            the index of the first byte
+     * @return the value read
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or not smaller than the limit
+     */
+    public static short get(ByteBuffer buffer, int index) throws IndexOutOfBoundsException {
+        return toShort(buffer.get(index));
+    }
+
+    /**
+     * Writes an unsigned 8-bit integer at the buffer's current position and advances the
+     * position by one.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param bite
+     *            the value to be written
+     * @throws BufferOverflowException
+     *             if there are no bytes remaining in the buffer
+     */
+    public static void put(ByteBuffer buffer, short bite) throws BufferOverflowException {
+        buffer.put((byte) bite);
+    }
+
+    /**
+     * Writes an unsigned 8-bit integer at the given index without changing the position.
+     * 
+     * @param buffer
+     *            the buffer to write to
+     * @param index
+     *            the index of the first byte
+     * @param bite
+     *            the value to be written
+     * @throws IndexOutOfBoundsException
+     *             if <code>index</code> is negative or not smaller than the limit
+     */
+    public static void put(ByteBuffer buffer, int index, short bite)
+            throws IndexOutOfBoundsException {
+        buffer.put(index, (byte) bite);
+    }
+
     /**
      * Gets the value as an unsigned 8-bit integer.
      * 
      * @return the value as an unsigned 8-bit integer
      */
     public short uint8Value() {
-        return (short) (uint8 & 0xff);
+        return toShort(uint8);
     }
 
     /**
@@ -153,11 +901,7 @@ public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bi
      *            a <code>UInt8</code>
      */
     public int compareTo(UInt8 object) {
-        if (equals(object))
-            return 0;
-        else {
-            return (uint8Value() - object.uint8Value());
-        }
+        return compare(uint8, object.uint8);
     }
 
     /**
@@ -185,23 +929,23 @@ public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bi
      * @return the value as a <code>String</code>
      */
     public String toString() {
-        return Short.toString(uint8Value());
+        return toString(uint8);
     }
 
     public UInt8 and(UInt8 number) {
-        return new UInt8(uint8Value() & number.uint8Value());
+        return valueOf(and(uint8, number.uint8));
     }
 
     public UInt8 not() {
-        return new UInt8(~uint8Value());
+        return valueOf(not(uint8));
     }
 
     public UInt8 or(UInt8 number) {
-        return new UInt8(uint8Value() | number.uint8Value());
+        return valueOf(or(uint8, number.uint8));
     }
 
     public UInt8 xor(UInt8 number) {
-        return new UInt8(uint8Value() ^ number.uint8Value());
+        return valueOf(xor(uint8, number.uint8));
     }
 
     public UInt8 addBitmask(UInt8 bitmask) {
@@ -209,10 +953,324 @@ public class UInt8 extends Number implements Serializable, Comparable<UInt8>, Bi
     }
 
     public boolean hasBitmask(UInt8 bitmask) {
-        return this.and(bitmask).equals(bitmask);
+        return hasBitmask(uint8, bitmask.uint8);
     }
 
     public UInt8 removeBitmask(UInt8 bitmask) {
-        return this.and(bitmask.not());
+        return valueOf(removeBitmask(uint8, bitmask.uint8));
+    }
+
+    public boolean hasAnyBit(UInt8 bitmask) {
+        return hasAnyBit(uint8, bitmask.uint8);
+    }
+
+    /**
+     * Determines if this number has the given bitmask, without creating an instance for it.
+     * Bits above the lowest 8 are ignored, so a sign-extended mask such as
+     * <code>(byte) 0x80</code> tests only the top bit.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(int bitmask) {
+        return hasBitmask(uint8, (byte) bitmask);
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask. Bits above the lowest
+     * 8 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(int bitmask) {
+        return hasAnyBit(uint8, (byte) bitmask);
+    }
+
+    /**
+     * Sets the bits in the given bitmask. Bits above the lowest 8 are ignored.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits set
+     */
+    public UInt8 addBitmask(int bitmask) {
+        return valueOf(addBitmask(uint8, (byte) bitmask));
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     *            the raw bits of the mask
+     * @return the number with the bits unset
+     */
+    public UInt8 removeBitmask(int bitmask) {
+        return valueOf(removeBitmask(uint8, (byte) bitmask));
+    }
+
+    /**
+     * Determines if this number has the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if the number has the bitmask; <code>false</code> otherwise
+     */
+    public boolean hasBitmask(Bitmask bitmask) {
+        return hasBitmask(bitmask.bits());
+    }
+
+    /**
+     * Determines if this number has any of the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return <code>true</code> if at least one bit is set; <code>false</code> otherwise
+     */
+    public boolean hasAnyBit(Bitmask bitmask) {
+        return hasAnyBit(bitmask.bits());
+    }
+
+    /**
+     * Sets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits set
+     */
+    public UInt8 addBitmask(Bitmask bitmask) {
+        return addBitmask(bitmask.bits());
+    }
+
+    /**
+     * Unsets the bits in the given bitmask.
+     * 
+     * @param bitmask
+     * @return the number with the bits unset
+     */
+    public UInt8 removeBitmask(Bitmask bitmask) {
+        return removeBitmask(bitmask.bits());
+    }
+
+    public UInt8 shiftLeft(int distance) {
+        return valueOf(shiftLeft(uint8, distance));
+    }
+
+    public UInt8 shiftRight(int distance) {
+        return valueOf(shiftRight(uint8, distance));
+    }
+
+    public UInt8 rotateLeft(int distance) {
+        return valueOf(rotateLeft(uint8, distance));
+    }
+
+    public UInt8 rotateRight(int distance) {
+        return valueOf(rotateRight(uint8, distance));
+    }
+
+    /**
+     * Counts the one bits in this value.
+     * 
+     * @return the number of one bits
+     */
+    public int bitCount() {
+        return bitCount(uint8);
+    }
+
+    /**
+     * Counts the zero bits above the highest one bit of this value.
+     * 
+     * @return the number of leading zeros, or 8 if the value is zero
+     */
+    public int numberOfLeadingZeros() {
+        return numberOfLeadingZeros(uint8);
+    }
+
+    /**
+     * Counts the zero bits below the lowest one bit of this value.
+     * 
+     * @return the number of trailing zeros, or 8 if the value is zero
+     */
+    public int numberOfTrailingZeros() {
+        return numberOfTrailingZeros(uint8);
+    }
+
+    /**
+     * Keeps only the highest one bit of this value.
+     * 
+     * @return the highest one bit, or zero if the value is zero
+     */
+    public UInt8 highestOneBit() {
+        return valueOf(highestOneBit(uint8));
+    }
+
+    /**
+     * Keeps only the lowest one bit of this value.
+     * 
+     * @return the lowest one bit, or zero if the value is zero
+     */
+    public UInt8 lowestOneBit() {
+        return valueOf(lowestOneBit(uint8));
+    }
+
+    /**
+     * Reverses the order of the bits of this value.
+     * 
+     * @return the reversed value
+     */
+    public UInt8 reverse() {
+        return valueOf(reverse(uint8));
+    }
+
+    /**
+     * Reverses the order of the bytes of this value.
+     * 
+     * @return the reversed value
+     */
+    public UInt8 reverseBytes() {
+        return valueOf(reverseBytes(uint8));
+    }
+
+    public UInt8 add(UInt8 number) {
+        return valueOf(add(uint8, number.uint8));
+    }
+
+    public UInt8 subtract(UInt8 number) {
+        return valueOf(subtract(uint8, number.uint8));
+    }
+
+    public UInt8 multiply(UInt8 number) {
+        return valueOf(multiply(uint8, number.uint8));
+    }
+
+    public UInt8 negate() {
+        return valueOf(negate(uint8));
+    }
+
+    public UInt8 increment() {
+        return valueOf(increment(uint8));
+    }
+
+    public UInt8 decrement() {
+        return valueOf(decrement(uint8));
+    }
+
+    /**
+     * Divides this value by <code>divisor</code>.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the quotient, rounded toward zero
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt8 divide(UInt8 divisor) throws ArithmeticException {
+        return valueOf(divide(uint8, divisor.uint8));
+    }
+
+    /**
+     * Gets the remainder of dividing this value by <code>divisor</code>.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt8 remainder(UInt8 divisor) throws ArithmeticException {
+        return valueOf(remainder(uint8, divisor.uint8));
+    }
+
+    /**
+     * Divides this value by <code>divisor</code>, getting both the quotient and the remainder.
+     * 
+     * @param divisor
+     *            the value doing the dividing
+     * @return the quotient followed by the remainder
+     * @throws ArithmeticException
+     *             if <code>divisor</code> is zero
+     */
+    public UInt8[] divideAndRemainder(UInt8 divisor) throws ArithmeticException {
+        byte[] result = divideAndRemainder(uint8, divisor.uint8);
+        return new UInt8[] { valueOf(result[0]), valueOf(result[1]) };
+    }
+
+    private static void verify(byte[] x, byte[] y, byte[] dst)
+            throws IllegalArgumentException {
+        if (x == null || y == null || dst == null)
+            throw new IllegalArgumentException("array cannot be null.");
+        if (x.length != dst.length || y.length != dst.length)
+            throw new IllegalArgumentException("arrays must have the same length.");
+    }
+
+    private static byte exact(long value) throws ArithmeticException {
+        if ((value >>> 8) != 0)
+            throw new ArithmeticException("Out of range for UInt8: " + value);
+        return (byte) value;
+    }
+
+    /**
+     * Adds this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated sum
+     */
+    public UInt8 addSaturating(UInt8 number) {
+        return valueOf(addSaturating(uint8, number.uint8));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated difference
+     */
+    public UInt8 subtractSaturating(UInt8 number) {
+        return valueOf(subtractSaturating(uint8, number.uint8));
+    }
+
+    /**
+     * Multiplies this value and <code>number</code>, clamping the result to the range of the type.
+     * 
+     * @param number
+     * @return the saturated product
+     */
+    public UInt8 multiplySaturating(UInt8 number) {
+        return valueOf(multiplySaturating(uint8, number.uint8));
+    }
+
+    /**
+     * Adds <code>number</code> to this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the sum
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt8 addExact(UInt8 number) throws ArithmeticException {
+        return valueOf(addExact(uint8, number.uint8));
+    }
+
+    /**
+     * Subtracts <code>number</code> from this value, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the difference
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt8 subtractExact(UInt8 number) throws ArithmeticException {
+        return valueOf(subtractExact(uint8, number.uint8));
+    }
+
+    /**
+     * Multiplies this value by <code>number</code>, throwing if the result is out of range.
+     * 
+     * @param number
+     * @return the product
+     * @throws ArithmeticException
+     *             if the result is out of range
+     */
+    public UInt8 multiplyExact(UInt8 number) throws ArithmeticException {
+        return valueOf(multiplyExact(uint8, number.uint8));
     }
 }
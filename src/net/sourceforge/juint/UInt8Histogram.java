@@ -0,0 +1,360 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Histogram of unsigned 8-bit values, with one <code>int</code> bin for each of the 256 values.
+ * Counting is a single pass that indexes the bins directly. The <code>parallelValueOf</code>
+ * methods split large inputs into chunks that each fill their own bins in the common fork-join
+ * pool, and add the bins together at the end, so no two threads write to the same bin.
+ * <p>
+ * A histogram is immutable once it has been built.
+ */
+public class UInt8Histogram implements Serializable {
+    private static final long serialVersionUID = 5176424032389815502L;
+    private static final int BINS = 1 << 8;
+    private final int[] counts;
+    private final long total;
+
+    private UInt8Histogram(int[] counts) {
+        this.counts = counts;
+        long total = 0;
+        for (int i = 0; i < counts.length; i++)
+            total += counts[i];
+        this.total = total;
+    }
+
+    /**
+     * Counts the values in an array.
+     * 
+     * @param a
+     *            the values to count
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static UInt8Histogram valueOf(byte[] a) throws IllegalArgumentException {
+        verify(a);
+        return valueOf(a, 0, a.length);
+    }
+
+    /**
+     * Counts the values in a range of an array.
+     * 
+     * @param a
+     *            the values to count
+     * @param fromIndex
+     *            the index of the first value to count, inclusive
+     * @param toIndex
+     *            the index of the last value to count, exclusive
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static UInt8Histogram valueOf(byte[] a, int fromIndex, int toIndex)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        int[] counts = new int[BINS];
+        for (int i = fromIndex; i < toIndex; i++)
+            counts[a[i] & 0xff]++;
+        return new UInt8Histogram(counts);
+    }
+
+    /**
+     * Counts the values in a <code>UInt8Array</code>.
+     * 
+     * @param a
+     *            the values to count
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static UInt8Histogram valueOf(UInt8Array a) throws IllegalArgumentException {
+        verify(a);
+        return valueOf(a.array());
+    }
+
+    /**
+     * Counts the remaining bytes of a buffer. The buffer's position is not changed.
+     * 
+     * @param buffer
+     *            the values to count
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>buffer</code> is <code>null</code>
+     */
+    public static UInt8Histogram valueOf(ByteBuffer buffer) throws IllegalArgumentException {
+        verify(buffer);
+        return new UInt8Histogram(UnsignedArrays.count(buffer, BINS));
+    }
+
+    /**
+     * Counts the values in an array, in parallel for large arrays.
+     * 
+     * @param a
+     *            the values to count
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static UInt8Histogram parallelValueOf(byte[] a) throws IllegalArgumentException {
+        verify(a);
+        return parallelValueOf(a, 0, a.length);
+    }
+
+    /**
+     * Counts the values in a range of an array, in parallel for large ranges.
+     * 
+     * @param a
+     *            the values to count
+     * @param fromIndex
+     *            the index of the first value to count, inclusive
+     * @param toIndex
+     *            the index of the last value to count, exclusive
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static UInt8Histogram parallelValueOf(byte[] a, int fromIndex, int toIndex)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return new UInt8Histogram(UnsignedArrays.parallelCount(a, fromIndex, toIndex));
+    }
+
+    /**
+     * Counts the values in a <code>UInt8Array</code>, in parallel for large arrays.
+     * 
+     * @param a
+     *            the values to count
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static UInt8Histogram parallelValueOf(UInt8Array a) throws IllegalArgumentException {
+        verify(a);
+        return parallelValueOf(a.array());
+    }
+
+    /**
+     * Counts the remaining bytes of a buffer, in parallel for large buffers. The buffer's
+     * position is not changed, and it must not be modified while it is being counted.
+     * 
+     * @param buffer
+     *            the values to count
+     * @return the histogram of the values
+     * @throws IllegalArgumentException
+     *             if <code>buffer</code> is <code>null</code>
+     */
+    public static UInt8Histogram parallelValueOf(ByteBuffer buffer)
+            throws IllegalArgumentException {
+        verify(buffer);
+        return new UInt8Histogram(UnsignedArrays.parallelCount(buffer, BINS));
+    }
+
+    /**
+     * Gets the number of times a value was counted. Only the low 8 bits of <code>value</code> are
+     * used.
+     * 
+     * @param value
+     *            the value
+     * @return the number of times <code>value</code> was counted
+     */
+    public int count(int value) {
+        return counts[value & 0xff];
+    }
+
+    /**
+     * Gets the number of values counted.
+     * 
+     * @return the number of values counted
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Determines if no values were counted.
+     * 
+     * @return <code>true</code> if no values were counted
+     */
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * Gets a copy of the bins, indexed by value.
+     * 
+     * @return the number of times each value was counted
+     */
+    public int[] counts() {
+        return counts.clone();
+    }
+
+    /**
+     * Gets the smallest value that at least <code>percentile</code> percent of the values are
+     * less than or equal to. The 0th percentile is the smallest value counted, the 50th the
+     * median and the 100th the largest.
+     * 
+     * @param percentile
+     *            the percentile, from 0 to 100
+     * @return the value at <code>percentile</code>
+     * @throws IllegalArgumentException
+     *             if <code>percentile</code> is not between 0 and 100
+     * @throws IllegalStateException
+     *             if the histogram is empty
+     */
+    public int percentile(double percentile) throws IllegalArgumentException,
+            IllegalStateException {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("percentile must be between 0 and 100.");
+        verifyNotEmpty();
+        long rank = Math.max(1, (long) Math.ceil(percentile * total / 100));
+        long seen = 0;
+        for (int value = 0; value < counts.length - 1; value++) {
+            seen += counts[value];
+            if (seen >= rank)
+                return value;
+        }
+        return counts.length - 1;
+    }
+
+    /**
+     * Gets the value counted most often. Ties go to the smallest value.
+     * 
+     * @return the most common value
+     * @throws IllegalStateException
+     *             if the histogram is empty
+     */
+    public int mode() throws IllegalStateException {
+        verifyNotEmpty();
+        int mode = 0;
+        for (int value = 1; value < counts.length; value++)
+            if (counts[value] > counts[mode])
+                mode = value;
+        return mode;
+    }
+
+    /**
+     * Gets the Shannon entropy of the values, in bits per value. This is 0 when every value is
+     * the same, or when the histogram is empty, and 8 when every value is equally common.
+     * 
+     * @return the entropy in bits
+     */
+    public double entropy() {
+        double entropy = 0;
+        for (int value = 0; value < counts.length; value++) {
+            if (counts[value] != 0) {
+                double p = (double) counts[value] / total;
+                entropy -= p * Math.log(p);
+            }
+        }
+        return entropy / Math.log(2);
+    }
+
+    /**
+     * Determines if this histogram has the same counts as another object.
+     * 
+     * @param object
+     *            the object to compare
+     * @return <code>true</code> if <code>object</code> is a <code>UInt8Histogram</code> with
+     *         the same counts
+     */
+    public boolean equals(Object object) {
+        if (object == this)
+            return true;
+        if (!(object instanceof UInt8Histogram))
+            return false;
+        return Arrays.equals(counts, ((UInt8Histogram) object).counts);
+    }
+
+    /**
+     * Gets a hash code for the counts.
+     * 
+     * @return a hash code
+     */
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    /**
+     * Gets the non-zero bins as a <code>String</code>, such as <code>{0=3, 255=1}</code>.
+     * 
+     * @return the non-zero bins as a <code>String</code>
+     */
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int value = 0; value < counts.length; value++) {
+            if (counts[value] != 0) {
+                if (builder.length() > 1)
+                    builder.append(", ");
+                builder.append(value).append('=').append(counts[value]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private void verifyNotEmpty() throws IllegalStateException {
+        if (total == 0)
+            throw new IllegalStateException("histogram is empty.");
+    }
+
+    private static void checkRange(int length, int fromIndex, int toIndex)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        if (fromIndex > toIndex)
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex("
+                    + toIndex + ")");
+        if (fromIndex < 0)
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        if (toIndex > length)
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+    }
+
+    private static void verify(Object array) throws IllegalArgumentException {
+        if (array == null)
+            throw new IllegalArgumentException("array cannot be null.");
+    }
+
+    private static void verify(ByteBuffer buffer) throws IllegalArgumentException {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer cannot be null.");
+    }
+}
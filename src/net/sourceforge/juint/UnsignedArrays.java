@@ -0,0 +1,1264 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorting and searching of arrays of raw unsigned values, in unsigned order and without boxing.
+ * Large <code>int</code> arrays are sorted with a least significant digit radix sort, and
+ * <code>short</code> and <code>byte</code> arrays with a counting sort; small ranges fall back to
+ * {@link Arrays#sort(int[])} with the sign bit flipped.
+ */
+public final class UnsignedArrays {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    // below these sizes the histograms cost more than a comparison sort
+    private static final int INT_RADIX_THRESHOLD = 512;
+    private static final int SHORT_COUNTING_THRESHOLD = 4096;
+    private static final int BYTE_COUNTING_THRESHOLD = 64;
+    // inputs smaller than this are sorted on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+    private static final int MIN_CHUNK = 1 << 15;
+
+    private UnsignedArrays() {
+    }
+
+    /**
+     * Sorts unsigned 32-bit integers into ascending unsigned order.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void sort(int[] a) throws IllegalArgumentException {
+        verify(a);
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts a range of unsigned 32-bit integers into ascending unsigned order.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex) throws IllegalArgumentException,
+            ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < INT_RADIX_THRESHOLD) {
+            flip(a, fromIndex, toIndex);
+            Arrays.sort(a, fromIndex, toIndex);
+            flip(a, fromIndex, toIndex);
+            return;
+        }
+        int[][] counts = new int[4][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            int value = a[i];
+            counts[0][value & DIGIT_MASK]++;
+            counts[1][(value >>> 8) & DIGIT_MASK]++;
+            counts[2][(value >>> 16) & DIGIT_MASK]++;
+            counts[3][value >>> 24]++;
+        }
+        int[] src = a;
+        int srcOffset = fromIndex;
+        int[] dst = new int[n];
+        int dstOffset = 0;
+        for (int pass = 0; pass < 4; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            // every value has the same digit, so this pass would not move anything
+            if (count[(src[srcOffset] >>> shift) & DIGIT_MASK] == n)
+                continue;
+            toOffsets(count);
+            for (int i = 0; i < n; i++) {
+                int value = src[srcOffset + i];
+                dst[dstOffset + count[(value >>> shift) & DIGIT_MASK]++] = value;
+            }
+            int[] array = src;
+            src = dst;
+            dst = array;
+            int offset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = offset;
+        }
+        if (src != a)
+            System.arraycopy(src, srcOffset, a, fromIndex, n);
+    }
+
+    /**
+     * Sorts unsigned 16-bit integers into ascending unsigned order.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void sort(short[] a) throws IllegalArgumentException {
+        verify(a);
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts a range of unsigned 16-bit integers into ascending unsigned order.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static void sort(short[] a, int fromIndex, int toIndex)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < SHORT_COUNTING_THRESHOLD) {
+            flip(a, fromIndex, toIndex);
+            Arrays.sort(a, fromIndex, toIndex);
+            flip(a, fromIndex, toIndex);
+            return;
+        }
+        int[] count = new int[1 << 16];
+        for (int i = fromIndex; i < toIndex; i++)
+            count[a[i] & 0xffff]++;
+        fill(a, fromIndex, count);
+    }
+
+    /**
+     * Sorts unsigned 8-bit integers into ascending unsigned order.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void sort(byte[] a) throws IllegalArgumentException {
+        verify(a);
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * Sorts a range of unsigned 8-bit integers into ascending unsigned order.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static void sort(byte[] a, int fromIndex, int toIndex) throws IllegalArgumentException,
+            ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        if (toIndex - fromIndex < BYTE_COUNTING_THRESHOLD) {
+            flip(a, fromIndex, toIndex);
+            Arrays.sort(a, fromIndex, toIndex);
+            flip(a, fromIndex, toIndex);
+            return;
+        }
+        int[] count = new int[1 << 8];
+        for (int i = fromIndex; i < toIndex; i++)
+            count[a[i] & 0xff]++;
+        fill(a, fromIndex, count);
+    }
+
+    /**
+     * Sorts the elements of a <code>UInt32Array</code> into ascending order.
+     * 
+     * @param a
+     *            the array to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void sort(UInt32Array a) throws IllegalArgumentException {
+        verify(a);
+        sort(a.array());
+    }
+
+    /**
+     * Sorts the elements of a <code>UInt16Array</code> into ascending order.
+     * 
+     * @param a
+     *            the array to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void sort(UInt16Array a) throws IllegalArgumentException {
+        verify(a);
+        sort(a.array());
+    }
+
+    /**
+     * Sorts the elements of a <code>UInt8Array</code> into ascending order.
+     * 
+     * @param a
+     *            the array to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void sort(UInt8Array a) throws IllegalArgumentException {
+        verify(a);
+        sort(a.array());
+    }
+
+    /**
+     * Sorts unsigned 32-bit integers into ascending unsigned order, using the common fork-join
+     * pool for large arrays. Each radix pass counts and then scatters disjoint chunks of the
+     * array in parallel.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void parallelSort(int[] a) throws IllegalArgumentException {
+        verify(a);
+        int n = a.length;
+        int chunks = chunks(n);
+        if (chunks < 2) {
+            sort(a, 0, n);
+            return;
+        }
+        int[][] counts = new int[chunks][RADIX];
+        RadixTask[] tasks = new RadixTask[chunks];
+        int[] src = a;
+        int[] dst = new int[n];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                Arrays.fill(counts[chunk], 0);
+                tasks[chunk] = new RadixTask(src, dst, start(n, chunks, chunk), start(n, chunks,
+                        chunk + 1), shift, counts[chunk], false);
+            }
+            ForkJoinTask.invokeAll(tasks);
+            if (!toOffsets(counts, n))
+                continue;
+            for (int chunk = 0; chunk < chunks; chunk++)
+                tasks[chunk] = new RadixTask(src, dst, start(n, chunks, chunk), start(n, chunks,
+                        chunk + 1), shift, counts[chunk], true);
+            ForkJoinTask.invokeAll(tasks);
+            int[] array = src;
+            src = dst;
+            dst = array;
+        }
+        if (src != a)
+            System.arraycopy(src, 0, a, 0, n);
+    }
+
+    /**
+     * Sorts unsigned 16-bit integers into ascending unsigned order, counting the values in
+     * parallel on the common fork-join pool for large arrays.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void parallelSort(short[] a) throws IllegalArgumentException {
+        verify(a);
+        if (chunks(a.length) < 2) {
+            sort(a, 0, a.length);
+            return;
+        }
+        fill(a, 0, parallelCount(a, 0, a.length));
+    }
+
+    /**
+     * Sorts unsigned 8-bit integers into ascending unsigned order, counting the values in
+     * parallel on the common fork-join pool for large arrays.
+     * 
+     * @param a
+     *            the raw values to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void parallelSort(byte[] a) throws IllegalArgumentException {
+        verify(a);
+        if (chunks(a.length) < 2) {
+            sort(a, 0, a.length);
+            return;
+        }
+        fill(a, 0, parallelCount(a, 0, a.length));
+    }
+
+    /**
+     * Sorts the elements of a <code>UInt32Array</code> into ascending order, in parallel for
+     * large arrays.
+     * 
+     * @param a
+     *            the array to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void parallelSort(UInt32Array a) throws IllegalArgumentException {
+        verify(a);
+        parallelSort(a.array());
+    }
+
+    /**
+     * Sorts the elements of a <code>UInt16Array</code> into ascending order, in parallel for
+     * large arrays.
+     * 
+     * @param a
+     *            the array to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void parallelSort(UInt16Array a) throws IllegalArgumentException {
+        verify(a);
+        parallelSort(a.array());
+    }
+
+    /**
+     * Sorts the elements of a <code>UInt8Array</code> into ascending order, in parallel for large
+     * arrays.
+     * 
+     * @param a
+     *            the array to sort
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static void parallelSort(UInt8Array a) throws IllegalArgumentException {
+        verify(a);
+        parallelSort(a.array());
+    }
+
+    /**
+     * Gets the permutation that sorts unsigned 32-bit integers into ascending unsigned order. The
+     * array itself is not modified. The sort is stable, so equal values keep their relative
+     * order.
+     * 
+     * @param a
+     *            the raw values
+     * @return the indexes of the elements of <code>a</code> in sorted order
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int[] argsort(int[] a) throws IllegalArgumentException {
+        verify(a);
+        int n = a.length;
+        int[][] counts = new int[4][RADIX];
+        for (int i = 0; i < n; i++) {
+            int value = a[i];
+            counts[0][value & DIGIT_MASK]++;
+            counts[1][(value >>> 8) & DIGIT_MASK]++;
+            counts[2][(value >>> 16) & DIGIT_MASK]++;
+            counts[3][value >>> 24]++;
+        }
+        int[] keys = a;
+        int[] index = identity(n);
+        int[] keyBuffer = new int[n];
+        int[] indexBuffer = new int[n];
+        for (int pass = 0; pass < 4 && n > 0; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] count = counts[pass];
+            if (count[(keys[0] >>> shift) & DIGIT_MASK] == n)
+                continue;
+            toOffsets(count);
+            for (int i = 0; i < n; i++) {
+                int value = keys[i];
+                int position = count[(value >>> shift) & DIGIT_MASK]++;
+                keyBuffer[position] = value;
+                indexBuffer[position] = index[i];
+            }
+            // the input array is never written; its first buffer is a fresh array
+            int[] array = (keys == a) ? new int[n] : keys;
+            keys = keyBuffer;
+            keyBuffer = array;
+            array = index;
+            index = indexBuffer;
+            indexBuffer = array;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the permutation that sorts unsigned 16-bit integers into ascending unsigned order. The
+     * array itself is not modified. The sort is stable, so equal values keep their relative
+     * order.
+     * 
+     * @param a
+     *            the raw values
+     * @return the indexes of the elements of <code>a</code> in sorted order
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int[] argsort(short[] a) throws IllegalArgumentException {
+        verify(a);
+        int[] count = new int[1 << 16];
+        for (int i = 0; i < a.length; i++)
+            count[a[i] & 0xffff]++;
+        toOffsets(count);
+        int[] index = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            index[count[a[i] & 0xffff]++] = i;
+        return index;
+    }
+
+    /**
+     * Gets the permutation that sorts unsigned 8-bit integers into ascending unsigned order. The
+     * array itself is not modified. The sort is stable, so equal values keep their relative
+     * order.
+     * 
+     * @param a
+     *            the raw values
+     * @return the indexes of the elements of <code>a</code> in sorted order
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int[] argsort(byte[] a) throws IllegalArgumentException {
+        verify(a);
+        int[] count = new int[1 << 8];
+        for (int i = 0; i < a.length; i++)
+            count[a[i] & 0xff]++;
+        toOffsets(count);
+        int[] index = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            index[count[a[i] & 0xff]++] = i;
+        return index;
+    }
+
+    /**
+     * Gets the permutation that sorts the elements of a <code>UInt32Array</code>.
+     * 
+     * @param a
+     *            the array
+     * @return the indexes of the elements of <code>a</code> in sorted order
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int[] argsort(UInt32Array a) throws IllegalArgumentException {
+        verify(a);
+        return argsort(a.array());
+    }
+
+    /**
+     * Gets the permutation that sorts the elements of a <code>UInt16Array</code>.
+     * 
+     * @param a
+     *            the array
+     * @return the indexes of the elements of <code>a</code> in sorted order
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int[] argsort(UInt16Array a) throws IllegalArgumentException {
+        verify(a);
+        return argsort(a.array());
+    }
+
+    /**
+     * Gets the permutation that sorts the elements of a <code>UInt8Array</code>.
+     * 
+     * @param a
+     *            the array
+     * @return the indexes of the elements of <code>a</code> in sorted order
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int[] argsort(UInt8Array a) throws IllegalArgumentException {
+        verify(a);
+        return argsort(a.array());
+    }
+
+    /**
+     * Searches sorted unsigned 32-bit integers for a value, comparing in unsigned order.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the index of <code>key</code> if it is present, otherwise
+     *         <code>(-(insertion point) - 1)</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int binarySearchUnsigned(int[] a, int key) throws IllegalArgumentException {
+        verify(a);
+        return binarySearchUnsigned(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches a range of sorted unsigned 32-bit integers for a value, comparing in unsigned order.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the index of <code>key</code> if it is present, otherwise
+     *         <code>(-(insertion point) - 1)</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int binarySearchUnsigned(int[] a, int fromIndex, int toIndex, int key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        int index = lowerBound0(a, fromIndex, toIndex, key);
+        if (index < toIndex && a[index] == key)
+            return index;
+        return -(index + 1);
+    }
+
+    /**
+     * Finds the first index at which a value could be inserted into sorted unsigned 32-bit
+     * integers, before any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between 0 and <code>a.length</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int lowerBound(int[] a, int key) throws IllegalArgumentException {
+        verify(a);
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * Finds the first index at which a value could be inserted into a range of sorted unsigned
+     * 32-bit integers, before any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between <code>fromIndex</code> and <code>toIndex</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int lowerBound(int[] a, int fromIndex, int toIndex, int key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Finds the last index at which a value could be inserted into sorted unsigned 32-bit integers,
+     * after any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between 0 and <code>a.length</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int upperBound(int[] a, int key) throws IllegalArgumentException {
+        verify(a);
+        return upperBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * Finds the last index at which a value could be inserted into a range of sorted unsigned
+     * 32-bit integers, after any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between <code>fromIndex</code> and <code>toIndex</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int upperBound(int[] a, int fromIndex, int toIndex, int key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Searches sorted unsigned 16-bit integers for a value, comparing in unsigned order.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the index of <code>key</code> if it is present, otherwise
+     *         <code>(-(insertion point) - 1)</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int binarySearchUnsigned(short[] a, short key) throws IllegalArgumentException {
+        verify(a);
+        return binarySearchUnsigned(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches a range of sorted unsigned 16-bit integers for a value, comparing in unsigned order.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the index of <code>key</code> if it is present, otherwise
+     *         <code>(-(insertion point) - 1)</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int binarySearchUnsigned(short[] a, int fromIndex, int toIndex, short key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        int index = lowerBound0(a, fromIndex, toIndex, key);
+        if (index < toIndex && a[index] == key)
+            return index;
+        return -(index + 1);
+    }
+
+    /**
+     * Finds the first index at which a value could be inserted into sorted unsigned 16-bit
+     * integers, before any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between 0 and <code>a.length</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int lowerBound(short[] a, short key) throws IllegalArgumentException {
+        verify(a);
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * Finds the first index at which a value could be inserted into a range of sorted unsigned
+     * 16-bit integers, before any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between <code>fromIndex</code> and <code>toIndex</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int lowerBound(short[] a, int fromIndex, int toIndex, short key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Finds the last index at which a value could be inserted into sorted unsigned 16-bit integers,
+     * after any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between 0 and <code>a.length</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int upperBound(short[] a, short key) throws IllegalArgumentException {
+        verify(a);
+        return upperBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * Finds the last index at which a value could be inserted into a range of sorted unsigned
+     * 16-bit integers, after any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between <code>fromIndex</code> and <code>toIndex</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int upperBound(short[] a, int fromIndex, int toIndex, short key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Searches sorted unsigned 8-bit integers for a value, comparing in unsigned order.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the index of <code>key</code> if it is present, otherwise
+     *         <code>(-(insertion point) - 1)</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int binarySearchUnsigned(byte[] a, byte key) throws IllegalArgumentException {
+        verify(a);
+        return binarySearchUnsigned(a, 0, a.length, key);
+    }
+
+    /**
+     * Searches a range of sorted unsigned 8-bit integers for a value, comparing in unsigned order.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the index of <code>key</code> if it is present, otherwise
+     *         <code>(-(insertion point) - 1)</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int binarySearchUnsigned(byte[] a, int fromIndex, int toIndex, byte key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        int index = lowerBound0(a, fromIndex, toIndex, key);
+        if (index < toIndex && a[index] == key)
+            return index;
+        return -(index + 1);
+    }
+
+    /**
+     * Finds the first index at which a value could be inserted into sorted unsigned 8-bit integers,
+     * before any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between 0 and <code>a.length</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int lowerBound(byte[] a, byte key) throws IllegalArgumentException {
+        verify(a);
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * Finds the first index at which a value could be inserted into a range of sorted unsigned
+     * 8-bit integers, before any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between <code>fromIndex</code> and <code>toIndex</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int lowerBound(byte[] a, int fromIndex, int toIndex, byte key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Finds the last index at which a value could be inserted into sorted unsigned 8-bit integers,
+     * after any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between 0 and <code>a.length</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code>
+     */
+    public static int upperBound(byte[] a, byte key) throws IllegalArgumentException {
+        verify(a);
+        return upperBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * Finds the last index at which a value could be inserted into a range of sorted unsigned 8-bit
+     * integers, after any equal elements.
+     * 
+     * @param a
+     *            the raw values, sorted with <code>sort</code>
+     * @param fromIndex
+     *            the index of the first element, inclusive
+     * @param toIndex
+     *            the index of the last element, exclusive
+     * @param key
+     *            the raw value to search for
+     * @return the insertion index, between <code>fromIndex</code> and <code>toIndex</code>
+     * @throws IllegalArgumentException
+     *             if <code>a</code> is <code>null</code> or <code>fromIndex &gt; toIndex</code>
+     * @throws ArrayIndexOutOfBoundsException
+     *             if <code>fromIndex &lt; 0</code> or <code>toIndex &gt; a.length</code>
+     */
+    public static int upperBound(byte[] a, int fromIndex, int toIndex, byte key)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        verify(a);
+        checkRange(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * Counts the occurrences of every unsigned 16-bit value in a range, splitting the work across
+     * the common fork-join pool when the range is large enough.
+     */
+    static int[] parallelCount(short[] a, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        int chunks = chunks(n);
+        int[][] counts = new int[Math.max(chunks, 1)][1 << 16];
+        CountTask[] tasks = new CountTask[counts.length];
+        for (int chunk = 0; chunk < tasks.length; chunk++)
+            tasks[chunk] = new CountTask(a, null, fromIndex + start(n, tasks.length, chunk),
+                    fromIndex + start(n, tasks.length, chunk + 1), counts[chunk]);
+        ForkJoinTask.invokeAll(tasks);
+        return merge(counts);
+    }
+
+    /**
+     * Counts the occurrences of every unsigned 8-bit value in a range, splitting the work across
+     * the common fork-join pool when the range is large enough.
+     */
+    static int[] parallelCount(byte[] a, int fromIndex, int toIndex) {
+        int n = toIndex - fromIndex;
+        int chunks = chunks(n);
+        int[][] counts = new int[Math.max(chunks, 1)][1 << 8];
+        CountTask[] tasks = new CountTask[counts.length];
+        for (int chunk = 0; chunk < tasks.length; chunk++)
+            tasks[chunk] = new CountTask(null, a, fromIndex + start(n, tasks.length, chunk),
+                    fromIndex + start(n, tasks.length, chunk + 1), counts[chunk]);
+        ForkJoinTask.invokeAll(tasks);
+        return merge(counts);
+    }
+
+    /**
+     * Counts the occurrences of every unsigned value in the remaining bytes of a buffer, splitting
+     * the work across the common fork-join pool when there are enough. With 65536 bins the bytes
+     * are read in pairs, in the buffer's byte order, and a trailing odd byte is ignored. The
+     * buffer's position is not changed.
+     */
+    static int[] parallelCount(ByteBuffer buffer, int bins) {
+        int n = (bins > 1 << 8) ? buffer.remaining() / 2 : buffer.remaining();
+        int chunks = chunks(n);
+        int[][] counts = new int[Math.max(chunks, 1)][bins];
+        CountTask[] tasks = new CountTask[counts.length];
+        for (int chunk = 0; chunk < tasks.length; chunk++)
+            tasks[chunk] = new CountTask(buffer, start(n, tasks.length, chunk), start(n,
+                    tasks.length, chunk + 1), counts[chunk]);
+        ForkJoinTask.invokeAll(tasks);
+        return merge(counts);
+    }
+
+    /**
+     * Counts the occurrences of every unsigned value in the remaining bytes of a buffer in the
+     * calling thread, as {@link #parallelCount(ByteBuffer, int)} does.
+     */
+    static int[] count(ByteBuffer buffer, int bins) {
+        int n = (bins > 1 << 8) ? buffer.remaining() / 2 : buffer.remaining();
+        int[] count = new int[bins];
+        new CountTask(buffer, 0, n, count).compute();
+        return count;
+    }
+
+    private static int lowerBound0(int[] a, int fromIndex, int toIndex, int key) {
+        int k = key ^ Integer.MIN_VALUE;
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((a[mid] ^ Integer.MIN_VALUE) < k)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static int upperBound0(int[] a, int fromIndex, int toIndex, int key) {
+        int k = key ^ Integer.MIN_VALUE;
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((a[mid] ^ Integer.MIN_VALUE) <= k)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static int lowerBound0(short[] a, int fromIndex, int toIndex, short key) {
+        int k = key & 0xffff;
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((a[mid] & 0xffff) < k)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static int upperBound0(short[] a, int fromIndex, int toIndex, short key) {
+        int k = key & 0xffff;
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((a[mid] & 0xffff) <= k)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static int lowerBound0(byte[] a, int fromIndex, int toIndex, byte key) {
+        int k = key & 0xff;
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((a[mid] & 0xff) < k)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static int upperBound0(byte[] a, int fromIndex, int toIndex, byte key) {
+        int k = key & 0xff;
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((a[mid] & 0xff) <= k)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static int chunks(int n) {
+        if (n < PARALLEL_THRESHOLD)
+            return 1;
+        return Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / MIN_CHUNK);
+    }
+
+    private static int start(int n, int chunks, int chunk) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    private static int[] merge(int[][] counts) {
+        int[] total = counts[0];
+        for (int chunk = 1; chunk < counts.length; chunk++)
+            for (int value = 0; value < total.length; value++)
+                total[value] += counts[chunk][value];
+        return total;
+    }
+
+    private static int[] identity(int n) {
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++)
+            index[i] = i;
+        return index;
+    }
+
+    private static void toOffsets(int[] count) {
+        int sum = 0;
+        for (int digit = 0; digit < count.length; digit++) {
+            int c = count[digit];
+            count[digit] = sum;
+            sum += c;
+        }
+    }
+
+    /**
+     * Turns the per-chunk counts of a pass into the position at which each chunk writes its
+     * first value of each digit, ordered by digit and then by chunk so the pass stays stable.
+     * 
+     * @return <code>false</code> if every value has the same digit and the pass can be skipped
+     */
+    private static boolean toOffsets(int[][] counts, int n) {
+        int sum = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int start = sum;
+            for (int chunk = 0; chunk < counts.length; chunk++) {
+                int c = counts[chunk][digit];
+                counts[chunk][digit] = sum;
+                sum += c;
+            }
+            if (sum - start == n)
+                return false;
+        }
+        return true;
+    }
+
+    private static void fill(short[] a, int fromIndex, int[] count) {
+        int index = fromIndex;
+        for (int value = 0; value < count.length; value++) {
+            int c = count[value];
+            if (c != 0) {
+                Arrays.fill(a, index, index + c, (short) value);
+                index += c;
+            }
+        }
+    }
+
+    private static void fill(byte[] a, int fromIndex, int[] count) {
+        int index = fromIndex;
+        for (int value = 0; value < count.length; value++) {
+            int c = count[value];
+            if (c != 0) {
+                Arrays.fill(a, index, index + c, (byte) value);
+                index += c;
+            }
+        }
+    }
+
+    private static void flip(int[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++)
+            a[i] ^= Integer.MIN_VALUE;
+    }
+
+    private static void flip(short[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++)
+            a[i] ^= Short.MIN_VALUE;
+    }
+
+    private static void flip(byte[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++)
+            a[i] ^= Byte.MIN_VALUE;
+    }
+
+    private static void checkRange(int length, int fromIndex, int toIndex)
+            throws IllegalArgumentException, ArrayIndexOutOfBoundsException {
+        if (fromIndex > toIndex)
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex("
+                    + toIndex + ")");
+        if (fromIndex < 0)
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        if (toIndex > length)
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+    }
+
+    private static void verify(Object array) throws IllegalArgumentException {
+        if (array == null)
+            throw new IllegalArgumentException("array cannot be null.");
+    }
+
+    /**
+     * One chunk of a parallel radix pass: either counts the digits of the chunk, or scatters the
+     * chunk to the positions computed from every chunk's counts.
+     */
+    private static final class RadixTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int[] src;
+        private final int[] dst;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int shift;
+        private final int[] count;
+        private final boolean scatter;
+
+        RadixTask(int[] src, int[] dst, int fromIndex, int toIndex, int shift, int[] count,
+                boolean scatter) {
+            this.src = src;
+            this.dst = dst;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.shift = shift;
+            this.count = count;
+            this.scatter = scatter;
+        }
+
+        protected void compute() {
+            if (scatter) {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    int value = src[i];
+                    dst[count[(value >>> shift) & DIGIT_MASK]++] = value;
+                }
+            }
+            else {
+                for (int i = fromIndex; i < toIndex; i++)
+                    count[(src[i] >>> shift) & DIGIT_MASK]++;
+            }
+        }
+    }
+
+    /**
+     * Counts the values in one chunk of a <code>short</code> array, a <code>byte</code> array or
+     * a buffer. The width of a buffer's values follows from the number of bins.
+     */
+    private static final class CountTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int BLOCK = 4096;
+        private final short[] shorts;
+        private final byte[] bytes;
+        private final ByteBuffer buffer;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int[] count;
+
+        CountTask(short[] shorts, byte[] bytes, int fromIndex, int toIndex, int[] count) {
+            this.shorts = shorts;
+            this.bytes = bytes;
+            this.buffer = null;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.count = count;
+        }
+
+        CountTask(ByteBuffer buffer, int fromIndex, int toIndex, int[] count) {
+            this.shorts = null;
+            this.bytes = null;
+            this.buffer = buffer;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.count = count;
+        }
+
+        protected void compute() {
+            if (shorts != null) {
+                for (int i = fromIndex; i < toIndex; i++)
+                    count[shorts[i] & 0xffff]++;
+            }
+            else if (bytes != null) {
+                for (int i = fromIndex; i < toIndex; i++)
+                    count[bytes[i] & 0xff]++;
+            }
+            else if (count.length > 1 << 8) {
+                // each task reads through its own view, so no position is shared
+                ShortBuffer values = buffer.duplicate().order(buffer.order()).asShortBuffer();
+                values.limit(toIndex);
+                values.position(fromIndex);
+                short[] block = new short[BLOCK];
+                while (values.hasRemaining()) {
+                    int length = Math.min(block.length, values.remaining());
+                    values.get(block, 0, length);
+                    for (int i = 0; i < length; i++)
+                        count[block[i] & 0xffff]++;
+                }
+            }
+            else {
+                ByteBuffer values = buffer.duplicate();
+                values.limit(values.position() + toIndex);
+                values.position(values.position() + fromIndex);
+                byte[] block = new byte[BLOCK];
+                while (values.hasRemaining()) {
+                    int length = Math.min(block.length, values.remaining());
+                    values.get(block, 0, length);
+                    for (int i = 0; i < length; i++)
+                        count[block[i] & 0xff]++;
+                }
+            }
+        }
+    }
+}
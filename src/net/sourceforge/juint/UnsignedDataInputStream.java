@@ -0,0 +1,562 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+
+/**
+ * Buffered input stream that reads signed and unsigned 8, 16 and 32-bit integers in either byte
+ * order. Unlike <code>DataInputStream</code>, values are decoded straight out of the internal
+ * buffer, and unsigned values are returned widened to the next larger primitive.
+ * <p>
+ * This class is not thread safe.
+ */
+public class UnsignedDataInputStream extends FilterInputStream {
+    /**
+     * The default size of the internal buffer in bytes.
+     * <p>
+     * {@value}
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MIN_BUFFER_SIZE = 8;
+    private final ByteOrder order;
+    private final boolean bigEndian;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    /**
+     * Creates a new instance reading big-endian values, with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     * 
+     * @param in
+     *            the stream to read from
+     */
+    public UnsignedDataInputStream(InputStream in) {
+        this(in, ByteOrder.BIG_ENDIAN, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance with a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+     * 
+     * @param in
+     *            the stream to read from
+     * @param order
+     *            the byte order of the values in the stream
+     * @throws IllegalArgumentException
+     *             if <code>order</code> is <code>null</code>
+     */
+    public UnsignedDataInputStream(InputStream in, ByteOrder order)
+            throws IllegalArgumentException {
+        this(in, order, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param in
+     *            the stream to read from
+     * @param order
+     *            the byte order of the values in the stream
+     * @param bufferSize
+     *            the size of the internal buffer in bytes, at least 8
+     * @throws IllegalArgumentException
+     *             if <code>order</code> is <code>null</code> or <code>bufferSize</code> is less
+     *             than 8
+     */
+    public UnsignedDataInputStream(InputStream in, ByteOrder order, int bufferSize)
+            throws IllegalArgumentException {
+        super(in);
+        if (order == null)
+            throw new IllegalArgumentException("order cannot be null.");
+        if (bufferSize < MIN_BUFFER_SIZE)
+            throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE
+                    + ".");
+        this.order = order;
+        bigEndian = (order == ByteOrder.BIG_ENDIAN);
+        buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Gets the byte order of the values in the stream.
+     * 
+     * @return the byte order
+     */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /**
+     * Reads an unsigned 8-bit integer.
+     * 
+     * @return the value as an unsigned 8-bit integer
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public short readUInt8() throws IOException {
+        require(1);
+        return UInt8.toShort(buffer[position++]);
+    }
+
+    /**
+     * Reads a signed 8-bit integer.
+     * 
+     * @return the value as a signed 8-bit integer
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public byte readInt8() throws IOException {
+        require(1);
+        return buffer[position++];
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer.
+     * 
+     * @return the value as an unsigned 16-bit integer
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public int readUInt16() throws IOException {
+        return UInt16.toInt(readInt16());
+    }
+
+    /**
+     * Reads a signed 16-bit integer.
+     * 
+     * @return the value as a signed 16-bit integer
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public short readInt16() throws IOException {
+        require(2);
+        short word = decode16(position);
+        position += 2;
+        return word;
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer.
+     * 
+     * @return the value as an unsigned 32-bit integer
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public long readUInt32() throws IOException {
+        return UInt32.toLong(readInt32());
+    }
+
+    /**
+     * Reads a signed 32-bit integer.
+     * 
+     * @return the value as a signed 32-bit integer
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public int readInt32() throws IOException {
+        require(4);
+        int doubleWord = decode32(position);
+        position += 4;
+        return doubleWord;
+    }
+
+    /**
+     * Reads an unsigned 8-bit integer as a <code>UInt8</code>. The instance is cached, as with
+     * {@link UInt8#valueOf(byte)}.
+     * 
+     * @return the value read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public UInt8 readUInt8Instance() throws IOException {
+        return UInt8.valueOf(readInt8());
+    }
+
+    /**
+     * Reads a signed 8-bit integer as an <code>Int8</code>. The instance is cached, as with
+     * {@link Int8#valueOf(byte)}.
+     * 
+     * @return the value read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public Int8 readInt8Instance() throws IOException {
+        return Int8.valueOf(readInt8());
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer as a <code>UInt16</code>.
+     * 
+     * @return the value read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public UInt16 readUInt16Instance() throws IOException {
+        return UInt16.valueOf(readInt16());
+    }
+
+    /**
+     * Reads a signed 16-bit integer as an <code>Int16</code>.
+     * 
+     * @return the value read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public Int16 readInt16Instance() throws IOException {
+        return Int16.valueOf(readInt16());
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer as a <code>UInt32</code>.
+     * 
+     * @return the value read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public UInt32 readUInt32Instance() throws IOException {
+        return new UInt32(readInt32());
+    }
+
+    /**
+     * Reads a signed 32-bit integer as an <code>Int32</code>.
+     * 
+     * @return the value read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public Int32 readInt32Instance() throws IOException {
+        return new Int32(readInt32());
+    }
+
+    /**
+     * Reads bytes until <code>len</code> bytes have been read.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first byte written
+     * @param len
+     *            the number of bytes to read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public void readFully(byte[] dst, int off, int len) throws IOException {
+        checkRange(off, len, dst.length);
+        while (len > 0) {
+            int n = read(dst, off, len);
+            if (n < 0)
+                throw new EOFException();
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Reads 16-bit integers until <code>len</code> values have been read. The raw values are
+     * decoded directly from the internal buffer.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first value written
+     * @param len
+     *            the number of values to read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public void readFully(short[] dst, int off, int len) throws IOException {
+        checkRange(off, len, dst.length);
+        while (len > 0) {
+            require(2);
+            int n = Math.min(len, (limit - position) / 2);
+            for (int i = 0; i < n; i++, position += 2)
+                dst[off + i] = decode16(position);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Reads 32-bit integers until <code>len</code> values have been read. The raw values are
+     * decoded directly from the internal buffer.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first value written
+     * @param len
+     *            the number of values to read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public void readFully(int[] dst, int off, int len) throws IOException {
+        checkRange(off, len, dst.length);
+        while (len > 0) {
+            require(4);
+            int n = Math.min(len, (limit - position) / 4);
+            for (int i = 0; i < n; i++, position += 4)
+                dst[off + i] = decode32(position);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Reads unsigned 8-bit integers until <code>len</code> values have been read.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first value written
+     * @param len
+     *            the number of values to read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public void readFully(UInt8Array dst, int off, int len) throws IOException {
+        readFully(dst.array(), off, len);
+    }
+
+    /**
+     * Reads unsigned 16-bit integers until <code>len</code> values have been read.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first value written
+     * @param len
+     *            the number of values to read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public void readFully(UInt16Array dst, int off, int len) throws IOException {
+        readFully(dst.array(), off, len);
+    }
+
+    /**
+     * Reads unsigned 32-bit integers until <code>len</code> values have been read.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first value written
+     * @param len
+     *            the number of values to read
+     * @throws EOFException
+     *             if the end of the stream is reached first
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public void readFully(UInt32Array dst, int off, int len) throws IOException {
+        readFully(dst.array(), off, len);
+    }
+
+    /**
+     * Reads the next byte.
+     * 
+     * @return the byte as an unsigned 8-bit integer, or -1 at the end of the stream
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public int read() throws IOException {
+        if (position == limit && !fill(1))
+            return -1;
+        return buffer[position++] & 0xff;
+    }
+
+    /**
+     * Reads up to <code>len</code> bytes. Buffered bytes are returned first; large reads with an
+     * empty buffer go directly to the underlying stream.
+     * 
+     * @param dst
+     *            the array to read into
+     * @param off
+     *            the index in <code>dst</code> of the first byte written
+     * @param len
+     *            the maximum number of bytes to read
+     * @return the number of bytes read, or -1 at the end of the stream
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>dst</code>
+     */
+    public int read(byte[] dst, int off, int len) throws IOException {
+        checkRange(off, len, dst.length);
+        if (len == 0)
+            return 0;
+        if (position == limit) {
+            if (len >= buffer.length)
+                return in.read(dst, off, len);
+            if (!fill(1))
+                return -1;
+        }
+        int n = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, dst, off, n);
+        position += n;
+        return n;
+    }
+
+    /**
+     * Skips up to <code>n</code> bytes.
+     * 
+     * @param n
+     *            the number of bytes to skip
+     * @return the number of bytes skipped
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public long skip(long n) throws IOException {
+        if (n <= 0)
+            return 0;
+        int buffered = limit - position;
+        if (buffered > 0) {
+            int skipped = (int) Math.min(n, buffered);
+            position += skipped;
+            return skipped;
+        }
+        return in.skip(n);
+    }
+
+    /**
+     * Gets an estimate of the number of bytes that can be read without blocking.
+     * 
+     * @return the number of buffered bytes plus the estimate of the underlying stream
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public int available() throws IOException {
+        int buffered = limit - position;
+        int available = in.available();
+        return (buffered > Integer.MAX_VALUE - available) ? Integer.MAX_VALUE : buffered
+                + available;
+    }
+
+    /**
+     * Mark and reset are not supported.
+     * 
+     * @return <code>false</code>
+     */
+    public boolean markSupported() {
+        return false;
+    }
+
+    public void mark(int readlimit) {
+    }
+
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private short decode16(int offset) {
+        return bigEndian ? UInt16.fromBigEndian(buffer, offset) : UInt16.fromLittleEndian(buffer,
+                offset);
+    }
+
+    private int decode32(int offset) {
+        return bigEndian ? UInt32.fromBigEndian(buffer, offset) : UInt32.fromLittleEndian(buffer,
+                offset);
+    }
+
+    private void require(int n) throws IOException {
+        if (limit - position < n && !fill(n))
+            throw new EOFException();
+    }
+
+    private boolean fill(int n) throws IOException {
+        int remaining = limit - position;
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        position = 0;
+        limit = remaining;
+        while (limit < n) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0)
+                return false;
+            limit += read;
+        }
+        return true;
+    }
+
+    private static void checkRange(int off, int len, int length) throws IndexOutOfBoundsException {
+        if (off < 0 || len < 0 || off > length - len)
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len);
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+
+/**
+ * Buffered output stream that writes signed and unsigned 8, 16 and 32-bit integers in either byte
+ * order. Values are encoded straight into the internal buffer, which is written to the underlying
+ * stream only when it fills up or the stream is flushed.
+ * <p>
+ * The primitive write methods take the widened value returned by the matching read method of
+ * {@link UnsignedDataInputStream} and write its low-order bits, as <code>DataOutputStream</code>
+ * does.
+ * <p>
+ * This class is not thread safe.
+ */
+public class UnsignedDataOutputStream extends FilterOutputStream {
+    /**
+     * The default size of the internal buffer in bytes.
+     * <p>
+     * {@value}
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MIN_BUFFER_SIZE = 8;
+    private final ByteOrder order;
+    private final boolean bigEndian;
+    private final byte[] buffer;
+    private int count;
+
+    /**
+     * Creates a new instance writing big-endian values, with a buffer of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     * 
+     * @param out
+     *            the stream to write to
+     */
+    public UnsignedDataOutputStream(OutputStream out) {
+        this(out, ByteOrder.BIG_ENDIAN, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance with a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+     * 
+     * @param out
+     *            the stream to write to
+     * @param order
+     *            the byte order of the values written
+     * @throws IllegalArgumentException
+     *             if <code>order</code> is <code>null</code>
+     */
+    public UnsignedDataOutputStream(OutputStream out, ByteOrder order)
+            throws IllegalArgumentException {
+        this(out, order, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new instance.
+     * 
+     * @param out
+     *            the stream to write to
+     * @param order
+     *            the byte order of the values written
+     * @param bufferSize
+     *            the size of the internal buffer in bytes, at least 8
+     * @throws IllegalArgumentException
+     *             if <code>order</code> is <code>null</code> or <code>bufferSize</code> is less
+     *             than 8
+     */
+    public UnsignedDataOutputStream(OutputStream out, ByteOrder order, int bufferSize)
+            throws IllegalArgumentException {
+        super(out);
+        if (order == null)
+            throw new IllegalArgumentException("order cannot be null.");
+        if (bufferSize < MIN_BUFFER_SIZE)
+            throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE
+                    + ".");
+        this.order = order;
+        bigEndian = (order == ByteOrder.BIG_ENDIAN);
+        buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Gets the byte order of the values written.
+     * 
+     * @return the byte order
+     */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /**
+     * Writes the low-order 8 bits of <code>value</code> as an unsigned 8-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeUInt8(int value) throws IOException {
+        write(value);
+    }
+
+    /**
+     * Writes the low-order 8 bits of <code>value</code> as a signed 8-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeInt8(int value) throws IOException {
+        write(value);
+    }
+
+    /**
+     * Writes the low-order 16 bits of <code>value</code> as an unsigned 16-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeUInt16(int value) throws IOException {
+        writeInt16(value);
+    }
+
+    /**
+     * Writes the low-order 16 bits of <code>value</code> as a signed 16-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeInt16(int value) throws IOException {
+        reserve(2);
+        encode16(count, (short) value);
+        count += 2;
+    }
+
+    /**
+     * Writes the low-order 32 bits of <code>value</code> as an unsigned 32-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeUInt32(long value) throws IOException {
+        writeInt32((int) value);
+    }
+
+    /**
+     * Writes a signed 32-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeInt32(int value) throws IOException {
+        reserve(4);
+        encode32(count, value);
+        count += 4;
+    }
+
+    /**
+     * Writes an unsigned 8-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeUInt8(UInt8 value) throws IOException {
+        write(value.byteValue());
+    }
+
+    /**
+     * Writes a signed 8-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeInt8(Int8 value) throws IOException {
+        write(value.byteValue());
+    }
+
+    /**
+     * Writes an unsigned 16-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeUInt16(UInt16 value) throws IOException {
+        writeInt16(value.shortValue());
+    }
+
+    /**
+     * Writes a signed 16-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeInt16(Int16 value) throws IOException {
+        writeInt16(value.shortValue());
+    }
+
+    /**
+     * Writes an unsigned 32-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeUInt32(UInt32 value) throws IOException {
+        writeInt32(value.intValue());
+    }
+
+    /**
+     * Writes a signed 32-bit integer.
+     * 
+     * @param value
+     *            the value to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void writeInt32(Int32 value) throws IOException {
+        writeInt32(value.intValue());
+    }
+
+    /**
+     * Writes 16-bit integers. The raw values are encoded directly into the internal buffer.
+     * 
+     * @param src
+     *            the array to write from
+     * @param off
+     *            the index in <code>src</code> of the first value written
+     * @param len
+     *            the number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>src</code>
+     */
+    public void write(short[] src, int off, int len) throws IOException {
+        checkRange(off, len, src.length);
+        while (len > 0) {
+            reserve(2);
+            int n = Math.min(len, (buffer.length - count) / 2);
+            for (int i = 0; i < n; i++, count += 2)
+                encode16(count, src[off + i]);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Writes 32-bit integers. The raw values are encoded directly into the internal buffer.
+     * 
+     * @param src
+     *            the array to write from
+     * @param off
+     *            the index in <code>src</code> of the first value written
+     * @param len
+     *            the number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>src</code>
+     */
+    public void write(int[] src, int off, int len) throws IOException {
+        checkRange(off, len, src.length);
+        while (len > 0) {
+            reserve(4);
+            int n = Math.min(len, (buffer.length - count) / 4);
+            for (int i = 0; i < n; i++, count += 4)
+                encode32(count, src[off + i]);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Writes unsigned 8-bit integers.
+     * 
+     * @param src
+     *            the array to write from
+     * @param off
+     *            the index in <code>src</code> of the first value written
+     * @param len
+     *            the number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>src</code>
+     */
+    public void write(UInt8Array src, int off, int len) throws IOException {
+        write(src.array(), off, len);
+    }
+
+    /**
+     * Writes unsigned 16-bit integers.
+     * 
+     * @param src
+     *            the array to write from
+     * @param off
+     *            the index in <code>src</code> of the first value written
+     * @param len
+     *            the number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>src</code>
+     */
+    public void write(UInt16Array src, int off, int len) throws IOException {
+        write(src.array(), off, len);
+    }
+
+    /**
+     * Writes unsigned 32-bit integers.
+     * 
+     * @param src
+     *            the array to write from
+     * @param off
+     *            the index in <code>src</code> of the first value written
+     * @param len
+     *            the number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>src</code>
+     */
+    public void write(UInt32Array src, int off, int len) throws IOException {
+        write(src.array(), off, len);
+    }
+
+    /**
+     * Writes the low-order 8 bits of <code>b</code>.
+     * 
+     * @param b
+     *            the byte to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void write(int b) throws IOException {
+        reserve(1);
+        buffer[count++] = (byte) b;
+    }
+
+    /**
+     * Writes <code>len</code> bytes. Writes at least as large as the buffer go directly to the
+     * underlying stream.
+     * 
+     * @param src
+     *            the array to write from
+     * @param off
+     *            the index in <code>src</code> of the first byte written
+     * @param len
+     *            the number of bytes to write
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws IndexOutOfBoundsException
+     *             if the range is out of bounds for <code>src</code>
+     */
+    public void write(byte[] src, int off, int len) throws IOException {
+        checkRange(off, len, src.length);
+        if (len >= buffer.length) {
+            flushBuffer();
+            out.write(src, off, len);
+            return;
+        }
+        reserve(len);
+        System.arraycopy(src, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * Writes the buffered bytes and flushes the underlying stream.
+     * 
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void encode16(int offset, short word) {
+        if (bigEndian)
+            UInt16.writeBigEndian(buffer, offset, word);
+        else
+            UInt16.writeLittleEndian(buffer, offset, word);
+    }
+
+    private void encode32(int offset, int doubleWord) {
+        if (bigEndian)
+            UInt32.writeBigEndian(buffer, offset, doubleWord);
+        else
+            UInt32.writeLittleEndian(buffer, offset, doubleWord);
+    }
+
+    private void reserve(int n) throws IOException {
+        if (buffer.length - count < n)
+            flushBuffer();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private static void checkRange(int off, int len, int length) throws IndexOutOfBoundsException {
+        if (off < 0 || len < 0 || off > length - len)
+            throw new IndexOutOfBoundsException("off: " + off + ", len: " + len);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import junit.framework.TestCase;
+
+public class TestBitmask extends TestCase {
+    public void testOf() {
+        assertEquals(0x12, Bitmask.of(0x12).bits());
+    }
+
+    public void testOfBits() {
+        assertEquals(0x80000005, Bitmask.ofBits(0, 2, 31).bits());
+        assertEquals(0, Bitmask.ofBits().bits());
+        try {
+            Bitmask.ofBits(32);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            Bitmask.ofBits(-1);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testOr() {
+        assertEquals(Bitmask.of(0x3), Bitmask.of(0x1).or(Bitmask.of(0x2)));
+    }
+
+    public void testEquals() {
+        assertEquals(Bitmask.of(0x10), Bitmask.ofBits(4));
+        assertFalse(Bitmask.of(0x10).equals(Bitmask.of(0x11)));
+        assertFalse(Bitmask.of(0x10).equals(Integer.valueOf(0x10)));
+        assertEquals(0x10, Bitmask.of(0x10).hashCode());
+    }
+
+    public void testHighBitsOnNarrowTypes() {
+        Bitmask high = Bitmask.of(0xffff0000);
+        assertTrue(new UInt8(0).hasBitmask(Bitmask.ofBits(31)));
+        assertFalse(new Int8(-1).hasAnyBit(high));
+        assertTrue(new UInt16(0).hasBitmask(high));
+        assertFalse(new Int16(-1).hasAnyBit(high));
+        assertEquals(new UInt16(0x12), new UInt16(0x12).addBitmask(high));
+        assertTrue(new UInt32(0xffff0000).hasBitmask(high));
+    }
+
+    public void testToString() {
+        assertEquals("0xff", Bitmask.of(0xff).toString());
+    }
+}
@@ -31,6 +31,10 @@
  */
 package net.sourceforge.juint;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import net.sourceforge.juint.Int16;
 import junit.framework.TestCase;
 
@@ -144,13 +148,13 @@ public class TestInt16 extends TestCase {
     public void testCompareToMore() {
         Int16 one = new Int16(60001);
         Int16 two = new Int16(60010);
-        assertEquals(-9, one.compareTo(two));
+        assertTrue(one.compareTo(two) < 0);
     }
 
     public void testCompareToLess() {
         Int16 one = new Int16(60010);
         Int16 two = new Int16(60001);
-        assertEquals(9, one.compareTo(two));
+        assertTrue(one.compareTo(two) > 0);
     }
 
     public void testEquals() {
@@ -193,6 +197,23 @@ public class TestInt16 extends TestCase {
         assertEquals(0, one.compareTo(two));
     }
 
+    public void testCompareToExtremes() {
+        Int16 one = new Int16(Short.MIN_VALUE);
+        Int16 two = new Int16(Short.MAX_VALUE);
+        assertTrue(one.compareTo(two) < 0);
+        assertTrue(two.compareTo(one) > 0);
+    }
+
+    public void testComparator() {
+        Int16[] values = { new Int16(Short.MAX_VALUE), new Int16(Short.MIN_VALUE),
+                new Int16((short) 0) };
+        Arrays.sort(values, Int16.COMPARATOR);
+        assertEquals(new Int16(Short.MIN_VALUE), values[0]);
+        assertEquals(new Int16((short) 0), values[1]);
+        assertEquals(new Int16(Short.MAX_VALUE), values[2]);
+        assertEquals(0, Int16.COMPARATOR.compare(new Int16((short) 0), new Int16((short) 0)));
+    }
+
     public void testHashCode() {
         Int16 Int16 = new Int16((byte) 10);
         assertEquals(Int16.intValue(), Int16.hashCode());
@@ -235,4 +256,284 @@ public class TestInt16 extends TestCase {
         Int16 int16 = new Int16(0x06);
         assertEquals(new Int16(0x02), int16.removeBitmask(new Int16(0x04)));
     }
+
+    public void testValueOf() {
+        assertEquals(new Int16(-128), Int16.valueOf(-128));
+        assertSame(Int16.valueOf((short) -128), Int16.valueOf(-128L));
+        assertSame(Int16.valueOf(1000), Int16.valueOf(1000));
+    }
+
+    public void testValueOfUncached() {
+        Int16 int16 = Int16.valueOf(-30000);
+        assertEquals(-30000, int16.int16Value());
+    }
+
+    public void testConstants() {
+        assertSame(Int16.ZERO, Int16.valueOf(0));
+        assertSame(Int16.ONE, Int16.valueOf((short) 1));
+        assertEquals(Int16.MAX_VALUE, Int16.MAX.int16Value());
+        assertEquals(Int16.MIN_VALUE, Int16.MIN.int16Value());
+    }
+
+    public void testBitwiseCached() {
+        assertSame(Int16.ONE, Int16.MAX.and(Int16.ONE));
+    }
+
+    public void testStaticFromEndian() {
+        assertEquals((short) 0xca93, Int16.fromBigEndian((byte) 0xca, (byte) 0x93));
+        assertEquals((short) 0x93ca, Int16.fromLittleEndian((byte) 0xca, (byte) 0x93));
+    }
+
+    public void testStaticCompare() {
+        assertTrue(Int16.compare(Short.MIN_VALUE, Short.MAX_VALUE) < 0);
+    }
+
+    public void testStaticBitwise() {
+        assertEquals((short) -1, Int16.not((short) 0));
+        assertEquals((short) 0x02, Int16.removeBitmask((short) 0x06, (short) 0x04));
+    }
+
+    public void testGetBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xff, (byte) 0xfe });
+        assertEquals(-2, Int16.get(buffer, 0));
+        assertEquals(-257, Int16.get(buffer, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        Int16.put(buffer, 0, (short) -2, ByteOrder.LITTLE_ENDIAN);
+        assertEquals((byte) 0xfe, buffer.get(0));
+        assertEquals(-2, Int16.get(buffer, 0, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public void testValueOfOffset() {
+        byte[] record = new byte[] { 0, (byte) 0xff, (byte) 0xfe };
+        assertEquals(-2, Int16.valueOfBigEndian(record, 1).int16Value());
+        assertEquals(-257, Int16.valueOfLittleEndian(record, 1).int16Value());
+    }
+
+    public void testWriteOffset() {
+        byte[] record = new byte[3];
+        new Int16(-2).writeLittleEndian(record, 1);
+        assertEquals((byte) 0xfe, record[1]);
+        assertEquals((byte) 0xff, record[2]);
+    }
+
+    public void testAdd() {
+        assertEquals(new Int16(0x1), new Int16(0xfffe).add(new Int16(0x3)));
+        assertEquals(new Int16(0x1), new Int16(0xffff).add(new Int16(0x2)));
+    }
+
+    public void testSubtract() {
+        assertEquals(new Int16(0xffff), new Int16(0x0).subtract(new Int16(0x1)));
+        assertEquals(new Int16(0xfffe), new Int16(0x1).subtract(new Int16(0x3)));
+    }
+
+    public void testMultiply() {
+        assertEquals(new Int16(0xfffa), new Int16(0xfffe).multiply(new Int16(0x3)));
+        assertEquals(new Int16(0x0), new Int16(0x8000).multiply(new Int16(0x2)));
+    }
+
+    public void testNegate() {
+        assertEquals(new Int16(0xffff), new Int16(0x1).negate());
+        assertEquals(new Int16(0x8000), new Int16(0x8000).negate());
+    }
+
+    public void testIncrement() {
+        assertEquals(new Int16(0x0), new Int16(0xffff).increment());
+        assertEquals(new Int16(0x8000), new Int16(0x7fff).increment());
+    }
+
+    public void testDecrement() {
+        assertEquals(new Int16(0xffff), new Int16(0x0).decrement());
+        assertEquals(new Int16(0x7fff), new Int16(0x8000).decrement());
+    }
+
+    public void testStaticArithmetic() {
+        assertEquals((short) 0x1, Int16.add((short) 0xfffe, (short) 0x3));
+        assertEquals((short) 0xfffe, Int16.subtract((short) 0x1, (short) 0x3));
+        assertEquals((short) 0xfffa, Int16.multiply((short) 0xfffe, (short) 0x3));
+        assertEquals((short) 0xffff, Int16.negate((short) 0x1));
+        assertEquals((short) 0x0, Int16.increment((short) 0xffff));
+        assertEquals((short) 0xffff, Int16.decrement((short) 0x0));
+    }
+
+    public void testSaturating() {
+        assertEquals(new Int16(32767), new Int16(32760).addSaturating(new Int16(10)));
+        assertEquals(new Int16(-32768), new Int16(-32768).subtractSaturating(new Int16(1)));
+        assertEquals(new Int16(-32768), new Int16(-256).multiplySaturating(new Int16(256)));
+        assertEquals(new Int16(32767), new Int16(-256).multiplySaturating(new Int16(-256)));
+    }
+
+    public void testStaticSaturating() {
+        for (int x = -32768; x < 32768; x += 0x1ff) {
+            for (int y = -32768; y < 32768; y += 0xfb) {
+                assertEquals(clamp(x + y), Int16.addSaturating((short) x, (short) y));
+                assertEquals(clamp(x - y), Int16.subtractSaturating((short) x, (short) y));
+                assertEquals(clamp(x * y), Int16.multiplySaturating((short) x, (short) y));
+            }
+        }
+    }
+
+    public void testBulkSaturating() {
+        short[] x = { 32760, -32768 };
+        short[] y = { 10, 1 };
+        short[] dst = new short[2];
+        Int16.addSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new short[] { 32767, -32767 }, dst));
+        Int16.subtractSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new short[] { 32750, -32768 }, dst));
+        Int16.multiplySaturating(x, y, dst);
+        assertTrue(Arrays.equals(new short[] { 32767, -32768 }, dst));
+    }
+
+    private static short clamp(int value) {
+        return (short) Math.max(-32768, Math.min(32767, value));
+    }
+
+    public void testValueOfExact() {
+        assertEquals(new Int16(32767), Int16.valueOfExact(32767));
+        assertEquals(new Int16(-32768), Int16.valueOfExact(-32768));
+        try {
+            Int16.valueOfExact(32768);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            Int16.valueOfExact(-32769);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testExact() {
+        Int16 max = Int16.valueOfExact(32767);
+        Int16 min = Int16.valueOfExact(-32768);
+        Int16 one = Int16.valueOfExact(1);
+        Int16 two = Int16.valueOfExact(2);
+        assertEquals(max, Int16.valueOfExact(32766).addExact(one));
+        assertEquals(min, Int16.valueOfExact(-32767).subtractExact(one));
+        assertEquals(Int16.valueOfExact(32766), Int16.valueOfExact(16383).multiplyExact(two));
+        try {
+            max.addExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            min.subtractExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            max.multiplyExact(two);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testStaticExact() {
+        assertEquals((short) 0x7fff, Int16.addExact((short) 0x7ffe, (short) 0x1));
+        assertEquals((short) 0x8000, Int16.subtractExact((short) 0x8001, (short) 0x1));
+        try {
+            Int16.multiplyExact((short) 0x7fff, (short) 0x7fff);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testInRange() {
+        assertTrue(Int16.inRange(new long[] { -32768, 0, 32767 }));
+        assertFalse(Int16.inRange(new long[] { 0, 32768, 1 }));
+        assertFalse(Int16.inRange(new long[] { -32769 }));
+        assertFalse(Int16.inRange(new long[] { Long.MAX_VALUE }));
+        assertTrue(Int16.inRange(new long[0]));
+        assertTrue(Int16.inRange(new int[] { -32768, 32767 }));
+        assertFalse(Int16.inRange(new int[] { -32768, 32768 }));
+        assertFalse(Int16.inRange(new int[] { Integer.MAX_VALUE }));
+        assertFalse(Int16.inRange(new int[] { Integer.MIN_VALUE }));
+        try {
+            Int16.inRange((long[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShift() {
+        assertEquals(new Int16(0xfff0), new Int16(0xffff).shiftLeft(4));
+        assertEquals(new Int16(0xf800), new Int16(0x8000).shiftRight(4));
+        assertEquals(new Int16(0x2000), new Int16(0x4000).shiftRight(17));
+    }
+
+    public void testRotate() {
+        assertEquals(new Int16(0x2345), new Int16(0x4523).rotateLeft(8));
+        assertEquals(new Int16(0xc001), new Int16(0x8003).rotateRight(1));
+    }
+
+    public void testStaticShift() {
+        for (int value = -32768; value < 32768; value += 0x3d) {
+            for (int distance = 0; distance < 16; distance++) {
+                short word = (short) value;
+                assertEquals((short) (value << distance), Int16.shiftLeft(word, distance));
+                assertEquals((short) (value >> distance), Int16.shiftRight(word, distance));
+                assertEquals(UInt16.rotateLeft(word, distance), Int16.rotateLeft(word,
+                        distance));
+                assertEquals(UInt16.rotateRight(word, distance), Int16.rotateRight(word,
+                        distance));
+            }
+        }
+    }
+
+    public void testBitCounting() {
+        Int16 value = new Int16(-32768);
+        assertEquals(1, value.bitCount());
+        assertEquals(0, value.numberOfLeadingZeros());
+        assertEquals(15, value.numberOfTrailingZeros());
+        assertEquals(value, value.highestOneBit());
+        assertEquals(value, value.lowestOneBit());
+        assertEquals(new Int16(1), value.reverse());
+        assertEquals(new Int16(0x80), value.reverseBytes());
+    }
+
+    public void testBulkBitCount() {
+        assertEquals(17, Int16.bitCount(new short[] { -1, 1, 0 }));
+    }
+
+    public void testHasAnyBit() {
+        assertTrue(new Int16(0x8086).hasAnyBit(new Int16(0x3)));
+        assertFalse(new Int16(0x8086).hasAnyBit(new Int16(0x1)));
+        assertTrue(Int16.hasAnyBit((short) 0x86, (short) 0x5));
+    }
+
+    public void testPrimitiveBitmask() {
+        Int16 value = new Int16(0x8086);
+        assertTrue(value.hasBitmask(0x84));
+        assertFalse(value.hasBitmask(0x85));
+        assertTrue(value.hasAnyBit(0x85));
+        assertFalse(value.hasAnyBit(0x1));
+        assertEquals(new Int16(0x8086 | 0x1), value.addBitmask(0x1));
+        assertEquals(new Int16(0x8086 & ~0x6), value.removeBitmask(0x6));
+        // bits above the width are ignored
+        assertTrue(new Int16(0).hasBitmask(0x10000));
+        assertFalse(new Int16(-1).hasAnyBit(0x10000));
+        assertTrue(new Int16(0x8000).hasBitmask((short) 0x8000));
+        assertTrue(new Int16(0x8000).hasAnyBit((short) 0x8000));
+        assertFalse(new Int16(0x1).hasBitmask((short) 0x8000));
+        assertEquals(new Int16(0x86), new Int16(0x86).addBitmask(0x10000));
+    }
+
+    public void testBitmaskConstant() {
+        Bitmask mask = Bitmask.ofBits(2, 7);
+        Int16 value = new Int16(0x8086);
+        assertTrue(value.hasBitmask(mask));
+        assertTrue(value.hasAnyBit(Bitmask.ofBits(0, 1)));
+        assertEquals(new Int16(0x8086 | 0x1), value.addBitmask(Bitmask.ofBits(0)));
+        assertEquals(new Int16(0x8086 & ~0x84), value.removeBitmask(mask));
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import junit.framework.TestCase;
+
+public class TestInt16Array extends TestCase {
+    public void testGetSet() {
+        Int16Array array = new Int16Array(2);
+        array.set(0, -32768);
+        array.set(1, 65535);
+        assertEquals(-32768, array.get(0));
+        assertEquals(-1, array.get(1));
+    }
+
+    public void testPutByteArray() {
+        Int16Array array = new Int16Array(1);
+        array.put(0, new byte[] { (byte) 0xfe, (byte) 0xff }, 0, 1, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(-2, array.get(0));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putShort((short) -2).flip();
+        Int16Array array = new Int16Array(1);
+        array.put(0, buffer, 1);
+        assertEquals(-2, array.get(0));
+    }
+
+    public void testAsUnsigned() {
+        Int16Array array = Int16Array.valueOf(new int[] { -2 });
+        assertEquals(65534, array.asUnsigned().get(0));
+    }
+
+    public void testToString() {
+        assertEquals("[0, -1]", Int16Array.wrap(new short[] { 0, -1 }).toString());
+    }
+}
@@ -31,6 +31,10 @@
  */
 package net.sourceforge.juint;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import net.sourceforge.juint.Int32;
 import junit.framework.TestCase;
 
@@ -141,13 +145,13 @@ public class TestInt32 extends TestCase {
     public void testCompareToMore() {
         Int32 one = new Int32(1);
         Int32 two = new Int32(10);
-        assertEquals(-9, one.compareTo(two));
+        assertTrue(one.compareTo(two) < 0);
     }
 
     public void testCompareToLess() {
         Int32 one = new Int32(10);
         Int32 two = new Int32(1);
-        assertEquals(9, one.compareTo(two));
+        assertTrue(one.compareTo(two) > 0);
     }
 
     public void testCompareToEquals() {
@@ -156,6 +160,23 @@ public class TestInt32 extends TestCase {
         assertEquals(0, one.compareTo(two));
     }
 
+    public void testCompareToExtremes() {
+        Int32 one = new Int32(Integer.MIN_VALUE);
+        Int32 two = new Int32(Integer.MAX_VALUE);
+        assertTrue(one.compareTo(two) < 0);
+        assertTrue(two.compareTo(one) > 0);
+    }
+
+    public void testComparator() {
+        Int32[] values = { new Int32(Integer.MAX_VALUE), new Int32(Integer.MIN_VALUE),
+                new Int32(0) };
+        Arrays.sort(values, Int32.COMPARATOR);
+        assertEquals(new Int32(Integer.MIN_VALUE), values[0]);
+        assertEquals(new Int32(0), values[1]);
+        assertEquals(new Int32(Integer.MAX_VALUE), values[2]);
+        assertEquals(0, Int32.COMPARATOR.compare(new Int32(0), new Int32(0)));
+    }
+
     public void testHashCode() {
         Int32 int32 = new Int32((byte) 10);
         assertEquals(int32.intValue(), int32.hashCode());
@@ -238,4 +259,251 @@ public class TestInt32 extends TestCase {
         Int32 int32 = new Int32(0x06);
         assertEquals(new Int32(0x02), int32.removeBitmask(new Int32(0x04)));
     }
+
+    public void testStaticFromBigEndian() {
+        assertEquals(0xcafebabe, Int32.fromBigEndian((byte) 0xca, (byte) 0xfe, (byte) 0xba,
+                (byte) 0xbe));
+    }
+
+    public void testStaticCompare() {
+        assertTrue(Int32.compare(Integer.MAX_VALUE, Integer.MIN_VALUE) > 0);
+        assertEquals(0, Int32.compare(-7, -7));
+    }
+
+    public void testStaticBitwise() {
+        assertEquals(0x0f, Int32.and(0xff, 0x0f));
+        assertEquals(-1, Int32.not(0));
+        assertEquals(0x02, Int32.removeBitmask(0x06, 0x04));
+    }
+
+    public void testGetBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff,
+                (byte) 0xfe });
+        assertEquals(-2, Int32.get(buffer, 0));
+        assertEquals(-16777217, Int32.get(buffer, 0, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        Int32.put(buffer, -2, ByteOrder.LITTLE_ENDIAN);
+        assertEquals((byte) 0xfe, buffer.get(0));
+        assertEquals(-2, Int32.get(buffer, 0, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public void testValueOfOffset() {
+        byte[] record = new byte[] { 0, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xfe };
+        assertEquals(-2, Int32.valueOfBigEndian(record, 1).int32Value());
+        assertEquals(-16777217, Int32.valueOfLittleEndian(record, 1).int32Value());
+    }
+
+    public void testWriteOffset() {
+        byte[] record = new byte[5];
+        new Int32(-2).writeLittleEndian(record, 1);
+        assertEquals((byte) 0xfe, record[1]);
+        assertEquals((byte) 0xff, record[4]);
+    }
+
+    public void testAdd() {
+        assertEquals(new Int32(0x1), new Int32(0xfffffffe).add(new Int32(0x3)));
+        assertEquals(new Int32(0x1), new Int32(0xffffffff).add(new Int32(0x2)));
+    }
+
+    public void testSubtract() {
+        assertEquals(new Int32(0xffffffff), new Int32(0x0).subtract(new Int32(0x1)));
+        assertEquals(new Int32(0xfffffffe), new Int32(0x1).subtract(new Int32(0x3)));
+    }
+
+    public void testMultiply() {
+        assertEquals(new Int32(0xfffffffa), new Int32(0xfffffffe).multiply(new Int32(0x3)));
+        assertEquals(new Int32(0x0), new Int32(0x80000000).multiply(new Int32(0x2)));
+    }
+
+    public void testNegate() {
+        assertEquals(new Int32(0xffffffff), new Int32(0x1).negate());
+        assertEquals(new Int32(0x80000000), new Int32(0x80000000).negate());
+    }
+
+    public void testIncrement() {
+        assertEquals(new Int32(0x0), new Int32(0xffffffff).increment());
+        assertEquals(new Int32(0x80000000), new Int32(0x7fffffff).increment());
+    }
+
+    public void testDecrement() {
+        assertEquals(new Int32(0xffffffff), new Int32(0x0).decrement());
+        assertEquals(new Int32(0x7fffffff), new Int32(0x80000000).decrement());
+    }
+
+    public void testStaticArithmetic() {
+        assertEquals(0x1, Int32.add(0xfffffffe, 0x3));
+        assertEquals(0xfffffffe, Int32.subtract(0x1, 0x3));
+        assertEquals(0xfffffffa, Int32.multiply(0xfffffffe, 0x3));
+        assertEquals(0xffffffff, Int32.negate(0x1));
+        assertEquals(0x0, Int32.increment(0xffffffff));
+        assertEquals(0xffffffff, Int32.decrement(0x0));
+    }
+
+    public void testSaturating() {
+        assertEquals(new Int32(Integer.MAX_VALUE), new Int32(Integer.MAX_VALUE - 5)
+                .addSaturating(new Int32(10)));
+        assertEquals(new Int32(Integer.MIN_VALUE), new Int32(Integer.MIN_VALUE)
+                .subtractSaturating(new Int32(1)));
+        assertEquals(new Int32(Integer.MIN_VALUE), new Int32(-0x10000).multiplySaturating(
+                new Int32(0x10000)));
+    }
+
+    public void testStaticSaturating() {
+        int[] values = { 0, 1, -1, 2, -2, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE - 1, Integer.MIN_VALUE + 1, 0x10000, -0x10000, 0x12345678 };
+        for (int x : values) {
+            for (int y : values) {
+                assertEquals(clamp((long) x + y), Int32.addSaturating(x, y));
+                assertEquals(clamp((long) x - y), Int32.subtractSaturating(x, y));
+                assertEquals(clamp((long) x * y), Int32.multiplySaturating(x, y));
+            }
+        }
+    }
+
+    public void testBulkSaturating() {
+        int[] x = { Integer.MAX_VALUE, Integer.MIN_VALUE };
+        int[] y = { 1, 1 };
+        int[] dst = new int[2];
+        Int32.addSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new int[] { Integer.MAX_VALUE, Integer.MIN_VALUE + 1 }, dst));
+        Int32.subtractSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new int[] { Integer.MAX_VALUE - 1, Integer.MIN_VALUE }, dst));
+        Int32.multiplySaturating(x, y, dst);
+        assertTrue(Arrays.equals(x, dst));
+    }
+
+    private static int clamp(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    public void testValueOfExact() {
+        assertEquals(new Int32(2147483647), Int32.valueOfExact(2147483647));
+        assertEquals(new Int32(-2147483648), Int32.valueOfExact(-2147483648));
+        try {
+            Int32.valueOfExact(2147483648L);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            Int32.valueOfExact(-2147483649L);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testExact() {
+        Int32 max = Int32.valueOfExact(2147483647);
+        Int32 min = Int32.valueOfExact(-2147483648);
+        Int32 one = Int32.valueOfExact(1);
+        Int32 two = Int32.valueOfExact(2);
+        assertEquals(max, Int32.valueOfExact(2147483646).addExact(one));
+        assertEquals(min, Int32.valueOfExact(-2147483647).subtractExact(one));
+        Int32 half = Int32.valueOfExact(1073741823);
+        assertEquals(Int32.valueOfExact(2147483646), half.multiplyExact(two));
+        try {
+            max.addExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            min.subtractExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            max.multiplyExact(two);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testStaticExact() {
+        assertEquals(0x7fffffff, Int32.addExact(0x7ffffffe, 0x1));
+        assertEquals(0x80000000, Int32.subtractExact(0x80000001, 0x1));
+        try {
+            Int32.multiplyExact(0x7fffffff, 0x7fffffff);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testInRange() {
+        assertTrue(Int32.inRange(new long[] { -2147483648, 0, 2147483647 }));
+        assertFalse(Int32.inRange(new long[] { 0, 2147483648L, 1 }));
+        assertFalse(Int32.inRange(new long[] { -2147483649L }));
+        assertFalse(Int32.inRange(new long[] { Long.MAX_VALUE }));
+        assertTrue(Int32.inRange(new long[0]));
+        try {
+            Int32.inRange((long[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShift() {
+        assertEquals(new Int32(0xfffffff0), new Int32(0xffffffff).shiftLeft(4));
+        assertEquals(new Int32(0xf8000000), new Int32(0x80000000).shiftRight(4));
+        assertEquals(new Int32(0x20000000), new Int32(0x40000000).shiftRight(33));
+    }
+
+    public void testRotate() {
+        assertEquals(new Int32(0x23456781), new Int32(0x12345678).rotateLeft(4));
+        assertEquals(new Int32(0xc0000001), new Int32(0x80000003).rotateRight(1));
+    }
+
+    public void testStaticShift() {
+        assertEquals(0x80000000, Int32.shiftLeft(1, 31));
+        assertEquals(-1, Int32.shiftRight(0x80000000, 31));
+        assertEquals(0x81234567, Int32.rotateRight(0x12345678, 4));
+    }
+
+    public void testBitCounting() {
+        Int32 value = new Int32(Integer.MIN_VALUE);
+        assertEquals(1, value.bitCount());
+        assertEquals(0, value.numberOfLeadingZeros());
+        assertEquals(31, value.numberOfTrailingZeros());
+        assertEquals(value, value.highestOneBit());
+        assertEquals(value, value.lowestOneBit());
+        assertEquals(new Int32(1), value.reverse());
+        assertEquals(new Int32(0x80), value.reverseBytes());
+    }
+
+    public void testBulkBitCount() {
+        assertEquals(33, Int32.bitCount(new int[] { -1, 1, 0 }));
+    }
+
+    public void testHasAnyBit() {
+        assertTrue(new Int32(0x80000086).hasAnyBit(new Int32(0x3)));
+        assertFalse(new Int32(0x80000086).hasAnyBit(new Int32(0x1)));
+        assertTrue(Int32.hasAnyBit(0x86, 0x5));
+    }
+
+    public void testPrimitiveBitmask() {
+        Int32 value = new Int32(0x80000086);
+        assertTrue(value.hasBitmask(0x84));
+        assertFalse(value.hasBitmask(0x85));
+        assertTrue(value.hasAnyBit(0x85));
+        assertFalse(value.hasAnyBit(0x1));
+        assertEquals(new Int32(0x80000086 | 0x1), value.addBitmask(0x1));
+        assertEquals(new Int32(0x80000086 & ~0x6), value.removeBitmask(0x6));
+    }
+
+    public void testBitmaskConstant() {
+        Bitmask mask = Bitmask.ofBits(2, 7);
+        Int32 value = new Int32(0x80000086);
+        assertTrue(value.hasBitmask(mask));
+        assertTrue(value.hasAnyBit(Bitmask.ofBits(0, 1)));
+        assertEquals(new Int32(0x80000086 | 0x1), value.addBitmask(Bitmask.ofBits(0)));
+        assertEquals(new Int32(0x80000086 & ~0x84), value.removeBitmask(mask));
+    }
 }
@@ -31,6 +31,9 @@
  */
 package net.sourceforge.juint;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import net.sourceforge.juint.Int8;
 import junit.framework.TestCase;
 
@@ -103,13 +106,13 @@ public class TestInt8 extends TestCase {
     public void testCompareToMore() {
         Int8 one = new Int8((byte) 1);
         Int8 two = new Int8((byte) 10);
-        assertEquals(-9, one.compareTo(two));
+        assertTrue(one.compareTo(two) < 0);
     }
 
     public void testCompareToLess() {
         Int8 one = new Int8((byte) 10);
         Int8 two = new Int8((byte) 1);
-        assertEquals(9, one.compareTo(two));
+        assertTrue(one.compareTo(two) > 0);
     }
 
     public void testCompareToEquals() {
@@ -118,6 +121,22 @@ public class TestInt8 extends TestCase {
         assertEquals(0, one.compareTo(two));
     }
 
+    public void testCompareToExtremes() {
+        Int8 one = new Int8((byte) -128);
+        Int8 two = new Int8((byte) 127);
+        assertTrue(one.compareTo(two) < 0);
+        assertTrue(two.compareTo(one) > 0);
+    }
+
+    public void testComparator() {
+        Int8[] values = { new Int8((byte) 127), new Int8((byte) -128), new Int8((byte) 0) };
+        Arrays.sort(values, Int8.COMPARATOR);
+        assertEquals(new Int8((byte) -128), values[0]);
+        assertEquals(new Int8((byte) 0), values[1]);
+        assertEquals(new Int8((byte) 127), values[2]);
+        assertEquals(0, Int8.COMPARATOR.compare(new Int8((byte) 0), new Int8((byte) 0)));
+    }
+
     public void testHashCode() {
         Int8 int8 = new Int8((byte) 10);
         assertEquals(int8.intValue(), int8.hashCode());
@@ -176,4 +195,259 @@ public class TestInt8 extends TestCase {
         Int8 int8 = new Int8(0x06);
         assertEquals(new Int8(0x02), int8.removeBitmask(new Int8(0x04)));
     }
+
+    public void testValueOf() {
+        assertEquals(new Int8(-100), Int8.valueOf(-100));
+        assertSame(Int8.valueOf((byte) -100), Int8.valueOf(156L));
+    }
+
+    public void testConstants() {
+        assertSame(Int8.ZERO, Int8.valueOf(0));
+        assertSame(Int8.ONE, Int8.valueOf((short) 1));
+        assertEquals(Int8.MAX_VALUE, Int8.MAX.int8Value());
+        assertEquals(Int8.MIN_VALUE, Int8.MIN.int8Value());
+    }
+
+    public void testBitwiseCached() {
+        assertSame(Int8.valueOf(-1), Int8.ZERO.not());
+        assertSame(Int8.ONE, Int8.MAX.and(Int8.ONE));
+    }
+
+    public void testStaticCompare() {
+        assertTrue(Int8.compare((byte) -100, (byte) 100) < 0);
+    }
+
+    public void testStaticBitwise() {
+        assertEquals((byte) -1, Int8.not((byte) 0));
+        assertEquals((byte) 0x0b, Int8.xor((byte) 0xab, (byte) 0xa0));
+    }
+
+    public void testGetBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xff, 1 });
+        assertEquals(-1, Int8.get(buffer));
+        assertEquals(1, Int8.get(buffer, 1));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        Int8.put(buffer, (byte) -100);
+        assertEquals(-100, Int8.get(buffer, 0));
+    }
+
+    public void testAdd() {
+        assertEquals(new Int8(0x1), new Int8(0xfe).add(new Int8(0x3)));
+        assertEquals(new Int8(0x1), new Int8(0xff).add(new Int8(0x2)));
+    }
+
+    public void testSubtract() {
+        assertEquals(new Int8(0xff), new Int8(0x0).subtract(new Int8(0x1)));
+        assertEquals(new Int8(0xfe), new Int8(0x1).subtract(new Int8(0x3)));
+    }
+
+    public void testMultiply() {
+        assertEquals(new Int8(0xfa), new Int8(0xfe).multiply(new Int8(0x3)));
+        assertEquals(new Int8(0x0), new Int8(0x80).multiply(new Int8(0x2)));
+    }
+
+    public void testNegate() {
+        assertEquals(new Int8(0xff), new Int8(0x1).negate());
+        assertEquals(new Int8(0x80), new Int8(0x80).negate());
+    }
+
+    public void testIncrement() {
+        assertEquals(new Int8(0x0), new Int8(0xff).increment());
+        assertEquals(new Int8(0x80), new Int8(0x7f).increment());
+    }
+
+    public void testDecrement() {
+        assertEquals(new Int8(0xff), new Int8(0x0).decrement());
+        assertEquals(new Int8(0x7f), new Int8(0x80).decrement());
+    }
+
+    public void testStaticArithmetic() {
+        assertEquals((byte) 0x1, Int8.add((byte) 0xfe, (byte) 0x3));
+        assertEquals((byte) 0xfe, Int8.subtract((byte) 0x1, (byte) 0x3));
+        assertEquals((byte) 0xfa, Int8.multiply((byte) 0xfe, (byte) 0x3));
+        assertEquals((byte) 0xff, Int8.negate((byte) 0x1));
+        assertEquals((byte) 0x0, Int8.increment((byte) 0xff));
+        assertEquals((byte) 0xff, Int8.decrement((byte) 0x0));
+    }
+
+    public void testSaturating() {
+        assertEquals(Int8.MAX, new Int8(120).addSaturating(new Int8(10)));
+        assertEquals(Int8.MIN, new Int8(-128).subtractSaturating(new Int8(1)));
+        assertEquals(Int8.MIN, new Int8(-16).multiplySaturating(new Int8(16)));
+        assertEquals(new Int8(-121), new Int8(-11).multiplySaturating(new Int8(11)));
+    }
+
+    public void testStaticSaturating() {
+        for (int x = -128; x < 128; x++) {
+            for (int y = -128; y < 128; y++) {
+                assertEquals(clamp(x + y), Int8.addSaturating((byte) x, (byte) y));
+                assertEquals(clamp(x - y), Int8.subtractSaturating((byte) x, (byte) y));
+                assertEquals(clamp(x * y), Int8.multiplySaturating((byte) x, (byte) y));
+            }
+        }
+    }
+
+    public void testBulkSaturating() {
+        byte[] x = { 120, -128, 5 };
+        byte[] y = { 10, 1, -6 };
+        byte[] dst = new byte[3];
+        Int8.addSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new byte[] { 127, -127, -1 }, dst));
+        Int8.subtractSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new byte[] { 110, -128, 11 }, dst));
+        Int8.multiplySaturating(x, y, dst);
+        assertTrue(Arrays.equals(new byte[] { 127, -128, -30 }, dst));
+    }
+
+    private static byte clamp(int value) {
+        return (byte) Math.max(-128, Math.min(127, value));
+    }
+
+    public void testValueOfExact() {
+        assertEquals(new Int8(127), Int8.valueOfExact(127));
+        assertEquals(new Int8(-128), Int8.valueOfExact(-128));
+        try {
+            Int8.valueOfExact(128);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            Int8.valueOfExact(-129);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testExact() {
+        Int8 max = Int8.valueOfExact(127);
+        Int8 min = Int8.valueOfExact(-128);
+        Int8 one = Int8.valueOfExact(1);
+        Int8 two = Int8.valueOfExact(2);
+        assertEquals(max, Int8.valueOfExact(126).addExact(one));
+        assertEquals(min, Int8.valueOfExact(-127).subtractExact(one));
+        assertEquals(Int8.valueOfExact(126), Int8.valueOfExact(63).multiplyExact(two));
+        try {
+            max.addExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            min.subtractExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            max.multiplyExact(two);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testStaticExact() {
+        assertEquals((byte) 0x7f, Int8.addExact((byte) 0x7e, (byte) 0x1));
+        assertEquals((byte) 0x80, Int8.subtractExact((byte) 0x81, (byte) 0x1));
+        try {
+            Int8.multiplyExact((byte) 0x7f, (byte) 0x7f);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testInRange() {
+        assertTrue(Int8.inRange(new long[] { -128, 0, 127 }));
+        assertFalse(Int8.inRange(new long[] { 0, 128, 1 }));
+        assertFalse(Int8.inRange(new long[] { -129 }));
+        assertFalse(Int8.inRange(new long[] { Long.MAX_VALUE }));
+        assertTrue(Int8.inRange(new long[0]));
+        assertTrue(Int8.inRange(new int[] { -128, 127 }));
+        assertFalse(Int8.inRange(new int[] { -128, 128 }));
+        assertFalse(Int8.inRange(new int[] { Integer.MAX_VALUE }));
+        assertFalse(Int8.inRange(new int[] { Integer.MIN_VALUE }));
+        try {
+            Int8.inRange((long[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShift() {
+        assertEquals(new Int8(0xf0), new Int8(0xff).shiftLeft(4));
+        assertEquals(new Int8(0xf8), new Int8(0x80).shiftRight(4));
+        assertEquals(new Int8(0x20), new Int8(0x40).shiftRight(9));
+    }
+
+    public void testRotate() {
+        assertEquals(new Int8(0x1e), new Int8(0x87).rotateLeft(2));
+        assertEquals(new Int8(0xf0), new Int8(0x87).rotateRight(3));
+    }
+
+    public void testStaticShift() {
+        for (int value = -128; value < 128; value++) {
+            for (int distance = 0; distance < 8; distance++) {
+                byte bite = (byte) value;
+                assertEquals((byte) (value << distance), Int8.shiftLeft(bite, distance));
+                assertEquals((byte) (value >> distance), Int8.shiftRight(bite, distance));
+                assertEquals(UInt8.rotateLeft(bite, distance), Int8.rotateLeft(bite, distance));
+                assertEquals(UInt8.rotateRight(bite, distance), Int8.rotateRight(bite, distance));
+            }
+        }
+    }
+
+    public void testBitCounting() {
+        Int8 value = new Int8(-128);
+        assertEquals(1, value.bitCount());
+        assertEquals(0, value.numberOfLeadingZeros());
+        assertEquals(7, value.numberOfTrailingZeros());
+        assertEquals(value, value.highestOneBit());
+        assertEquals(value, value.lowestOneBit());
+        assertEquals(Int8.ONE, value.reverse());
+        assertEquals(8, new Int8(-1).bitCount());
+        assertEquals(8, new Int8(0).numberOfTrailingZeros());
+    }
+
+    public void testBulkBitCount() {
+        assertEquals(9, Int8.bitCount(new byte[] { -1, 1, 0 }));
+    }
+
+    public void testHasAnyBit() {
+        assertTrue(new Int8(0x86).hasAnyBit(new Int8(0x3)));
+        assertFalse(new Int8(0x86).hasAnyBit(new Int8(0x1)));
+        assertTrue(Int8.hasAnyBit((byte) 0x86, (byte) 0x5));
+    }
+
+    public void testPrimitiveBitmask() {
+        Int8 value = new Int8(0x86);
+        assertTrue(value.hasBitmask(0x84));
+        assertFalse(value.hasBitmask(0x85));
+        assertTrue(value.hasAnyBit(0x85));
+        assertFalse(value.hasAnyBit(0x1));
+        assertEquals(new Int8(0x86 | 0x1), value.addBitmask(0x1));
+        assertEquals(new Int8(0x86 & ~0x6), value.removeBitmask(0x6));
+        // bits above the width are ignored
+        assertTrue(new Int8(0).hasBitmask(0x100));
+        assertFalse(new Int8(-1).hasAnyBit(0x100));
+        assertTrue(new Int8(0x80).hasBitmask((byte) 0x80));
+        assertTrue(new Int8(0x80).hasAnyBit((byte) 0x80));
+        assertFalse(new Int8(0x1).hasBitmask((byte) 0x80));
+        assertEquals(new Int8(0x86), new Int8(0x86).addBitmask(0x100));
+    }
+
+    public void testBitmaskConstant() {
+        Bitmask mask = Bitmask.ofBits(2, 7);
+        Int8 value = new Int8(0x86);
+        assertTrue(value.hasBitmask(mask));
+        assertTrue(value.hasAnyBit(Bitmask.ofBits(0, 1)));
+        assertEquals(new Int8(0x86 | 0x1), value.addBitmask(Bitmask.ofBits(0)));
+        assertEquals(new Int8(0x86 & ~0x84), value.removeBitmask(mask));
+    }
 }
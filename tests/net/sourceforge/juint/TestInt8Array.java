@@ -0,0 +1,73 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+
+public class TestInt8Array extends TestCase {
+    public void testGetSet() {
+        Int8Array array = new Int8Array(2);
+        array.set(0, -128);
+        array.set(1, 255);
+        assertEquals(-128, array.get(0));
+        assertEquals(-1, array.get(1));
+    }
+
+    public void testValueOf() {
+        Int8Array array = Int8Array.valueOf(new int[] { -100, 100 });
+        assertEquals(array, Int8Array.valueOf(new Int8[] { new Int8(-100), new Int8(100) }));
+    }
+
+    public void testPutBuffer() {
+        Int8Array array = new Int8Array(2);
+        array.put(0, ByteBuffer.wrap(new byte[] { -1, 1 }), 2);
+        assertEquals(Int8Array.valueOf(new int[] { -1, 1 }), array);
+    }
+
+    public void testAsUnsigned() {
+        Int8Array array = Int8Array.valueOf(new int[] { -1 });
+        assertEquals(255, array.asUnsigned().get(0));
+        assertSame(array.array(), array.asUnsigned().array());
+    }
+
+    public void testConversions() {
+        Int8Array array = Int8Array.wrap(new byte[] { -1 });
+        assertSame(Int8.valueOf(-1), array.toInt8Array()[0]);
+        assertEquals(-1, array.toIntArray()[0]);
+    }
+
+    public void testToString() {
+        assertEquals("[0, -1]", Int8Array.wrap(new byte[] { 0, -1 }).toString());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import junit.framework.TestCase;
+
+public class TestMappedUnsignedFile extends TestCase {
+    private File file;
+
+    protected void setUp() throws IOException {
+        file = File.createTempFile("juint", ".bin");
+        byte[] bytes = new byte[40];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) (0xf0 + i);
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(bytes);
+        out.close();
+    }
+
+    protected void tearDown() {
+        file.delete();
+    }
+
+    public void testBigEndian() throws IOException {
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.BIG_ENDIAN);
+        assertEquals(40, mapped.size());
+        assertEquals(0xf0, mapped.uint8At(0));
+        assertEquals(-16, mapped.int8At(0));
+        assertEquals(0xf0f1, mapped.uint16At(0));
+        assertEquals((short) 0xf0f1, mapped.int16At(0));
+        assertEquals(0xf1f2f3f4L, mapped.uint32At(1));
+        assertEquals(0xf1f2f3f4, mapped.int32At(1));
+        mapped.close();
+    }
+
+    public void testLittleEndian() throws IOException {
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0xf1f0, mapped.uint16At(0));
+        assertEquals(0xf4f3f2f1L, mapped.uint32At(1));
+        mapped.close();
+    }
+
+    public void testWindows() throws IOException {
+        // windows of 16 bytes
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.BIG_ENDIAN,
+                4);
+        assertEquals(0xfdfeff00L, mapped.uint32At(13));
+        assertEquals(0xff00, mapped.uint16At(15));
+        assertEquals(0x14151617L, mapped.uint32At(36));
+        mapped.close();
+    }
+
+    public void testOutOfBounds() throws IOException {
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.BIG_ENDIAN);
+        try {
+            mapped.uint32At(37);
+            fail("Should raise an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+        mapped.close();
+    }
+
+    public void testCopyTo() throws IOException {
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.BIG_ENDIAN,
+                4);
+        UInt8Array uint8s = new UInt8Array(30);
+        mapped.copyTo(5, uint8s, 0, 30);
+        assertEquals(0xf5, uint8s.get(0));
+        assertEquals(0x12, uint8s.get(29));
+        UInt16Array uint16s = new UInt16Array(18);
+        mapped.copyTo(1, uint16s, 0, 18);
+        assertEquals(0xf1f2, uint16s.get(0));
+        assertEquals(0xff00, uint16s.get(7));
+        assertEquals(0x1314, uint16s.get(17));
+        UInt32Array uint32s = new UInt32Array(9);
+        mapped.copyTo(3, uint32s, 0, 9);
+        for (int i = 0; i < 9; i++)
+            assertEquals(mapped.uint32At(3 + 4 * i), uint32s.get(i));
+        mapped.close();
+    }
+
+    public void testCopyToOutOfBounds() throws IOException {
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.BIG_ENDIAN);
+        try {
+            mapped.copyTo(0, new UInt32Array(11), 0, 11);
+            fail("Should raise an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+        mapped.close();
+    }
+
+    public void testClose() throws IOException {
+        MappedUnsignedFile mapped = MappedUnsignedFile.open(file.toPath(), ByteOrder.BIG_ENDIAN);
+        mapped.close();
+        assertFalse(mapped.isOpen());
+        try {
+            mapped.uint8At(0);
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+    }
+}
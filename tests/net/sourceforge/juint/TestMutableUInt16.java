@@ -0,0 +1,116 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import junit.framework.TestCase;
+
+public class TestMutableUInt16 extends TestCase {
+    public void testConstructors() {
+        assertEquals(0, new MutableUInt16().longValue());
+        assertEquals(0xffff, new MutableUInt16(0x1ffff).longValue());
+        assertEquals(0xffff, new MutableUInt16(new UInt16(-1)).longValue());
+        try {
+            new MutableUInt16((UInt16) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testSet() {
+        MutableUInt16 value = new MutableUInt16();
+        assertSame(value, value.set(0x1ffff));
+        assertEquals(0xffff, value.longValue());
+        value.set(new UInt16(7));
+        assertEquals(7, value.longValue());
+    }
+
+    public void testBitwiseInPlace() {
+        MutableUInt16 value = new MutableUInt16(0x0f);
+        assertSame(value, value.orInPlace(0xf0).andInPlace(0x3c).xorInPlace(0x05));
+        assertEquals(0x39, value.intValue());
+        value.andInPlace(new UInt16(0x31)).orInPlace(new UInt16(0x40)).xorInPlace(new UInt16(0x01));
+        assertEquals(0x70, value.intValue());
+    }
+
+    public void testAddInPlace() {
+        MutableUInt16 value = new MutableUInt16(0xffff);
+        value.addInPlace(2);
+        assertEquals(1, value.intValue());
+        value.addInPlace(-2);
+        assertEquals(0xffff, value.longValue());
+        value.addInPlace(new UInt16(1));
+        assertEquals(0, value.intValue());
+    }
+
+    public void testChecksumLoop() {
+        MutableUInt16 sum = new MutableUInt16();
+        int expected = 0;
+        for (int i = 0; i < 1000; i++) {
+            sum.addInPlace(i * 31).xorInPlace(i);
+            expected = (expected + i * 31) ^ i;
+        }
+        assertEquals(expected & 0xffff, sum.longValue());
+    }
+
+    public void testSnapshot() {
+        MutableUInt16 value = new MutableUInt16(0xffff);
+        UInt16 snapshot = value.toUInt16();
+        value.addInPlace(1);
+        assertEquals(new UInt16(0xffff), snapshot);
+        assertEquals(new UInt16(0), value.toUInt16());
+    }
+
+    public void testValues() {
+        MutableUInt16 value = new MutableUInt16(0xffff);
+        assertEquals(65535, value.uint16Value());
+        assertEquals((float) 65535, value.floatValue());
+        assertEquals((double) 65535, value.doubleValue());
+    }
+
+    public void testCompareTo() {
+        assertTrue(new MutableUInt16(0xffff).compareTo(new MutableUInt16(1)) > 0);
+        assertTrue(new MutableUInt16(1).compareTo(new MutableUInt16(0xffff)) < 0);
+        assertEquals(0, new MutableUInt16(5).compareTo(new MutableUInt16(5)));
+    }
+
+    public void testEquals() {
+        assertEquals(new MutableUInt16(5), new MutableUInt16(5));
+        assertFalse(new MutableUInt16(5).equals(new MutableUInt16(6)));
+        assertFalse(new MutableUInt16(5).equals(new UInt16(5)));
+        assertEquals(new MutableUInt16(5).hashCode(), new MutableUInt16(5).hashCode());
+    }
+
+    public void testToString() {
+        assertEquals("65535", new MutableUInt16(0xffff).toString());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import junit.framework.TestCase;
+
+public class TestMutableUInt32 extends TestCase {
+    public void testConstructors() {
+        assertEquals(0, new MutableUInt32().longValue());
+        assertEquals(0xffffffffL, new MutableUInt32(0x1ffffffffL).longValue());
+        assertEquals(0xffffffffL, new MutableUInt32(new UInt32(-1)).longValue());
+        try {
+            new MutableUInt32((UInt32) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testSet() {
+        MutableUInt32 value = new MutableUInt32();
+        assertSame(value, value.set(0x1ffffffffL));
+        assertEquals(0xffffffffL, value.longValue());
+        value.set(new UInt32(7));
+        assertEquals(7, value.longValue());
+    }
+
+    public void testBitwiseInPlace() {
+        MutableUInt32 value = new MutableUInt32(0x0f);
+        assertSame(value, value.orInPlace(0xf0).andInPlace(0x3c).xorInPlace(0x05));
+        assertEquals(0x39, value.intValue());
+        value.andInPlace(new UInt32(0x31)).orInPlace(new UInt32(0x40)).xorInPlace(new UInt32(0x01));
+        assertEquals(0x70, value.intValue());
+    }
+
+    public void testAddInPlace() {
+        MutableUInt32 value = new MutableUInt32(0xffffffffL);
+        value.addInPlace(2);
+        assertEquals(1, value.intValue());
+        value.addInPlace(-2);
+        assertEquals(0xffffffffL, value.longValue());
+        value.addInPlace(new UInt32(1));
+        assertEquals(0, value.intValue());
+    }
+
+    public void testChecksumLoop() {
+        MutableUInt32 sum = new MutableUInt32();
+        int expected = 0;
+        for (int i = 0; i < 1000; i++) {
+            sum.addInPlace(i * 31).xorInPlace(i);
+            expected = (expected + i * 31) ^ i;
+        }
+        assertEquals(expected & 0xffffffffL, sum.longValue());
+    }
+
+    public void testSnapshot() {
+        MutableUInt32 value = new MutableUInt32(0xffffffffL);
+        UInt32 snapshot = value.toUInt32();
+        value.addInPlace(1);
+        assertEquals(new UInt32(0xffffffffL), snapshot);
+        assertEquals(new UInt32(0), value.toUInt32());
+    }
+
+    public void testValues() {
+        MutableUInt32 value = new MutableUInt32(0xffffffffL);
+        assertEquals(4294967295L, value.uint32Value());
+        assertEquals((float) 4294967295L, value.floatValue());
+        assertEquals((double) 4294967295L, value.doubleValue());
+    }
+
+    public void testCompareTo() {
+        assertTrue(new MutableUInt32(0xffffffffL).compareTo(new MutableUInt32(1)) > 0);
+        assertTrue(new MutableUInt32(1).compareTo(new MutableUInt32(0xffffffffL)) < 0);
+        assertEquals(0, new MutableUInt32(5).compareTo(new MutableUInt32(5)));
+    }
+
+    public void testEquals() {
+        assertEquals(new MutableUInt32(5), new MutableUInt32(5));
+        assertFalse(new MutableUInt32(5).equals(new MutableUInt32(6)));
+        assertFalse(new MutableUInt32(5).equals(new UInt32(5)));
+        assertEquals(new MutableUInt32(5).hashCode(), new MutableUInt32(5).hashCode());
+    }
+
+    public void testToString() {
+        assertEquals("4294967295", new MutableUInt32(0xffffffffL).toString());
+    }
+}
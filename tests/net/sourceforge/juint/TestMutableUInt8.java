@@ -0,0 +1,116 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import junit.framework.TestCase;
+
+public class TestMutableUInt8 extends TestCase {
+    public void testConstructors() {
+        assertEquals(0, new MutableUInt8().longValue());
+        assertEquals(0xff, new MutableUInt8(0x1ff).longValue());
+        assertEquals(0xff, new MutableUInt8(new UInt8(-1)).longValue());
+        try {
+            new MutableUInt8((UInt8) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testSet() {
+        MutableUInt8 value = new MutableUInt8();
+        assertSame(value, value.set(0x1ff));
+        assertEquals(0xff, value.longValue());
+        value.set(new UInt8(7));
+        assertEquals(7, value.longValue());
+    }
+
+    public void testBitwiseInPlace() {
+        MutableUInt8 value = new MutableUInt8(0x0f);
+        assertSame(value, value.orInPlace(0xf0).andInPlace(0x3c).xorInPlace(0x05));
+        assertEquals(0x39, value.intValue());
+        value.andInPlace(new UInt8(0x31)).orInPlace(new UInt8(0x40)).xorInPlace(new UInt8(0x01));
+        assertEquals(0x70, value.intValue());
+    }
+
+    public void testAddInPlace() {
+        MutableUInt8 value = new MutableUInt8(0xff);
+        value.addInPlace(2);
+        assertEquals(1, value.intValue());
+        value.addInPlace(-2);
+        assertEquals(0xff, value.longValue());
+        value.addInPlace(new UInt8(1));
+        assertEquals(0, value.intValue());
+    }
+
+    public void testChecksumLoop() {
+        MutableUInt8 sum = new MutableUInt8();
+        int expected = 0;
+        for (int i = 0; i < 1000; i++) {
+            sum.addInPlace(i * 31).xorInPlace(i);
+            expected = (expected + i * 31) ^ i;
+        }
+        assertEquals(expected & 0xff, sum.longValue());
+    }
+
+    public void testSnapshot() {
+        MutableUInt8 value = new MutableUInt8(0xff);
+        UInt8 snapshot = value.toUInt8();
+        value.addInPlace(1);
+        assertEquals(new UInt8(0xff), snapshot);
+        assertEquals(new UInt8(0), value.toUInt8());
+    }
+
+    public void testValues() {
+        MutableUInt8 value = new MutableUInt8(0xff);
+        assertEquals(255, value.uint8Value());
+        assertEquals((float) 255, value.floatValue());
+        assertEquals((double) 255, value.doubleValue());
+    }
+
+    public void testCompareTo() {
+        assertTrue(new MutableUInt8(0xff).compareTo(new MutableUInt8(1)) > 0);
+        assertTrue(new MutableUInt8(1).compareTo(new MutableUInt8(0xff)) < 0);
+        assertEquals(0, new MutableUInt8(5).compareTo(new MutableUInt8(5)));
+    }
+
+    public void testEquals() {
+        assertEquals(new MutableUInt8(5), new MutableUInt8(5));
+        assertFalse(new MutableUInt8(5).equals(new MutableUInt8(6)));
+        assertFalse(new MutableUInt8(5).equals(new UInt8(5)));
+        assertEquals(new MutableUInt8(5).hashCode(), new MutableUInt8(5).hashCode());
+    }
+
+    public void testToString() {
+        assertEquals("255", new MutableUInt8(0xff).toString());
+    }
+}
@@ -31,6 +31,10 @@
  */
 package net.sourceforge.juint;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import net.sourceforge.juint.UInt16;
 import junit.framework.TestCase;
 
@@ -144,13 +148,13 @@ public class TestUInt16 extends TestCase {
     public void testCompareToMore() {
         UInt16 one = new UInt16(60001);
         UInt16 two = new UInt16(60010);
-        assertEquals(-9, one.compareTo(two));
+        assertTrue(one.compareTo(two) < 0);
     }
 
     public void testCompareToLess() {
         UInt16 one = new UInt16(60010);
         UInt16 two = new UInt16(60001);
-        assertEquals(9, one.compareTo(two));
+        assertTrue(one.compareTo(two) > 0);
     }
 
     public void testCompareToEquals() {
@@ -159,6 +163,24 @@ public class TestUInt16 extends TestCase {
         assertEquals(0, one.compareTo(two));
     }
 
+    public void testCompareToExtremes() {
+        UInt16 one = new UInt16((short) 0xffff);
+        UInt16 two = new UInt16((short) 0);
+        assertTrue(one.compareTo(two) > 0);
+        assertTrue(two.compareTo(one) < 0);
+    }
+
+    public void testComparator() {
+        UInt16[] values = { new UInt16((short) 0xffff), new UInt16((short) 0),
+                new UInt16((short) 0x8000) };
+        Arrays.sort(values, UInt16.COMPARATOR);
+        assertEquals(new UInt16((short) 0), values[0]);
+        assertEquals(new UInt16((short) 0x8000), values[1]);
+        assertEquals(new UInt16((short) 0xffff), values[2]);
+        assertEquals(0, UInt16.COMPARATOR.compare(new UInt16((short) 0x8000),
+                new UInt16((short) 0x8000)));
+    }
+
     public void testEquals() {
         UInt16 one = new UInt16(65000);
         UInt16 two = new UInt16(65000);
@@ -240,4 +262,349 @@ public class TestUInt16 extends TestCase {
         UInt16 uint16 = new UInt16(0x06);
         assertEquals(new UInt16(0x02), uint16.removeBitmask(new UInt16(0x04)));
     }
+
+    public void testValueOf() {
+        assertEquals(new UInt16(1000), UInt16.valueOf(1000));
+        assertSame(UInt16.valueOf((short) 1000), UInt16.valueOf(1000L));
+    }
+
+    public void testValueOfUncached() {
+        UInt16 uint16 = UInt16.valueOf(60000);
+        assertEquals(60000, uint16.uint16Value());
+    }
+
+    public void testConstants() {
+        assertSame(UInt16.ZERO, UInt16.valueOf(0));
+        assertSame(UInt16.ONE, UInt16.valueOf((short) 1));
+        assertEquals(UInt16.MAX_VALUE, UInt16.MAX.uint16Value());
+    }
+
+    public void testBitwiseCached() {
+        assertSame(UInt16.ONE, UInt16.MAX.and(UInt16.ONE));
+    }
+
+    public void testStaticToInt() {
+        assertEquals(65535, UInt16.toInt((short) -1));
+    }
+
+    public void testStaticFromEndian() {
+        assertEquals((short) 0xca93, UInt16.fromBigEndian((byte) 0xca, (byte) 0x93));
+        assertEquals((short) 0x93ca, UInt16.fromLittleEndian((byte) 0xca, (byte) 0x93));
+    }
+
+    public void testStaticCompare() {
+        assertTrue(UInt16.compare((short) 60001, (short) 60010) < 0);
+    }
+
+    public void testStaticBitwise() {
+        assertEquals((short) 0xff54, UInt16.not((short) 0xab));
+        assertTrue(UInt16.hasBitmask((short) 0x8006, (short) 0x8004));
+        assertEquals((short) 0x06, UInt16.addBitmask((short) 0x02, (short) 0x04));
+    }
+
+    public void testGetBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xca, (byte) 0x93 });
+        assertEquals(51859, UInt16.get(buffer, 0));
+        assertEquals(37834, UInt16.get(buffer, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(2, buffer.position());
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        UInt16.put(buffer, 51859);
+        UInt16.put(buffer, 51859, ByteOrder.BIG_ENDIAN);
+        assertEquals((byte) 0x93, buffer.get(0));
+        assertEquals((byte) 0xca, buffer.get(2));
+        UInt16.put(buffer, 2, 65535, ByteOrder.BIG_ENDIAN);
+        assertEquals(65535, UInt16.get(buffer, 2));
+    }
+
+    public void testValueOfOffset() {
+        byte[] record = new byte[] { 0, 0, (byte) 0xca, (byte) 0x93 };
+        assertEquals(51859, UInt16.valueOfBigEndian(record, 2).uint16Value());
+        assertEquals(37834, UInt16.valueOfLittleEndian(record, 2).uint16Value());
+    }
+
+    public void testValueOfOffsetOutOfBounds() {
+        try {
+            UInt16.valueOfLittleEndian(new byte[4], -1);
+            fail("Should raise an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testWriteOffset() {
+        byte[] record = new byte[5];
+        UInt16 uint16 = new UInt16(2453);
+        uint16.writeBigEndian(record, 1);
+        uint16.writeLittleEndian(record, 3);
+        assertEquals(0x09, record[1]);
+        assertEquals((byte) 0x95, record[2]);
+        assertEquals((byte) 0x95, record[3]);
+        assertEquals(0x09, record[4]);
+    }
+
+    public void testAdd() {
+        assertEquals(new UInt16(0x1), new UInt16(0xfffe).add(new UInt16(0x3)));
+        assertEquals(new UInt16(0x1), new UInt16(0xffff).add(new UInt16(0x2)));
+    }
+
+    public void testSubtract() {
+        assertEquals(new UInt16(0xffff), new UInt16(0x0).subtract(new UInt16(0x1)));
+        assertEquals(new UInt16(0xfffe), new UInt16(0x1).subtract(new UInt16(0x3)));
+    }
+
+    public void testMultiply() {
+        assertEquals(new UInt16(0xfffa), new UInt16(0xfffe).multiply(new UInt16(0x3)));
+        assertEquals(new UInt16(0x0), new UInt16(0x8000).multiply(new UInt16(0x2)));
+    }
+
+    public void testNegate() {
+        assertEquals(new UInt16(0xffff), new UInt16(0x1).negate());
+        assertEquals(new UInt16(0x8000), new UInt16(0x8000).negate());
+    }
+
+    public void testIncrement() {
+        assertEquals(new UInt16(0x0), new UInt16(0xffff).increment());
+        assertEquals(new UInt16(0x8000), new UInt16(0x7fff).increment());
+    }
+
+    public void testDecrement() {
+        assertEquals(new UInt16(0xffff), new UInt16(0x0).decrement());
+        assertEquals(new UInt16(0x7fff), new UInt16(0x8000).decrement());
+    }
+
+    public void testStaticArithmetic() {
+        assertEquals((short) 0x1, UInt16.add((short) 0xfffe, (short) 0x3));
+        assertEquals((short) 0xfffe, UInt16.subtract((short) 0x1, (short) 0x3));
+        assertEquals((short) 0xfffa, UInt16.multiply((short) 0xfffe, (short) 0x3));
+        assertEquals((short) 0xffff, UInt16.negate((short) 0x1));
+        assertEquals((short) 0x0, UInt16.increment((short) 0xffff));
+        assertEquals((short) 0xffff, UInt16.decrement((short) 0x0));
+    }
+
+    public void testDivide() {
+        assertEquals(new UInt16(0x7fff), new UInt16(0xffff).divide(new UInt16(2)));
+        assertEquals(new UInt16(0), new UInt16(100).divide(new UInt16(0xc800)));
+        try {
+            new UInt16(1).divide(new UInt16(0));
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testRemainder() {
+        assertEquals(new UInt16(1), new UInt16(0xffff).remainder(new UInt16(2)));
+        assertEquals(new UInt16(100), new UInt16(100).remainder(new UInt16(0xc800)));
+    }
+
+    public void testDivideAndRemainder() {
+        UInt16[] result = new UInt16(0xfffa).divideAndRemainder(new UInt16(0x3000));
+        assertEquals(new UInt16(5), result[0]);
+        assertEquals(new UInt16(0xfffa - 5 * 0x3000), result[1]);
+    }
+
+    public void testStaticDivision() {
+        assertEquals((short) 0x7fff, UInt16.divide((short) 0xffff, (short) 2));
+        assertEquals((short) 1, UInt16.remainder((short) 0xffff, (short) 2));
+        short[] result = UInt16.divideAndRemainder((short) 0xfffa, (short) 0x3000);
+        assertEquals(5, result[0]);
+        assertEquals(0xfffa - 5 * 0x3000, result[1]);
+    }
+
+    public void testSaturating() {
+        assertEquals(new UInt16(0xffff), new UInt16(0xfff0).addSaturating(new UInt16(0x10)));
+        assertEquals(new UInt16(0), new UInt16(10).subtractSaturating(new UInt16(11)));
+        assertEquals(new UInt16(0xffff), new UInt16(0x100).multiplySaturating(new UInt16(0x100)));
+        assertEquals(new UInt16(0xfe01), new UInt16(0xff).multiplySaturating(new UInt16(0xff)));
+    }
+
+    public void testStaticSaturating() {
+        for (int x = 0; x < 0x10000; x += 0x1ff) {
+            for (int y = 0; y < 0x10000; y += 0xfb) {
+                assertEquals(Math.min(x + y, 0xffff), UInt16.toInt(UInt16.addSaturating(
+                        (short) x, (short) y)));
+                assertEquals(Math.max(x - y, 0), UInt16.toInt(UInt16.subtractSaturating(
+                        (short) x, (short) y)));
+                assertEquals(Math.min((long) x * y, 0xffff), UInt16.toInt(UInt16.multiplySaturating(
+                        (short) x, (short) y)));
+            }
+        }
+    }
+
+    public void testBulkSaturating() {
+        short[] x = { (short) 0xfff0, 1 };
+        short[] y = { 0x10, 2 };
+        short[] dst = new short[2];
+        UInt16.addSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new short[] { (short) 0xffff, 3 }, dst));
+        UInt16.subtractSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new short[] { (short) 0xffe0, 0 }, dst));
+        UInt16.multiplySaturating(x, y, dst);
+        assertTrue(Arrays.equals(new short[] { (short) 0xffff, 2 }, dst));
+    }
+
+    public void testValueOfExact() {
+        assertEquals(new UInt16(65535), UInt16.valueOfExact(65535));
+        assertEquals(new UInt16(0), UInt16.valueOfExact(0));
+        try {
+            UInt16.valueOfExact(65536);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            UInt16.valueOfExact(-1);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testExact() {
+        UInt16 max = UInt16.valueOfExact(65535);
+        UInt16 min = UInt16.valueOfExact(0);
+        UInt16 one = UInt16.valueOfExact(1);
+        UInt16 two = UInt16.valueOfExact(2);
+        assertEquals(max, UInt16.valueOfExact(65534).addExact(one));
+        assertEquals(min, UInt16.valueOfExact(1).subtractExact(one));
+        assertEquals(UInt16.valueOfExact(65534), UInt16.valueOfExact(32767).multiplyExact(two));
+        try {
+            max.addExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            min.subtractExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            max.multiplyExact(two);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testStaticExact() {
+        assertEquals((short) 0xffff, UInt16.addExact((short) 0xfffe, (short) 0x1));
+        assertEquals((short) 0x0, UInt16.subtractExact((short) 0x1, (short) 0x1));
+        try {
+            UInt16.multiplyExact((short) 0xffff, (short) 0xffff);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testInRange() {
+        assertTrue(UInt16.inRange(new long[] { 0, 0, 65535 }));
+        assertFalse(UInt16.inRange(new long[] { 0, 65536, 1 }));
+        assertFalse(UInt16.inRange(new long[] { -1 }));
+        assertFalse(UInt16.inRange(new long[] { Long.MAX_VALUE }));
+        assertTrue(UInt16.inRange(new long[0]));
+        assertTrue(UInt16.inRange(new int[] { 0, 65535 }));
+        assertFalse(UInt16.inRange(new int[] { 0, 65536 }));
+        assertFalse(UInt16.inRange(new int[] { Integer.MAX_VALUE }));
+        assertFalse(UInt16.inRange(new int[] { Integer.MIN_VALUE }));
+        try {
+            UInt16.inRange((long[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShift() {
+        assertEquals(new UInt16(0xfff0), new UInt16(0xffff).shiftLeft(4));
+        assertEquals(new UInt16(0x0fff), new UInt16(0xffff).shiftRight(4));
+        assertEquals(new UInt16(0x7fff), new UInt16(0xffff).shiftRight(17));
+    }
+
+    public void testRotate() {
+        assertEquals(new UInt16(0x2345), new UInt16(0x4523).rotateLeft(8));
+        assertEquals(new UInt16(0xc001), new UInt16(0x8003).rotateRight(1));
+        assertEquals(new UInt16(0x8003), new UInt16(0x8003).rotateLeft(16));
+    }
+
+    public void testStaticShift() {
+        for (int value = 0; value < 0x10000; value += 0x3d) {
+            for (int distance = 0; distance < 16; distance++) {
+                short word = (short) value;
+                assertEquals((short) (value << distance), UInt16.shiftLeft(word, distance));
+                assertEquals((short) (value >>> distance), UInt16.shiftRight(word, distance));
+                assertEquals((short) (value << distance | value >>> (16 - distance)), UInt16
+                        .rotateLeft(word, distance));
+                assertEquals(word, UInt16.rotateRight(UInt16.rotateLeft(word, distance),
+                        distance));
+            }
+        }
+    }
+
+    public void testBitCounting() {
+        UInt16 value = new UInt16(0x0680);
+        assertEquals(3, value.bitCount());
+        assertEquals(5, value.numberOfLeadingZeros());
+        assertEquals(7, value.numberOfTrailingZeros());
+        assertEquals(new UInt16(0x0400), value.highestOneBit());
+        assertEquals(new UInt16(0x0080), value.lowestOneBit());
+        assertEquals(new UInt16(0x0160), value.reverse());
+        assertEquals(new UInt16(0x8006), value.reverseBytes());
+        assertEquals(16, new UInt16(0).numberOfLeadingZeros());
+        assertEquals(16, new UInt16(0).numberOfTrailingZeros());
+    }
+
+    public void testStaticBitCounting() {
+        for (int value = 0; value < 0x10000; value += 0x3d) {
+            short word = (short) value;
+            assertEquals(Integer.bitCount(value), UInt16.bitCount(word));
+            assertEquals(Integer.numberOfLeadingZeros(value) - 16, UInt16
+                    .numberOfLeadingZeros(word));
+            assertEquals(Math.min(16, Integer.numberOfTrailingZeros(value)), UInt16
+                    .numberOfTrailingZeros(word));
+            assertEquals((short) Integer.highestOneBit(value), UInt16.highestOneBit(word));
+            assertEquals(word, UInt16.reverse(UInt16.reverse(word)));
+        }
+    }
+
+    public void testBulkBitCount() {
+        assertEquals(17, UInt16.bitCount(new short[] { -1, 1, 0 }));
+    }
+
+    public void testHasAnyBit() {
+        assertTrue(new UInt16(0x8086).hasAnyBit(new UInt16(0x3)));
+        assertFalse(new UInt16(0x8086).hasAnyBit(new UInt16(0x1)));
+        assertTrue(UInt16.hasAnyBit((short) 0x86, (short) 0x5));
+    }
+
+    public void testPrimitiveBitmask() {
+        UInt16 value = new UInt16(0x8086);
+        assertTrue(value.hasBitmask(0x84));
+        assertFalse(value.hasBitmask(0x85));
+        assertTrue(value.hasAnyBit(0x85));
+        assertFalse(value.hasAnyBit(0x1));
+        assertEquals(new UInt16(0x8086 | 0x1), value.addBitmask(0x1));
+        assertEquals(new UInt16(0x8086 & ~0x6), value.removeBitmask(0x6));
+        // bits above the width are ignored
+        assertTrue(new UInt16(0).hasBitmask(0x10000));
+        assertFalse(new UInt16(-1).hasAnyBit(0x10000));
+        assertTrue(new UInt16(0x8000).hasBitmask((short) 0x8000));
+        assertTrue(new UInt16(0x8000).hasAnyBit((short) 0x8000));
+        assertFalse(new UInt16(0x1).hasBitmask((short) 0x8000));
+        assertEquals(new UInt16(0x86), new UInt16(0x86).addBitmask(0x10000));
+    }
+
+    public void testBitmaskConstant() {
+        Bitmask mask = Bitmask.ofBits(2, 7);
+        UInt16 value = new UInt16(0x8086);
+        assertTrue(value.hasBitmask(mask));
+        assertTrue(value.hasAnyBit(Bitmask.ofBits(0, 1)));
+        assertEquals(new UInt16(0x8086 | 0x1), value.addBitmask(Bitmask.ofBits(0)));
+        assertEquals(new UInt16(0x8086 & ~0x84), value.removeBitmask(mask));
+    }
 }
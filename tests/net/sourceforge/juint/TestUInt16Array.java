@@ -0,0 +1,88 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import junit.framework.TestCase;
+
+public class TestUInt16Array extends TestCase {
+    public void testGetSet() {
+        UInt16Array array = new UInt16Array(2);
+        array.set(0, 65535);
+        array.set(1, 65537);
+        assertEquals(65535, array.get(0));
+        assertEquals(1, array.get(1));
+    }
+
+    public void testValueOf() {
+        UInt16Array array = UInt16Array.valueOf(new int[] { 60000, 1 });
+        assertEquals(array, UInt16Array.valueOf(new UInt16[] { new UInt16(60000), UInt16.ONE }));
+    }
+
+    public void testPutByteArray() {
+        byte[] bytes = new byte[] { 0, (byte) 0xca, (byte) 0x93, 0x00, 0x01 };
+        UInt16Array array = new UInt16Array(2);
+        array.put(0, bytes, 1, 2, ByteOrder.BIG_ENDIAN);
+        assertEquals(51859, array.get(0));
+        assertEquals(1, array.get(1));
+        array.put(0, bytes, 1, 1, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(37834, array.get(0));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xca, (byte) 0x93, 1, 0 });
+        UInt16Array array = new UInt16Array(2);
+        array.put(0, buffer, 1);
+        array.put(1, buffer, 1, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(51859, array.get(0));
+        assertEquals(1, array.get(1));
+        assertEquals(4, buffer.position());
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    }
+
+    public void testAsSigned() {
+        UInt16Array array = UInt16Array.valueOf(new int[] { 65535 });
+        assertEquals(-1, array.asSigned().get(0));
+    }
+
+    public void testConversions() {
+        UInt16Array array = UInt16Array.wrap(new short[] { -1 });
+        assertEquals(UInt16.MAX, array.toUInt16Array()[0]);
+        assertEquals(65535, array.toIntArray()[0]);
+    }
+
+    public void testToString() {
+        assertEquals("[0, 65535]", UInt16Array.wrap(new short[] { 0, -1 }).toString());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TestUInt16Histogram extends TestCase {
+    private final Random random = new Random(25);
+
+    private short[] randomShorts(int length) {
+        short[] a = new short[length];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (short) random.nextInt();
+        return a;
+    }
+
+    public void testCount() {
+        UInt16Histogram histogram = UInt16Histogram.valueOf(new short[] { 0, (short) 0xffff, 0,
+                (short) 0x8000, 0 });
+        assertEquals(3, histogram.count(0));
+        assertEquals(1, histogram.count(0xffff));
+        assertEquals(1, histogram.count(0x8000));
+        assertEquals(0, histogram.count(1));
+        assertEquals(3, histogram.count(0x10000));
+        assertEquals(5, histogram.total());
+        assertEquals("{0=3, 32768=1, 65535=1}", histogram.toString());
+    }
+
+    public void testParallel() {
+        short[] a = randomShorts(1 << 20);
+        UInt16Histogram serial = UInt16Histogram.valueOf(a);
+        assertEquals(serial, UInt16Histogram.parallelValueOf(a));
+        assertEquals(serial, UInt16Histogram.parallelValueOf(UInt16Array.wrap(a)));
+        assertEquals(serial, UInt16Histogram.valueOf(UInt16Array.wrap(a)));
+        assertEquals(a.length, serial.total());
+        int[] counts = new int[1 << 16];
+        for (int i = 0; i < a.length; i++)
+            counts[a[i] & 0xffff]++;
+        for (int value = 0; value < counts.length; value++)
+            assertEquals(counts[value], serial.count(value));
+        assertEquals(UInt16Histogram.valueOf(a, 5, 1000), UInt16Histogram.parallelValueOf(a,
+                5, 1000));
+    }
+
+    public void testBuffer() {
+        short[] a = randomShorts((1 << 19) + 13);
+        ByteOrder[] orders = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+        for (int i = 0; i < orders.length; i++) {
+            ByteBuffer heap = ByteBuffer.allocate(a.length * 2 + 3).order(orders[i]);
+            ByteBuffer direct = ByteBuffer.allocateDirect(a.length * 2 + 3).order(orders[i]);
+            heap.put((byte) 1).put((byte) 2);
+            direct.put((byte) 1).put((byte) 2);
+            for (int j = 0; j < a.length; j++) {
+                heap.putShort(a[j]);
+                direct.putShort(a[j]);
+            }
+            heap.position(2);
+            direct.position(2);
+            UInt16Histogram expected = UInt16Histogram.valueOf(a);
+            assertEquals(expected, UInt16Histogram.valueOf(heap));
+            assertEquals(expected, UInt16Histogram.parallelValueOf(heap));
+            assertEquals(expected, UInt16Histogram.valueOf(direct));
+            assertEquals(expected, UInt16Histogram.parallelValueOf(direct));
+            assertEquals(2, heap.position());
+            assertEquals(orders[i], heap.order());
+        }
+    }
+
+    public void testBufferOrder() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+        assertEquals(1, UInt16Histogram.valueOf(buffer).count(0x0102));
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(1, UInt16Histogram.valueOf(buffer).count(0x0201));
+        assertEquals(1, UInt16Histogram.valueOf(buffer).total());
+    }
+
+    public void testPercentile() {
+        short[] a = new short[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (short) (i + 64000);
+        UInt16Histogram histogram = UInt16Histogram.valueOf(a);
+        assertEquals(64000, histogram.percentile(0));
+        assertEquals(64499, histogram.percentile(50));
+        assertEquals(64989, histogram.percentile(99));
+        assertEquals(64999, histogram.percentile(100));
+        assertEquals(64069, histogram.percentile(7));
+        assertEquals(64559, histogram.percentile(56));
+        for (int percentile = 1; percentile <= 100; percentile++)
+            assertEquals(63999 + percentile * 10, histogram.percentile(percentile));
+    }
+
+    public void testMode() {
+        UInt16Histogram histogram = UInt16Histogram.valueOf(new short[] { 9, (short) 60000,
+                (short) 60000, 9, 4 });
+        assertEquals(9, histogram.mode());
+        histogram = UInt16Histogram.valueOf(new short[] { 9, (short) 60000, (short) 60000 });
+        assertEquals(60000, histogram.mode());
+    }
+
+    public void testEntropy() {
+        assertEquals(0, UInt16Histogram.valueOf(new short[0]).entropy(), 0);
+        assertEquals(2, UInt16Histogram.valueOf(new short[] { 1, 2, 3, 4 }).entropy(), 1e-12);
+        short[] a = new short[1 << 16];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (short) i;
+        assertEquals(16, UInt16Histogram.valueOf(a).entropy(), 1e-9);
+    }
+
+    public void testEmpty() {
+        UInt16Histogram histogram = UInt16Histogram.valueOf(new short[0]);
+        assertTrue(histogram.isEmpty());
+        try {
+            histogram.percentile(50);
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+        try {
+            histogram.mode();
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+    }
+
+    public void testNull() {
+        try {
+            UInt16Histogram.valueOf((short[]) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt16Histogram.parallelValueOf((ByteBuffer) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testBadRange() {
+        try {
+            UInt16Histogram.parallelValueOf(new short[4], 3, 2);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt16Histogram.valueOf(new short[4], -1, 2);
+            fail("Should raise an ArrayIndexOutOfBoundsException.");
+        }
+        catch (ArrayIndexOutOfBoundsException e) {
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.HashMap;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import junit.framework.TestCase;
+
+public class TestUInt16ObjectMap extends TestCase {
+
+    public void testPutGet() {
+        UInt16ObjectMap<String> map = new UInt16ObjectMap<String>();
+        assertFalse(map.isDirect());
+        assertNull(map.put((short) 7, "seven"));
+        assertEquals("seven", map.put((short) 7, "SEVEN"));
+        assertNull(map.put((short) 0xffff, "max"));
+        assertEquals("SEVEN", map.get((short) 7));
+        assertEquals("max", map.get((short) 0xffff));
+        assertNull(map.get((short) 8));
+        assertTrue(map.containsKey((short) 7));
+        assertEquals(2, map.size());
+    }
+
+    public void testDirect() {
+        UInt16ObjectMap<String> map = UInt16ObjectMap.direct();
+        assertTrue(map.isDirect());
+        assertNull(map.put((short) 0, "zero"));
+        assertNull(map.put((short) 0xffff, "max"));
+        assertEquals("zero", map.put((short) 0, "ZERO"));
+        assertEquals("ZERO", map.get((short) 0));
+        assertEquals("max", map.get(new UInt16(0xffff)));
+        assertTrue(map.containsKey(new UInt16(0xffff)));
+        assertFalse(map.containsKey(new UInt16(1)));
+        assertEquals(2, map.size());
+        assertEquals("max", map.remove((short) 0xffff));
+        assertNull(map.remove((short) 0xffff));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertTrue(map.isDirect());
+    }
+
+    public void testZeroKey() {
+        UInt16ObjectMap<String> map = new UInt16ObjectMap<String>();
+        assertFalse(map.containsKey((short) 0));
+        map.put((short) 0, "zero");
+        assertEquals("zero", map.get((short) 0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove((short) 0));
+        assertTrue(map.isEmpty());
+    }
+
+    public void testSwitchToDirect() {
+        UInt16ObjectMap<Integer> map = new UInt16ObjectMap<Integer>();
+        map.put((short) 0, Integer.valueOf(-1));
+        for (int key = 1; key < 0x10000; key += 2)
+            map.put((short) key, Integer.valueOf(key));
+        assertTrue(map.isDirect());
+        assertEquals(0x8001, map.size());
+        assertEquals(Integer.valueOf(-1), map.get((short) 0));
+        assertEquals(Integer.valueOf(0xffff), map.get((short) 0xffff));
+        assertNull(map.get((short) 2));
+        assertTrue(new UInt16ObjectMap<Integer>(60000).isDirect());
+    }
+
+    public void testComputeIfAbsent() {
+        UInt16ObjectMap<String> map = new UInt16ObjectMap<String>();
+        IntFunction<String> function = new IntFunction<String>() {
+            public String apply(int key) {
+                return Integer.toString(key);
+            }
+        };
+        assertEquals("65535", map.computeIfAbsent((short) 0xffff, function));
+        assertEquals("65535", map.get((short) 0xffff));
+        map.put((short) 5, "five");
+        assertEquals("five", map.computeIfAbsent((short) 5, function));
+        assertEquals("40000", map.computeIfAbsent(new UInt16(40000), function));
+        assertEquals("40000", map.get((short) 40000));
+        try {
+            map.computeIfAbsent((UInt16) null, function);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            map.computeIfAbsent((short) 1, null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testRandomAgainstHashMap() {
+        Random random = new Random(23);
+        UInt16ObjectMap<Integer> map = new UInt16ObjectMap<Integer>();
+        HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        for (int i = 0; i < 100000; i++) {
+            int key = random.nextInt(20000) * 3;
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(key), map.remove((short) key));
+            else
+                assertEquals(expected.put(key, i), map.put((short) key, Integer.valueOf(i)));
+        }
+        assertFalse(map.isDirect());
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 0x10000; key++)
+            assertEquals(expected.get(key), map.get((short) key));
+    }
+
+    public void testKeyIterator() {
+        UInt16ObjectMap<String> hashed = new UInt16ObjectMap<String>();
+        UInt16ObjectMap<String> direct = UInt16ObjectMap.direct();
+        UInt16ObjectMap<?>[] maps = { hashed, direct };
+        hashed.put((short) 0, "a");
+        hashed.put((short) 0xffff, "b");
+        direct.put((short) 0, "a");
+        direct.put((short) 0xffff, "b");
+        for (int i = 0; i < maps.length; i++) {
+            int sum = 0;
+            PrimitiveIterator.OfInt iterator = maps[i].keyIterator();
+            while (iterator.hasNext())
+                sum += iterator.nextInt();
+            assertEquals(0xffff, sum);
+        }
+    }
+
+    public void testToString() {
+        UInt16ObjectMap<String> map = UInt16ObjectMap.direct();
+        assertEquals("{}", map.toString());
+        map.put((short) 0xffff, "max");
+        assertEquals("{65535=max}", map.toString());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteOrder;
+
+import junit.framework.TestCase;
+
+public class TestUInt16Segment extends TestCase {
+    public void testGetSet() {
+        UInt16Segment segment = UInt16Segment.allocate(2, ByteOrder.BIG_ENDIAN);
+        segment.set(0, 65535);
+        segment.set(1, 65537);
+        assertEquals(65535, segment.get(0));
+        assertEquals(1, segment.get(1));
+        assertEquals(ByteOrder.BIG_ENDIAN, segment.order());
+    }
+
+    public void testNegativeLength() {
+        try {
+            UInt16Segment.allocate(-1);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testCopy() {
+        UInt16Segment segment = new UInt16Segment(9, ByteOrder.nativeOrder(), 2);
+        segment.copyFrom(1, UInt16Array.valueOf(new int[] { 1, 2, 3, 4, 5, 65535 }), 0, 6);
+        UInt16Array dst = new UInt16Array(6);
+        segment.copyTo(1, dst, 0, 6);
+        assertEquals(UInt16Array.valueOf(new int[] { 1, 2, 3, 4, 5, 65535 }), dst);
+    }
+
+    public void testClose() {
+        UInt16Segment segment = UInt16Segment.allocate(1);
+        segment.close();
+        segment.close();
+        try {
+            segment.set(0, 1);
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+    }
+}
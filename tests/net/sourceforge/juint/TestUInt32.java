@@ -31,6 +31,10 @@
  */
 package net.sourceforge.juint;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import net.sourceforge.juint.UInt32;
 import junit.framework.TestCase;
 
@@ -142,13 +146,13 @@ public class TestUInt32 extends TestCase {
     public void testCompareToMore() {
         UInt32 one = new UInt32(1);
         UInt32 two = new UInt32(10);
-        assertEquals(-9, one.compareTo(two));
+        assertTrue(one.compareTo(two) < 0);
     }
 
     public void testCompareToLess() {
         UInt32 one = new UInt32(10);
         UInt32 two = new UInt32(1);
-        assertEquals(9, one.compareTo(two));
+        assertTrue(one.compareTo(two) > 0);
     }
 
     public void testCompareToEquals() {
@@ -157,6 +161,22 @@ public class TestUInt32 extends TestCase {
         assertEquals(0, one.compareTo(two));
     }
 
+    public void testCompareToExtremes() {
+        UInt32 one = new UInt32(0xffffffff);
+        UInt32 two = new UInt32(0);
+        assertTrue(one.compareTo(two) > 0);
+        assertTrue(two.compareTo(one) < 0);
+    }
+
+    public void testComparator() {
+        UInt32[] values = { new UInt32(0xffffffff), new UInt32(0), new UInt32(0x80000000) };
+        Arrays.sort(values, UInt32.COMPARATOR);
+        assertEquals(new UInt32(0), values[0]);
+        assertEquals(new UInt32(0x80000000), values[1]);
+        assertEquals(new UInt32(0xffffffff), values[2]);
+        assertEquals(0, UInt32.COMPARATOR.compare(new UInt32(0x80000000), new UInt32(0x80000000)));
+    }
+
     public void testHashCode() {
         UInt32 uint32 = new UInt32((byte) 10);
         assertEquals(uint32.intValue(), uint32.hashCode());
@@ -239,4 +259,323 @@ public class TestUInt32 extends TestCase {
         UInt32 uint32 = new UInt32(0x06);
         assertEquals(new UInt32(0x02), uint32.removeBitmask(new UInt32(0x04)));
     }
+
+    public void testStaticToLong() {
+        assertEquals(4294967295L, UInt32.toLong(-1));
+    }
+
+    public void testStaticFromBigEndian() {
+        assertEquals(0xcafebabe, UInt32.fromBigEndian((byte) 0xca, (byte) 0xfe, (byte) 0xba,
+                (byte) 0xbe));
+    }
+
+    public void testStaticFromLittleEndian() {
+        assertEquals(0xcafebabe, UInt32.fromLittleEndian((byte) 0xbe, (byte) 0xba, (byte) 0xfe,
+                (byte) 0xca));
+    }
+
+    public void testStaticCompare() {
+        assertTrue(UInt32.compare(0xffffffff, 1) > 0);
+        assertTrue(UInt32.compare(1, 0x80000000) < 0);
+        assertEquals(0, UInt32.compare(7, 7));
+    }
+
+    public void testStaticBitwise() {
+        assertEquals(0x0f, UInt32.and(0xff, 0x0f));
+        assertEquals(0xff, UInt32.or(0xf0, 0x0f));
+        assertEquals(0xf0, UInt32.xor(0xff, 0x0f));
+        assertEquals(0xffffff00, UInt32.not(0xff));
+        assertTrue(UInt32.hasBitmask(0x06, 0x04));
+        assertEquals(0x02, UInt32.removeBitmask(0x06, 0x04));
+    }
+
+    public void testStaticToString() {
+        assertEquals("4294967295", UInt32.toString(-1));
+    }
+
+    public void testGetBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xca, (byte) 0xfe, (byte) 0xba,
+                (byte) 0xbe, 1, 0, 0, 0 });
+        assertEquals(0xcafebabeL, UInt32.get(buffer));
+        assertEquals(1L, UInt32.get(buffer, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(8, buffer.position());
+        assertEquals(0xbebafecaL, UInt32.get(buffer, 0, ByteOrder.LITTLE_ENDIAN));
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        UInt32.put(buffer, 4294967295L);
+        UInt32.put(buffer, 0xcafebabeL, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(-1, buffer.getInt(0));
+        assertEquals((byte) 0xbe, buffer.get(4));
+        UInt32.put(buffer, 0, 2L, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(2, buffer.get(0));
+        assertEquals(2L, UInt32.get(buffer, 0, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    public void testValueOfOffset() {
+        byte[] record = new byte[] { 0, (byte) 0xca, (byte) 0xfe, (byte) 0xba, (byte) 0xbe, 0 };
+        assertEquals(0xcafebabeL, UInt32.valueOfBigEndian(record, 1).uint32Value());
+        assertEquals(0xbebafecaL, UInt32.valueOfLittleEndian(record, 1).uint32Value());
+    }
+
+    public void testValueOfOffsetOutOfBounds() {
+        try {
+            UInt32.valueOfBigEndian(new byte[6], 3);
+            fail("Should raise an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testWriteOffset() {
+        byte[] record = new byte[9];
+        UInt32 uint32 = new UInt32(0xcafebabeL);
+        uint32.writeBigEndian(record, 1);
+        uint32.writeLittleEndian(record, 5);
+        assertEquals((byte) 0xca, record[1]);
+        assertEquals((byte) 0xbe, record[4]);
+        assertEquals((byte) 0xbe, record[5]);
+        assertEquals((byte) 0xca, record[8]);
+    }
+
+    public void testAdd() {
+        assertEquals(new UInt32(0x1), new UInt32(0xfffffffe).add(new UInt32(0x3)));
+        assertEquals(new UInt32(0x1), new UInt32(0xffffffff).add(new UInt32(0x2)));
+    }
+
+    public void testSubtract() {
+        assertEquals(new UInt32(0xffffffff), new UInt32(0x0).subtract(new UInt32(0x1)));
+        assertEquals(new UInt32(0xfffffffe), new UInt32(0x1).subtract(new UInt32(0x3)));
+    }
+
+    public void testMultiply() {
+        assertEquals(new UInt32(0xfffffffa), new UInt32(0xfffffffe).multiply(new UInt32(0x3)));
+        assertEquals(new UInt32(0x0), new UInt32(0x80000000).multiply(new UInt32(0x2)));
+    }
+
+    public void testNegate() {
+        assertEquals(new UInt32(0xffffffff), new UInt32(0x1).negate());
+        assertEquals(new UInt32(0x80000000), new UInt32(0x80000000).negate());
+    }
+
+    public void testIncrement() {
+        assertEquals(new UInt32(0x0), new UInt32(0xffffffff).increment());
+        assertEquals(new UInt32(0x80000000), new UInt32(0x7fffffff).increment());
+    }
+
+    public void testDecrement() {
+        assertEquals(new UInt32(0xffffffff), new UInt32(0x0).decrement());
+        assertEquals(new UInt32(0x7fffffff), new UInt32(0x80000000).decrement());
+    }
+
+    public void testStaticArithmetic() {
+        assertEquals(0x1, UInt32.add(0xfffffffe, 0x3));
+        assertEquals(0xfffffffe, UInt32.subtract(0x1, 0x3));
+        assertEquals(0xfffffffa, UInt32.multiply(0xfffffffe, 0x3));
+        assertEquals(0xffffffff, UInt32.negate(0x1));
+        assertEquals(0x0, UInt32.increment(0xffffffff));
+        assertEquals(0xffffffff, UInt32.decrement(0x0));
+    }
+
+    public void testDivide() {
+        assertEquals(new UInt32(0x7fffffff), new UInt32(0xffffffff).divide(new UInt32(2)));
+        assertEquals(new UInt32(0), new UInt32(100).divide(new UInt32(0xc8000000)));
+        try {
+            new UInt32(1).divide(new UInt32(0));
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testRemainder() {
+        assertEquals(new UInt32(1), new UInt32(0xffffffff).remainder(new UInt32(2)));
+        assertEquals(new UInt32(100), new UInt32(100).remainder(new UInt32(0xc8000000)));
+    }
+
+    public void testDivideAndRemainder() {
+        UInt32[] result = new UInt32(0xfffffffa).divideAndRemainder(new UInt32(0x30000000));
+        assertEquals(new UInt32(5), result[0]);
+        assertEquals(new UInt32(0xfffffffaL - 5 * 0x30000000L), result[1]);
+    }
+
+    public void testStaticDivision() {
+        assertEquals(0x7fffffff, UInt32.divide(0xffffffff, 2));
+        assertEquals(1, UInt32.remainder(0xffffffff, 2));
+        int[] result = UInt32.divideAndRemainder(0xfffffffa, 0x30000000);
+        assertEquals(5, result[0]);
+        assertEquals((int) (0xfffffffaL - 5 * 0x30000000L), result[1]);
+    }
+
+    public void testSaturating() {
+        assertEquals(new UInt32(0xffffffff), new UInt32(0xfffffff0).addSaturating(new UInt32(
+                0x10)));
+        assertEquals(new UInt32(0), new UInt32(10).subtractSaturating(new UInt32(11)));
+        assertEquals(new UInt32(0xffffffff), new UInt32(0x10000).multiplySaturating(new UInt32(
+                0x10000)));
+        assertEquals(new UInt32(0xfffe0001), new UInt32(0xffff).multiplySaturating(new UInt32(
+                0xffff)));
+    }
+
+    public void testStaticSaturating() {
+        long max = 0xffffffffL;
+        int[] values = { 0, 1, 2, 0x7fffffff, 0x80000000, 0xfffffffe, 0xffffffff, 0x10000,
+                0xffff, 0x12345678, 0x9abcdef0 };
+        for (int x : values) {
+            for (int y : values) {
+                long a = UInt32.toLong(x);
+                long b = UInt32.toLong(y);
+                assertEquals(Math.min(a + b, max), UInt32.toLong(UInt32.addSaturating(x, y)));
+                assertEquals(Math.max(a - b, 0), UInt32.toLong(UInt32.subtractSaturating(x, y)));
+                long product = (b != 0 && a > max / b) ? max : a * b;
+                assertEquals(product, UInt32.toLong(UInt32.multiplySaturating(x, y)));
+            }
+        }
+    }
+
+    public void testBulkSaturating() {
+        int[] x = { 0xfffffff0, 1 };
+        int[] y = { 0x10, 2 };
+        int[] dst = new int[2];
+        UInt32.addSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new int[] { 0xffffffff, 3 }, dst));
+        UInt32.subtractSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new int[] { 0xffffffe0, 0 }, dst));
+        UInt32.multiplySaturating(x, y, dst);
+        assertTrue(Arrays.equals(new int[] { 0xffffffff, 2 }, dst));
+    }
+
+    public void testValueOfExact() {
+        assertEquals(new UInt32(4294967295L), UInt32.valueOfExact(4294967295L));
+        assertEquals(new UInt32(0), UInt32.valueOfExact(0));
+        try {
+            UInt32.valueOfExact(4294967296L);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            UInt32.valueOfExact(-1);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testExact() {
+        UInt32 max = UInt32.valueOfExact(4294967295L);
+        UInt32 min = UInt32.valueOfExact(0);
+        UInt32 one = UInt32.valueOfExact(1);
+        UInt32 two = UInt32.valueOfExact(2);
+        assertEquals(max, UInt32.valueOfExact(4294967294L).addExact(one));
+        assertEquals(min, UInt32.valueOfExact(1).subtractExact(one));
+        UInt32 half = UInt32.valueOfExact(2147483647);
+        assertEquals(UInt32.valueOfExact(4294967294L), half.multiplyExact(two));
+        try {
+            max.addExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            min.subtractExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            max.multiplyExact(two);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testStaticExact() {
+        assertEquals(0xffffffff, UInt32.addExact(0xfffffffe, 0x1));
+        assertEquals(0x0, UInt32.subtractExact(0x1, 0x1));
+        try {
+            UInt32.multiplyExact(0xffffffff, 0xffffffff);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testInRange() {
+        assertTrue(UInt32.inRange(new long[] { 0, 0, 4294967295L }));
+        assertFalse(UInt32.inRange(new long[] { 0, 4294967296L, 1 }));
+        assertFalse(UInt32.inRange(new long[] { -1 }));
+        assertFalse(UInt32.inRange(new long[] { Long.MAX_VALUE }));
+        assertTrue(UInt32.inRange(new long[0]));
+        assertTrue(UInt32.inRange(new int[] { 0, Integer.MAX_VALUE }));
+        assertFalse(UInt32.inRange(new int[] { 0, -1 }));
+        try {
+            UInt32.inRange((long[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShift() {
+        assertEquals(new UInt32(0xfffffff0), new UInt32(0xffffffff).shiftLeft(4));
+        assertEquals(new UInt32(0x0fffffff), new UInt32(0xffffffff).shiftRight(4));
+        assertEquals(new UInt32(0x7fffffff), new UInt32(0xffffffff).shiftRight(33));
+    }
+
+    public void testRotate() {
+        assertEquals(new UInt32(0x23456781), new UInt32(0x12345678).rotateLeft(4));
+        assertEquals(new UInt32(0xc0000001), new UInt32(0x80000003).rotateRight(1));
+    }
+
+    public void testStaticShift() {
+        assertEquals(0x80000000, UInt32.shiftLeft(1, 31));
+        assertEquals(1, UInt32.shiftRight(0x80000000, 31));
+        assertEquals(0x81234567, UInt32.rotateRight(0x12345678, 4));
+        assertEquals(0x12345678, UInt32.rotateLeft(0x12345678, 32));
+    }
+
+    public void testBitCounting() {
+        UInt32 value = new UInt32(0x00068000);
+        assertEquals(3, value.bitCount());
+        assertEquals(13, value.numberOfLeadingZeros());
+        assertEquals(15, value.numberOfTrailingZeros());
+        assertEquals(new UInt32(0x00040000), value.highestOneBit());
+        assertEquals(new UInt32(0x00008000), value.lowestOneBit());
+        assertEquals(new UInt32(0x00016000), value.reverse());
+        assertEquals(new UInt32(0x00800600), value.reverseBytes());
+        assertEquals(32, new UInt32(0).numberOfTrailingZeros());
+    }
+
+    public void testBulkBitCount() {
+        assertEquals(33, UInt32.bitCount(new int[] { -1, 1, 0 }));
+    }
+
+    public void testHasAnyBit() {
+        assertTrue(new UInt32(0x80000086).hasAnyBit(new UInt32(0x3)));
+        assertFalse(new UInt32(0x80000086).hasAnyBit(new UInt32(0x1)));
+        assertTrue(UInt32.hasAnyBit(0x86, 0x5));
+    }
+
+    public void testPrimitiveBitmask() {
+        UInt32 value = new UInt32(0x80000086);
+        assertTrue(value.hasBitmask(0x84));
+        assertFalse(value.hasBitmask(0x85));
+        assertTrue(value.hasAnyBit(0x85));
+        assertFalse(value.hasAnyBit(0x1));
+        assertEquals(new UInt32(0x80000086 | 0x1), value.addBitmask(0x1));
+        assertEquals(new UInt32(0x80000086 & ~0x6), value.removeBitmask(0x6));
+    }
+
+    public void testBitmaskConstant() {
+        Bitmask mask = Bitmask.ofBits(2, 7);
+        UInt32 value = new UInt32(0x80000086);
+        assertTrue(value.hasBitmask(mask));
+        assertTrue(value.hasAnyBit(Bitmask.ofBits(0, 1)));
+        assertEquals(new UInt32(0x80000086 | 0x1), value.addBitmask(Bitmask.ofBits(0)));
+        assertEquals(new UInt32(0x80000086 & ~0x84), value.removeBitmask(mask));
+    }
 }
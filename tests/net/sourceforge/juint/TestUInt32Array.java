@@ -0,0 +1,174 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.PrimitiveIterator;
+
+import junit.framework.TestCase;
+
+public class TestUInt32Array extends TestCase {
+    public void testLengthConstructor() {
+        UInt32Array array = new UInt32Array(3);
+        assertEquals(3, array.length());
+        assertEquals(0, array.get(2));
+    }
+
+    public void testGetSet() {
+        UInt32Array array = new UInt32Array(2);
+        array.set(0, UInt32.MAX_VALUE);
+        array.set(1, 1L << 32 | 7);
+        assertEquals(UInt32.MAX_VALUE, array.get(0));
+        assertEquals(7, array.get(1));
+        assertEquals(-1, array.array()[0]);
+    }
+
+    public void testWrap() {
+        int[] raw = new int[] { -1, 2 };
+        UInt32Array array = UInt32Array.wrap(raw);
+        raw[1] = 3;
+        assertEquals(4294967295L, array.get(0));
+        assertEquals(3, array.get(1));
+    }
+
+    public void testWrapNull() {
+        try {
+            UInt32Array.wrap(null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testValueOfLongArray() {
+        UInt32Array array = UInt32Array.valueOf(new long[] { 1, 4294967295L, 4294967296L });
+        assertEquals(1, array.get(0));
+        assertEquals(4294967295L, array.get(1));
+        assertEquals(0, array.get(2));
+    }
+
+    public void testValueOfUInt32Array() {
+        UInt32Array array = UInt32Array.valueOf(new UInt32[] { new UInt32(5), new UInt32(-1) });
+        assertEquals(5, array.get(0));
+        assertEquals(4294967295L, array.get(1));
+    }
+
+    public void testFill() {
+        UInt32Array array = new UInt32Array(4);
+        array.fill(4000000000L);
+        array.fill(1, 3, 9);
+        assertEquals(4000000000L, array.get(0));
+        assertEquals(9, array.get(1));
+        assertEquals(9, array.get(2));
+        assertEquals(4000000000L, array.get(3));
+    }
+
+    public void testCopyTo() {
+        UInt32Array src = UInt32Array.valueOf(new long[] { 1, 2, 3 });
+        UInt32Array dst = new UInt32Array(4);
+        src.copyTo(1, dst, 2, 2);
+        assertEquals(UInt32Array.valueOf(new long[] { 0, 0, 2, 3 }), dst);
+    }
+
+    public void testCopy() {
+        UInt32Array array = UInt32Array.valueOf(new long[] { 1, 2 });
+        UInt32Array copy = array.copy();
+        copy.set(0, 5);
+        assertEquals(1, array.get(0));
+    }
+
+    public void testSlice() {
+        UInt32Array array = UInt32Array.valueOf(new long[] { 1, 2, 3, 4 });
+        assertEquals(UInt32Array.valueOf(new long[] { 2, 3 }), array.slice(1, 3));
+    }
+
+    public void testSliceOutOfBounds() {
+        try {
+            new UInt32Array(2).slice(1, 3);
+            fail("Should raise an ArrayIndexOutOfBoundsException.");
+        }
+        catch (ArrayIndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testIterator() {
+        PrimitiveIterator.OfLong iterator = UInt32Array.valueOf(new long[] { 4294967295L, 1 })
+                .iterator();
+        assertEquals(4294967295L, iterator.nextLong());
+        assertEquals(1, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testToUInt32Array() {
+        UInt32[] values = UInt32Array.valueOf(new long[] { 4294967295L }).toUInt32Array();
+        assertEquals(new UInt32(4294967295L), values[0]);
+    }
+
+    public void testToLongArray() {
+        long[] values = UInt32Array.wrap(new int[] { -1, 1 }).toLongArray();
+        assertEquals(4294967295L, values[0]);
+        assertEquals(1, values[1]);
+    }
+
+    public void testEqualsHashCode() {
+        UInt32Array one = UInt32Array.wrap(new int[] { 1, -1 });
+        UInt32Array two = UInt32Array.valueOf(new long[] { 1, 4294967295L });
+        assertTrue(one.equals(two));
+        assertEquals(one.hashCode(), two.hashCode());
+        assertTrue(!one.equals(null));
+    }
+
+    public void testToString() {
+        assertEquals("[0, 4294967295]", UInt32Array.wrap(new int[] { 0, -1 }).toString());
+    }
+
+    public void testPutByteArray() {
+        byte[] bytes = new byte[] { 0, (byte) 0xca, (byte) 0xfe, (byte) 0xba, (byte) 0xbe };
+        UInt32Array array = new UInt32Array(2);
+        array.put(1, bytes, 1, 1, ByteOrder.BIG_ENDIAN);
+        assertEquals(0xcafebabeL, array.get(1));
+        array.put(0, bytes, 1, 1, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0xbebafecaL, array.get(0));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putInt(-1).putInt(Integer.reverseBytes(2)).flip();
+        UInt32Array array = new UInt32Array(2);
+        array.put(0, buffer, 1);
+        array.put(1, buffer, 1, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(4294967295L, array.get(0));
+        assertEquals(2, array.get(1));
+        assertFalse(buffer.hasRemaining());
+    }
+}
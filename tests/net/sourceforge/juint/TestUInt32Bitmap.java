@@ -0,0 +1,341 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import junit.framework.TestCase;
+
+public class TestUInt32Bitmap extends TestCase {
+    private final Random random = new Random(24);
+
+    public void testAddContainsRemove() {
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        assertTrue(bitmap.isEmpty());
+        assertTrue(bitmap.add(0xffffffff));
+        assertFalse(bitmap.add(0xffffffff));
+        assertTrue(bitmap.add(0));
+        assertTrue(bitmap.add(new UInt32(0x80000000)));
+        assertTrue(bitmap.contains(0));
+        assertTrue(bitmap.contains(new UInt32(0xffffffff)));
+        assertFalse(bitmap.contains(1));
+        assertEquals(3, bitmap.cardinality());
+        assertTrue(bitmap.remove(0x80000000));
+        assertFalse(bitmap.remove(0x80000000));
+        assertFalse(bitmap.remove(0x80000001));
+        assertEquals(2, bitmap.cardinality());
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+        assertFalse(bitmap.contains(0));
+    }
+
+    public void testRandomAgainstTreeSet() {
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        TreeSet<Long> expected = new TreeSet<Long>();
+        for (int i = 0; i < 100000; i++) {
+            int value = randomValue();
+            if (random.nextInt(4) == 0)
+                assertEquals(expected.remove(UInt32.toLong(value)), bitmap.remove(value));
+            else
+                assertEquals(expected.add(UInt32.toLong(value)), bitmap.add(value));
+        }
+        assertContents(expected, bitmap);
+    }
+
+    public void testDenseChunk() {
+        // crosses the array limit in both directions
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        for (int i = 0; i < 10000; i++)
+            bitmap.add(0x70000 + 2 * i);
+        assertEquals(10000, bitmap.cardinality());
+        assertTrue(bitmap.contains(0x70000 + 19998));
+        assertFalse(bitmap.contains(0x70001));
+        for (int i = 0; i < 9000; i++)
+            bitmap.remove(0x70000 + 2 * i);
+        assertEquals(1000, bitmap.cardinality());
+        assertEquals(0x70000 + 18000, bitmap.toArray()[0]);
+    }
+
+    public void testRunOptimize() {
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        for (int i = 0; i < 100000; i++)
+            bitmap.add(0xfffe0000 + i);
+        bitmap.add(5);
+        UInt32Bitmap copy = bitmap.or(new UInt32Bitmap());
+        int size = bitmap.serializedSizeInBytes();
+        assertTrue(bitmap.runOptimize());
+        assertTrue(bitmap.serializedSizeInBytes() < size / 100);
+        assertEquals(copy, bitmap);
+        assertEquals(100001, bitmap.cardinality());
+        assertTrue(bitmap.contains(0xfffe0000 + 99999));
+        assertFalse(bitmap.contains(0xfffe0000 + 100000));
+        // single changes convert a chunk back from runs
+        assertTrue(bitmap.remove(0xfffe0000 + 500));
+        assertTrue(bitmap.add(0xfffe0000 + 100001));
+        assertFalse(bitmap.add(0xfffe0000 + 7));
+        assertEquals(100001, bitmap.cardinality());
+        assertFalse(new UInt32Bitmap().runOptimize());
+    }
+
+    public void testSetOperations() {
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Long> x = new TreeSet<Long>();
+            TreeSet<Long> y = new TreeSet<Long>();
+            UInt32Bitmap a = randomBitmap(x);
+            UInt32Bitmap b = randomBitmap(y);
+            if (round % 2 == 0)
+                a.runOptimize();
+            if (round % 3 == 0)
+                b.runOptimize();
+            TreeSet<Long> and = new TreeSet<Long>(x);
+            and.retainAll(y);
+            TreeSet<Long> or = new TreeSet<Long>(x);
+            or.addAll(y);
+            TreeSet<Long> andNot = new TreeSet<Long>(x);
+            andNot.removeAll(y);
+            TreeSet<Long> xor = new TreeSet<Long>(or);
+            xor.removeAll(and);
+            assertContents(and, a.and(b));
+            assertContents(or, a.or(b));
+            assertContents(andNot, a.andNot(b));
+            assertContents(xor, a.xor(b));
+            // operands are unchanged
+            assertContents(x, a);
+            assertContents(y, b);
+        }
+    }
+
+    public void testIterators() {
+        UInt32Bitmap bitmap = UInt32Bitmap.valueOf(new int[] { 0xffffffff, 3, 0x80000000, 0 });
+        PrimitiveIterator.OfLong iterator = bitmap.iterator();
+        assertEquals(0, iterator.nextLong());
+        assertEquals(3, iterator.nextLong());
+        assertEquals(0x80000000L, iterator.nextLong());
+        assertEquals(0xffffffffL, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+        assertTrue(Arrays.equals(new int[] { 0, 3, 0x80000000, 0xffffffff }, bitmap.toArray()));
+        assertFalse(new UInt32Bitmap().rawIterator().hasNext());
+        assertEquals("[0, 3, 2147483648, 4294967295]", bitmap.toString());
+    }
+
+    public void testSerializeKnownBytes() {
+        UInt32Bitmap bitmap = UInt32Bitmap.valueOf(new int[] { 1, 2, 0x10000 });
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        assertFalse(buffer.hasRemaining());
+        byte[] expected = { 0x3a, 0x30, 0, 0, 2, 0, 0, 0, 0, 0, 1, 0, 1, 0, 0, 0, 24, 0, 0, 0,
+                28, 0, 0, 0, 1, 0, 2, 0, 0, 0 };
+        assertTrue(Arrays.equals(expected, buffer.array()));
+    }
+
+    public void testSerializeRunsKnownBytes() {
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        for (int i = 10; i < 20; i++)
+            bitmap.add(i);
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        // one run container and no offsets
+        byte[] expected = { 0x3b, 0x30, 0, 0, 1, 0, 0, 9, 0, 1, 0, 10, 0, 9, 0 };
+        assertTrue(Arrays.equals(expected, buffer.array()));
+    }
+
+    public void testSerializeRoundTrip() {
+        TreeSet<Long> expected = new TreeSet<Long>();
+        UInt32Bitmap bitmap = randomBitmap(expected);
+        for (int pass = 0; pass < 2; pass++) {
+            ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes() + 3).order(
+                    ByteOrder.BIG_ENDIAN);
+            buffer.put((byte) 1);
+            bitmap.serialize(buffer);
+            assertEquals(2, buffer.remaining());
+            assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+            buffer.position(1);
+            UInt32Bitmap read = UInt32Bitmap.deserialize(buffer);
+            assertEquals(2, buffer.remaining());
+            assertEquals(bitmap, read);
+            assertContents(expected, read);
+            bitmap.runOptimize();
+        }
+    }
+
+    public void testDeserializeErrors() {
+        try {
+            UInt32Bitmap.deserialize(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4 }));
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt32Bitmap.deserialize(ByteBuffer.wrap(new byte[] { 0x3a, 0x30, 0, 0, 1, 0, 0, 0,
+                    0, 0 }));
+            fail("Should raise a BufferUnderflowException.");
+        }
+        catch (BufferUnderflowException e) {
+        }
+        // a run starting at 65535 that is 11 values long
+        assertInvalid(new byte[] { 0x3b, 0x30, 0, 0, 1, 0, 0, 10, 0, 1, 0, (byte) 0xff,
+                (byte) 0xff, 10, 0 });
+        // runs [0, 4] and [3, 3] overlap
+        assertInvalid(new byte[] { 0x3b, 0x30, 0, 0, 1, 0, 0, 5, 0, 2, 0, 0, 0, 4, 0, 3, 0, 0,
+                0 });
+        // array values out of order, then repeated
+        assertInvalid(new byte[] { 0x3a, 0x30, 0, 0, 1, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 5, 0,
+                3, 0 });
+        assertInvalid(new byte[] { 0x3a, 0x30, 0, 0, 1, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 5, 0,
+                5, 0 });
+        // a bitmap container claiming 4097 values with no bits set
+        byte[] bitmap = new byte[20 + 8192];
+        System.arraycopy(new byte[] { 0x3a, 0x30, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0x10 }, 0, bitmap,
+                0, 12);
+        assertInvalid(bitmap);
+        try {
+            new UInt32Bitmap().serialize(ByteBuffer.allocate(7));
+            fail("Should raise a BufferOverflowException.");
+        }
+        catch (BufferOverflowException e) {
+        }
+    }
+
+    private void assertInvalid(byte[] bytes) {
+        try {
+            UInt32Bitmap.deserialize(ByteBuffer.wrap(bytes));
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testNull() {
+        try {
+            new UInt32Bitmap().and(null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt32Bitmap.valueOf(null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            new UInt32Bitmap().add((UInt32) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testEqualsHashCode() {
+        UInt32Bitmap one = UInt32Bitmap.valueOf(new int[] { 1, 2, 3, 0xffffffff });
+        UInt32Bitmap two = UInt32Bitmap.valueOf(new int[] { 0xffffffff, 3, 2, 1 });
+        two.runOptimize();
+        assertEquals(one, two);
+        assertEquals(one.hashCode(), two.hashCode());
+        assertEquals(Arrays.hashCode(one.toArray()), one.hashCode());
+        two.remove(2);
+        assertFalse(one.equals(two));
+    }
+
+    public void testEqualsMixedContainers() {
+        int[] dense = new int[10000];
+        for (int i = 0; i < dense.length; i++)
+            dense[i] = 0x50000 + i;
+        UInt32Bitmap bitmap = UInt32Bitmap.valueOf(dense);
+        UInt32Bitmap run = UInt32Bitmap.valueOf(dense);
+        run.runOptimize();
+        assertEquals(bitmap, run);
+        assertEquals(run, bitmap);
+        run.remove(0x50000 + 9999);
+        run.add(0x50000 + 10000);
+        assertFalse(bitmap.equals(run));
+        assertFalse(run.equals(bitmap));
+
+        UInt32Bitmap array = UInt32Bitmap.valueOf(new int[] { 7, 8, 9, 10, 11 });
+        run = UInt32Bitmap.valueOf(new int[] { 7, 8, 9, 10, 11 });
+        run.runOptimize();
+        assertEquals(array, run);
+        assertEquals(run, array);
+        assertFalse(array.equals(UInt32Bitmap.valueOf(new int[] { 7, 8, 9, 10, 12 })));
+    }
+
+    /**
+     * Mixes sparse chunks, dense chunks and long runs over a few high halves, so that every pair
+     * of container kinds meets.
+     */
+    private UInt32Bitmap randomBitmap(TreeSet<Long> expected) {
+        UInt32Bitmap bitmap = new UInt32Bitmap();
+        for (int chunk = 0; chunk < 6; chunk++) {
+            int high = random.nextInt(8) * 0x20000000 + random.nextInt(3);
+            int kind = random.nextInt(3);
+            int count = (kind == 0) ? random.nextInt(100) : (kind == 1) ? 5000 + random
+                    .nextInt(20000) : 1;
+            for (int i = 0; i < count; i++) {
+                int value = (high << 16) | random.nextInt(0x10000);
+                bitmap.add(value);
+                expected.add(UInt32.toLong(value));
+            }
+            if (kind == 2) {
+                int start = random.nextInt(0x8000);
+                int length = random.nextInt(0x8000);
+                for (int i = start; i < start + length; i++) {
+                    bitmap.add((high << 16) | i);
+                    expected.add(UInt32.toLong((high << 16) | i));
+                }
+            }
+        }
+        return bitmap;
+    }
+
+    private int randomValue() {
+        // a few chunks, so that containers fill up and empty again
+        return (random.nextInt(4) * 0x40000000) | random.nextInt(6000);
+    }
+
+    private static void assertContents(TreeSet<Long> expected, UInt32Bitmap bitmap) {
+        assertEquals(expected.size(), bitmap.cardinality());
+        Iterator<Long> values = expected.iterator();
+        PrimitiveIterator.OfLong iterator = bitmap.iterator();
+        while (values.hasNext())
+            assertEquals(values.next().longValue(), iterator.nextLong());
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TestUInt32HashSet extends TestCase {
+
+    public void testAddContains() {
+        UInt32HashSet set = new UInt32HashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(7));
+        assertFalse(set.add(7));
+        assertTrue(set.add(0xffffffff));
+        assertTrue(set.contains(7));
+        assertTrue(set.contains(0xffffffff));
+        assertFalse(set.contains(8));
+        assertEquals(2, set.size());
+    }
+
+    public void testZero() {
+        UInt32HashSet set = new UInt32HashSet();
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+        assertTrue(Arrays.equals(new int[] { 0 }, set.toArray()));
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.isEmpty());
+    }
+
+    public void testUInt32() {
+        UInt32HashSet set = new UInt32HashSet();
+        assertTrue(set.add(new UInt32(0x80000000)));
+        assertTrue(set.contains(0x80000000));
+        assertTrue(set.contains(new UInt32(0x80000000)));
+        assertFalse(set.contains(new UInt32(1)));
+        assertEquals(new UInt32(0x80000000), set.toUInt32Array()[0]);
+        assertTrue(set.remove(new UInt32(0x80000000)));
+        assertTrue(set.isEmpty());
+    }
+
+    public void testNull() {
+        UInt32HashSet set = new UInt32HashSet();
+        try {
+            set.add((UInt32) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            set.addAll((int[]) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testBadArguments() {
+        try {
+            new UInt32HashSet(-1);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            new UInt32HashSet(10, 1f);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            new UInt32HashSet(10, Float.NaN);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testRandomAgainstHashSet() {
+        Random random = new Random(22);
+        UInt32HashSet set = new UInt32HashSet(0, 0.9f);
+        HashSet<Integer> expected = new HashSet<Integer>();
+        for (int i = 0; i < 200000; i++) {
+            // a small range so that adds and removes collide
+            int key = random.nextInt(50000) * 0x10001;
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(key), set.remove(key));
+            else
+                assertEquals(expected.add(key), set.add(key));
+        }
+        assertEquals(expected.size(), set.size());
+        for (int key = 0; key < 50000; key++)
+            assertEquals(expected.contains(key * 0x10001), set.contains(key * 0x10001));
+    }
+
+    public void testAddAll() {
+        int[] keys = new int[10000];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = i / 2 * 0x9e3779b9;
+        UInt32HashSet set = new UInt32HashSet();
+        assertTrue(set.addAll(keys));
+        assertEquals(5000, set.size());
+        assertFalse(set.addAll(keys));
+        assertTrue(set.addAll(UInt32Array.wrap(new int[] { 1 })));
+        assertEquals(5001, set.size());
+    }
+
+    public void testIterators() {
+        UInt32HashSet set = new UInt32HashSet();
+        set.addAll(new int[] { 0, 1, 0xffffffff, 0x80000000 });
+        long[] unsigned = new long[4];
+        PrimitiveIterator.OfLong iterator = set.iterator();
+        for (int i = 0; i < 4; i++)
+            unsigned[i] = iterator.nextLong();
+        assertFalse(iterator.hasNext());
+        Arrays.sort(unsigned);
+        assertTrue(Arrays.equals(new long[] { 0, 1, 0x80000000L, 0xffffffffL }, unsigned));
+        int[] raw = new int[4];
+        PrimitiveIterator.OfInt rawIterator = set.rawIterator();
+        for (int i = 0; i < 4; i++)
+            raw[i] = rawIterator.nextInt();
+        assertFalse(rawIterator.hasNext());
+        assertTrue(Arrays.equals(set.toArray(), raw));
+        try {
+            rawIterator.nextInt();
+            fail("Should raise a NoSuchElementException.");
+        }
+        catch (NoSuchElementException e) {
+        }
+        assertFalse(new UInt32HashSet().iterator().hasNext());
+    }
+
+    public void testClear() {
+        UInt32HashSet set = new UInt32HashSet();
+        set.addAll(new int[] { 0, 1, 2 });
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(2));
+    }
+
+    public void testEqualsHashCode() {
+        UInt32HashSet one = new UInt32HashSet();
+        UInt32HashSet two = new UInt32HashSet(1000);
+        one.addAll(new int[] { 0, 5, 0xffffffff });
+        two.addAll(new int[] { 0xffffffff, 5, 0 });
+        assertEquals(one, two);
+        assertEquals(one.hashCode(), two.hashCode());
+        two.remove(0);
+        assertFalse(one.equals(two));
+    }
+
+    public void testToString() {
+        UInt32HashSet set = new UInt32HashSet();
+        assertEquals("[]", set.toString());
+        set.add(0xffffffff);
+        assertEquals("[4294967295]", set.toString());
+    }
+}
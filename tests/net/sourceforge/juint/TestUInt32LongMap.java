@@ -0,0 +1,167 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.HashMap;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+
+import junit.framework.TestCase;
+
+public class TestUInt32LongMap extends TestCase {
+
+    public void testPutGet() {
+        UInt32LongMap map = new UInt32LongMap();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.put(7, 70));
+        assertEquals(70, map.put(7, 77));
+        map.put(0xffffffff, Long.MIN_VALUE);
+        assertEquals(77, map.get(7));
+        assertEquals(Long.MIN_VALUE, map.get(0xffffffff));
+        assertEquals(0, map.get(8));
+        assertEquals(-1, map.getOrDefault(8, -1));
+        assertTrue(map.containsKey(7));
+        assertFalse(map.containsKey(8));
+        assertEquals(2, map.size());
+    }
+
+    public void testZeroKey() {
+        UInt32LongMap map = new UInt32LongMap();
+        assertFalse(map.containsKey(0));
+        assertEquals(-1, map.getOrDefault(0, -1));
+        map.put(0, 0);
+        assertTrue(map.containsKey(0));
+        assertEquals(0, map.getOrDefault(0, -1));
+        assertEquals(1, map.size());
+        map.remove(0);
+        assertFalse(map.containsKey(0));
+        assertTrue(map.isEmpty());
+    }
+
+    public void testUInt32() {
+        UInt32LongMap map = new UInt32LongMap();
+        map.put(new UInt32(0x80000000), 3);
+        assertEquals(3, map.get(0x80000000));
+        assertEquals(3, map.get(new UInt32(0x80000000)));
+        assertTrue(map.containsKey(new UInt32(0x80000000)));
+        assertEquals(3, map.remove(new UInt32(0x80000000)));
+        assertFalse(map.containsKey(new UInt32(0x80000000)));
+        assertTrue(map.isEmpty());
+        IntToLongFunction function = new IntToLongFunction() {
+            public long applyAsLong(int key) {
+                return UInt32.toLong(key);
+            }
+        };
+        assertEquals(0xffffffffL, map.computeIfAbsent(new UInt32(0xffffffff), function));
+        assertEquals(0xffffffffL, map.get(0xffffffff));
+    }
+
+    public void testComputeIfAbsent() {
+        UInt32LongMap map = new UInt32LongMap();
+        IntToLongFunction function = new IntToLongFunction() {
+            public long applyAsLong(int key) {
+                return UInt32.toLong(key) * 2;
+            }
+        };
+        assertEquals(0x1fffffffeL, map.computeIfAbsent(0xffffffff, function));
+        assertEquals(0x1fffffffeL, map.get(0xffffffff));
+        map.put(5, 1);
+        assertEquals(1, map.computeIfAbsent(5, function));
+        assertEquals(0, map.computeIfAbsent(0, function));
+        assertTrue(map.containsKey(0));
+        assertEquals(3, map.size());
+        try {
+            map.computeIfAbsent(1, null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testRandomAgainstHashMap() {
+        Random random = new Random(23);
+        UInt32LongMap map = new UInt32LongMap(16, 0.5f);
+        HashMap<Integer, Long> expected = new HashMap<Integer, Long>();
+        for (int i = 0; i < 200000; i++) {
+            int key = random.nextInt(50000) * 0x10001;
+            if (random.nextInt(3) == 0) {
+                Long previous = expected.remove(key);
+                assertEquals((previous == null) ? 0 : previous.longValue(), map.remove(key));
+            }
+            else {
+                Long previous = expected.put(key, (long) i);
+                assertEquals((previous == null) ? 0 : previous.longValue(), map.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 50000; key++) {
+            Long value = expected.get(key * 0x10001);
+            assertEquals(value != null, map.containsKey(key * 0x10001));
+            assertEquals((value == null) ? -1 : value.longValue(), map.getOrDefault(key * 0x10001,
+                    -1));
+        }
+    }
+
+    public void testKeyIterator() {
+        UInt32LongMap map = new UInt32LongMap();
+        map.put(0, 1);
+        map.put(0xffffffff, 2);
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = map.rawKeyIterator();
+        while (iterator.hasNext())
+            sum += map.get(iterator.nextInt());
+        assertEquals(3, sum);
+        long keySum = 0;
+        PrimitiveIterator.OfLong keys = map.keyIterator();
+        while (keys.hasNext())
+            keySum += keys.nextLong();
+        assertEquals(0xffffffffL, keySum);
+    }
+
+    public void testClear() {
+        UInt32LongMap map = new UInt32LongMap();
+        map.put(0, 1);
+        map.put(1, 2);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+    }
+
+    public void testToString() {
+        UInt32LongMap map = new UInt32LongMap();
+        assertEquals("{}", map.toString());
+        map.put(0xffffffff, -7);
+        assertEquals("{4294967295=-7}", map.toString());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import junit.framework.TestCase;
+
+public class TestUInt32ObjectMap extends TestCase {
+
+    public void testPutGet() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(7, "seven"));
+        assertEquals("seven", map.put(7, "SEVEN"));
+        assertNull(map.put(0xffffffff, "max"));
+        assertEquals("SEVEN", map.get(7));
+        assertEquals("max", map.get(0xffffffff));
+        assertNull(map.get(8));
+        assertTrue(map.containsKey(7));
+        assertFalse(map.containsKey(8));
+        assertEquals(2, map.size());
+    }
+
+    public void testZeroKey() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        assertFalse(map.containsKey(0));
+        assertNull(map.put(0, "zero"));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove(0));
+        assertNull(map.remove(0));
+        assertTrue(map.isEmpty());
+    }
+
+    public void testUInt32() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        map.put(new UInt32(0x80000000), "high");
+        assertEquals("high", map.get(0x80000000));
+        assertEquals("high", map.get(new UInt32(0x80000000)));
+        assertTrue(map.containsKey(new UInt32(0x80000000)));
+        assertEquals("high", map.remove(new UInt32(0x80000000)));
+        assertFalse(map.containsKey(new UInt32(0x80000000)));
+        assertTrue(map.isEmpty());
+        IntFunction<String> function = new IntFunction<String>() {
+            public String apply(int key) {
+                return Integer.toHexString(key);
+            }
+        };
+        assertEquals("ffffffff", map.computeIfAbsent(new UInt32(0xffffffff), function));
+        assertEquals("ffffffff", map.get(0xffffffff));
+    }
+
+    public void testComputeIfAbsent() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        IntFunction<String> function = new IntFunction<String>() {
+            public String apply(int key) {
+                return Long.toString(UInt32.toLong(key));
+            }
+        };
+        assertEquals("4294967295", map.computeIfAbsent(0xffffffff, function));
+        assertEquals("4294967295", map.get(0xffffffff));
+        map.put(5, "five");
+        assertEquals("five", map.computeIfAbsent(5, function));
+        assertEquals("0", map.computeIfAbsent(0, function));
+        IntFunction<String> nothing = new IntFunction<String>() {
+            public String apply(int key) {
+                return null;
+            }
+        };
+        assertNull(map.computeIfAbsent(9, nothing));
+        assertFalse(map.containsKey(9));
+        assertEquals(3, map.size());
+    }
+
+    public void testNull() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        try {
+            map.put(1, null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            map.get((UInt32) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            map.computeIfAbsent(1, null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testRandomAgainstHashMap() {
+        Random random = new Random(23);
+        UInt32ObjectMap<Integer> map = new UInt32ObjectMap<Integer>();
+        HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+        for (int i = 0; i < 200000; i++) {
+            int key = random.nextInt(50000) * 0x10001;
+            if (random.nextInt(3) == 0)
+                assertEquals(expected.remove(key), map.remove(key));
+            else
+                assertEquals(expected.put(key, i), map.put(key, i));
+        }
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 50000; key++)
+            assertEquals(expected.get(key * 0x10001), map.get(key * 0x10001));
+    }
+
+    public void testKeyIterator() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        map.put(0, "a");
+        map.put(0xffffffff, "b");
+        map.put(12, "c");
+        int[] keys = new int[3];
+        PrimitiveIterator.OfInt iterator = map.rawKeyIterator();
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = iterator.nextInt();
+        assertFalse(iterator.hasNext());
+        Arrays.sort(keys);
+        assertTrue(Arrays.equals(new int[] { 0xffffffff, 0, 12 }, keys));
+        long[] unsigned = new long[3];
+        PrimitiveIterator.OfLong unsignedIterator = map.keyIterator();
+        for (int i = 0; i < unsigned.length; i++)
+            unsigned[i] = unsignedIterator.nextLong();
+        assertFalse(unsignedIterator.hasNext());
+        Arrays.sort(unsigned);
+        assertTrue(Arrays.equals(new long[] { 0, 12, 0xffffffffL }, unsigned));
+    }
+
+    public void testClear() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        map.put(0, "a");
+        map.put(1, "b");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+
+    public void testToString() {
+        UInt32ObjectMap<String> map = new UInt32ObjectMap<String>();
+        assertEquals("{}", map.toString());
+        map.put(0xffffffff, "max");
+        assertEquals("{4294967295=max}", map.toString());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteOrder;
+
+import junit.framework.TestCase;
+
+public class TestUInt32Segment extends TestCase {
+    public void testGetSet() {
+        UInt32Segment segment = UInt32Segment.allocate(3);
+        segment.set(0, UInt32.MAX_VALUE);
+        segment.set(2, 1L << 32 | 5);
+        assertEquals(3, segment.length());
+        assertEquals(UInt32.MAX_VALUE, segment.get(0));
+        assertEquals(0, segment.get(1));
+        assertEquals(5, segment.get(2));
+    }
+
+    public void testOutOfBounds() {
+        UInt32Segment segment = UInt32Segment.allocate(3);
+        try {
+            segment.get(3);
+            fail("Should raise an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testChunks() {
+        // chunks of four elements
+        UInt32Segment segment = new UInt32Segment(10, ByteOrder.BIG_ENDIAN, 2);
+        for (long i = 0; i < segment.length(); i++)
+            segment.set(i, 4000000000L + i);
+        for (long i = 0; i < segment.length(); i++)
+            assertEquals(4000000000L + i, segment.get(i));
+    }
+
+    public void testFill() {
+        UInt32Segment segment = new UInt32Segment(6, ByteOrder.LITTLE_ENDIAN, 2);
+        segment.fill(4294967295L);
+        assertEquals(4294967295L, segment.get(5));
+    }
+
+    public void testCopy() {
+        UInt32Segment segment = new UInt32Segment(10, ByteOrder.LITTLE_ENDIAN, 2);
+        UInt32Array src = UInt32Array.valueOf(new long[] { 1, 2, 3, 4, 5, 4294967295L });
+        segment.copyFrom(3, src, 0, 6);
+        assertEquals(4294967295L, segment.get(8));
+        UInt32Array dst = new UInt32Array(7);
+        segment.copyTo(3, dst, 1, 6);
+        assertEquals(UInt32Array.valueOf(new long[] { 0, 1, 2, 3, 4, 5, 4294967295L }), dst);
+    }
+
+    public void testCopyOutOfBounds() {
+        UInt32Segment segment = UInt32Segment.allocate(4);
+        try {
+            segment.copyFrom(2, new UInt32Array(3), 0, 3);
+            fail("Should raise an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testClose() {
+        UInt32Segment segment = UInt32Segment.allocate(1);
+        segment.close();
+        assertFalse(segment.isOpen());
+        try {
+            segment.get(0);
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+    }
+}
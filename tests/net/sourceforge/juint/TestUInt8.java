@@ -31,6 +31,9 @@
  */
 package net.sourceforge.juint;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import net.sourceforge.juint.UInt8;
 import junit.framework.TestCase;
 
@@ -103,13 +106,13 @@ public class TestUInt8 extends TestCase {
     public void testCompareToMore() {
         UInt8 one = new UInt8((byte) 1);
         UInt8 two = new UInt8((byte) 10);
-        assertEquals(-9, one.compareTo(two));
+        assertTrue(one.compareTo(two) < 0);
     }
 
     public void testCompareToLess() {
         UInt8 one = new UInt8((byte) 10);
         UInt8 two = new UInt8((byte) 1);
-        assertEquals(9, one.compareTo(two));
+        assertTrue(one.compareTo(two) > 0);
     }
 
     public void testCompareToEquals() {
@@ -118,6 +121,22 @@ public class TestUInt8 extends TestCase {
         assertEquals(0, one.compareTo(two));
     }
 
+    public void testCompareToExtremes() {
+        UInt8 one = new UInt8((byte) 0xff);
+        UInt8 two = new UInt8((byte) 0);
+        assertTrue(one.compareTo(two) > 0);
+        assertTrue(two.compareTo(one) < 0);
+    }
+
+    public void testComparator() {
+        UInt8[] values = { new UInt8((byte) 0xff), new UInt8((byte) 0), new UInt8((byte) 0x80) };
+        Arrays.sort(values, UInt8.COMPARATOR);
+        assertEquals(new UInt8((byte) 0), values[0]);
+        assertEquals(new UInt8((byte) 0x80), values[1]);
+        assertEquals(new UInt8((byte) 0xff), values[2]);
+        assertEquals(0, UInt8.COMPARATOR.compare(new UInt8((byte) 0x80), new UInt8((byte) 0x80)));
+    }
+
     public void testHashCode() {
         UInt8 uint8 = new UInt8((byte) 10);
         assertEquals(uint8.intValue(), uint8.hashCode());
@@ -176,4 +195,333 @@ public class TestUInt8 extends TestCase {
         UInt8 uint8 = new UInt8(0x06);
         assertEquals(new UInt8(0x02), uint8.removeBitmask(new UInt8(0x04)));
     }
+
+    public void testValueOf() {
+        assertEquals(new UInt8(200), UInt8.valueOf(200));
+        assertSame(UInt8.valueOf((byte) -56), UInt8.valueOf(200L));
+    }
+
+    public void testConstants() {
+        assertSame(UInt8.ZERO, UInt8.valueOf(0));
+        assertSame(UInt8.ONE, UInt8.valueOf((short) 1));
+        assertEquals(UInt8.MAX_VALUE, UInt8.MAX.uint8Value());
+    }
+
+    public void testBitwiseCached() {
+        assertSame(UInt8.MAX, UInt8.ZERO.not());
+        assertSame(UInt8.ONE, UInt8.MAX.and(UInt8.ONE));
+    }
+
+    public void testStaticToShort() {
+        assertEquals(255, UInt8.toShort((byte) -1));
+    }
+
+    public void testStaticCompare() {
+        assertTrue(UInt8.compare((byte) 200, (byte) 100) > 0);
+    }
+
+    public void testStaticBitwise() {
+        assertEquals((byte) 0x54, UInt8.not((byte) 0xab));
+        assertTrue(UInt8.hasBitmask((byte) 0x86, (byte) 0x84));
+        assertEquals((byte) 0x02, UInt8.removeBitmask((byte) 0x06, (byte) 0x04));
+    }
+
+    public void testGetBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0xff, 1 });
+        assertEquals(255, UInt8.get(buffer));
+        assertEquals(1, UInt8.get(buffer, 1));
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        UInt8.put(buffer, (short) 200);
+        UInt8.put(buffer, 1, (short) 255);
+        assertEquals(200, UInt8.get(buffer, 0));
+        assertEquals((byte) -1, buffer.get(1));
+    }
+
+    public void testAdd() {
+        assertEquals(new UInt8(0x1), new UInt8(0xfe).add(new UInt8(0x3)));
+        assertEquals(new UInt8(0x1), new UInt8(0xff).add(new UInt8(0x2)));
+    }
+
+    public void testSubtract() {
+        assertEquals(new UInt8(0xff), new UInt8(0x0).subtract(new UInt8(0x1)));
+        assertEquals(new UInt8(0xfe), new UInt8(0x1).subtract(new UInt8(0x3)));
+    }
+
+    public void testMultiply() {
+        assertEquals(new UInt8(0xfa), new UInt8(0xfe).multiply(new UInt8(0x3)));
+        assertEquals(new UInt8(0x0), new UInt8(0x80).multiply(new UInt8(0x2)));
+    }
+
+    public void testNegate() {
+        assertEquals(new UInt8(0xff), new UInt8(0x1).negate());
+        assertEquals(new UInt8(0x80), new UInt8(0x80).negate());
+    }
+
+    public void testIncrement() {
+        assertEquals(new UInt8(0x0), new UInt8(0xff).increment());
+        assertEquals(new UInt8(0x80), new UInt8(0x7f).increment());
+    }
+
+    public void testDecrement() {
+        assertEquals(new UInt8(0xff), new UInt8(0x0).decrement());
+        assertEquals(new UInt8(0x7f), new UInt8(0x80).decrement());
+    }
+
+    public void testStaticArithmetic() {
+        assertEquals((byte) 0x1, UInt8.add((byte) 0xfe, (byte) 0x3));
+        assertEquals((byte) 0xfe, UInt8.subtract((byte) 0x1, (byte) 0x3));
+        assertEquals((byte) 0xfa, UInt8.multiply((byte) 0xfe, (byte) 0x3));
+        assertEquals((byte) 0xff, UInt8.negate((byte) 0x1));
+        assertEquals((byte) 0x0, UInt8.increment((byte) 0xff));
+        assertEquals((byte) 0xff, UInt8.decrement((byte) 0x0));
+    }
+
+    public void testDivide() {
+        assertEquals(new UInt8(0x7f), new UInt8(0xff).divide(new UInt8(2)));
+        assertEquals(new UInt8(0), new UInt8(100).divide(new UInt8(0xc8)));
+        try {
+            new UInt8(1).divide(UInt8.ZERO);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testRemainder() {
+        assertEquals(new UInt8(0x1), new UInt8(0xff).remainder(new UInt8(2)));
+        assertEquals(new UInt8(100), new UInt8(100).remainder(new UInt8(0xc8)));
+    }
+
+    public void testDivideAndRemainder() {
+        UInt8[] result = new UInt8(0xfa).divideAndRemainder(new UInt8(0x30));
+        assertEquals(new UInt8(5), result[0]);
+        assertEquals(new UInt8(10), result[1]);
+    }
+
+    public void testStaticDivision() {
+        assertEquals((byte) 0x7f, UInt8.divide((byte) 0xff, (byte) 2));
+        assertEquals((byte) 1, UInt8.remainder((byte) 0xff, (byte) 2));
+        byte[] result = UInt8.divideAndRemainder((byte) 0xfa, (byte) 0x30);
+        assertEquals(5, result[0]);
+        assertEquals(10, result[1]);
+    }
+
+    public void testSaturating() {
+        assertEquals(UInt8.MAX, new UInt8(250).addSaturating(new UInt8(10)));
+        assertEquals(UInt8.ZERO, new UInt8(10).subtractSaturating(new UInt8(250)));
+        assertEquals(UInt8.MAX, new UInt8(16).multiplySaturating(new UInt8(16)));
+        assertEquals(new UInt8(225), new UInt8(15).multiplySaturating(new UInt8(15)));
+    }
+
+    public void testStaticSaturating() {
+        for (int x = 0; x < 256; x++) {
+            for (int y = 0; y < 256; y++) {
+                assertEquals(Math.min(x + y, 255), UInt8.toShort(UInt8.addSaturating((byte) x,
+                        (byte) y)));
+                assertEquals(Math.max(x - y, 0), UInt8.toShort(UInt8.subtractSaturating(
+                        (byte) x, (byte) y)));
+                assertEquals(Math.min(x * y, 255), UInt8.toShort(UInt8.multiplySaturating(
+                        (byte) x, (byte) y)));
+            }
+        }
+    }
+
+    public void testBulkSaturating() {
+        byte[] x = { (byte) 250, 1, 0 };
+        byte[] y = { 10, 2, 1 };
+        byte[] dst = new byte[3];
+        UInt8.addSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new byte[] { (byte) 255, 3, 1 }, dst));
+        UInt8.subtractSaturating(x, y, dst);
+        assertTrue(Arrays.equals(new byte[] { (byte) 240, 0, 0 }, dst));
+        UInt8.multiplySaturating(x, y, x);
+        assertTrue(Arrays.equals(new byte[] { (byte) 255, 2, 0 }, x));
+        try {
+            UInt8.addSaturating(x, y, new byte[2]);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testValueOfExact() {
+        assertEquals(new UInt8(255), UInt8.valueOfExact(255));
+        assertEquals(new UInt8(0), UInt8.valueOfExact(0));
+        try {
+            UInt8.valueOfExact(256);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            UInt8.valueOfExact(-1);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testExact() {
+        UInt8 max = UInt8.valueOfExact(255);
+        UInt8 min = UInt8.valueOfExact(0);
+        UInt8 one = UInt8.valueOfExact(1);
+        UInt8 two = UInt8.valueOfExact(2);
+        assertEquals(max, UInt8.valueOfExact(254).addExact(one));
+        assertEquals(min, UInt8.valueOfExact(1).subtractExact(one));
+        assertEquals(UInt8.valueOfExact(254), UInt8.valueOfExact(127).multiplyExact(two));
+        try {
+            max.addExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            min.subtractExact(one);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+        try {
+            max.multiplyExact(two);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testStaticExact() {
+        assertEquals((byte) 0xff, UInt8.addExact((byte) 0xfe, (byte) 0x1));
+        assertEquals((byte) 0x0, UInt8.subtractExact((byte) 0x1, (byte) 0x1));
+        try {
+            UInt8.multiplyExact((byte) 0xff, (byte) 0xff);
+            fail();
+        }
+        catch (ArithmeticException e) {
+        }
+    }
+
+    public void testInRange() {
+        assertTrue(UInt8.inRange(new long[] { 0, 0, 255 }));
+        assertFalse(UInt8.inRange(new long[] { 0, 256, 1 }));
+        assertFalse(UInt8.inRange(new long[] { -1 }));
+        assertFalse(UInt8.inRange(new long[] { Long.MAX_VALUE }));
+        assertTrue(UInt8.inRange(new long[0]));
+        assertTrue(UInt8.inRange(new int[] { 0, 255 }));
+        assertFalse(UInt8.inRange(new int[] { 0, 256 }));
+        assertFalse(UInt8.inRange(new int[] { Integer.MAX_VALUE }));
+        assertFalse(UInt8.inRange(new int[] { Integer.MIN_VALUE }));
+        try {
+            UInt8.inRange((long[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testShift() {
+        assertEquals(new UInt8(0xf0), new UInt8(0xff).shiftLeft(4));
+        assertEquals(new UInt8(0x0f), new UInt8(0xff).shiftRight(4));
+        assertEquals(new UInt8(0x7f), new UInt8(0xff).shiftRight(9));
+    }
+
+    public void testRotate() {
+        assertEquals(new UInt8(0x1e), new UInt8(0x87).rotateLeft(2));
+        assertEquals(new UInt8(0xf0), new UInt8(0x87).rotateRight(3));
+        assertEquals(new UInt8(0x87), new UInt8(0x87).rotateLeft(8));
+    }
+
+    public void testStaticShift() {
+        for (int value = 0; value < 256; value++) {
+            for (int distance = 0; distance < 8; distance++) {
+                byte bite = (byte) value;
+                assertEquals((byte) (value << distance), UInt8.shiftLeft(bite, distance));
+                assertEquals((byte) (value >>> distance), UInt8.shiftRight(bite, distance));
+                assertEquals((byte) (value << distance | value >>> (8 - distance)), UInt8
+                        .rotateLeft(bite, distance));
+                assertEquals(bite, UInt8.rotateRight(UInt8.rotateLeft(bite, distance), distance));
+                assertEquals(UInt8.rotateLeft(bite, distance), UInt8.rotateRight(bite,
+                        -distance));
+            }
+        }
+    }
+
+    public void testBitCounting() {
+        UInt8 value = new UInt8(0x68);
+        assertEquals(3, value.bitCount());
+        assertEquals(1, value.numberOfLeadingZeros());
+        assertEquals(3, value.numberOfTrailingZeros());
+        assertEquals(new UInt8(0x40), value.highestOneBit());
+        assertEquals(new UInt8(0x08), value.lowestOneBit());
+        assertEquals(new UInt8(0x16), value.reverse());
+        assertEquals(value, value.reverseBytes());
+        assertEquals(8, UInt8.ZERO.numberOfLeadingZeros());
+        assertEquals(8, UInt8.ZERO.numberOfTrailingZeros());
+    }
+
+    public void testStaticBitCounting() {
+        for (int value = 0; value < 256; value++) {
+            byte bite = (byte) value;
+            assertEquals(Integer.bitCount(value), UInt8.bitCount(bite));
+            assertEquals(Integer.numberOfLeadingZeros(value) - 24, UInt8
+                    .numberOfLeadingZeros(bite));
+            assertEquals(Math.min(8, Integer.numberOfTrailingZeros(value)), UInt8
+                    .numberOfTrailingZeros(bite));
+            assertEquals((byte) Integer.highestOneBit(value), UInt8.highestOneBit(bite));
+            assertEquals((byte) Integer.lowestOneBit(value), UInt8.lowestOneBit(bite));
+            assertEquals(bite, UInt8.reverse(UInt8.reverse(bite)));
+        }
+    }
+
+    public void testBulkBitCount() {
+        byte[] values = new byte[21];
+        long expected = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (byte) (i * 37);
+            expected += Integer.bitCount(values[i] & 0xff);
+        }
+        assertEquals(expected, UInt8.bitCount(values));
+        assertEquals(8 * 3, UInt8.bitCount(new byte[] { -1, -1, -1 }));
+        assertEquals(0, UInt8.bitCount(new byte[0]));
+        try {
+            UInt8.bitCount((byte[]) null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testHasAnyBit() {
+        assertTrue(new UInt8(0x86).hasAnyBit(new UInt8(0x3)));
+        assertFalse(new UInt8(0x86).hasAnyBit(new UInt8(0x1)));
+        assertTrue(UInt8.hasAnyBit((byte) 0x86, (byte) 0x5));
+    }
+
+    public void testPrimitiveBitmask() {
+        UInt8 value = new UInt8(0x86);
+        assertTrue(value.hasBitmask(0x84));
+        assertFalse(value.hasBitmask(0x85));
+        assertTrue(value.hasAnyBit(0x85));
+        assertFalse(value.hasAnyBit(0x1));
+        assertEquals(new UInt8(0x86 | 0x1), value.addBitmask(0x1));
+        assertEquals(new UInt8(0x86 & ~0x6), value.removeBitmask(0x6));
+        // bits above the width are ignored
+        assertTrue(new UInt8(0).hasBitmask(0x100));
+        assertFalse(new UInt8(-1).hasAnyBit(0x100));
+        assertTrue(new UInt8(0x80).hasBitmask((byte) 0x80));
+        assertTrue(new UInt8(0x80).hasAnyBit((byte) 0x80));
+        assertFalse(new UInt8(0x1).hasBitmask((byte) 0x80));
+        assertEquals(new UInt8(0x86), new UInt8(0x86).addBitmask(0x100));
+    }
+
+    public void testBitmaskConstant() {
+        Bitmask mask = Bitmask.ofBits(2, 7);
+        UInt8 value = new UInt8(0x86);
+        assertTrue(value.hasBitmask(mask));
+        assertTrue(value.hasAnyBit(Bitmask.ofBits(0, 1)));
+        assertEquals(new UInt8(0x86 | 0x1), value.addBitmask(Bitmask.ofBits(0)));
+        assertEquals(new UInt8(0x86 & ~0x84), value.removeBitmask(mask));
+    }
 }
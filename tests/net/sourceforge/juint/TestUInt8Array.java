@@ -0,0 +1,108 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.util.PrimitiveIterator;
+
+import junit.framework.TestCase;
+
+public class TestUInt8Array extends TestCase {
+    public void testGetSet() {
+        UInt8Array array = new UInt8Array(2);
+        array.set(0, 255);
+        array.set(1, 257);
+        assertEquals(255, array.get(0));
+        assertEquals(1, array.get(1));
+        assertEquals(-1, array.array()[0]);
+    }
+
+    public void testValueOf() {
+        UInt8Array array = UInt8Array.valueOf(new int[] { 200, -1 });
+        assertEquals(200, array.get(0));
+        assertEquals(255, array.get(1));
+        assertEquals(array, UInt8Array.valueOf(new UInt8[] { new UInt8(200), UInt8.MAX }));
+    }
+
+    public void testFill() {
+        UInt8Array array = new UInt8Array(3);
+        array.fill(7);
+        array.fill(1, 2, 255);
+        assertEquals(UInt8Array.valueOf(new int[] { 7, 255, 7 }), array);
+    }
+
+    public void testPutByteArray() {
+        UInt8Array array = new UInt8Array(3);
+        array.put(1, new byte[] { 1, (byte) 0xff, 3 }, 1, 2);
+        assertEquals(UInt8Array.valueOf(new int[] { 0, 255, 3 }), array);
+    }
+
+    public void testPutBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { (byte) 0x80, 1, 2 });
+        UInt8Array array = new UInt8Array(2);
+        array.put(0, buffer, 2);
+        assertEquals(128, array.get(0));
+        assertEquals(1, array.get(1));
+        assertEquals(2, buffer.position());
+    }
+
+    public void testAsSigned() {
+        UInt8Array array = UInt8Array.valueOf(new int[] { 255 });
+        Int8Array signed = array.asSigned();
+        assertEquals(-1, signed.get(0));
+        signed.set(0, -128);
+        assertEquals(128, array.get(0));
+    }
+
+    public void testCopyToAndSlice() {
+        UInt8Array src = UInt8Array.valueOf(new int[] { 1, 2, 3 });
+        UInt8Array dst = new UInt8Array(2);
+        src.copyTo(1, dst, 0, 2);
+        assertEquals(src.slice(1, 3), dst);
+    }
+
+    public void testIterator() {
+        PrimitiveIterator.OfInt iterator = UInt8Array.valueOf(new int[] { 255 }).iterator();
+        assertEquals(255, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testConversions() {
+        UInt8Array array = UInt8Array.wrap(new byte[] { -1 });
+        assertSame(UInt8.MAX, array.toUInt8Array()[0]);
+        assertEquals(255, array.toIntArray()[0]);
+    }
+
+    public void testToString() {
+        assertEquals("[0, 255]", UInt8Array.wrap(new byte[] { 0, -1 }).toString());
+    }
+}
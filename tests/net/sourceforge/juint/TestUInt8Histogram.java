@@ -0,0 +1,222 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TestUInt8Histogram extends TestCase {
+    private final Random random = new Random(25);
+
+    public void testCount() {
+        UInt8Histogram histogram = UInt8Histogram.valueOf(new byte[] { 0, (byte) 0xff, 0,
+                (byte) 0x80, 0 });
+        assertEquals(3, histogram.count(0));
+        assertEquals(1, histogram.count(0xff));
+        assertEquals(1, histogram.count(0x80));
+        assertEquals(0, histogram.count(1));
+        assertEquals(3, histogram.count(0x100));
+        assertEquals(5, histogram.total());
+        assertFalse(histogram.isEmpty());
+        assertEquals("{0=3, 128=1, 255=1}", histogram.toString());
+    }
+
+    public void testRange() {
+        byte[] a = { 1, 2, 2, 3, 3, 3 };
+        UInt8Histogram histogram = UInt8Histogram.valueOf(a, 1, 4);
+        assertEquals(0, histogram.count(1));
+        assertEquals(2, histogram.count(2));
+        assertEquals(1, histogram.count(3));
+        assertEquals(histogram, UInt8Histogram.parallelValueOf(a, 1, 4));
+    }
+
+    public void testParallel() {
+        byte[] a = new byte[1 << 20];
+        random.nextBytes(a);
+        UInt8Histogram serial = UInt8Histogram.valueOf(a);
+        assertEquals(serial, UInt8Histogram.parallelValueOf(a));
+        assertEquals(serial, UInt8Histogram.parallelValueOf(UInt8Array.wrap(a)));
+        assertEquals(serial, UInt8Histogram.valueOf(UInt8Array.wrap(a)));
+        assertEquals(serial, UInt8Histogram.parallelValueOf(a, 0, a.length));
+        assertEquals(serial.hashCode(), UInt8Histogram.parallelValueOf(a).hashCode());
+        assertEquals(a.length, serial.total());
+        int[] counts = new int[256];
+        for (int i = 0; i < a.length; i++)
+            counts[a[i] & 0xff]++;
+        for (int value = 0; value < counts.length; value++)
+            assertEquals(counts[value], serial.count(value));
+    }
+
+    public void testBuffer() {
+        byte[] a = new byte[(1 << 19) + 13];
+        random.nextBytes(a);
+        UInt8Histogram expected = UInt8Histogram.valueOf(a, 7, a.length);
+        ByteBuffer heap = ByteBuffer.wrap(a);
+        heap.position(7);
+        ByteBuffer direct = ByteBuffer.allocateDirect(a.length);
+        direct.put(a).position(7);
+        assertEquals(expected, UInt8Histogram.valueOf(heap));
+        assertEquals(expected, UInt8Histogram.parallelValueOf(heap));
+        assertEquals(expected, UInt8Histogram.valueOf(direct));
+        assertEquals(expected, UInt8Histogram.parallelValueOf(direct));
+        assertEquals(7, heap.position());
+        assertEquals(7, direct.position());
+    }
+
+    public void testPercentile() {
+        byte[] a = new byte[100];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (byte) (i + 100);
+        UInt8Histogram histogram = UInt8Histogram.valueOf(a);
+        assertEquals(100, histogram.percentile(0));
+        assertEquals(100, histogram.percentile(1));
+        assertEquals(149, histogram.percentile(50));
+        assertEquals(150, histogram.percentile(50.5));
+        assertEquals(198, histogram.percentile(99));
+        assertEquals(199, histogram.percentile(100));
+        assertEquals(106, histogram.percentile(7));
+        assertEquals(113, histogram.percentile(14));
+        assertEquals(127, histogram.percentile(28));
+        assertEquals(154, histogram.percentile(55));
+        assertEquals(155, histogram.percentile(56));
+        // nearest rank: the p-th percentile of 100 values is the p-th smallest
+        for (int percentile = 1; percentile <= 100; percentile++)
+            assertEquals(99 + percentile, histogram.percentile(percentile));
+        histogram = UInt8Histogram.valueOf(new byte[] { (byte) 0xff });
+        assertEquals(255, histogram.percentile(0));
+        assertEquals(255, histogram.percentile(100));
+    }
+
+    public void testMode() {
+        UInt8Histogram histogram = UInt8Histogram.valueOf(new byte[] { 9, (byte) 200,
+                (byte) 200, 9, 4 });
+        assertEquals(9, histogram.mode());
+        histogram = UInt8Histogram.valueOf(new byte[] { 9, (byte) 200, (byte) 200 });
+        assertEquals(200, histogram.mode());
+    }
+
+    public void testEntropy() {
+        assertEquals(0, UInt8Histogram.valueOf(new byte[0]).entropy(), 0);
+        assertEquals(0, UInt8Histogram.valueOf(new byte[] { 3, 3, 3 }).entropy(), 0);
+        assertEquals(1, UInt8Histogram.valueOf(new byte[] { 3, 4, 3, 4 }).entropy(), 1e-12);
+        byte[] a = new byte[512];
+        for (int i = 0; i < a.length; i++)
+            a[i] = (byte) i;
+        assertEquals(8, UInt8Histogram.valueOf(a).entropy(), 1e-12);
+    }
+
+    public void testCountsCopy() {
+        UInt8Histogram histogram = UInt8Histogram.valueOf(new byte[] { 1 });
+        int[] counts = histogram.counts();
+        assertEquals(256, counts.length);
+        counts[1] = 5;
+        assertEquals(1, histogram.count(1));
+    }
+
+    public void testEmpty() {
+        UInt8Histogram histogram = UInt8Histogram.valueOf(new byte[0]);
+        assertTrue(histogram.isEmpty());
+        assertEquals("{}", histogram.toString());
+        try {
+            histogram.percentile(50);
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+        try {
+            histogram.mode();
+            fail("Should raise an IllegalStateException.");
+        }
+        catch (IllegalStateException e) {
+        }
+    }
+
+    public void testBadPercentile() {
+        UInt8Histogram histogram = UInt8Histogram.valueOf(new byte[] { 1 });
+        try {
+            histogram.percentile(-1);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            histogram.percentile(100.5);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            histogram.percentile(Double.NaN);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testNull() {
+        try {
+            UInt8Histogram.valueOf((byte[]) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt8Histogram.parallelValueOf((UInt8Array) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt8Histogram.valueOf((ByteBuffer) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testBadRange() {
+        try {
+            UInt8Histogram.valueOf(new byte[4], 3, 2);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UInt8Histogram.parallelValueOf(new byte[4], 0, 5);
+            fail("Should raise an ArrayIndexOutOfBoundsException.");
+        }
+        catch (ArrayIndexOutOfBoundsException e) {
+        }
+    }
+}
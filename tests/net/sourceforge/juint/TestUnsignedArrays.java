@@ -0,0 +1,355 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class TestUnsignedArrays extends TestCase {
+    private final Random random = new Random(20);
+
+    public void testSortInt() {
+        int[] sizes = { 0, 1, 2, 100, 511, 512, 5000 };
+        for (int i = 0; i < sizes.length; i++) {
+            int[] a = randomInts(sizes[i]);
+            int[] expected = expected(a);
+            UnsignedArrays.sort(a);
+            assertTrue(Arrays.equals(expected, a));
+        }
+    }
+
+    public void testSortIntSkipsPasses() {
+        // only the lowest digit differs
+        int[] a = new int[1000];
+        for (int i = 0; i < a.length; i++)
+            a[i] = 0xabcdef00 | random.nextInt(256);
+        int[] expected = expected(a);
+        UnsignedArrays.sort(a);
+        assertTrue(Arrays.equals(expected, a));
+        Arrays.fill(a, 0xffffffff);
+        UnsignedArrays.sort(a);
+        assertEquals(0xffffffff, a[0]);
+    }
+
+    public void testSortIntRange() {
+        int[] a = randomInts(3000);
+        int[] expected = a.clone();
+        int[] range = expected(Arrays.copyOfRange(a, 1000, 2500));
+        System.arraycopy(range, 0, expected, 1000, range.length);
+        UnsignedArrays.sort(a, 1000, 2500);
+        assertTrue(Arrays.equals(expected, a));
+        UnsignedArrays.sort(a, 7, 7);
+        assertTrue(Arrays.equals(expected, a));
+    }
+
+    public void testSortShort() {
+        int[] sizes = { 0, 1, 100, 4095, 4096, 20000 };
+        for (int i = 0; i < sizes.length; i++) {
+            short[] a = randomShorts(sizes[i]);
+            short[] expected = expected(a);
+            UnsignedArrays.sort(a);
+            assertTrue(Arrays.equals(expected, a));
+        }
+    }
+
+    public void testSortShortRange() {
+        short[] a = randomShorts(10000);
+        short[] expected = a.clone();
+        short[] range = expected(Arrays.copyOfRange(a, 100, 9000));
+        System.arraycopy(range, 0, expected, 100, range.length);
+        UnsignedArrays.sort(a, 100, 9000);
+        assertTrue(Arrays.equals(expected, a));
+    }
+
+    public void testSortByte() {
+        int[] sizes = { 0, 1, 63, 64, 1000 };
+        for (int i = 0; i < sizes.length; i++) {
+            byte[] a = randomBytes(sizes[i]);
+            byte[] expected = expected(a);
+            UnsignedArrays.sort(a);
+            assertTrue(Arrays.equals(expected, a));
+        }
+    }
+
+    public void testSortByteRange() {
+        byte[] a = randomBytes(500);
+        byte[] expected = a.clone();
+        byte[] range = expected(Arrays.copyOfRange(a, 10, 400));
+        System.arraycopy(range, 0, expected, 10, range.length);
+        UnsignedArrays.sort(a, 10, 400);
+        assertTrue(Arrays.equals(expected, a));
+    }
+
+    public void testSortPackedArrays() {
+        UInt32Array uint32s = UInt32Array.wrap(new int[] { 0xffffffff, 1, 0x80000000, 0 });
+        UnsignedArrays.sort(uint32s);
+        assertEquals(0L, uint32s.get(0));
+        assertEquals(1L, uint32s.get(1));
+        assertEquals(0x80000000L, uint32s.get(2));
+        assertEquals(0xffffffffL, uint32s.get(3));
+        UInt16Array uint16s = UInt16Array.wrap(new short[] { (short) 0xffff, 1, (short) 0x8000 });
+        UnsignedArrays.sort(uint16s);
+        assertEquals(1, uint16s.get(0));
+        assertEquals(0x8000, uint16s.get(1));
+        assertEquals(0xffff, uint16s.get(2));
+        UInt8Array uint8s = UInt8Array.wrap(new byte[] { (byte) 0xff, 1, (byte) 0x80 });
+        UnsignedArrays.sort(uint8s);
+        assertEquals(1, uint8s.get(0));
+        assertEquals(0x80, uint8s.get(1));
+        assertEquals(0xff, uint8s.get(2));
+    }
+
+    public void testParallelSort() {
+        int[] ints = randomInts(1 << 19);
+        int[] expectedInts = expected(ints);
+        UnsignedArrays.parallelSort(ints);
+        assertTrue(Arrays.equals(expectedInts, ints));
+        short[] shorts = randomShorts(1 << 19);
+        short[] expectedShorts = expected(shorts);
+        UnsignedArrays.parallelSort(shorts);
+        assertTrue(Arrays.equals(expectedShorts, shorts));
+        byte[] bytes = randomBytes(1 << 19);
+        byte[] expectedBytes = expected(bytes);
+        UnsignedArrays.parallelSort(bytes);
+        assertTrue(Arrays.equals(expectedBytes, bytes));
+        int[] small = randomInts(1000);
+        int[] expectedSmall = expected(small);
+        UnsignedArrays.parallelSort(UInt32Array.wrap(small));
+        assertTrue(Arrays.equals(expectedSmall, small));
+    }
+
+    public void testArgsortInt() {
+        int[] a = randomInts(5000);
+        for (int i = 0; i < 1000; i++)
+            a[i] = a[4000 + i];
+        int[] copy = a.clone();
+        int[] index = UnsignedArrays.argsort(a);
+        assertTrue(Arrays.equals(copy, a));
+        assertSortedPermutation(a.length, index);
+        for (int i = 1; i < index.length; i++) {
+            int compare = Integer.compareUnsigned(a[index[i - 1]], a[index[i]]);
+            assertTrue(compare < 0 || (compare == 0 && index[i - 1] < index[i]));
+        }
+        assertEquals(0, UnsignedArrays.argsort(new int[0]).length);
+    }
+
+    public void testArgsortShort() {
+        short[] a = randomShorts(5000);
+        int[] index = UnsignedArrays.argsort(UInt16Array.wrap(a));
+        assertSortedPermutation(a.length, index);
+        for (int i = 1; i < index.length; i++) {
+            int compare = (a[index[i - 1]] & 0xffff) - (a[index[i]] & 0xffff);
+            assertTrue(compare < 0 || (compare == 0 && index[i - 1] < index[i]));
+        }
+    }
+
+    public void testArgsortByte() {
+        byte[] a = randomBytes(5000);
+        int[] index = UnsignedArrays.argsort(a);
+        assertSortedPermutation(a.length, index);
+        for (int i = 1; i < index.length; i++) {
+            int compare = (a[index[i - 1]] & 0xff) - (a[index[i]] & 0xff);
+            assertTrue(compare < 0 || (compare == 0 && index[i - 1] < index[i]));
+        }
+    }
+
+    public void testBinarySearchInt() {
+        int[] a = { 0, 1, 7, 7, 7, 0x7fffffff, 0x80000000, 0xfffffffe };
+        assertEquals(1, UnsignedArrays.binarySearchUnsigned(a, 1));
+        assertEquals(6, UnsignedArrays.binarySearchUnsigned(a, 0x80000000));
+        assertEquals(-8 - 1, UnsignedArrays.binarySearchUnsigned(a, 0xffffffff));
+        assertEquals(-5 - 1, UnsignedArrays.binarySearchUnsigned(a, 8));
+        assertEquals(-2 - 1, UnsignedArrays.binarySearchUnsigned(a, 0, 2, 0x80000000));
+        assertEquals(2, UnsignedArrays.lowerBound(a, 7));
+        assertEquals(5, UnsignedArrays.upperBound(a, 7));
+        assertEquals(7, UnsignedArrays.lowerBound(a, 0x80000001));
+        assertEquals(8, UnsignedArrays.upperBound(a, 0xffffffff));
+        assertEquals(3, UnsignedArrays.lowerBound(a, 3, 8, 0));
+        assertEquals(3, UnsignedArrays.upperBound(a, 3, 3, 7));
+        assertEquals(-1, UnsignedArrays.binarySearchUnsigned(new int[0], 5));
+    }
+
+    public void testBinarySearchRandom() {
+        int[] a = randomInts(2000);
+        UnsignedArrays.sort(a);
+        for (int i = 0; i < a.length; i++) {
+            int index = UnsignedArrays.binarySearchUnsigned(a, a[i]);
+            assertEquals(a[i], a[index]);
+            int lower = UnsignedArrays.lowerBound(a, a[i]);
+            assertTrue(lower <= i && a[lower] == a[i]);
+            assertTrue(lower == 0 || Integer.compareUnsigned(a[lower - 1], a[i]) < 0);
+            int upper = UnsignedArrays.upperBound(a, a[i]);
+            assertTrue(upper > i && a[upper - 1] == a[i]);
+            assertTrue(upper == a.length || Integer.compareUnsigned(a[upper], a[i]) > 0);
+        }
+    }
+
+    public void testBinarySearchShort() {
+        short[] a = { 0, 2, 2, 0x7fff, (short) 0x8000, (short) 0xffff };
+        assertEquals(4, UnsignedArrays.binarySearchUnsigned(a, (short) 0x8000));
+        assertEquals(5, UnsignedArrays.binarySearchUnsigned(a, (short) 0xffff));
+        assertEquals(-1 - 1, UnsignedArrays.binarySearchUnsigned(a, (short) 1));
+        assertEquals(-4 - 1, UnsignedArrays.binarySearchUnsigned(a, 1, 4, (short) 0xfffe));
+        assertEquals(1, UnsignedArrays.lowerBound(a, (short) 2));
+        assertEquals(3, UnsignedArrays.upperBound(a, (short) 2));
+        assertEquals(4, UnsignedArrays.lowerBound(a, 0, 6, (short) 0x8000));
+        assertEquals(6, UnsignedArrays.upperBound(a, 2, 6, (short) 0xffff));
+    }
+
+    public void testBinarySearchByte() {
+        byte[] a = { 0, 5, 0x7f, (byte) 0x80, (byte) 0x80, (byte) 0xff };
+        assertEquals(5, UnsignedArrays.binarySearchUnsigned(a, (byte) 0xff));
+        assertEquals(-2 - 1, UnsignedArrays.binarySearchUnsigned(a, (byte) 0x7e));
+        assertEquals(3, UnsignedArrays.lowerBound(a, (byte) 0x80));
+        assertEquals(5, UnsignedArrays.upperBound(a, (byte) 0x80));
+        assertEquals(2, UnsignedArrays.lowerBound(a, 2, 4, (byte) 6));
+        assertEquals(4, UnsignedArrays.upperBound(a, 0, 4, (byte) 0xfe));
+    }
+
+    public void testNull() {
+        try {
+            UnsignedArrays.sort((int[]) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UnsignedArrays.parallelSort((UInt16Array) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UnsignedArrays.argsort((byte[]) null);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UnsignedArrays.lowerBound((short[]) null, (short) 0);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    public void testBadRange() {
+        try {
+            UnsignedArrays.sort(new int[10], 5, 4);
+            fail("Should raise an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            UnsignedArrays.sort(new short[10], -1, 4);
+            fail("Should raise an ArrayIndexOutOfBoundsException.");
+        }
+        catch (ArrayIndexOutOfBoundsException e) {
+        }
+        try {
+            UnsignedArrays.sort(new byte[10], 0, 11);
+            fail("Should raise an ArrayIndexOutOfBoundsException.");
+        }
+        catch (ArrayIndexOutOfBoundsException e) {
+        }
+        try {
+            UnsignedArrays.binarySearchUnsigned(new int[10], 0, 11, 0);
+            fail("Should raise an ArrayIndexOutOfBoundsException.");
+        }
+        catch (ArrayIndexOutOfBoundsException e) {
+        }
+    }
+
+    private static void assertSortedPermutation(int length, int[] index) {
+        assertEquals(length, index.length);
+        boolean[] seen = new boolean[length];
+        for (int i = 0; i < index.length; i++) {
+            assertFalse(seen[index[i]]);
+            seen[index[i]] = true;
+        }
+    }
+
+    private int[] randomInts(int length) {
+        int[] a = new int[length];
+        for (int i = 0; i < length; i++)
+            a[i] = random.nextInt();
+        return a;
+    }
+
+    private short[] randomShorts(int length) {
+        short[] a = new short[length];
+        for (int i = 0; i < length; i++)
+            a[i] = (short) random.nextInt();
+        return a;
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] a = new byte[length];
+        random.nextBytes(a);
+        return a;
+    }
+
+    private static int[] expected(int[] a) {
+        long[] values = new long[a.length];
+        for (int i = 0; i < a.length; i++)
+            values[i] = UInt32.toLong(a[i]);
+        Arrays.sort(values);
+        int[] sorted = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            sorted[i] = (int) values[i];
+        return sorted;
+    }
+
+    private static short[] expected(short[] a) {
+        int[] values = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            values[i] = a[i] & 0xffff;
+        Arrays.sort(values);
+        short[] sorted = new short[a.length];
+        for (int i = 0; i < a.length; i++)
+            sorted[i] = (short) values[i];
+        return sorted;
+    }
+
+    private static byte[] expected(byte[] a) {
+        int[] values = new int[a.length];
+        for (int i = 0; i < a.length; i++)
+            values[i] = a[i] & 0xff;
+        Arrays.sort(values);
+        byte[] sorted = new byte[a.length];
+        for (int i = 0; i < a.length; i++)
+            sorted[i] = (byte) values[i];
+        return sorted;
+    }
+}
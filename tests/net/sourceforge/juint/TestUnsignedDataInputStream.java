@@ -0,0 +1,171 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+
+import junit.framework.TestCase;
+
+public class TestUnsignedDataInputStream extends TestCase {
+    private static final byte[] BYTES = { (byte) 0xf0, (byte) 0xf1, (byte) 0xf2, (byte) 0xf3,
+            (byte) 0xf4, (byte) 0xf5, (byte) 0xf6, (byte) 0xf7, (byte) 0xf8, (byte) 0xf9 };
+
+    public void testBigEndian() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES));
+        assertEquals(ByteOrder.BIG_ENDIAN, in.order());
+        assertEquals(0xf0, in.readUInt8());
+        assertEquals(-15, in.readInt8());
+        assertEquals(0xf2f3, in.readUInt16());
+        assertEquals((short) 0xf4f5, in.readInt16());
+        assertEquals(0xf6f7f8f9L, in.readUInt32());
+        assertEquals(-1, in.read());
+    }
+
+    public void testLittleEndian() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES),
+                ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0xf1f0, in.readUInt16());
+        assertEquals(0xf5f4f3f2L, in.readUInt32());
+        assertEquals(0xf9f8f7f6, in.readInt32());
+    }
+
+    public void testInstances() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES));
+        assertSame(UInt8.valueOf((byte) 0xf0), in.readUInt8Instance());
+        assertEquals(new Int8((byte) 0xf1), in.readInt8Instance());
+        assertEquals(new UInt16((short) 0xf2f3), in.readUInt16Instance());
+        assertEquals(new Int16((short) 0xf4f5), in.readInt16Instance());
+        assertEquals(new UInt32(0xf6f7f8f9), in.readUInt32Instance());
+    }
+
+    public void testRefill() throws IOException {
+        // a minimal buffer fed one byte at a time
+        UnsignedDataInputStream in = new UnsignedDataInputStream(trickle(BYTES),
+                ByteOrder.BIG_ENDIAN, 8);
+        assertEquals(0xf0, in.readUInt8());
+        assertEquals(0xf1f2f3f4L, in.readUInt32());
+        assertEquals(0xf5f6f7f8L, in.readUInt32());
+        assertEquals(0xf9, in.readUInt8());
+        try {
+            in.readUInt8();
+            fail();
+        }
+        catch (EOFException e) {
+        }
+    }
+
+    public void testReadFullyInts() throws IOException {
+        byte[] bytes = new byte[4 * 100];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) i;
+        UnsignedDataInputStream in = new UnsignedDataInputStream(trickle(bytes),
+                ByteOrder.LITTLE_ENDIAN, 10);
+        int[] values = new int[101];
+        in.readFully(values, 1, 100);
+        assertEquals(0, values[0]);
+        for (int i = 0; i < 100; i++)
+            assertEquals(UInt32.fromLittleEndian(bytes, 4 * i), values[i + 1]);
+    }
+
+    public void testReadFullyShorts() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES),
+                ByteOrder.BIG_ENDIAN, 9);
+        short[] values = new short[5];
+        in.readFully(values, 0, 5);
+        assertEquals((short) 0xf0f1, values[0]);
+        assertEquals((short) 0xf8f9, values[4]);
+    }
+
+    public void testReadFullyArrays() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES));
+        UInt8Array bytes = new UInt8Array(2);
+        UInt16Array words = new UInt16Array(2);
+        UInt32Array doubleWords = new UInt32Array(1);
+        in.readFully(bytes, 0, 2);
+        in.readFully(words, 0, 2);
+        in.readFully(doubleWords, 0, 1);
+        assertEquals(0xf1, bytes.get(1));
+        assertEquals(0xf4f5, words.get(1));
+        assertEquals(0xf6f7f8f9L, doubleWords.get(0));
+    }
+
+    public void testReadFullyEOF() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES));
+        try {
+            in.readFully(new int[3], 0, 3);
+            fail();
+        }
+        catch (EOFException e) {
+        }
+    }
+
+    public void testRead() throws IOException {
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(BYTES),
+                ByteOrder.BIG_ENDIAN, 8);
+        assertEquals(0xf0, in.read());
+        assertEquals(2, in.skip(2));
+        byte[] bytes = new byte[20];
+        int n = in.read(bytes, 0, 20);
+        assertEquals(0xf3, bytes[0] & 0xff);
+        in.readFully(bytes, n, 7 - n);
+        assertEquals((byte) 0xf9, bytes[6]);
+        assertEquals(-1, in.read(bytes, 0, 20));
+    }
+
+    public void testArguments() {
+        try {
+            new UnsignedDataInputStream(new ByteArrayInputStream(BYTES), null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            new UnsignedDataInputStream(new ByteArrayInputStream(BYTES), ByteOrder.BIG_ENDIAN, 7);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    private static InputStream trickle(byte[] bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006, Gunter Wambaugh
+ * 
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *    * Redistributions of source code must retain the above copyright notice,
+ *      this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright notice,
+ *      this list of conditions and the following disclaimer in the documentation
+ *      and/or other materials provided with the distribution.
+ *    * Neither the name of the author nor the names of its contributors may be
+ *      used to endorse or promote products derived from this software without 
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.sourceforge.juint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class TestUnsignedDataOutputStream extends TestCase {
+    private static final byte[] BYTES = { (byte) 0xf0, (byte) 0xf1, (byte) 0xf2, (byte) 0xf3,
+            (byte) 0xf4, (byte) 0xf5, (byte) 0xf6, (byte) 0xf7, (byte) 0xf8, (byte) 0xf9 };
+
+    public void testBigEndian() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes);
+        assertEquals(ByteOrder.BIG_ENDIAN, out.order());
+        out.writeUInt8(0xf0);
+        out.writeInt8(-15);
+        out.writeUInt16(0xf2f3);
+        out.writeInt16((short) 0xf4f5);
+        out.writeUInt32(0xf6f7f8f9L);
+        assertEquals(0, bytes.size());
+        out.flush();
+        assertTrue(Arrays.equals(BYTES, bytes.toByteArray()));
+    }
+
+    public void testLittleEndian() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes,
+                ByteOrder.LITTLE_ENDIAN);
+        out.writeUInt16(0xf1f0);
+        out.writeUInt32(0xf5f4f3f2L);
+        out.writeInt32(0xf9f8f7f6);
+        out.close();
+        assertTrue(Arrays.equals(BYTES, bytes.toByteArray()));
+    }
+
+    public void testInstances() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes);
+        out.writeUInt8(new UInt8((byte) 0xf0));
+        out.writeInt8(new Int8((byte) 0xf1));
+        out.writeUInt16(new UInt16((short) 0xf2f3));
+        out.writeInt16(new Int16((short) 0xf4f5));
+        out.writeUInt32(new UInt32(0xf6f7f8f9));
+        out.writeInt32(new Int32(0xf6f7f8f9));
+        out.flush();
+        assertTrue(Arrays.equals(BYTES, Arrays.copyOf(bytes.toByteArray(), 10)));
+        assertEquals(14, bytes.size());
+    }
+
+    public void testSmallBuffer() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes, ByteOrder.BIG_ENDIAN,
+                8);
+        out.writeUInt8(0xf0);
+        out.writeUInt32(0xf1f2f3f4L);
+        out.writeUInt32(0xf5f6f7f8L);
+        assertEquals(5, bytes.size());
+        out.writeUInt8(0xf9);
+        out.flush();
+        assertTrue(Arrays.equals(BYTES, bytes.toByteArray()));
+    }
+
+    public void testWriteInts() throws IOException {
+        int[] values = new int[101];
+        for (int i = 0; i < values.length; i++)
+            values[i] = i * 0x01020304;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes,
+                ByteOrder.LITTLE_ENDIAN, 10);
+        out.write(values, 1, 100);
+        out.flush();
+        assertEquals(400, bytes.size());
+        UnsignedDataInputStream in = new UnsignedDataInputStream(new ByteArrayInputStream(bytes
+                .toByteArray()), ByteOrder.LITTLE_ENDIAN);
+        int[] read = new int[101];
+        in.readFully(read, 1, 100);
+        assertTrue(Arrays.equals(values, read));
+    }
+
+    public void testWriteShorts() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes, ByteOrder.BIG_ENDIAN,
+                9);
+        out.write(new short[] { (short) 0xf0f1, (short) 0xf2f3, (short) 0xf4f5, (short) 0xf6f7,
+                (short) 0xf8f9 }, 0, 5);
+        out.flush();
+        assertTrue(Arrays.equals(BYTES, bytes.toByteArray()));
+    }
+
+    public void testWriteArrays() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes);
+        out.write(UInt8Array.valueOf(new int[] { 0xf0, 0xf1 }), 0, 2);
+        out.write(UInt16Array.valueOf(new int[] { 0xf2f3, 0xf4f5 }), 0, 2);
+        out.write(UInt32Array.valueOf(new long[] { 0xf6f7f8f9L }), 0, 1);
+        out.flush();
+        assertTrue(Arrays.equals(BYTES, bytes.toByteArray()));
+    }
+
+    public void testWriteBytes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        UnsignedDataOutputStream out = new UnsignedDataOutputStream(bytes, ByteOrder.BIG_ENDIAN,
+                8);
+        out.write(BYTES, 0, 3);
+        out.write(BYTES, 3, 7);
+        assertEquals(3, bytes.size());
+        out.flush();
+        out.write(BYTES, 0, 10);
+        assertEquals(20, bytes.size());
+        try {
+            out.write(BYTES, 5, 6);
+            fail();
+        }
+        catch (IndexOutOfBoundsException e) {
+        }
+    }
+
+    public void testArguments() {
+        try {
+            new UnsignedDataOutputStream(new ByteArrayOutputStream(), null);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+        try {
+            new UnsignedDataOutputStream(new ByteArrayOutputStream(), ByteOrder.BIG_ENDIAN, 7);
+            fail();
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+}